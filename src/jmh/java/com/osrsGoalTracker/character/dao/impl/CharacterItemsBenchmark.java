@@ -0,0 +1,46 @@
+package com.osrsGoalTracker.character.dao.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Throughput and allocation of building and reading character items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CharacterItemsBenchmark {
+    private final String userId = "a4cae247-df47-45ec-a16d-5c51ec16fe23";
+    private final String characterName = "Character123";
+    private final Instant timestamp = Instant.parse("2025-01-01T12:34:56.789Z");
+    private final Map<String, AttributeValue> item =
+            CharacterItems.createNewCharacterItem(userId, characterName, timestamp);
+
+    /**
+     * @return A new character item
+     */
+    @Benchmark
+    public Map<String, AttributeValue> createNewCharacterItem() {
+        return CharacterItems.createNewCharacterItem(userId, characterName, timestamp);
+    }
+
+    /**
+     * @return The character entity read from an item
+     */
+    @Benchmark
+    public CharacterEntity toCharacterEntity() {
+        return CharacterItems.toCharacterEntity(item);
+    }
+}
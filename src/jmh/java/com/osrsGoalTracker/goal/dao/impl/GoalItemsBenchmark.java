@@ -0,0 +1,88 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Throughput and allocation of building goal items and converting them with the
+ * enhanced client's bean table schemas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GoalItemsBenchmark {
+    private final TableSchema<DynamoGoalMetadataItem> metadataSchema =
+            TableSchema.fromBean(DynamoGoalMetadataItem.class);
+    private final TableSchema<DynamoGoalProgressItem> progressSchema =
+            TableSchema.fromBean(DynamoGoalProgressItem.class);
+
+    private final String userId = "12345";
+    private final String characterName = "Character123";
+    private final String goalId = "a4cae247-df47-45ec-a16d-5c51ec16fe23";
+    private final Instant timestamp = Instant.parse("2025-01-01T12:34:56.789Z");
+    private final GoalEntity goal = GoalEntity.builder()
+            .userId(userId)
+            .characterName(characterName)
+            .targetAttribute("WOODCUTTING")
+            .targetType("SKILL")
+            .targetValue(13034431L)
+            .targetDate(Instant.parse("2025-12-31T00:00:00Z"))
+            .notificationChannelType("DISCORD")
+            .frequency("DAILY")
+            .build();
+    private final DynamoGoalMetadataItem metadataItem =
+            GoalRequests.createMetadataItem(userId, characterName, goalId, goal, timestamp);
+    private final DynamoGoalProgressItem progressItem = GoalRequests.createProgressItem(userId, characterName,
+            goalId, timestamp, SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp), 12000000L);
+    private final Map<String, AttributeValue> progressMap = progressSchema.itemToMap(progressItem, true);
+
+    /**
+     * @return A new progress item
+     */
+    @Benchmark
+    public DynamoGoalProgressItem createProgressItem() {
+        return GoalRequests.createProgressItem(userId, characterName, goalId, timestamp,
+                SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp), 12000000L);
+    }
+
+    /**
+     * @return The attributes of a goal metadata item
+     */
+    @Benchmark
+    public Map<String, AttributeValue> metadataItemToMap() {
+        return metadataSchema.itemToMap(metadataItem, true);
+    }
+
+    /**
+     * @return The attributes of a progress item
+     */
+    @Benchmark
+    public Map<String, AttributeValue> progressItemToMap() {
+        return progressSchema.itemToMap(progressItem, true);
+    }
+
+    /**
+     * @return The progress entity read from a progress item
+     */
+    @Benchmark
+    public GoalProgressEntity toProgressEntity() {
+        return GoalItems.toProgressEntity(progressMap);
+    }
+}
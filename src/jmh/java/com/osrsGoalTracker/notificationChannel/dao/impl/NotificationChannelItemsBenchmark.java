@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.notificationChannel.dao.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Throughput and allocation of building and reading notification channel items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NotificationChannelItemsBenchmark {
+    private final String userId = "a4cae247-df47-45ec-a16d-5c51ec16fe23";
+    private final NotificationChannelEntity channel = NotificationChannelEntity.builder()
+            .channelType("DISCORD")
+            .identifier("discord-channel-id")
+            .isActive(true)
+            .build();
+    private final Instant timestamp = Instant.parse("2025-01-01T12:34:56.789Z");
+    private final Map<String, AttributeValue> item =
+            NotificationChannelItems.createNewChannelItem(userId, channel, timestamp);
+
+    /**
+     * @return A new notification channel item
+     */
+    @Benchmark
+    public Map<String, AttributeValue> createNewChannelItem() {
+        return NotificationChannelItems.createNewChannelItem(userId, channel, timestamp);
+    }
+
+    /**
+     * @return The notification channel entity read from an item
+     */
+    @Benchmark
+    public NotificationChannelEntity toChannelEntity() {
+        return NotificationChannelItems.toChannelEntity(item);
+    }
+}
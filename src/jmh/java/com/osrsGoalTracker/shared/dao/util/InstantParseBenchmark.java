@@ -0,0 +1,48 @@
+package com.osrsGoalTracker.shared.dao.util;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput and allocation of the timestamp conversions in the item read and
+ * write paths, which store instants as ISO-8601 strings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InstantParseBenchmark {
+    private final String secondsTimestamp = "2025-01-01T12:34:56Z";
+    private final String millisTimestamp = "2025-01-01T12:34:56.789Z";
+    private final Instant timestamp = Instant.parse(millisTimestamp);
+
+    /**
+     * @return The parsed timestamp without fractional seconds
+     */
+    @Benchmark
+    public Instant parseSeconds() {
+        return Instant.parse(secondsTimestamp);
+    }
+
+    /**
+     * @return The parsed timestamp with milliseconds
+     */
+    @Benchmark
+    public Instant parseMillis() {
+        return Instant.parse(millisTimestamp);
+    }
+
+    /**
+     * @return The formatted timestamp
+     */
+    @Benchmark
+    public String format() {
+        return timestamp.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.osrsGoalTracker.shared.dao.util;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput and allocation of classifying and parsing sort keys with
+ * {@link SortKeyCodec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortKeyCodecBenchmark {
+    private final String progressKey = SortKeyCodec.goalProgress("Character123",
+            "a4cae247-df47-45ec-a16d-5c51ec16fe23", Instant.parse("2025-01-01T12:34:56.789Z"));
+    private final String latestKey = SortKeyCodec.goalLatest("Character123", "a4cae247-df47-45ec-a16d-5c51ec16fe23");
+
+    /**
+     * @return The kind of a progress key
+     */
+    @Benchmark
+    public SortKey.Kind kindOfProgress() {
+        return SortKeyCodec.kindOf(progressKey);
+    }
+
+    /**
+     * @return The components of a progress key, including its timestamp
+     */
+    @Benchmark
+    public SortKey parseProgress() {
+        return SortKeyCodec.parse(progressKey);
+    }
+
+    /**
+     * @return The components of a latest progress key
+     */
+    @Benchmark
+    public SortKey parseLatest() {
+        return SortKeyCodec.parse(latestKey);
+    }
+}
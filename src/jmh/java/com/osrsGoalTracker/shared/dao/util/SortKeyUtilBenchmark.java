@@ -0,0 +1,133 @@
+package com.osrsGoalTracker.shared.dao.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Throughput and allocation of every sort key builder in {@link SortKeyUtil}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortKeyUtilBenchmark {
+    private final String characterName = "Character123";
+    private final String goalId = "a4cae247-df47-45ec-a16d-5c51ec16fe23";
+    private final String channelType = "DISCORD";
+    private final Instant timestamp = Instant.parse("2025-01-01T12:34:56.789Z");
+    private final LocalDate bucket = LocalDate.parse("2024-12-30");
+
+    /**
+     * @return The user metadata sort key
+     */
+    @Benchmark
+    public String userMetadataSortKey() {
+        return SortKeyUtil.getUserMetadataSortKey();
+    }
+
+    /**
+     * @return The goal metadata sort key
+     */
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String goalMetadataSortKey() {
+        return SortKeyUtil.getGoalMetadataSortKey(characterName, goalId);
+    }
+
+    /**
+     * @return The latest progress sort key
+     */
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String latestGoalProgressSortKey() {
+        return SortKeyUtil.getLatestGoalProgressSortKey(characterName, goalId);
+    }
+
+    /**
+     * @return The earliest progress sort key
+     */
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public String earliestGoalProgressSortKey() {
+        return SortKeyUtil.getEarliestGoalProgressSortKey(characterName, goalId);
+    }
+
+    /**
+     * @return The notification channel sort key
+     */
+    @Benchmark
+    public String notificationChannelSortKey() {
+        return SortKeyUtil.getNotificationChannelSortKey(channelType);
+    }
+
+    /**
+     * @return The character metadata sort key
+     */
+    @Benchmark
+    public String characterMetadataSortKey() {
+        return SortKeyUtil.getCharacterMetadataSortKey(characterName);
+    }
+
+    /**
+     * @return The goal metadata sort key
+     */
+    @Benchmark
+    public String buildGoalMetadataSortKey() {
+        return SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId);
+    }
+
+    /**
+     * @return The earliest progress sort key
+     */
+    @Benchmark
+    public String buildGoalEarliestSortKey() {
+        return SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId);
+    }
+
+    /**
+     * @return The timestamped progress sort key
+     */
+    @Benchmark
+    public String buildGoalProgressSortKey() {
+        return SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp);
+    }
+
+    /**
+     * @return The latest progress sort key
+     */
+    @Benchmark
+    public String buildGoalLatestSortKey() {
+        return SortKeyUtil.buildGoalLatestSortKey(characterName, goalId);
+    }
+
+    /**
+     * @return The progress history prefix
+     */
+    @Benchmark
+    public String buildGoalProgressPrefix() {
+        return SortKeyUtil.buildGoalProgressPrefix(characterName, goalId);
+    }
+
+    /**
+     * @return The rollup prefix
+     */
+    @Benchmark
+    public String buildGoalRollupPrefix() {
+        return SortKeyUtil.buildGoalRollupPrefix(characterName, goalId, "D");
+    }
+
+    /**
+     * @return The rollup sort key
+     */
+    @Benchmark
+    public String buildGoalRollupSortKey() {
+        return SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, "W", bucket);
+    }
+}
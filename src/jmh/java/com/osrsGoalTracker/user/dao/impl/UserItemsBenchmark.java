@@ -0,0 +1,45 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Throughput and allocation of building and reading user items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserItemsBenchmark {
+    private final String userId = "a4cae247-df47-45ec-a16d-5c51ec16fe23";
+    private final String email = "user@example.com";
+    private final Instant timestamp = Instant.parse("2025-01-01T12:34:56.789Z");
+    private final Map<String, AttributeValue> item = UserItems.createNewUserItem(userId, email, timestamp);
+
+    /**
+     * @return A new user item
+     */
+    @Benchmark
+    public Map<String, AttributeValue> createNewUserItem() {
+        return UserItems.createNewUserItem(userId, email, timestamp);
+    }
+
+    /**
+     * @return The user entity read from an item
+     */
+    @Benchmark
+    public UserEntity toUserEntity() {
+        return UserItems.toUserEntity(item);
+    }
+}
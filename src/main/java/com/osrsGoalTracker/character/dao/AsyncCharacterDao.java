@@ -0,0 +1,33 @@
+package com.osrsGoalTracker.character.dao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+
+/**
+ * Non-blocking counterpart of {@link CharacterDao}.
+ * Invalid arguments are rejected immediately by throwing IllegalArgumentException;
+ * every other failure completes the returned future exceptionally.
+ */
+public interface AsyncCharacterDao {
+
+    /**
+     * Adds a RuneScape character to a user's account.
+     *
+     * @param userId        The ID of the user to add the character to
+     * @param characterName The name of the RuneScape character to add
+     * @return A future of the created character entity
+     * @throws IllegalArgumentException If userId or characterName is null or empty
+     */
+    CompletableFuture<CharacterEntity> addCharacterToUser(String userId, String characterName);
+
+    /**
+     * Retrieves all characters associated with a user.
+     *
+     * @param userId The ID of the user to get characters for
+     * @return A future of the character entities associated with the user
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    CompletableFuture<List<CharacterEntity>> getCharactersForUser(String userId);
+}
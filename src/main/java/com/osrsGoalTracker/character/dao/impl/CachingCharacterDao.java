@@ -0,0 +1,95 @@
+package com.osrsGoalTracker.character.dao.impl;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.osrsGoalTracker.character.dao.CharacterDao;
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.shared.dao.cache.ExpiringLruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CharacterDao} decorator that keeps recently read character lists in
+ * memory. Adding a character through this instance drops the user's cached list.
+ * Changes made through other instances become visible once the cached entry
+ * expires.
+ *
+ * <p>Entities are mutable, so the cache keeps its own copies of each list's
+ * characters and every read returns fresh copies.
+ */
+@Slf4j
+public class CachingCharacterDao implements CharacterDao {
+    private final CharacterDao delegate;
+    private final ExpiringLruCache<String, List<CharacterEntity>> charactersByUserId;
+
+    /**
+     * Constructor for CachingCharacterDao.
+     *
+     * @param delegate   The DAO to read and write through
+     * @param maxEntries The maximum number of users whose characters are cached
+     * @param ttl        How long a cached list is served before it is read again
+     */
+    public CachingCharacterDao(CharacterDao delegate, int maxEntries, Duration ttl) {
+        this(delegate, new ExpiringLruCache<>(maxEntries, ttl));
+    }
+
+    /**
+     * Constructor for CachingCharacterDao.
+     *
+     * @param delegate           The DAO to read and write through
+     * @param charactersByUserId The cache of character lists keyed by user ID
+     */
+    public CachingCharacterDao(CharacterDao delegate,
+            ExpiringLruCache<String, List<CharacterEntity>> charactersByUserId) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        if (charactersByUserId == null) {
+            throw new IllegalArgumentException("charactersByUserId cannot be null");
+        }
+        this.delegate = delegate;
+        this.charactersByUserId = charactersByUserId;
+    }
+
+    /**
+     * Adds a character to a user and drops the user's cached character list.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character to add
+     * @return The created character entity
+     * @see CharacterDao#addCharacterToUser(String, String)
+     */
+    @Override
+    public CharacterEntity addCharacterToUser(String userId, String characterName) {
+        CharacterEntity character = delegate.addCharacterToUser(userId, characterName);
+        charactersByUserId.invalidate(userId);
+        return character;
+    }
+
+    /**
+     * Gets a user's characters from the cache, reading them through the delegate on
+     * a miss.
+     *
+     * @param userId The ID of the user
+     * @return An unmodifiable list of the user's characters
+     * @see CharacterDao#getCharactersForUser(String)
+     */
+    @Override
+    public List<CharacterEntity> getCharactersForUser(String userId) {
+        CharacterItems.validateUserId(userId);
+
+        long generation = charactersByUserId.generation();
+        List<CharacterEntity> cached = charactersByUserId.get(userId);
+        if (cached != null) {
+            log.debug("Character cache hit for user {}", userId);
+            return CharacterItems.copyOf(cached);
+        }
+
+        List<CharacterEntity> characters = List.copyOf(delegate.getCharactersForUser(userId));
+        if (!charactersByUserId.putIfNotInvalidatedSince(userId, CharacterItems.copyOf(characters), generation)) {
+            log.debug("Not caching characters of user {} invalidated during the read", userId);
+        }
+        return characters;
+    }
+}
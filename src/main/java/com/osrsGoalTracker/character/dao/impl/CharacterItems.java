@@ -0,0 +1,115 @@
+package com.osrsGoalTracker.character.dao.impl;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+/**
+ * Builds the character items and requests shared by the blocking and asynchronous
+ * character DAOs, and maps items back to entities.
+ */
+@Slf4j
+public final class CharacterItems {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String USER_PREFIX = "USER#";
+    private static final String USER_ID = "userId";
+    private static final String CHARACTER_NAME = "characterName";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private CharacterItems() {
+        // Prevent instantiation
+    }
+
+    static void validateAddCharacterToUserInput(String userId, String characterName) {
+        if (userId == null || userId.trim().isEmpty()) {
+            log.warn("Attempted to add character with null or empty user ID");
+            throw new IllegalArgumentException("UserId cannot be null or empty");
+        }
+        if (characterName == null || characterName.trim().isEmpty()) {
+            log.warn("Attempted to add character with null or empty name");
+            throw new IllegalArgumentException("Character name cannot be null or empty");
+        }
+    }
+
+    static void validateUserId(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            log.warn("Attempted to get characters with null or empty user ID");
+            throw new IllegalArgumentException("UserId cannot be null or empty");
+        }
+    }
+
+    static Map<String, AttributeValue> createNewCharacterItem(String userId, String characterName,
+            Instant timestamp) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        item.put(SK, AttributeValue.builder().s(SortKeyUtil.getCharacterMetadataSortKey(characterName)).build());
+        item.put(CHARACTER_NAME, AttributeValue.builder().s(characterName).build());
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        item.put(CREATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
+        item.put(UPDATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
+        return item;
+    }
+
+    static PutItemRequest putCharacterRequest(String tableName, Map<String, AttributeValue> item) {
+        return PutItemRequest.builder()
+                .tableName(tableName)
+                .item(item)
+                .build();
+    }
+
+    static QueryRequest charactersQuery(String tableName, String userId) {
+        Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s(USER_PREFIX + userId).build());
+        expressionAttributeValues.put(":sk_prefix",
+                AttributeValue.builder().s(SortKeyUtil.CHARACTER_METADATA_PREFIX).build());
+
+        return QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(expressionAttributeValues)
+                .build();
+    }
+
+    /**
+     * Maps a character metadata item to a character entity.
+     *
+     * @param item The character metadata item
+     * @return The character entity
+     */
+    public static CharacterEntity toCharacterEntity(Map<String, AttributeValue> item) {
+        return CharacterEntity.builder()
+                .userId(item.get(USER_ID).s())
+                .name(item.get(CHARACTER_NAME).s())
+                .createdAt(Instant.parse(item.get(CREATED_AT).s()))
+                .updatedAt(Instant.parse(item.get(UPDATED_AT).s()))
+                .build();
+    }
+
+    static CharacterEntity copyOf(CharacterEntity character) {
+        return CharacterEntity.builder()
+                .userId(character.getUserId())
+                .name(character.getName())
+                .createdAt(character.getCreatedAt())
+                .updatedAt(character.getUpdatedAt())
+                .build();
+    }
+
+    static List<CharacterEntity> copyOf(List<CharacterEntity> characters) {
+        return characters.stream()
+                .map(CharacterItems::copyOf)
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
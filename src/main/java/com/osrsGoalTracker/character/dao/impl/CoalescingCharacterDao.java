@@ -0,0 +1,56 @@
+package com.osrsGoalTracker.character.dao.impl;
+
+import java.util.List;
+
+import com.osrsGoalTracker.character.dao.CharacterDao;
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.shared.dao.cache.SingleFlight;
+
+/**
+ * {@link CharacterDao} decorator that lets concurrent {@code getCharactersForUser}
+ * calls for the same user share one query. Wrap it in {@link CachingCharacterDao}
+ * to coalesce the cache misses of a popular user, or use it on its own.
+ */
+public class CoalescingCharacterDao implements CharacterDao {
+    private final CharacterDao delegate;
+    private final SingleFlight<String, List<CharacterEntity>> getCharactersCalls = new SingleFlight<>();
+
+    /**
+     * Constructor for CoalescingCharacterDao.
+     *
+     * @param delegate The DAO to read and write through
+     */
+    public CoalescingCharacterDao(CharacterDao delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Adds a character to a user through the delegate.
+     *
+     * @param userId        The ID of the user
+     * @param characterName The name of the character to add
+     * @return The created character entity
+     * @see CharacterDao#addCharacterToUser(String, String)
+     */
+    @Override
+    public CharacterEntity addCharacterToUser(String userId, String characterName) {
+        return delegate.addCharacterToUser(userId, characterName);
+    }
+
+    /**
+     * Gets a user's characters, joining a query for the same user that is already in
+     * flight. Callers sharing a query receive the same unmodifiable list.
+     *
+     * @param userId The ID of the user
+     * @return An unmodifiable list of the user's characters
+     * @see CharacterDao#getCharactersForUser(String)
+     */
+    @Override
+    public List<CharacterEntity> getCharactersForUser(String userId) {
+        CharacterItems.validateUserId(userId);
+        return getCharactersCalls.load(userId, () -> List.copyOf(delegate.getCharactersForUser(userId)));
+    }
+}
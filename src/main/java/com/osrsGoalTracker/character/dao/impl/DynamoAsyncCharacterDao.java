@@ -0,0 +1,84 @@
+package com.osrsGoalTracker.character.dao.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.osrsGoalTracker.character.dao.AsyncCharacterDao;
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Asynchronous DynamoDB implementation for character-related operations.
+ * Reads and writes the same items as {@link DynamoCharacterDao}.
+ */
+@Slf4j
+public class DynamoAsyncCharacterDao implements AsyncCharacterDao {
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final String tableName;
+
+    /**
+     * Constructor for DynamoAsyncCharacterDao.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     */
+    public DynamoAsyncCharacterDao(DynamoDbAsyncClient dynamoDbAsyncClient, String tableName) {
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Adds a RuneScape character to a user's account.
+     *
+     * @param userId        The ID of the user to add the character to
+     * @param characterName The name of the RuneScape character to add
+     * @return A future of the created character entity
+     * @throws IllegalArgumentException If userId or characterName is null or empty
+     */
+    @Override
+    public CompletableFuture<CharacterEntity> addCharacterToUser(String userId, String characterName) {
+        log.debug("Attempting to add character {} to user {}", characterName, userId);
+
+        CharacterItems.validateAddCharacterToUserInput(userId, characterName);
+
+        Map<String, AttributeValue> item = CharacterItems.createNewCharacterItem(userId, characterName,
+                Instant.now());
+
+        log.debug("Putting new character item in DynamoDB for user {} with name {}", userId, characterName);
+        return dynamoDbAsyncClient.putItem(CharacterItems.putCharacterRequest(tableName, item))
+                .thenApply(response -> {
+                    log.info("Successfully added character {} to user {}", characterName, userId);
+                    return CharacterItems.toCharacterEntity(item);
+                });
+    }
+
+    /**
+     * Retrieves all characters associated with a user.
+     *
+     * @param userId The ID of the user to get characters for
+     * @return A future of the character entities associated with the user
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    @Override
+    public CompletableFuture<List<CharacterEntity>> getCharactersForUser(String userId) {
+        log.debug("Getting characters for user {}", userId);
+
+        CharacterItems.validateUserId(userId);
+
+        log.debug("Querying DynamoDB for characters with user ID: {}", userId);
+        return dynamoDbAsyncClient.query(CharacterItems.charactersQuery(tableName, userId))
+                .thenApply(response -> {
+                    List<CharacterEntity> characters = response.items().stream()
+                            .map(CharacterItems::toCharacterEntity)
+                            .collect(Collectors.toList());
+                    log.info("Found {} characters for user {}", characters.size(), userId);
+                    return characters;
+                });
+    }
+}
@@ -1,15 +1,12 @@
 package com.osrsGoalTracker.character.dao.impl;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.osrsGoalTracker.character.dao.CharacterDao;
 import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
-import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
 
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -24,14 +21,6 @@ import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
  */
 @Slf4j
 public class DynamoCharacterDao implements CharacterDao {
-    private static final String PK = "pk";
-    private static final String SK = "sk";
-    private static final String USER_PREFIX = "USER#";
-    private static final String USER_ID = "userId";
-    private static final String CHARACTER_NAME = "characterName";
-    private static final String CREATED_AT = "createdAt";
-    private static final String UPDATED_AT = "updatedAt";
-
     private final DynamoDbClient dynamoDbClient;
     private final String tableName;
 
@@ -46,28 +35,6 @@ public class DynamoCharacterDao implements CharacterDao {
         this.tableName = tableName;
     }
 
-    private void validateAddCharacterToUserInput(String userId, String characterName) {
-        if (userId == null || userId.trim().isEmpty()) {
-            log.warn("Attempted to add character with null or empty user ID");
-            throw new IllegalArgumentException("UserId cannot be null or empty");
-        }
-        if (characterName == null || characterName.trim().isEmpty()) {
-            log.warn("Attempted to add character with null or empty name");
-            throw new IllegalArgumentException("Character name cannot be null or empty");
-        }
-    }
-
-    private Map<String, AttributeValue> createNewCharacterItem(String userId, String characterName, Instant timestamp) {
-        Map<String, AttributeValue> item = new LinkedHashMap<>();
-        item.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
-        item.put(SK, AttributeValue.builder().s(SortKeyUtil.getCharacterMetadataSortKey(characterName)).build());
-        item.put(CHARACTER_NAME, AttributeValue.builder().s(characterName).build());
-        item.put(USER_ID, AttributeValue.builder().s(userId).build());
-        item.put(CREATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
-        item.put(UPDATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
-        return item;
-    }
-
     /**
      * Adds a RuneScape character to a user's account.
      *
@@ -79,16 +46,13 @@ public class DynamoCharacterDao implements CharacterDao {
     public CharacterEntity addCharacterToUser(String userId, String characterName) {
         log.debug("Attempting to add character {} to user {}", characterName, userId);
 
-        validateAddCharacterToUserInput(userId, characterName);
+        CharacterItems.validateAddCharacterToUserInput(userId, characterName);
 
         Instant now = Instant.now();
 
-        Map<String, AttributeValue> item = createNewCharacterItem(userId, characterName, now);
+        Map<String, AttributeValue> item = CharacterItems.createNewCharacterItem(userId, characterName, now);
 
-        PutItemRequest putItemRequest = PutItemRequest.builder()
-                .tableName(tableName)
-                .item(item)
-                .build();
+        PutItemRequest putItemRequest = CharacterItems.putCharacterRequest(tableName, item);
 
         log.debug("Putting new character item in DynamoDB for user {} with name {}", userId, characterName);
         dynamoDbClient.putItem(putItemRequest);
@@ -112,32 +76,15 @@ public class DynamoCharacterDao implements CharacterDao {
     public List<CharacterEntity> getCharactersForUser(String userId) {
         log.debug("Getting characters for user {}", userId);
 
-        if (userId == null || userId.trim().isEmpty()) {
-            log.warn("Attempted to get characters with null or empty user ID");
-            throw new IllegalArgumentException("UserId cannot be null or empty");
-        }
+        CharacterItems.validateUserId(userId);
 
-        Map<String, AttributeValue> expressionAttributeValues = new HashMap<>();
-        expressionAttributeValues.put(":pk", AttributeValue.builder().s(USER_PREFIX + userId).build());
-        expressionAttributeValues.put(":sk_prefix",
-                AttributeValue.builder().s(SortKeyUtil.CHARACTER_METADATA_PREFIX).build());
-
-        QueryRequest queryRequest = QueryRequest.builder()
-                .tableName(tableName)
-                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
-                .expressionAttributeValues(expressionAttributeValues)
-                .build();
+        QueryRequest queryRequest = CharacterItems.charactersQuery(tableName, userId);
 
         log.debug("Querying DynamoDB for characters with user ID: {}", userId);
         QueryResponse response = dynamoDbClient.query(queryRequest);
 
         List<CharacterEntity> characters = response.items().stream()
-                .map(item -> CharacterEntity.builder()
-                        .userId(item.get(USER_ID).s())
-                        .name(item.get(CHARACTER_NAME).s())
-                        .createdAt(Instant.parse(item.get(CREATED_AT).s()))
-                        .updatedAt(Instant.parse(item.get(UPDATED_AT).s()))
-                        .build())
+                .map(CharacterItems::toCharacterEntity)
                 .collect(Collectors.toList());
 
         log.info("Found {} characters for user {}", characters.size(), userId);
@@ -0,0 +1,149 @@
+package com.osrsGoalTracker.goal.dao;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
+
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+/**
+ * Non-blocking counterpart of {@link GoalDao}.
+ * Reads and writes the same items as {@link GoalDao}; every method returns as soon
+ * as its requests are sent. Invalid arguments are rejected immediately by throwing
+ * IllegalArgumentException; DynamoDB errors complete the returned future
+ * exceptionally.
+ *
+ * <p>Progress history is always one unsharded item per value: the asynchronous
+ * implementation rejects {@link GoalDaoOptions} asking for
+ * {@link ProgressStorageMode#PACKED_MONTHLY} storage or {@link ProgressSharding},
+ * so it cannot share a table with a {@link GoalDao} configured that way. Latest
+ * progress layouts, retention policies and goal creation modes are supported.
+ */
+public interface AsyncGoalDao {
+    /**
+     * Creates a new goal for a user's character and initializes its progress records.
+     *
+     * @param goalEntity   The goal entity containing all necessary goal information
+     *                     including userId and characterName
+     * @param currentValue The current value for the goal's progress
+     * @return A future of the created goal entity with the generated goal ID
+     * @throws IllegalArgumentException If goalEntity is null or required fields are
+     *                                  missing
+     * @see GoalDao#createGoal(GoalEntity, long)
+     */
+    CompletableFuture<GoalEntity> createGoal(GoalEntity goalEntity, long currentValue);
+
+    /**
+     * Records many progress values in batches of up to 25 items. The batches are
+     * sent concurrently, followed by the conditional writes of each goal's latest
+     * progress.
+     *
+     * @param progressEntities The progress values to record
+     * @return A future of the per-entity outcome of the batch
+     * @throws IllegalArgumentException If the collection or any entity is null or
+     *                                  required fields are missing
+     * @see GoalDao#recordProgressBatch(Collection)
+     */
+    CompletableFuture<ProgressBatchResult> recordProgressBatch(Collection<GoalProgressEntity> progressEntities);
+
+    /**
+     * Records a single progress value for a goal.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @param value         The progress value
+     * @param timestamp     When the progress value was observed
+     * @return A future of the recorded progress entity
+     * @throws IllegalArgumentException If any argument is null or empty
+     * @see GoalDao#recordProgress(String, String, String, long, Instant)
+     */
+    CompletableFuture<GoalProgressEntity> recordProgress(String userId, String characterName, String goalId,
+            long value, Instant timestamp);
+
+    /**
+     * Publishes a goal's progress history, oldest first. A page is only requested
+     * when the subscriber signals demand for it.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @param options       Page size and attributes to read
+     * @return A publisher of the goal's progress records
+     * @throws IllegalArgumentException If any argument is null or empty, or the
+     *                                  page size is not positive
+     * @see GoalDao#streamProgressHistory(String, String, String, ProgressQueryOptions)
+     */
+    SdkPublisher<GoalProgressEntity> publishProgressHistory(String userId, String characterName, String goalId,
+            ProgressQueryOptions options);
+
+    /**
+     * Reads the progress records of a goal observed within a time range.
+     *
+     * @param goal        The goal to read progress for; userId, characterName and
+     *                    goalId are required
+     * @param from        Start of the range, inclusive
+     * @param to          End of the range, inclusive
+     * @param limit       Maximum number of records to return
+     * @param newestFirst Whether to return the newest records first
+     * @return A future of the progress records in the range, ordered by time
+     * @throws IllegalArgumentException If a required argument is missing, from is
+     *                                  after to, or limit is not positive
+     * @see GoalDao#getProgressBetween(GoalEntity, Instant, Instant, int, boolean)
+     */
+    CompletableFuture<List<GoalProgressEntity>> getProgressBetween(GoalEntity goal, Instant from, Instant to,
+            int limit, boolean newestFirst);
+
+    /**
+     * Rebuilds the daily and weekly progress rollups of a goal from its progress
+     * records. The future fails with IllegalStateException if some rollups could
+     * not be written.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @param from          Start of the range to roll up
+     * @param to            End of the range to roll up
+     * @return A future of the rollups that were written
+     * @throws IllegalArgumentException If any argument is null or empty, or from is
+     *                                  after to
+     * @see GoalDao#rollupProgress(String, String, String, Instant, Instant)
+     */
+    CompletableFuture<List<GoalProgressRollupEntity>> rollupProgress(String userId, String characterName,
+            String goalId, Instant from, Instant to);
+
+    /**
+     * Reads pre-aggregated progress of a goal at the coarsest fitting resolution.
+     *
+     * @param goal       The goal to read rollups for; userId, characterName and
+     *                   goalId are required
+     * @param from       Start of the range; the bucket containing it is included
+     * @param to         End of the range; the bucket containing it is included
+     * @param resolution The longest acceptable bucket length, at least one day
+     * @return A future of the rollups of the range, oldest first
+     * @throws IllegalArgumentException If a required argument is missing, from is
+     *                                  after to, or resolution is shorter than a day
+     * @see GoalDao#getProgressRollups(GoalEntity, Instant, Instant, Duration)
+     */
+    CompletableFuture<List<GoalProgressRollupEntity>> getProgressRollups(GoalEntity goal, Instant from, Instant to,
+            Duration resolution);
+
+    /**
+     * Reads the latest progress of every goal of a character.
+     *
+     * @param userId        The ID of the user who owns the character
+     * @param characterName The name of the character
+     * @return A future of the latest progress of each of the character's goals
+     * @throws IllegalArgumentException If any argument is null or empty
+     * @see GoalDao#getLatestProgressForCharacter(String, String)
+     */
+    CompletableFuture<List<GoalProgressEntity>> getLatestProgressForCharacter(String userId, String characterName);
+}
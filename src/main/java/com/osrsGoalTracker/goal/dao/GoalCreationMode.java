@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.goal.dao;
+
+/**
+ * Where a goal's earliest and latest progress are kept, which decides how many
+ * items creating a goal writes.
+ */
+public enum GoalCreationMode {
+    /**
+     * Earliest and latest progress are separate EARLIEST and LATEST records.
+     * Creating a goal writes the metadata, the first progress record and both
+     * markers in one four-item transaction.
+     */
+    PROGRESS_ITEMS,
+
+    /**
+     * Earliest and latest progress are snapshot attributes of the goal metadata
+     * item. Creating a goal writes the first progress record and then the metadata
+     * item with a conditional put: two standard writes instead of a transaction of
+     * four. Recording progress advances the latest snapshot with a conditional
+     * update of the metadata item.
+     *
+     * <p>Goals created before the switch keep their LATEST record, and readers keep
+     * the newer of it and the snapshot. Every DAO and loader on the table must be
+     * given the same {@link GoalDaoOptions}: built without this mode,
+     * {@code DynamoAsyncGoalDao} writes LATEST records instead of snapshots and
+     * does not read a separate metadata table, and
+     * {@code BatchingLatestProgressLoader} reads LATEST records only. The loader
+     * reads the metadata item from its own table, so it cannot serve this mode
+     * with separate metadata and progress tables.
+     */
+    METADATA_SNAPSHOTS
+}
@@ -1,6 +1,16 @@
 package com.osrsGoalTracker.goal.dao;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
 
 /**
  * Interface for the GoalDao.
@@ -20,4 +30,128 @@ public interface GoalDao {
      *                                  missing
      */
     GoalEntity createGoal(GoalEntity goalEntity, long currentValue);
-}
\ No newline at end of file
+
+    /**
+     * Records many progress values in as few requests as possible.
+     * Each entity produces a timestamped progress record. Records are written in
+     * batches of up to 25 items; items the table could not process are retried with
+     * backoff. Since BatchWriteItem cannot carry conditions, each goal's latest
+     * progress is then advanced to its newest written value with one conditional
+     * write, which leaves a newer latest record in place, so replayed or late
+     * batches never move it back. These single-item writes, one per goal in the
+     * batch (two in the dual-write layout), run concurrently on a bounded pool of
+     * 16 threads. A value whose latest progress could not be advanced is reported
+     * as failed.
+     *
+     * @param progressEntities The progress values to record. Each entity needs its
+     *                         userId, characterName, goalId, progressValue and
+     *                         createdAt (the time the value was observed)
+     * @return The per-entity outcome of the batch
+     * @throws IllegalArgumentException If the collection or any entity is null or
+     *                                  required fields are missing
+     */
+    ProgressBatchResult recordProgressBatch(Collection<GoalProgressEntity> progressEntities);
+
+    /**
+     * Records a single progress value for a goal in one round trip.
+     * The timestamped progress record is always written. The goal's latest progress
+     * record is only replaced if it holds an older value, so out-of-order and
+     * duplicate writes from parallel workers never move it backwards.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @param value         The progress value
+     * @param timestamp     When the progress value was observed
+     * @return The recorded progress entity
+     * @throws IllegalArgumentException If any argument is null or empty
+     */
+    GoalProgressEntity recordProgress(String userId, String characterName, String goalId, long value,
+            Instant timestamp);
+
+    /**
+     * Streams a goal's progress history, oldest first.
+     * Pages are fetched lazily: a page is only requested when the consumer reaches
+     * it, so arbitrarily long histories can be read in constant memory. The latest
+     * and earliest progress records are not part of the history.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @param options       Page size and attributes to read
+     * @return A lazy stream of the goal's progress records
+     * @throws IllegalArgumentException If any argument is null or empty, or the
+     *                                  page size is not positive
+     */
+    Stream<GoalProgressEntity> streamProgressHistory(String userId, String characterName, String goalId,
+            ProgressQueryOptions options);
+
+    /**
+     * Reads the progress records of a goal observed within a time range.
+     * Only the records inside the range are read from the table, so "the last
+     * 7 days" or "the latest N points" cost no more than the records returned.
+     *
+     * @param goal        The goal to read progress for; userId, characterName and
+     *                    goalId are required
+     * @param from        Start of the range, inclusive
+     * @param to          End of the range, inclusive
+     * @param limit       Maximum number of records to return
+     * @param newestFirst Whether to return the newest records first; the limit
+     *                    then keeps the newest records instead of the oldest
+     * @return The progress records in the range, ordered by time
+     * @throws IllegalArgumentException If a required argument is missing, from is
+     *                                  after to, or limit is not positive
+     */
+    List<GoalProgressEntity> getProgressBetween(GoalEntity goal, Instant from, Instant to, int limit,
+            boolean newestFirst);
+
+    /**
+     * Rebuilds the daily and weekly progress rollups of a goal from its progress
+     * records. The range is widened to whole weeks so every bucket it touches is
+     * rebuilt from all of its points; rebuilding is idempotent. Run this after
+     * recording progress, e.g. for yesterday at the end of a daily refresh.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @param from          Start of the range to roll up
+     * @param to            End of the range to roll up
+     * @return The rollups that were written
+     * @throws IllegalArgumentException If any argument is null or empty, or from is
+     *                                  after to
+     * @throws IllegalStateException    If some rollups could not be written
+     */
+    List<GoalProgressRollupEntity> rollupProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to);
+
+    /**
+     * Reads pre-aggregated progress of a goal, using the coarsest rollup whose
+     * buckets are no longer than the requested resolution. A year of weekly
+     * rollups is about 52 items instead of hundreds of progress records.
+     *
+     * @param goal       The goal to read rollups for; userId, characterName and
+     *                   goalId are required
+     * @param from       Start of the range; the bucket containing it is included
+     * @param to         End of the range; the bucket containing it is included
+     * @param resolution The longest acceptable bucket length, at least one day
+     * @return The rollups of the range, oldest first
+     * @throws IllegalArgumentException If a required argument is missing, from is
+     *                                  after to, or resolution is shorter than a day
+     */
+    List<GoalProgressRollupEntity> getProgressRollups(GoalEntity goal, Instant from, Instant to,
+            Duration resolution);
+
+    /**
+     * Reads the latest progress of every goal of a character. With the PREFIXED
+     * {@link LatestProgressLayout} this is one Query of the character's latest
+     * progress records; with the other layouts every goal item of the character in
+     * the user partition is read to find them.
+     *
+     * @param userId        The ID of the user who owns the character
+     * @param characterName The name of the character
+     * @return The latest progress of each of the character's goals, ordered by goal ID
+     *         in the PREFIXED layout
+     * @throws IllegalArgumentException If any argument is null or empty
+     */
+    List<GoalProgressEntity> getLatestProgressForCharacter(String userId, String characterName);
+}
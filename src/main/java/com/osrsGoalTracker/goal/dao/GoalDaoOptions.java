@@ -0,0 +1,52 @@
+package com.osrsGoalTracker.goal.dao;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options controlling how the goal DAO lays out progress history in the table.
+ */
+@Value
+@Builder
+public class GoalDaoOptions {
+    /**
+     * How progress history is stored.
+     */
+    @Builder.Default
+    ProgressStorageMode progressStorageMode = ProgressStorageMode.ITEM_PER_POINT;
+
+    /**
+     * Which partitions timestamped progress records are written to.
+     */
+    @Builder.Default
+    ProgressSharding progressSharding = ProgressSharding.unsharded();
+
+    /**
+     * How long timestamped progress records are kept before DynamoDB TTL deletes them.
+     */
+    @Builder.Default
+    RetentionPolicy retentionPolicy = RetentionPolicy.keepForever();
+
+    /**
+     * Which sort keys latest progress records are written to and read from.
+     */
+    @Builder.Default
+    LatestProgressLayout latestProgressLayout = LatestProgressLayout.LEGACY;
+
+    /**
+     * Whether earliest and latest progress are separate records or attributes of
+     * the goal metadata item.
+     */
+    @Builder.Default
+    GoalCreationMode goalCreationMode = GoalCreationMode.PROGRESS_ITEMS;
+
+    /**
+     * Options storing one unsharded item per progress value, kept forever, with
+     * separate earliest and latest progress records at their legacy keys.
+     *
+     * @return The default options
+     */
+    public static GoalDaoOptions defaults() {
+        return GoalDaoOptions.builder().build();
+    }
+}
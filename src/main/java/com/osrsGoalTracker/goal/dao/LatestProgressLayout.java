@@ -0,0 +1,67 @@
+package com.osrsGoalTracker.goal.dao;
+
+/**
+ * Where a goal's latest progress record is kept. The legacy key sorts inside the
+ * goal's progress history; the prefixed key groups the latest records of all of a
+ * character's goals, so one small Query reads them together.
+ *
+ * <p>To migrate a table, run every writer with {@link #DUAL_WRITE}, copy the
+ * existing records with {@code LatestProgressMigration}, then switch to
+ * {@link #PREFIXED}.
+ */
+public enum LatestProgressLayout {
+    /**
+     * Latest records are written and read at
+     * {@code CHARACTER#<character_name>#GOAL#<goal_id>#LATEST}.
+     */
+    LEGACY(true, false, false),
+
+    /**
+     * Latest records are written at both keys and read at the legacy key, which
+     * stays complete while prefixed records are backfilled.
+     */
+    DUAL_WRITE(true, true, false),
+
+    /**
+     * Latest records are written and read at
+     * {@code CHARACTER#<character_name>#LATEST#<goal_id>}.
+     */
+    PREFIXED(false, true, true);
+
+    private final boolean writesLegacy;
+    private final boolean writesPrefixed;
+    private final boolean readsPrefixed;
+
+    LatestProgressLayout(boolean writesLegacy, boolean writesPrefixed, boolean readsPrefixed) {
+        this.writesLegacy = writesLegacy;
+        this.writesPrefixed = writesPrefixed;
+        this.readsPrefixed = readsPrefixed;
+    }
+
+    /**
+     * Whether latest records are written at the legacy key.
+     *
+     * @return True for LEGACY and DUAL_WRITE
+     */
+    public boolean writesLegacy() {
+        return writesLegacy;
+    }
+
+    /**
+     * Whether latest records are written at the prefixed key.
+     *
+     * @return True for DUAL_WRITE and PREFIXED
+     */
+    public boolean writesPrefixed() {
+        return writesPrefixed;
+    }
+
+    /**
+     * Whether latest records are read from the prefixed key.
+     *
+     * @return True for PREFIXED
+     */
+    public boolean readsPrefixed() {
+        return readsPrefixed;
+    }
+}
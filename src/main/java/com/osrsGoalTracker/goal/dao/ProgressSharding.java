@@ -0,0 +1,158 @@
+package com.osrsGoalTracker.goal.dao;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * How timestamped progress records are spread over partitions. Unsharded records
+ * share the user's {@code USER#<id>} partition with all of the user's other items;
+ * sharded records go to {@code USER#<id>#P#<shard>} partitions so that the writes
+ * of users with many goals are not concentrated on a single partition. Goal
+ * metadata, latest, earliest and rollup records always stay in the user partition.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProgressSharding {
+    /**
+     * Largest number of shards a layout may use.
+     */
+    public static final int MAX_SHARDS = 100;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final ProgressSharding UNSHARDED = new ProgressSharding(0, Strategy.BY_GOAL);
+
+    /**
+     * How the shard of a progress record is chosen.
+     */
+    public enum Strategy {
+        /**
+         * Every record of a goal goes to the same shard, so reads of one goal query
+         * a single partition.
+         */
+        BY_GOAL,
+
+        /**
+         * A goal's records move to the next shard every UTC day, so even a single
+         * busy goal spreads its writes. Reads query the shards of every day in the
+         * range in parallel.
+         */
+        BY_DAY
+    }
+
+    /**
+     * Number of shard partitions per user, or 0 if records are not sharded.
+     */
+    int shardCount;
+
+    /**
+     * How the shard of a record is chosen.
+     */
+    Strategy strategy;
+
+    /**
+     * The layout keeping every progress record in the user partition.
+     *
+     * @return The unsharded layout
+     */
+    public static ProgressSharding unsharded() {
+        return UNSHARDED;
+    }
+
+    /**
+     * A layout placing all of a goal's records in one of shardCount partitions.
+     *
+     * @param shardCount Number of shard partitions per user
+     * @return The layout
+     * @throws IllegalArgumentException If shardCount is not between 1 and {@link #MAX_SHARDS}
+     */
+    public static ProgressSharding byGoal(int shardCount) {
+        return new ProgressSharding(validateShardCount(shardCount), Strategy.BY_GOAL);
+    }
+
+    /**
+     * A layout rotating each goal's records over shardCount partitions by UTC day.
+     *
+     * @param shardCount Number of shard partitions per user
+     * @return The layout
+     * @throws IllegalArgumentException If shardCount is not between 1 and {@link #MAX_SHARDS}
+     */
+    public static ProgressSharding byDay(int shardCount) {
+        return new ProgressSharding(validateShardCount(shardCount), Strategy.BY_DAY);
+    }
+
+    private static int validateShardCount(int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("shardCount must be between 1 and " + MAX_SHARDS);
+        }
+        return shardCount;
+    }
+
+    /**
+     * Whether progress records are kept outside the user partition.
+     *
+     * @return True for every layout but {@link #unsharded()}
+     */
+    public boolean isSharded() {
+        return shardCount > 0;
+    }
+
+    /**
+     * Gets the shard of a goal's progress record. The shard only depends on the
+     * goal ID and, for {@link Strategy#BY_DAY}, the UTC day, so it is the same on
+     * every JVM.
+     *
+     * @param goalId    The ID of the goal
+     * @param timestamp When the progress value was observed
+     * @return The shard, between 0 and shardCount - 1
+     * @throws IllegalStateException If the layout is unsharded
+     */
+    public int shardOf(String goalId, Instant timestamp) {
+        if (!isSharded()) {
+            throw new IllegalStateException("Unsharded progress has no shards");
+        }
+        // String.hashCode is specified by the JLS, so it is stable across JVMs
+        long offset = goalId.hashCode();
+        if (strategy == Strategy.BY_DAY) {
+            offset += Math.floorDiv(timestamp.getEpochSecond(), SECONDS_PER_DAY);
+        }
+        return (int) Math.floorMod(offset, (long) shardCount);
+    }
+
+    /**
+     * Gets the shards that may hold a goal's progress records within a time range.
+     *
+     * @param goalId The ID of the goal
+     * @param from   Start of the range, or null for the whole history
+     * @param to     End of the range, or null for the whole history
+     * @return The shards to read, without duplicates
+     * @throws IllegalStateException If the layout is unsharded
+     */
+    public List<Integer> shardsOf(String goalId, Instant from, Instant to) {
+        if (strategy == Strategy.BY_GOAL) {
+            return List.of(shardOf(goalId, from));
+        }
+        if (from == null || to == null
+                || Math.floorDiv(to.getEpochSecond(), SECONDS_PER_DAY)
+                        - Math.floorDiv(from.getEpochSecond(), SECONDS_PER_DAY) + 1 >= shardCount) {
+            List<Integer> shards = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                shards.add(shard);
+            }
+            return shards;
+        }
+
+        Set<Integer> shards = new LinkedHashSet<>();
+        for (Instant day = from; !day.isAfter(to); day = day.plusSeconds(SECONDS_PER_DAY)) {
+            shards.add(shardOf(goalId, day));
+        }
+        shards.add(shardOf(goalId, to));
+        return new ArrayList<>(shards);
+    }
+}
@@ -0,0 +1,19 @@
+package com.osrsGoalTracker.goal.dao;
+
+/**
+ * How a goal's progress history is stored. Latest and earliest progress records
+ * are written the same way in every mode.
+ */
+public enum ProgressStorageMode {
+    /**
+     * One item per progress value, keyed by its timestamp.
+     */
+    ITEM_PER_POINT,
+
+    /**
+     * One item per goal and UTC month, holding the month's progress values in a
+     * binary attribute: timestamps as delta-of-deltas and values as deltas, both
+     * varint-encoded. Reads decode the items back into progress entities.
+     */
+    PACKED_MONTHLY
+}
@@ -0,0 +1,145 @@
+package com.osrsGoalTracker.goal.dao;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * How long timestamped progress records are kept. Records are stamped with an
+ * {@code expiresAt} epoch-seconds attribute that the table's TTL setting uses to
+ * delete them; latest, earliest and rollup records never expire, so condensed
+ * history survives once the records have been compacted into rollups.
+ */
+@Value
+public class RetentionPolicy {
+    /**
+     * Shortest accepted retention. Every week of records must stay complete for a
+     * while after it ends so it can be compacted before its first record expires.
+     */
+    public static final Duration MIN_RETENTION = Duration.ofDays(14);
+
+    private static final RetentionPolicy KEEP_FOREVER = new RetentionPolicy(null, Map.of());
+
+    /**
+     * Retention of goals without their own, or null to keep their records forever.
+     */
+    Duration defaultRetention;
+
+    /**
+     * Retention of individual goals, keyed by goal ID.
+     */
+    Map<String, Duration> goalRetentions;
+
+    @Builder
+    private RetentionPolicy(Duration defaultRetention, Map<String, Duration> goalRetentions) {
+        validateRetention(defaultRetention);
+        goalRetentions.values().forEach(RetentionPolicy::validateRetention);
+        this.defaultRetention = defaultRetention;
+        this.goalRetentions = Map.copyOf(goalRetentions);
+    }
+
+    /**
+     * Builder of retention policies. Per-goal retentions are added one at a time
+     * with {@link #goalRetention(String, Duration)} or all at once with
+     * {@link #goalRetentions(Map)}.
+     */
+    public static class RetentionPolicyBuilder {
+        private final Map<String, Duration> goalRetentions = new LinkedHashMap<>();
+
+        /**
+         * Sets how long one goal's progress records are kept.
+         *
+         * @param goalId    The ID of the goal
+         * @param retention How long the goal's records are kept
+         * @return This builder
+         */
+        public RetentionPolicyBuilder goalRetention(String goalId, Duration retention) {
+            if (goalId == null || retention == null) {
+                throw new IllegalArgumentException("goalId and retention cannot be null");
+            }
+            goalRetentions.put(goalId, retention);
+            return this;
+        }
+
+        /**
+         * Sets how long several goals' progress records are kept.
+         *
+         * @param goalRetentions Retentions keyed by goal ID
+         * @return This builder
+         */
+        public RetentionPolicyBuilder goalRetentions(Map<String, Duration> goalRetentions) {
+            if (goalRetentions == null) {
+                throw new IllegalArgumentException("goalRetentions cannot be null");
+            }
+            goalRetentions.forEach(this::goalRetention);
+            return this;
+        }
+    }
+
+    private static void validateRetention(Duration retention) {
+        if (retention != null && retention.compareTo(MIN_RETENTION) < 0) {
+            throw new IllegalArgumentException("retention cannot be shorter than " + MIN_RETENTION.toDays()
+                    + " days");
+        }
+    }
+
+    /**
+     * The policy keeping every progress record forever.
+     *
+     * @return The policy
+     */
+    public static RetentionPolicy keepForever() {
+        return KEEP_FOREVER;
+    }
+
+    /**
+     * A policy expiring every goal's progress records a fixed time after they were
+     * observed.
+     *
+     * @param retention How long records are kept
+     * @return The policy
+     * @throws IllegalArgumentException If retention is shorter than {@link #MIN_RETENTION}
+     */
+    public static RetentionPolicy expireAfter(Duration retention) {
+        if (retention == null) {
+            throw new IllegalArgumentException("retention cannot be null");
+        }
+        return RetentionPolicy.builder().defaultRetention(retention).build();
+    }
+
+    /**
+     * Gets how long a goal's progress records are kept.
+     *
+     * @param goalId The ID of the goal
+     * @return The retention, or null if the records are kept forever
+     */
+    public Duration retentionOf(String goalId) {
+        return goalRetentions.getOrDefault(goalId, defaultRetention);
+    }
+
+    /**
+     * Gets the TTL of a goal's progress record.
+     *
+     * @param goalId     The ID of the goal
+     * @param observedAt When the progress value was observed
+     * @return Epoch seconds after which the record may be deleted, or null if it
+     *         is kept forever
+     */
+    public Long expiresAtOf(String goalId, Instant observedAt) {
+        Duration retention = retentionOf(goalId);
+        return retention == null ? null : observedAt.plus(retention).getEpochSecond();
+    }
+
+    /**
+     * Whether any goal's records expire.
+     *
+     * @return False only for policies keeping every record forever
+     */
+    public boolean expiresRecords() {
+        return defaultRetention != null || !goalRetentions.isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package com.osrsGoalTracker.goal.dao.entity;
+
+import java.time.Instant;
+
+import com.osrsGoalTracker.shared.dao.entity.AbstractEntity;
+
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Aggregated progress of a goal over one daily or weekly bucket.
+ */
+@Getter
+@SuperBuilder
+public class GoalProgressRollupEntity extends AbstractEntity {
+    private final String characterName;
+    private final String goalId;
+    private final RollupResolution resolution;
+    private final Instant bucketStart;
+    private final Long minValue;
+    private final Long maxValue;
+    private final Long firstValue;
+    private final Long lastValue;
+    private final Instant firstTimestamp;
+    private final Instant lastTimestamp;
+    private final Long sampleCount;
+}
@@ -0,0 +1,27 @@
+package com.osrsGoalTracker.goal.dao.entity;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Per-item outcome of a batched progress write.
+ * Every progress entity passed to the batch ends up in exactly one of the two
+ * lists, in the order it was supplied.
+ */
+@Value
+@Builder
+public class ProgressBatchResult {
+    List<GoalProgressEntity> succeeded;
+    List<GoalProgressEntity> failed;
+
+    /**
+     * Whether every progress entity in the batch was written.
+     *
+     * @return true if no entity failed
+     */
+    public boolean isFullySuccessful() {
+        return failed.isEmpty();
+    }
+}
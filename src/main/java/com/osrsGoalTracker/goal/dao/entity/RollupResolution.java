@@ -0,0 +1,90 @@
+package com.osrsGoalTracker.goal.dao.entity;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket sizes of pre-aggregated progress rollups.
+ * Buckets are aligned to UTC days; weekly buckets start on Monday.
+ */
+public enum RollupResolution {
+    DAILY("D", Duration.ofDays(1)),
+    WEEKLY("W", Duration.ofDays(7));
+
+    private final String code;
+    private final Duration duration;
+
+    RollupResolution(String code, Duration duration) {
+        this.code = code;
+        this.duration = duration;
+    }
+
+    /**
+     * The code identifying this resolution in rollup sort keys.
+     *
+     * @return The sort key code (e.g. "D")
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * The length of one bucket.
+     *
+     * @return The bucket length
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the first day of the bucket containing a timestamp.
+     *
+     * @param timestamp The timestamp
+     * @return The UTC date the bucket starts on
+     */
+    public LocalDate bucketOf(Instant timestamp) {
+        LocalDate date = LocalDate.ofInstant(timestamp, ZoneOffset.UTC);
+        return this == WEEKLY ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+
+    /**
+     * Gets the instant a bucket starts at.
+     *
+     * @param bucket The first day of the bucket
+     * @return The start of the bucket
+     */
+    public Instant startOf(LocalDate bucket) {
+        return bucket.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * Finds the coarsest resolution whose buckets are no longer than the requested
+     * resolution.
+     *
+     * @param requested The longest acceptable bucket length
+     * @return The coarsest resolution that fits
+     * @throws IllegalArgumentException If requested is null or shorter than a day
+     */
+    public static RollupResolution coarsestFor(Duration requested) {
+        if (requested == null) {
+            throw new IllegalArgumentException("resolution cannot be null");
+        }
+        RollupResolution coarsest = null;
+        for (RollupResolution resolution : values()) {
+            if (resolution.duration.compareTo(requested) <= 0
+                    && (coarsest == null || resolution.duration.compareTo(coarsest.duration) > 0)) {
+                coarsest = resolution;
+            }
+        }
+        if (coarsest == null) {
+            throw new IllegalArgumentException("resolution cannot be shorter than one day, "
+                    + "read raw progress with getProgressBetween instead");
+        }
+        return coarsest;
+    }
+}
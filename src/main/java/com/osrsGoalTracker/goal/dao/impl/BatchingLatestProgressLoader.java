@@ -0,0 +1,108 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateGoalKey;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.LatestProgressLayout;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.shared.dao.batch.ItemBatchLoader;
+import com.osrsGoalTracker.shared.dao.batch.ItemKey;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+/**
+ * Loads the latest progress of goals through an {@link ItemBatchLoader}, so that
+ * goals requested close together are read with one BatchGetItem request.
+ * With {@link GoalCreationMode#METADATA_SNAPSHOTS} it reads both the goal's
+ * latest progress record and its metadata item, which must be in the loader's
+ * table, and returns the newer value.
+ */
+public class BatchingLatestProgressLoader {
+    private final ItemBatchLoader itemBatchLoader;
+    private final LatestProgressLayout latestProgressLayout;
+    private final boolean readsSnapshots;
+
+    /**
+     * Constructor for BatchingLatestProgressLoader that reads latest progress
+     * records at their legacy keys.
+     *
+     * @param itemBatchLoader The loader to read latest progress items through
+     */
+    public BatchingLatestProgressLoader(ItemBatchLoader itemBatchLoader) {
+        this(itemBatchLoader, LatestProgressLayout.LEGACY);
+    }
+
+    /**
+     * Constructor for BatchingLatestProgressLoader.
+     *
+     * @param itemBatchLoader      The loader to read latest progress items through
+     * @param latestProgressLayout Which sort keys latest progress records are read from
+     */
+    public BatchingLatestProgressLoader(ItemBatchLoader itemBatchLoader, LatestProgressLayout latestProgressLayout) {
+        this(itemBatchLoader, GoalDaoOptions.builder().latestProgressLayout(latestProgressLayout).build());
+    }
+
+    /**
+     * Constructor for BatchingLatestProgressLoader reading latest progress the way
+     * a goal DAO built with the same options writes it.
+     *
+     * @param itemBatchLoader The loader to read latest progress items through
+     * @param options         The options of the goal DAOs writing the table
+     * @throws IllegalArgumentException If the latest progress layout or goal
+     *                                  creation mode is missing, or metadata
+     *                                  snapshots are combined with a non-legacy
+     *                                  latest progress layout
+     */
+    public BatchingLatestProgressLoader(ItemBatchLoader itemBatchLoader, GoalDaoOptions options) {
+        if (options == null || options.getLatestProgressLayout() == null || options.getGoalCreationMode() == null) {
+            throw new IllegalArgumentException("GoalDaoOptions cannot be null or incomplete");
+        }
+        this.readsSnapshots = options.getGoalCreationMode() == GoalCreationMode.METADATA_SNAPSHOTS;
+        if (readsSnapshots && options.getLatestProgressLayout() != LatestProgressLayout.LEGACY) {
+            throw new IllegalArgumentException("Metadata snapshots require the LEGACY latest progress layout");
+        }
+        this.itemBatchLoader = itemBatchLoader;
+        this.latestProgressLayout = options.getLatestProgressLayout();
+    }
+
+    /**
+     * Requests a goal's latest progress to be read with the next batch.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @return A future of the latest progress, or of null if the goal has none
+     * @throws IllegalArgumentException If any argument is null or empty
+     */
+    public CompletableFuture<GoalProgressEntity> getLatestProgress(String userId, String characterName,
+            String goalId) {
+        validateGoalKey(userId, characterName, goalId);
+
+        ItemKey key = new ItemKey("USER#" + userId,
+                GoalRequests.latestSortKey(latestProgressLayout, characterName, goalId));
+        CompletableFuture<GoalProgressEntity> latestRecord = itemBatchLoader.load(key)
+                .thenApply(item -> item == null ? null : GoalItems.toProgressEntity(item));
+        if (!readsSnapshots) {
+            return latestRecord;
+        }
+
+        // Both keys join the same batch; goals created before the switch only have the record
+        ItemKey metadataKey = new ItemKey("USER#" + userId,
+                SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId));
+        CompletableFuture<GoalProgressEntity> snapshot = itemBatchLoader.load(metadataKey)
+                .thenApply(item -> item == null ? null : GoalItems.toLatestSnapshotEntity(item));
+        return latestRecord.thenCombine(snapshot, BatchingLatestProgressLoader::newer);
+    }
+
+    private static GoalProgressEntity newer(GoalProgressEntity latestRecord, GoalProgressEntity snapshot) {
+        if (latestRecord == null) {
+            return snapshot;
+        }
+        if (snapshot == null) {
+            return latestRecord;
+        }
+        return snapshot.getCreatedAt().isAfter(latestRecord.getCreatedAt()) ? snapshot : latestRecord;
+    }
+}
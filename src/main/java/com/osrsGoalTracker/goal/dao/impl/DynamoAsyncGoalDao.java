@@ -0,0 +1,540 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateExistingGoal;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateGoalEntity;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateGoalKey;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateLimit;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateNotNull;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateQueryOptions;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateStringNotEmpty;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateTimeRange;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.inject.Inject;
+import com.osrsGoalTracker.goal.dao.AsyncGoalDao;
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.LatestProgressLayout;
+import com.osrsGoalTracker.goal.dao.ProgressStorageMode;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.entity.RollupResolution;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
+import com.osrsGoalTracker.shared.dao.util.FutureUtil;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Implementation of the AsyncGoalDao interface using the asynchronous DynamoDB client.
+ * No method blocks the calling thread; retries of unprocessed batch items are
+ * scheduled on a delayed executor instead of sleeping. Packed progress storage and
+ * progress sharding are not supported.
+ */
+@Slf4j
+public class DynamoAsyncGoalDao implements AsyncGoalDao {
+    @Inject
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    @Inject
+    private final DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable;
+    @Inject
+    private final DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable;
+
+    private final GoalDaoOptions options;
+
+    /**
+     * Constructor for DynamoAsyncGoalDao that keeps latest progress records at
+     * their legacy keys.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param metadataTable       The table of goal metadata items
+     * @param progressTable       The table of goal progress items
+     */
+    public DynamoAsyncGoalDao(DynamoDbAsyncClient dynamoDbAsyncClient,
+            DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable) {
+        this(dynamoDbAsyncClient, metadataTable, progressTable, LatestProgressLayout.LEGACY);
+    }
+
+    /**
+     * Constructor for DynamoAsyncGoalDao that keeps latest progress records at
+     * their legacy keys, in tables mapped with the prebuilt {@link GoalTableSchemas}.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param metadataTableName   The name of the table of goal metadata items
+     * @param progressTableName   The name of the table of goal progress items
+     */
+    public DynamoAsyncGoalDao(DynamoDbAsyncClient dynamoDbAsyncClient, String metadataTableName,
+            String progressTableName) {
+        this(dynamoDbAsyncClient, DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(dynamoDbAsyncClient).build(),
+                metadataTableName, progressTableName);
+    }
+
+    private DynamoAsyncGoalDao(DynamoDbAsyncClient dynamoDbAsyncClient, DynamoDbEnhancedAsyncClient enhancedClient,
+            String metadataTableName, String progressTableName) {
+        this(dynamoDbAsyncClient, enhancedClient.table(metadataTableName, GoalTableSchemas.metadata()),
+                enhancedClient.table(progressTableName, GoalTableSchemas.progress()));
+    }
+
+    /**
+     * Constructor for DynamoAsyncGoalDao that stores one item per progress value,
+     * kept forever, with separate earliest and latest progress records.
+     *
+     * @param dynamoDbAsyncClient  The asynchronous AWS DynamoDB client
+     * @param metadataTable        The table of goal metadata items
+     * @param progressTable        The table of goal progress items
+     * @param latestProgressLayout Which sort keys latest progress records use
+     */
+    public DynamoAsyncGoalDao(DynamoDbAsyncClient dynamoDbAsyncClient,
+            DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable, LatestProgressLayout latestProgressLayout) {
+        this(dynamoDbAsyncClient, metadataTable, progressTable, optionsWith(latestProgressLayout));
+    }
+
+    /**
+     * Constructor for DynamoAsyncGoalDao, in tables mapped with the prebuilt
+     * {@link GoalTableSchemas}.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param metadataTableName   The name of the table of goal metadata items
+     * @param progressTableName   The name of the table of goal progress items
+     * @param options             How progress is laid out in the table
+     * @throws IllegalArgumentException If the options are not supported, see
+     *                                  {@link #DynamoAsyncGoalDao(DynamoDbAsyncClient, DynamoDbAsyncTable,
+     *                                  DynamoDbAsyncTable, GoalDaoOptions)}
+     */
+    public DynamoAsyncGoalDao(DynamoDbAsyncClient dynamoDbAsyncClient, String metadataTableName,
+            String progressTableName, GoalDaoOptions options) {
+        this(dynamoDbAsyncClient, DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(dynamoDbAsyncClient).build(),
+                metadataTableName, progressTableName, options);
+    }
+
+    private DynamoAsyncGoalDao(DynamoDbAsyncClient dynamoDbAsyncClient, DynamoDbEnhancedAsyncClient enhancedClient,
+            String metadataTableName, String progressTableName, GoalDaoOptions options) {
+        this(dynamoDbAsyncClient, enhancedClient.table(metadataTableName, GoalTableSchemas.metadata()),
+                enhancedClient.table(progressTableName, GoalTableSchemas.progress()), options);
+    }
+
+    /**
+     * Constructor for DynamoAsyncGoalDao. The latest progress layout, the retention
+     * policy and the goal creation mode are honored as by {@link DynamoGoalDao};
+     * progress history is always stored one unsharded item per value.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param metadataTable       The table of goal metadata items
+     * @param progressTable       The table of goal progress items
+     * @param options             How progress is laid out in the table
+     * @throws IllegalArgumentException If an option is missing, the options ask for
+     *                                  packed progress storage or progress sharding,
+     *                                  or metadata snapshots are combined with a
+     *                                  non-legacy latest progress layout
+     */
+    public DynamoAsyncGoalDao(DynamoDbAsyncClient dynamoDbAsyncClient,
+            DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable, GoalDaoOptions options) {
+        if (options == null || options.getProgressStorageMode() == null || options.getProgressSharding() == null
+                || options.getRetentionPolicy() == null || options.getLatestProgressLayout() == null
+                || options.getGoalCreationMode() == null) {
+            throw new IllegalArgumentException("GoalDaoOptions cannot be null or incomplete");
+        }
+        if (options.getProgressStorageMode() != ProgressStorageMode.ITEM_PER_POINT) {
+            throw new IllegalArgumentException("DynamoAsyncGoalDao requires ITEM_PER_POINT progress storage");
+        }
+        if (options.getProgressSharding().isSharded()) {
+            throw new IllegalArgumentException("DynamoAsyncGoalDao does not support progress sharding");
+        }
+        if (options.getGoalCreationMode() == GoalCreationMode.METADATA_SNAPSHOTS
+                && options.getLatestProgressLayout() != LatestProgressLayout.LEGACY) {
+            throw new IllegalArgumentException("Metadata snapshots require the LEGACY latest progress layout");
+        }
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        this.metadataTable = metadataTable;
+        this.progressTable = progressTable;
+        this.options = options;
+    }
+
+    private static GoalDaoOptions optionsWith(LatestProgressLayout latestProgressLayout) {
+        if (latestProgressLayout == null) {
+            throw new IllegalArgumentException("LatestProgressLayout cannot be null");
+        }
+        return GoalDaoOptions.builder().latestProgressLayout(latestProgressLayout).build();
+    }
+
+    private GoalRequests requests() {
+        return new GoalRequests(metadataTable.tableName(), metadataTable.tableSchema(),
+                progressTable.tableName(), progressTable.tableSchema(), options);
+    }
+
+    @Override
+    public CompletableFuture<GoalEntity> createGoal(GoalEntity goalEntity, long currentValue) {
+        validateGoalEntity(goalEntity);
+
+        log.info("Creating new goal for user: {}, character: {}, targetAttribute: {}",
+                goalEntity.getUserId(), goalEntity.getCharacterName(), goalEntity.getTargetAttribute());
+
+        String goalId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+
+        DynamoGoalMetadataItem metadataItem = GoalRequests.createMetadataItem(goalEntity.getUserId(),
+                goalEntity.getCharacterName(), goalId, goalEntity, now);
+
+        GoalRequests requests = requests();
+        CompletableFuture<?> write = requests.storesSnapshots()
+                ? createGoalWithSnapshots(requests, goalEntity, goalId, metadataItem, now, currentValue)
+                : dynamoDbAsyncClient.transactWriteItems(requests.createGoalRequest(goalEntity.getUserId(),
+                        goalEntity.getCharacterName(), goalId, metadataItem, now, currentValue));
+        return write
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.error("Failed to create goal for user: {}, character: {}, error: {}",
+                                goalEntity.getUserId(), goalEntity.getCharacterName(), error.getMessage());
+                    } else {
+                        log.info("Successfully created goal with id: {} for user: {}, character: {}",
+                                goalId, goalEntity.getUserId(), goalEntity.getCharacterName());
+                    }
+                })
+                .thenApply(response -> GoalRequests.createReturnEntity(goalId, goalEntity, now));
+    }
+
+    /**
+     * Creates a goal with two standard writes instead of a transaction: the first
+     * progress record, then the metadata item carrying the earliest and latest
+     * snapshots. The record goes first so that a failure can at most leave a
+     * progress record of a goal that does not exist, never a goal without history.
+     */
+    private CompletableFuture<?> createGoalWithSnapshots(GoalRequests requests, GoalEntity goalEntity,
+            String goalId, DynamoGoalMetadataItem metadataItem, Instant now, long currentValue) {
+        DynamoGoalProgressItem progressItem = requests.createProgressRecordItem(goalEntity.getUserId(),
+                goalEntity.getCharacterName(), goalId, now, currentValue);
+        GoalRequests.applySnapshots(metadataItem, now, currentValue);
+        log.debug("Writing first progress record and goal metadata with snapshots");
+
+        return dynamoDbAsyncClient.putItem(requests.putProgressRequest(progressItem))
+                .thenCompose(response -> dynamoDbAsyncClient.putItem(
+                        requests.putMetadataIfAbsentRequest(metadataItem)));
+    }
+
+    /**
+     * Writes one batch, retrying unprocessed items after a non-blocking backoff.
+     *
+     * @return A future of the keys of the items that could not be written
+     */
+    private CompletableFuture<Set<String>> writeBatch(GoalRequests requests, List<WriteRequest> writeRequests,
+            int attempt) {
+        return dynamoDbAsyncClient.batchWriteItem(requests.batchWriteRequest(writeRequests))
+                .thenCompose(response -> {
+                    List<WriteRequest> remaining = requests.unprocessedWrites(response);
+                    if (remaining.isEmpty()) {
+                        return CompletableFuture.completedFuture(Collections.<String>emptySet());
+                    }
+                    if (attempt == GoalRequests.MAX_BATCH_WRITE_ATTEMPTS) {
+                        log.warn("Giving up on {} unprocessed progress items", remaining.size());
+                        return CompletableFuture.completedFuture(GoalRequests.keysOf(remaining));
+                    }
+
+                    log.debug("Retrying {} unprocessed progress items, attempt {}", remaining.size(), attempt + 1);
+                    Executor delayed = CompletableFuture.delayedExecutor(
+                            GoalRequests.batchWriteBackoffMillis(attempt), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.supplyAsync(() -> remaining, delayed)
+                            .thenCompose(retry -> writeBatch(requests, retry, attempt + 1));
+                })
+                .exceptionally(error -> {
+                    log.error("Batch write of {} progress items failed, error: {}",
+                            writeRequests.size(), FutureUtil.unwrap(error).getMessage());
+                    return GoalRequests.keysOf(writeRequests);
+                });
+    }
+
+    /**
+     * Writes any number of items in concurrent batches of up to 25.
+     *
+     * @return A future of the keys of the items that could not be written
+     */
+    private CompletableFuture<Set<String>> writeInBatches(GoalRequests requests, List<WriteRequest> writeRequests) {
+        List<CompletableFuture<Set<String>>> batches = new ArrayList<>();
+        for (int start = 0; start < writeRequests.size(); start += GoalRequests.MAX_BATCH_WRITE_SIZE) {
+            batches.add(writeBatch(requests, writeRequests.subList(start,
+                    Math.min(start + GoalRequests.MAX_BATCH_WRITE_SIZE, writeRequests.size())), 1));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    Set<String> unwrittenKeys = new HashSet<>();
+                    batches.forEach(batch -> unwrittenKeys.addAll(batch.join()));
+                    return unwrittenKeys;
+                });
+    }
+
+    @Override
+    public CompletableFuture<ProgressBatchResult> recordProgressBatch(
+            Collection<GoalProgressEntity> progressEntities) {
+        validateNotNull(progressEntities, "progressEntities");
+        progressEntities.forEach(GoalValidation::validateProgressEntity);
+
+        log.info("Recording batch of {} progress values", progressEntities.size());
+
+        GoalRequests requests = requests();
+        ProgressBatchPlan plan = ProgressBatchPlan.of(progressEntities, requests);
+        return writeInBatches(requests, plan.writeRequests())
+                .thenCompose(unwrittenKeys -> advanceLatest(requests, plan.toResult(unwrittenKeys)))
+                .thenApply(result -> {
+                    log.info("Recorded {} of {} progress values in {} write requests",
+                            result.getSucceeded().size(), progressEntities.size(), plan.size());
+                    return result;
+                });
+    }
+
+    /**
+     * Advances the latest progress records or snapshot of every goal of a batch to
+     * its newest written value, each write conditioned on it being older. A value
+     * whose latest progress fails to advance is reported as failed so that it is
+     * retried.
+     */
+    private CompletableFuture<ProgressBatchResult> advanceLatest(GoalRequests requests,
+            ProgressBatchResult result) {
+        List<GoalProgressEntity> newest = ProgressBatchPlan.newestOfEachGoal(result.getSucceeded());
+        List<CompletableFuture<Boolean>> advanced = new ArrayList<>(newest.size());
+        for (GoalProgressEntity entity : newest) {
+            List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+            if (requests.storesSnapshots()) {
+                writes.add(dynamoDbAsyncClient.updateItem(requests.latestSnapshotUpdateRequest(entity))
+                        .handle((response, error) -> isAdvancedOrNewer(entity, error)));
+            }
+            for (PutItemRequest putRequest : requests.latestIfOlderRequests(entity)) {
+                writes.add(dynamoDbAsyncClient.putItem(putRequest)
+                        .handle((response, error) -> isAdvancedOrNewer(entity, error)));
+            }
+            advanced.add(CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(ignored -> writes.stream().allMatch(CompletableFuture::join)));
+        }
+        return CompletableFuture.allOf(advanced.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    List<GoalProgressEntity> unadvanced = new ArrayList<>();
+                    for (int i = 0; i < newest.size(); i++) {
+                        if (!advanced.get(i).join()) {
+                            unadvanced.add(newest.get(i));
+                        }
+                    }
+                    return ProgressBatchPlan.withUnadvanced(result, unadvanced);
+                });
+    }
+
+    private static boolean isAdvancedOrNewer(GoalProgressEntity newest, Throwable error) {
+        if (error == null) {
+            return true;
+        }
+        if (FutureUtil.unwrap(error) instanceof ConditionalCheckFailedException) {
+            log.debug("Latest progress for goal: {} is newer than {}", newest.getGoalId(), newest.getCreatedAt());
+            return true;
+        }
+        log.error("Failed to advance latest progress for goal: {}, error: {}",
+                newest.getGoalId(), FutureUtil.unwrap(error).getMessage());
+        return false;
+    }
+
+    @Override
+    public CompletableFuture<GoalProgressEntity> recordProgress(String userId, String characterName, String goalId,
+            long value, Instant timestamp) {
+        validateGoalKey(userId, characterName, goalId);
+        validateNotNull(timestamp, "timestamp");
+
+        log.debug("Recording progress {} at {} for user: {}, character: {}, goal: {}",
+                value, timestamp, userId, characterName, goalId);
+
+        GoalRequests requests = requests();
+        DynamoGoalProgressItem progressItem = requests.createProgressRecordItem(userId, characterName, goalId,
+                timestamp, value);
+        List<DynamoGoalProgressItem> latestItems = requests.createLatestItems(userId, characterName, goalId,
+                timestamp, value);
+        GoalProgressEntity recorded = GoalRequests.createProgressEntity(userId, characterName, goalId, value,
+                timestamp);
+
+        return dynamoDbAsyncClient.transactWriteItems(requests.recordProgressRequest(progressItem, latestItems))
+                .thenApply(response -> recorded)
+                .exceptionallyCompose(error -> {
+                    if (!GoalRequests.isLatestConditionFailure(FutureUtil.unwrap(error))) {
+                        log.error("Failed to record progress for user: {}, character: {}, goal: {}, error: {}",
+                                userId, characterName, goalId, error.getMessage());
+                        return CompletableFuture.failedFuture(error);
+                    }
+                    // A newer value already holds the latest progress record, so only the
+                    // timestamped record of this (late or duplicate) value is written.
+                    log.debug("Latest progress for goal: {} is newer than {}, writing progress record only",
+                            goalId, timestamp);
+                    return dynamoDbAsyncClient.putItem(requests.putProgressRequest(progressItem))
+                            .thenApply(response -> recorded);
+                });
+    }
+
+    /**
+     * Publishes the results of a progress query, dropping every item that is not a
+     * timestamped progress record.
+     */
+    private SdkPublisher<GoalProgressEntity> queryProgress(GoalRequests requests, QueryRequest queryRequest,
+            String progressPrefix) {
+        return dynamoDbAsyncClient.queryPaginator(queryRequest).items()
+                .filter(item -> GoalRequests.isTimestampedProgressSortKey(item.get("sk").s(), progressPrefix))
+                .map(requests::toProgressEntity);
+    }
+
+    @Override
+    public SdkPublisher<GoalProgressEntity> publishProgressHistory(String userId, String characterName,
+            String goalId, ProgressQueryOptions options) {
+        validateGoalKey(userId, characterName, goalId);
+        validateQueryOptions(options);
+
+        log.debug("Publishing progress history for user: {}, character: {}, goal: {}",
+                userId, characterName, goalId);
+
+        GoalRequests requests = requests();
+        return queryProgress(requests, requests.historyQuery(userId, characterName, goalId, options),
+                SortKeyUtil.buildGoalProgressPrefix(characterName, goalId));
+    }
+
+    private SdkPublisher<GoalProgressEntity> publishProgressRange(String userId, String characterName,
+            String goalId, Instant from, Instant to, int pageSize, boolean newestFirst) {
+        GoalRequests requests = requests();
+        QueryRequest queryRequest = requests.rangeQuery(userId, characterName, goalId, from, to, pageSize,
+                newestFirst);
+        return queryProgress(requests, queryRequest, SortKeyUtil.buildGoalProgressPrefix(characterName, goalId))
+                .filter(entity -> GoalRequests.isWithin(entity, from, to));
+    }
+
+    @Override
+    public CompletableFuture<List<GoalProgressEntity>> getProgressBetween(GoalEntity goal, Instant from,
+            Instant to, int limit, boolean newestFirst) {
+        validateExistingGoal(goal);
+        validateTimeRange(from, to);
+        validateLimit(limit);
+
+        log.debug("Getting up to {} progress records between {} and {} for goal: {}",
+                limit, from, to, goal.getGoalId());
+
+        // Items are delivered one at a time, and the list is only read once the subscription completes
+        List<GoalProgressEntity> progress = new ArrayList<>();
+        return publishProgressRange(goal.getUserId(), goal.getCharacterName(), goal.getGoalId(), from, to, limit,
+                newestFirst)
+                .limit(limit)
+                .subscribe(progress::add)
+                .thenApply(ignored -> {
+                    log.debug("Found {} progress records between {} and {} for goal: {}",
+                            progress.size(), from, to, goal.getGoalId());
+                    return progress;
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<GoalProgressRollupEntity>> rollupProgress(String userId, String characterName,
+            String goalId, Instant from, Instant to) {
+        validateGoalKey(userId, characterName, goalId);
+        validateTimeRange(from, to);
+
+        // Widen the range to whole weeks so every touched bucket is rebuilt from all of its points
+        Instant rangeStart = GoalProgressRollups.rangeStartOf(from);
+        Instant rangeEnd = GoalProgressRollups.rangeEndOf(to);
+
+        log.info("Rolling up progress between {} and {} for user: {}, character: {}, goal: {}",
+                rangeStart, rangeEnd, userId, characterName, goalId);
+
+        GoalRequests requests = requests();
+        Map<String, GoalProgressRollups.Accumulator> accumulators = new LinkedHashMap<>();
+        List<GoalProgressRollupEntity> rollups = new ArrayList<>();
+        return publishProgressRange(userId, characterName, goalId, rangeStart, rangeEnd,
+                ProgressQueryOptions.DEFAULT_PAGE_SIZE, false)
+                .subscribe(point -> GoalProgressRollups.fold(accumulators, characterName, goalId, point))
+                .thenCompose(ignored -> {
+                    Instant now = Instant.now();
+                    List<WriteRequest> writeRequests = new ArrayList<>(accumulators.size());
+                    for (Map.Entry<String, GoalProgressRollups.Accumulator> entry : accumulators.entrySet()) {
+                        Map<String, AttributeValue> item = GoalProgressRollups.toItem("USER#" + userId,
+                                entry.getKey(), userId, characterName, goalId, entry.getValue(), now);
+                        writeRequests.add(GoalRequests.putWriteRequest(item));
+                        rollups.add(GoalProgressRollups.toEntity(item));
+                    }
+                    return writeInBatches(requests, writeRequests);
+                })
+                .thenApply(unwrittenKeys -> {
+                    if (!unwrittenKeys.isEmpty()) {
+                        log.error("Failed to write {} of {} rollups for goal: {}",
+                                unwrittenKeys.size(), rollups.size(), goalId);
+                        throw new IllegalStateException("Failed to write " + unwrittenKeys.size()
+                                + " rollups for goal: " + goalId);
+                    }
+                    log.info("Wrote {} rollups for goal: {}", rollups.size(), goalId);
+                    return rollups;
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<GoalProgressRollupEntity>> getProgressRollups(GoalEntity goal, Instant from,
+            Instant to, Duration resolution) {
+        validateExistingGoal(goal);
+        validateTimeRange(from, to);
+        RollupResolution rollupResolution = RollupResolution.coarsestFor(resolution);
+
+        log.debug("Getting {} rollups between {} and {} for goal: {}", rollupResolution, from, to, goal.getGoalId());
+
+        List<GoalProgressRollupEntity> rollups = new ArrayList<>();
+        return dynamoDbAsyncClient.queryPaginator(requests().rollupQuery(goal, rollupResolution, from, to)).items()
+                .subscribe(item -> rollups.add(GoalProgressRollups.toEntity(item)))
+                .thenApply(ignored -> {
+                    log.debug("Found {} {} rollups for goal: {}", rollups.size(), rollupResolution,
+                            goal.getGoalId());
+                    return rollups;
+                });
+    }
+
+    @Override
+    public CompletableFuture<List<GoalProgressEntity>> getLatestProgressForCharacter(String userId,
+            String characterName) {
+        validateStringNotEmpty(userId, "userId");
+        validateStringNotEmpty(characterName, "characterName");
+
+        log.debug("Getting latest progress of every goal for user: {}, character: {}", userId, characterName);
+
+        GoalRequests requests = requests();
+        List<GoalProgressEntity> latestValues = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> queries = new ArrayList<>();
+        for (QueryRequest queryRequest : requests.latestForCharacterQueries(userId, characterName)) {
+            queries.add(dynamoDbAsyncClient.queryPaginator(queryRequest).items()
+                    .map(requests::latestOf)
+                    .filter(Objects::nonNull)
+                    .subscribe(latestValues::add));
+        }
+        return CompletableFuture.allOf(queries.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    // A goal may have both a latest progress record and a newer or older snapshot
+                    List<GoalProgressEntity> latestProgress = ProgressBatchPlan.newestOfEachGoal(latestValues);
+                    log.debug("Found latest progress of {} goals for character: {}",
+                            latestProgress.size(), characterName);
+                    return latestProgress;
+                });
+    }
+}
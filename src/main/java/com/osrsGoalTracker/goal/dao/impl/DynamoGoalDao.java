@@ -1,30 +1,88 @@
 package com.osrsGoalTracker.goal.dao.impl;
 
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateExistingGoal;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateGoalEntity;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateGoalKey;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateLimit;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateNotNull;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateQueryOptions;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateStringNotEmpty;
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateTimeRange;
+
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.google.inject.Inject;
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
 import com.osrsGoalTracker.goal.dao.GoalDao;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.LatestProgressLayout;
+import com.osrsGoalTracker.goal.dao.ProgressStorageMode;
 import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.entity.RollupResolution;
 import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
 import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.dao.impl.ProgressPointCodec.Point;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
+import com.osrsGoalTracker.shared.dao.util.FutureUtil;
 import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
-import software.amazon.awssdk.services.dynamodb.model.Put;
-import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 /**
  * Implementation of the GoalDao interface using DynamoDB.
  */
 @Slf4j
-@RequiredArgsConstructor
 public class DynamoGoalDao implements GoalDao {
+    /**
+     * Maximum number of conditional latest progress writes a batch has in flight.
+     */
+    static final int LATEST_WRITE_CONCURRENCY = 16;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    // Latest writes block on the network, so they get their own bounded pool of daemon threads
+    private static final ExecutorService LATEST_WRITE_EXECUTOR = Executors.newFixedThreadPool(
+            LATEST_WRITE_CONCURRENCY, runnable -> {
+                Thread thread = new Thread(runnable, "latest-progress-write-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
     @Inject
     private final DynamoDbClient dynamoDbClient;
     @Inject
@@ -32,112 +90,122 @@ public class DynamoGoalDao implements GoalDao {
     @Inject
     private final DynamoDbTable<DynamoGoalProgressItem> progressTable;
 
-    private void validateStringNotEmpty(String value, String fieldName) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException(fieldName + " cannot be null or empty");
-        }
+    private final GoalDaoOptions options;
+
+    /**
+     * Constructor for DynamoGoalDao that stores one item per progress value.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param metadataTable  The table of goal metadata items
+     * @param progressTable  The table of goal progress items
+     */
+    public DynamoGoalDao(DynamoDbClient dynamoDbClient, DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbTable<DynamoGoalProgressItem> progressTable) {
+        this(dynamoDbClient, metadataTable, progressTable, GoalDaoOptions.defaults());
     }
 
-    private void validateNotNull(Object value, String fieldName) {
-        if (value == null) {
-            throw new IllegalArgumentException(fieldName + " cannot be null");
-        }
+    /**
+     * Constructor for DynamoGoalDao that stores one item per progress value in
+     * tables mapped with the prebuilt {@link GoalTableSchemas}.
+     *
+     * @param dynamoDbClient    The AWS DynamoDB client
+     * @param metadataTableName The name of the table of goal metadata items
+     * @param progressTableName The name of the table of goal progress items
+     */
+    public DynamoGoalDao(DynamoDbClient dynamoDbClient, String metadataTableName, String progressTableName) {
+        this(dynamoDbClient, metadataTableName, progressTableName, GoalDaoOptions.defaults());
     }
 
-    private void validateGoalEntity(GoalEntity goalEntity) {
-        validateNotNull(goalEntity, "goalEntity");
-        validateStringNotEmpty(goalEntity.getUserId(), "userId");
-        validateStringNotEmpty(goalEntity.getCharacterName(), "characterName");
-        validateStringNotEmpty(goalEntity.getTargetAttribute(), "targetAttribute");
-        validateStringNotEmpty(goalEntity.getTargetType(), "targetType");
-        validateNotNull(goalEntity.getTargetValue(), "targetValue");
+    /**
+     * Constructor for DynamoGoalDao with every storage option, in tables mapped
+     * with the prebuilt {@link GoalTableSchemas}.
+     *
+     * @param dynamoDbClient    The AWS DynamoDB client
+     * @param metadataTableName The name of the table of goal metadata items
+     * @param progressTableName The name of the table of goal progress items
+     * @param options           How progress history is laid out in the table
+     * @throws IllegalArgumentException If an option is missing or options conflict
+     */
+    public DynamoGoalDao(DynamoDbClient dynamoDbClient, String metadataTableName, String progressTableName,
+            GoalDaoOptions options) {
+        this(dynamoDbClient, DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDbClient).build(),
+                metadataTableName, progressTableName, options);
     }
 
-    private DynamoGoalMetadataItem createMetadataItem(String userId, String characterName, String goalId,
-            GoalEntity goalEntity, Instant timestamp) {
-        return DynamoGoalMetadataItem.builder()
-                .pk("USER#" + userId)
-                .sk(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId))
-                .userId(userId)
-                .characterName(characterName)
-                .goalId(goalId)
-                .targetAttribute(goalEntity.getTargetAttribute())
-                .targetType(goalEntity.getTargetType())
-                .targetValue(goalEntity.getTargetValue())
-                .targetDate(goalEntity.getTargetDate())
-                .notificationChannelType(goalEntity.getNotificationChannelType())
-                .frequency(goalEntity.getFrequency())
-                .createdAt(timestamp)
-                .updatedAt(timestamp)
-                .build();
+    private DynamoGoalDao(DynamoDbClient dynamoDbClient, DynamoDbEnhancedClient enhancedClient,
+            String metadataTableName, String progressTableName, GoalDaoOptions options) {
+        this(dynamoDbClient, enhancedClient.table(metadataTableName, GoalTableSchemas.metadata()),
+                enhancedClient.table(progressTableName, GoalTableSchemas.progress()), options);
     }
 
-    private DynamoGoalProgressItem createProgressItem(String userId, String characterName, String goalId,
-            Instant timestamp, String sortKey, long currentValue) {
-        return DynamoGoalProgressItem.builder()
-                .pk("USER#" + userId)
-                .sk(sortKey)
-                .userId(userId)
-                .characterName(characterName)
-                .goalId(goalId)
-                .progressValue(currentValue)
-                .createdAt(timestamp)
-                .build();
+    /**
+     * Constructor for DynamoGoalDao.
+     *
+     * @param dynamoDbClient      The AWS DynamoDB client
+     * @param metadataTable       The table of goal metadata items
+     * @param progressTable       The table of goal progress items
+     * @param progressStorageMode How progress history is stored
+     */
+    public DynamoGoalDao(DynamoDbClient dynamoDbClient, DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbTable<DynamoGoalProgressItem> progressTable, ProgressStorageMode progressStorageMode) {
+        this(dynamoDbClient, metadataTable, progressTable, optionsWith(progressStorageMode));
     }
 
-    private TransactWriteItemsRequest createTransactionRequest(String userId, String characterName, String goalId,
-            DynamoGoalMetadataItem metadataItem, Instant timestamp, long currentValue) {
-        // Create progress items
-        DynamoGoalProgressItem progressItem = createProgressItem(userId, characterName, goalId,
-                timestamp, SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp), currentValue);
-        DynamoGoalProgressItem latestItem = createProgressItem(userId, characterName, goalId,
-                timestamp, SortKeyUtil.buildGoalLatestSortKey(characterName, goalId), currentValue);
-        DynamoGoalProgressItem earliestItem = createProgressItem(userId, characterName, goalId,
-                timestamp, SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId), currentValue);
-
-        return TransactWriteItemsRequest.builder()
-                .transactItems(Arrays.asList(
-                        TransactWriteItem.builder()
-                                .put(Put.builder()
-                                        .tableName(metadataTable.tableName())
-                                        .item(metadataTable.tableSchema().itemToMap(metadataItem, true))
-                                        .build())
-                                .build(),
-                        TransactWriteItem.builder()
-                                .put(Put.builder()
-                                        .tableName(progressTable.tableName())
-                                        .item(progressTable.tableSchema().itemToMap(progressItem, true))
-                                        .build())
-                                .build(),
-                        TransactWriteItem.builder()
-                                .put(Put.builder()
-                                        .tableName(progressTable.tableName())
-                                        .item(progressTable.tableSchema().itemToMap(latestItem, true))
-                                        .build())
-                                .build(),
-                        TransactWriteItem.builder()
-                                .put(Put.builder()
-                                        .tableName(progressTable.tableName())
-                                        .item(progressTable.tableSchema().itemToMap(earliestItem, true))
-                                        .build())
-                                .build()))
-                .build();
+    /**
+     * Constructor for DynamoGoalDao with every storage option.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param metadataTable  The table of goal metadata items
+     * @param progressTable  The table of goal progress items
+     * @param options        How progress history is laid out in the table
+     * @throws IllegalArgumentException If an option is missing, packed progress
+     *                                  storage is combined with sharding or retention,
+     *                                  or metadata snapshots are combined with packed
+     *                                  storage or a non-legacy latest progress layout
+     */
+    public DynamoGoalDao(DynamoDbClient dynamoDbClient, DynamoDbTable<DynamoGoalMetadataItem> metadataTable,
+            DynamoDbTable<DynamoGoalProgressItem> progressTable, GoalDaoOptions options) {
+        if (options == null || options.getProgressStorageMode() == null || options.getProgressSharding() == null
+                || options.getRetentionPolicy() == null || options.getLatestProgressLayout() == null
+                || options.getGoalCreationMode() == null) {
+            throw new IllegalArgumentException("GoalDaoOptions cannot be null or incomplete");
+        }
+        if (options.getGoalCreationMode() == GoalCreationMode.METADATA_SNAPSHOTS) {
+            if (options.getProgressStorageMode() == ProgressStorageMode.PACKED_MONTHLY) {
+                throw new IllegalArgumentException("Metadata snapshots require ITEM_PER_POINT progress storage");
+            }
+            if (options.getLatestProgressLayout() != LatestProgressLayout.LEGACY) {
+                throw new IllegalArgumentException("Metadata snapshots require the LEGACY latest progress layout");
+            }
+        }
+        if (options.getProgressStorageMode() == ProgressStorageMode.PACKED_MONTHLY) {
+            if (options.getProgressSharding().isSharded()) {
+                throw new IllegalArgumentException("Progress sharding requires ITEM_PER_POINT progress storage");
+            }
+            if (options.getRetentionPolicy().expiresRecords()) {
+                throw new IllegalArgumentException("Progress retention requires ITEM_PER_POINT progress storage");
+            }
+        }
+        this.dynamoDbClient = dynamoDbClient;
+        this.metadataTable = metadataTable;
+        this.progressTable = progressTable;
+        this.options = options;
     }
 
-    private GoalEntity createReturnEntity(String goalId, GoalEntity goalEntity, Instant timestamp) {
-        return GoalEntity.builder()
-                .userId(goalEntity.getUserId())
-                .goalId(goalId)
-                .characterName(goalEntity.getCharacterName())
-                .targetAttribute(goalEntity.getTargetAttribute())
-                .targetType(goalEntity.getTargetType())
-                .targetValue(goalEntity.getTargetValue())
-                .targetDate(goalEntity.getTargetDate())
-                .notificationChannelType(goalEntity.getNotificationChannelType())
-                .frequency(goalEntity.getFrequency())
-                .createdAt(timestamp)
-                .updatedAt(timestamp)
-                .build();
+    private static GoalDaoOptions optionsWith(ProgressStorageMode progressStorageMode) {
+        if (progressStorageMode == null) {
+            throw new IllegalArgumentException("ProgressStorageMode cannot be null");
+        }
+        return GoalDaoOptions.builder().progressStorageMode(progressStorageMode).build();
+    }
+
+    private boolean isPacked() {
+        return options.getProgressStorageMode() == ProgressStorageMode.PACKED_MONTHLY;
+    }
+
+    private GoalRequests requests() {
+        return new GoalRequests(metadataTable.tableName(), metadataTable.tableSchema(),
+                progressTable.tableName(), progressTable.tableSchema(), options);
     }
 
     @Override
@@ -151,14 +219,23 @@ public class DynamoGoalDao implements GoalDao {
         Instant now = Instant.now();
 
         // Create the goal metadata item
-        DynamoGoalMetadataItem metadataItem = createMetadataItem(goalEntity.getUserId(), goalEntity.getCharacterName(),
-                goalId, goalEntity, now);
+        DynamoGoalMetadataItem metadataItem = GoalRequests.createMetadataItem(goalEntity.getUserId(),
+                goalEntity.getCharacterName(), goalId, goalEntity, now);
         log.debug("Created metadata item with goalId: {}, pk: {}, sk: {}",
                 goalId, metadataItem.getPk(), metadataItem.getSk());
 
+        GoalRequests requests = requests();
+        if (requests.storesSnapshots()) {
+            createGoalWithSnapshots(requests, goalEntity, goalId, metadataItem, now, currentValue);
+            return GoalRequests.createReturnEntity(goalId, goalEntity, now);
+        }
+
         // Create transaction request with all items
-        TransactWriteItemsRequest transactionRequest = createTransactionRequest(goalEntity.getUserId(),
-                goalEntity.getCharacterName(), goalId, metadataItem, now, currentValue);
+        TransactWriteItemsRequest transactionRequest = isPacked()
+                ? requests.createPackedGoalRequest(goalEntity.getUserId(), goalEntity.getCharacterName(), goalId,
+                        metadataItem, now, currentValue)
+                : requests.createGoalRequest(goalEntity.getUserId(), goalEntity.getCharacterName(), goalId,
+                        metadataItem, now, currentValue);
         log.debug("Initiating transaction to create goal and progress records");
 
         try {
@@ -171,6 +248,471 @@ public class DynamoGoalDao implements GoalDao {
             throw e;
         }
 
-        return createReturnEntity(goalId, goalEntity, now);
+        return GoalRequests.createReturnEntity(goalId, goalEntity, now);
+    }
+
+    /**
+     * Creates a goal with two standard writes instead of a transaction: the first
+     * progress record, then the metadata item carrying the earliest and latest
+     * snapshots. The record goes first so that a failure can at most leave a
+     * progress record of a goal that does not exist, never a goal without history.
+     */
+    private void createGoalWithSnapshots(GoalRequests requests, GoalEntity goalEntity, String goalId,
+            DynamoGoalMetadataItem metadataItem, Instant now, long currentValue) {
+        DynamoGoalProgressItem progressItem = requests.createProgressRecordItem(goalEntity.getUserId(),
+                goalEntity.getCharacterName(), goalId, now, currentValue);
+        GoalRequests.applySnapshots(metadataItem, now, currentValue);
+        log.debug("Writing first progress record and goal metadata with snapshots");
+
+        try {
+            dynamoDbClient.putItem(requests.putProgressRequest(progressItem));
+            dynamoDbClient.putItem(requests.putMetadataIfAbsentRequest(metadataItem));
+            log.info("Successfully created goal with id: {} for user: {}, character: {}",
+                    goalId, goalEntity.getUserId(), goalEntity.getCharacterName());
+        } catch (Exception e) {
+            log.error("Failed to create goal for user: {}, character: {}, error: {}",
+                    goalEntity.getUserId(), goalEntity.getCharacterName(), e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Writes one batch, retrying unprocessed items with backoff.
+     *
+     * @return The keys of the items that could not be written
+     */
+    private Set<String> writeBatch(GoalRequests requests, List<WriteRequest> writeRequests) {
+        List<WriteRequest> remaining = writeRequests;
+
+        for (int attempt = 1; attempt <= GoalRequests.MAX_BATCH_WRITE_ATTEMPTS; attempt++) {
+            BatchWriteItemResponse response;
+            try {
+                response = dynamoDbClient.batchWriteItem(requests.batchWriteRequest(remaining));
+            } catch (SdkException e) {
+                log.error("Batch write of {} progress items failed, error: {}", remaining.size(), e.getMessage());
+                return GoalRequests.keysOf(remaining);
+            }
+
+            remaining = requests.unprocessedWrites(response);
+            if (remaining.isEmpty()) {
+                return Collections.emptySet();
+            }
+            if (attempt == GoalRequests.MAX_BATCH_WRITE_ATTEMPTS) {
+                break;
+            }
+
+            log.debug("Retrying {} unprocessed progress items, attempt {}", remaining.size(), attempt + 1);
+            try {
+                Thread.sleep(GoalRequests.batchWriteBackoffMillis(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        log.warn("Giving up on {} unprocessed progress items", remaining.size());
+        return GoalRequests.keysOf(remaining);
+    }
+
+    /**
+     * Writes any number of items in batches of up to 25.
+     *
+     * @return The keys of the items that could not be written
+     */
+    private Set<String> writeInBatches(GoalRequests requests, List<WriteRequest> writeRequests) {
+        Set<String> unwrittenKeys = new HashSet<>();
+        for (int start = 0; start < writeRequests.size(); start += GoalRequests.MAX_BATCH_WRITE_SIZE) {
+            unwrittenKeys.addAll(writeBatch(requests, writeRequests.subList(start,
+                    Math.min(start + GoalRequests.MAX_BATCH_WRITE_SIZE, writeRequests.size()))));
+        }
+        return unwrittenKeys;
+    }
+
+    @Override
+    public ProgressBatchResult recordProgressBatch(Collection<GoalProgressEntity> progressEntities) {
+        validateNotNull(progressEntities, "progressEntities");
+        progressEntities.forEach(GoalValidation::validateProgressEntity);
+
+        log.info("Recording batch of {} progress values", progressEntities.size());
+
+        if (isPacked()) {
+            return recordPackedProgressBatch(progressEntities);
+        }
+
+        GoalRequests requests = requests();
+        ProgressBatchPlan plan = ProgressBatchPlan.of(progressEntities, requests);
+        ProgressBatchResult result = advanceLatest(requests,
+                plan.toResult(writeInBatches(requests, plan.writeRequests())));
+
+        log.info("Recorded {} of {} progress values in {} write requests",
+                result.getSucceeded().size(), progressEntities.size(), plan.size());
+        return result;
+    }
+
+    /**
+     * Advances the latest progress of every goal of a batch to its newest written
+     * value, with the latest record writes conditioned on being older or the
+     * latest snapshot update. The goals are advanced concurrently, up to
+     * {@link #LATEST_WRITE_CONCURRENCY} at a time. A value whose latest progress
+     * fails to advance is reported as failed so that it is retried.
+     */
+    private ProgressBatchResult advanceLatest(GoalRequests requests, ProgressBatchResult result) {
+        List<GoalProgressEntity> newest = ProgressBatchPlan.newestOfEachGoal(result.getSucceeded());
+        List<CompletableFuture<Boolean>> advanced = new ArrayList<>(newest.size());
+        for (GoalProgressEntity entity : newest) {
+            advanced.add(CompletableFuture.supplyAsync(() -> advanceLatest(requests, entity), LATEST_WRITE_EXECUTOR));
+        }
+
+        List<GoalProgressEntity> unadvanced = new ArrayList<>();
+        try {
+            for (int i = 0; i < newest.size(); i++) {
+                if (!advanced.get(i).join()) {
+                    unadvanced.add(newest.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            Throwable cause = FutureUtil.unwrap(e);
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+        return ProgressBatchPlan.withUnadvanced(result, unadvanced);
+    }
+
+    /**
+     * Advances one goal's latest progress.
+     *
+     * @return Whether the latest progress now holds the value or a newer one
+     */
+    private boolean advanceLatest(GoalRequests requests, GoalProgressEntity newest) {
+        try {
+            if (requests.storesSnapshots()) {
+                advanceIfOlder(() -> dynamoDbClient.updateItem(requests.latestSnapshotUpdateRequest(newest)), newest);
+            } else {
+                for (PutItemRequest putRequest : requests.latestIfOlderRequests(newest)) {
+                    advanceIfOlder(() -> dynamoDbClient.putItem(putRequest), newest);
+                }
+            }
+            return true;
+        } catch (SdkException e) {
+            log.error("Failed to advance latest progress for goal: {}, error: {}",
+                    newest.getGoalId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void advanceIfOlder(Runnable conditionalWrite, GoalProgressEntity newest) {
+        try {
+            conditionalWrite.run();
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Latest progress for goal: {} is newer than {}", newest.getGoalId(), newest.getCreatedAt());
+        }
+    }
+
+    /**
+     * Appends each goal's values month by month. The month holding a goal's newest
+     * value also advances the goal's latest progress record.
+     */
+    private ProgressBatchResult recordPackedProgressBatch(Collection<GoalProgressEntity> progressEntities) {
+        GoalRequests requests = requests();
+        Map<String, List<GoalProgressEntity>> byGoalMonth = new LinkedHashMap<>();
+        Map<String, GoalProgressEntity> newestByGoal = new LinkedHashMap<>();
+        for (GoalProgressEntity entity : progressEntities) {
+            String goalKey = entity.getUserId() + "|" + entity.getCharacterName() + "|" + entity.getGoalId();
+            byGoalMonth.computeIfAbsent(goalKey + "|" + PackedProgressItems.monthOf(entity.getCreatedAt()),
+                    key -> new ArrayList<>()).add(entity);
+            newestByGoal.merge(goalKey, entity, (current, candidate) ->
+                    candidate.getCreatedAt().isAfter(current.getCreatedAt()) ? candidate : current);
+        }
+
+        List<GoalProgressEntity> succeeded = new ArrayList<>();
+        List<GoalProgressEntity> failed = new ArrayList<>();
+        for (List<GoalProgressEntity> group : byGoalMonth.values()) {
+            GoalProgressEntity first = group.get(0);
+            GoalProgressEntity newest = newestByGoal.get(first.getUserId() + "|" + first.getCharacterName() + "|"
+                    + first.getGoalId());
+            List<DynamoGoalProgressItem> latestItems = group.contains(newest)
+                    ? requests.createLatestItems(newest.getUserId(), newest.getCharacterName(),
+                            newest.getGoalId(), newest.getCreatedAt(), newest.getProgressValue())
+                    : List.of();
+            try {
+                appendPacked(requests, first.getUserId(), first.getCharacterName(), first.getGoalId(),
+                        group.stream().map(PackedProgressItems::pointOf).collect(Collectors.toList()),
+                        latestItems);
+                succeeded.addAll(group);
+            } catch (SdkException | IllegalStateException e) {
+                log.error("Failed to append {} progress values for goal: {}, error: {}",
+                        group.size(), first.getGoalId(), e.getMessage());
+                failed.addAll(group);
+            }
+        }
+
+        log.info("Recorded {} of {} progress values in {} packed months",
+                succeeded.size(), progressEntities.size(), byGoalMonth.size());
+        return ProgressBatchResult.builder()
+                .succeeded(succeeded)
+                .failed(failed)
+                .build();
+    }
+
+    /**
+     * Merges points of one month into the goal's packed month item. The item is
+     * read, merged and written back on the condition that no other append changed
+     * it in between; lost races are retried.
+     */
+    private void appendPacked(GoalRequests requests, String userId, String characterName, String goalId,
+            List<Point> points, List<DynamoGoalProgressItem> latestItems) {
+        String tableName = requests.progressTableName();
+        YearMonth month = PackedProgressItems.monthOf(Instant.ofEpochMilli(points.get(0).getEpochMillis()));
+
+        for (int attempt = 1; attempt <= PackedProgressItems.MAX_APPEND_ATTEMPTS; attempt++) {
+            Map<String, AttributeValue> monthItem = dynamoDbClient.getItem(PackedProgressItems.getMonthRequest(
+                    tableName, userId, characterName, goalId, month)).item();
+            long version = PackedProgressItems.versionOf(monthItem);
+            List<Point> merged = PackedProgressItems.merge(PackedProgressItems.pointsOf(monthItem), points);
+            Update update = PackedProgressItems.monthUpdate(tableName, userId, characterName, goalId, merged,
+                    version);
+
+            try {
+                writePackedMonth(requests, update, latestItems);
+                log.debug("Appended {} progress values to {} of goal: {}", points.size(), month, goalId);
+                return;
+            } catch (ConditionalCheckFailedException e) {
+                log.debug("Packed progress of {} for goal: {} changed concurrently, attempt {}",
+                        month, goalId, attempt);
+            } catch (TransactionCanceledException e) {
+                if (!PackedProgressItems.isMonthConditionFailure(e)) {
+                    throw e;
+                }
+                log.debug("Packed progress of {} for goal: {} changed concurrently, attempt {}",
+                        month, goalId, attempt);
+            }
+        }
+
+        throw new IllegalStateException("Failed to append progress to " + month + " of goal: " + goalId
+                + " after " + PackedProgressItems.MAX_APPEND_ATTEMPTS + " attempts");
+    }
+
+    private void writePackedMonth(GoalRequests requests, Update update,
+            List<DynamoGoalProgressItem> latestItems) {
+        if (latestItems.isEmpty()) {
+            dynamoDbClient.updateItem(PackedProgressItems.updateItemRequest(update));
+            return;
+        }
+        try {
+            dynamoDbClient.transactWriteItems(requests.appendPackedRequest(update, latestItems));
+        } catch (TransactionCanceledException e) {
+            if (!GoalRequests.isLatestConditionFailure(e)) {
+                throw e;
+            }
+            // A newer value already holds the latest progress record, so only the month is written
+            dynamoDbClient.updateItem(PackedProgressItems.updateItemRequest(update));
+        }
+    }
+
+    @Override
+    public GoalProgressEntity recordProgress(String userId, String characterName, String goalId, long value,
+            Instant timestamp) {
+        validateGoalKey(userId, characterName, goalId);
+        validateNotNull(timestamp, "timestamp");
+
+        log.debug("Recording progress {} at {} for user: {}, character: {}, goal: {}",
+                value, timestamp, userId, characterName, goalId);
+
+        GoalRequests requests = requests();
+        List<DynamoGoalProgressItem> latestItems = requests.createLatestItems(userId, characterName, goalId,
+                timestamp, value);
+        if (isPacked()) {
+            appendPacked(requests, userId, characterName, goalId,
+                    List.of(new Point(timestamp.toEpochMilli(), value)), latestItems);
+            return GoalRequests.createProgressEntity(userId, characterName, goalId, value, timestamp);
+        }
+
+        DynamoGoalProgressItem progressItem = requests.createProgressRecordItem(userId, characterName, goalId,
+                timestamp, value);
+
+        try {
+            dynamoDbClient.transactWriteItems(requests.recordProgressRequest(progressItem, latestItems));
+            log.debug("Recorded progress and advanced latest progress for goal: {}", goalId);
+        } catch (TransactionCanceledException e) {
+            if (!GoalRequests.isLatestConditionFailure(e)) {
+                log.error("Failed to record progress for user: {}, character: {}, goal: {}, error: {}",
+                        userId, characterName, goalId, e.getMessage());
+                throw e;
+            }
+            // A newer value already holds the latest progress record, so only the
+            // timestamped record of this (late or duplicate) value is written.
+            log.debug("Latest progress for goal: {} is newer than {}, writing progress record only",
+                    goalId, timestamp);
+            dynamoDbClient.putItem(requests.putProgressRequest(progressItem));
+        }
+
+        return GoalRequests.createProgressEntity(userId, characterName, goalId, value, timestamp);
+    }
+
+    /**
+     * Lazily runs a progress query, following LastEvaluatedKey only as the stream
+     * is consumed, and drops every item that is not a timestamped progress record.
+     */
+    private Stream<GoalProgressEntity> queryProgress(GoalRequests requests, QueryRequest queryRequest,
+            String progressPrefix) {
+        SdkIterable<Map<String, AttributeValue>> items = dynamoDbClient.queryPaginator(queryRequest).items();
+        // The spliterator is supplied lazily because creating the iterator already fetches the first page
+        return StreamSupport.stream(items::spliterator, Spliterator.ORDERED, false)
+                .filter(item -> GoalRequests.isTimestampedProgressSortKey(item.get("sk").s(), progressPrefix))
+                .map(requests::toProgressEntity);
+    }
+
+    /**
+     * Lazily runs a query of packed month items and decodes each month's values.
+     */
+    private Stream<GoalProgressEntity> queryPackedProgress(QueryRequest queryRequest, boolean newestFirst) {
+        SdkIterable<Map<String, AttributeValue>> items = dynamoDbClient.queryPaginator(queryRequest).items();
+        return StreamSupport.stream(items::spliterator, Spliterator.ORDERED, false)
+                .flatMap(item -> PackedProgressItems.toEntities(item, newestFirst).stream());
+    }
+
+    @Override
+    public Stream<GoalProgressEntity> streamProgressHistory(String userId, String characterName, String goalId,
+            ProgressQueryOptions options) {
+        validateGoalKey(userId, characterName, goalId);
+        validateQueryOptions(options);
+
+        log.debug("Streaming progress history for user: {}, character: {}, goal: {}",
+                userId, characterName, goalId);
+
+        GoalRequests requests = requests();
+        if (isPacked()) {
+            // Packed months are read whole, so the page size and projection do not apply
+            return queryPackedProgress(PackedProgressItems.allMonthsQuery(requests.progressTableName(), userId,
+                    characterName, goalId), false);
+        }
+        String progressPrefix = SortKeyUtil.buildGoalProgressPrefix(characterName, goalId);
+        return ShardedProgressMerge.merge(requests.historyQueries(userId, characterName, goalId, options).stream()
+                .map(queryRequest -> queryProgress(requests, queryRequest, progressPrefix))
+                .collect(Collectors.toList()), false);
+    }
+
+    /**
+     * Lazily reads the progress records of a goal within [from, to] using sort-key
+     * BETWEEN, fetching pageSize records per Query page.
+     */
+    private Stream<GoalProgressEntity> streamProgressRange(String userId, String characterName, String goalId,
+            Instant from, Instant to, int pageSize, boolean newestFirst) {
+        GoalRequests requests = requests();
+        if (isPacked()) {
+            return queryPackedProgress(PackedProgressItems.monthsQuery(requests.progressTableName(), userId,
+                    characterName, goalId, from, to, newestFirst), newestFirst)
+                    .filter(entity -> GoalRequests.isWithin(entity, from, to));
+        }
+        String progressPrefix = SortKeyUtil.buildGoalProgressPrefix(characterName, goalId);
+        List<Stream<GoalProgressEntity>> shardStreams = new ArrayList<>();
+        for (QueryRequest queryRequest : requests.rangeQueries(userId, characterName, goalId, from, to, pageSize,
+                newestFirst)) {
+            shardStreams.add(queryProgress(requests, queryRequest, progressPrefix)
+                    .filter(entity -> GoalRequests.isWithin(entity, from, to)));
+        }
+        return ShardedProgressMerge.merge(shardStreams, newestFirst);
+    }
+
+    @Override
+    public List<GoalProgressEntity> getProgressBetween(GoalEntity goal, Instant from, Instant to, int limit,
+            boolean newestFirst) {
+        validateExistingGoal(goal);
+        validateTimeRange(from, to);
+        validateLimit(limit);
+
+        log.debug("Getting up to {} progress records between {} and {} for goal: {}",
+                limit, from, to, goal.getGoalId());
+
+        List<GoalProgressEntity> progress = streamProgressRange(goal.getUserId(), goal.getCharacterName(),
+                goal.getGoalId(), from, to, limit, newestFirst)
+                .limit(limit)
+                .collect(Collectors.toList());
+
+        log.debug("Found {} progress records between {} and {} for goal: {}",
+                progress.size(), from, to, goal.getGoalId());
+        return progress;
+    }
+
+    @Override
+    public List<GoalProgressRollupEntity> rollupProgress(String userId, String characterName, String goalId,
+            Instant from, Instant to) {
+        validateGoalKey(userId, characterName, goalId);
+        validateTimeRange(from, to);
+
+        // Widen the range to whole weeks so every touched bucket is rebuilt from all of its points
+        Instant rangeStart = GoalProgressRollups.rangeStartOf(from);
+        Instant rangeEnd = GoalProgressRollups.rangeEndOf(to);
+
+        log.info("Rolling up progress between {} and {} for user: {}, character: {}, goal: {}",
+                rangeStart, rangeEnd, userId, characterName, goalId);
+
+        Map<String, GoalProgressRollups.Accumulator> accumulators = new LinkedHashMap<>();
+        try (Stream<GoalProgressEntity> progress = streamProgressRange(userId, characterName, goalId,
+                rangeStart, rangeEnd, ProgressQueryOptions.DEFAULT_PAGE_SIZE, false)) {
+            progress.forEach(point -> GoalProgressRollups.fold(accumulators, characterName, goalId, point));
+        }
+
+        Instant now = Instant.now();
+        List<GoalProgressRollupEntity> rollups = new ArrayList<>(accumulators.size());
+        List<WriteRequest> writeRequests = new ArrayList<>(accumulators.size());
+        for (Map.Entry<String, GoalProgressRollups.Accumulator> entry : accumulators.entrySet()) {
+            Map<String, AttributeValue> item = GoalProgressRollups.toItem("USER#" + userId, entry.getKey(),
+                    userId, characterName, goalId, entry.getValue(), now);
+            writeRequests.add(GoalRequests.putWriteRequest(item));
+            rollups.add(GoalProgressRollups.toEntity(item));
+        }
+
+        Set<String> unwrittenKeys = writeInBatches(requests(), writeRequests);
+        if (!unwrittenKeys.isEmpty()) {
+            log.error("Failed to write {} of {} rollups for goal: {}", unwrittenKeys.size(), rollups.size(), goalId);
+            throw new IllegalStateException("Failed to write " + unwrittenKeys.size() + " rollups for goal: "
+                    + goalId);
+        }
+
+        log.info("Wrote {} rollups for goal: {}", rollups.size(), goalId);
+        return rollups;
+    }
+
+    @Override
+    public List<GoalProgressRollupEntity> getProgressRollups(GoalEntity goal, Instant from, Instant to,
+            Duration resolution) {
+        validateExistingGoal(goal);
+        validateTimeRange(from, to);
+        RollupResolution rollupResolution = RollupResolution.coarsestFor(resolution);
+
+        log.debug("Getting {} rollups between {} and {} for goal: {}", rollupResolution, from, to, goal.getGoalId());
+
+        QueryRequest queryRequest = requests().rollupQuery(goal, rollupResolution, from, to);
+        List<GoalProgressRollupEntity> rollups = new ArrayList<>();
+        for (Map<String, AttributeValue> item : dynamoDbClient.queryPaginator(queryRequest).items()) {
+            rollups.add(GoalProgressRollups.toEntity(item));
+        }
+
+        log.debug("Found {} {} rollups for goal: {}", rollups.size(), rollupResolution, goal.getGoalId());
+        return rollups;
+    }
+
+    @Override
+    public List<GoalProgressEntity> getLatestProgressForCharacter(String userId, String characterName) {
+        validateStringNotEmpty(userId, "userId");
+        validateStringNotEmpty(characterName, "characterName");
+
+        log.debug("Getting latest progress of every goal for user: {}, character: {}", userId, characterName);
+
+        GoalRequests requests = requests();
+        List<GoalProgressEntity> latestValues = new ArrayList<>();
+        for (QueryRequest queryRequest : requests.latestForCharacterQueries(userId, characterName)) {
+            for (Map<String, AttributeValue> item : dynamoDbClient.queryPaginator(queryRequest).items()) {
+                GoalProgressEntity latest = requests.latestOf(item);
+                if (latest != null) {
+                    latestValues.add(latest);
+                }
+            }
+        }
+        // A goal may have both a latest progress record and a newer or older snapshot
+        List<GoalProgressEntity> latestProgress = ProgressBatchPlan.newestOfEachGoal(latestValues);
+
+        log.debug("Found latest progress of {} goals for character: {}", latestProgress.size(), characterName);
+        return latestProgress;
     }
-}
\ No newline at end of file
+}
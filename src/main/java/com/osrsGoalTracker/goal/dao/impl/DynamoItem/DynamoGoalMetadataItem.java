@@ -33,6 +33,11 @@ public class DynamoGoalMetadataItem {
     private String frequency;
     private Instant createdAt;
     private Instant updatedAt;
+    private Long earliestProgressValue;
+    private Instant earliestProgressAt;
+    private Long latestProgressValue;
+    private Instant latestProgressAt;
+    private Long latestTimestampEpochMillis;
 
     @DynamoDbPartitionKey
     public String getPk() {
@@ -98,4 +103,29 @@ public class DynamoGoalMetadataItem {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    @DynamoDbAttribute("earliestProgressValue")
+    public Long getEarliestProgressValue() {
+        return earliestProgressValue;
+    }
+
+    @DynamoDbAttribute("earliestProgressAt")
+    public Instant getEarliestProgressAt() {
+        return earliestProgressAt;
+    }
+
+    @DynamoDbAttribute("latestProgressValue")
+    public Long getLatestProgressValue() {
+        return latestProgressValue;
+    }
+
+    @DynamoDbAttribute("latestProgressAt")
+    public Instant getLatestProgressAt() {
+        return latestProgressAt;
+    }
+
+    @DynamoDbAttribute("latestTimestampEpochMillis")
+    public Long getLatestTimestampEpochMillis() {
+        return latestTimestampEpochMillis;
+    }
 }
\ No newline at end of file
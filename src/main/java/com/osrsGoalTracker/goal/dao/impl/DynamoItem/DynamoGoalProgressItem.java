@@ -27,6 +27,8 @@ public class DynamoGoalProgressItem {
     private String goalId;
     private Long progressValue;
     private Instant createdAt;
+    private Long timestampEpochMillis;
+    private Long expiresAt;
 
     @DynamoDbPartitionKey
     public String getPk() {
@@ -62,4 +64,18 @@ public class DynamoGoalProgressItem {
     public Instant getCreatedAt() {
         return createdAt;
     }
-}
\ No newline at end of file
+
+    @DynamoDbAttribute("timestampEpochMillis")
+    public Long getTimestampEpochMillis() {
+        return timestampEpochMillis;
+    }
+
+    /**
+     * Epoch seconds after which DynamoDB TTL may delete the record, or null if it
+     * is kept forever.
+     */
+    @DynamoDbAttribute("expiresAt")
+    public Long getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,85 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.util.Map;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Maps raw goal items to entities for readers that query the table without the
+ * enhanced client, such as the user aggregate.
+ */
+public final class GoalItems {
+    private static final TableSchema<DynamoGoalMetadataItem> METADATA_SCHEMA = GoalTableSchemas.metadata();
+    private static final TableSchema<DynamoGoalProgressItem> PROGRESS_SCHEMA = GoalTableSchemas.progress();
+
+    private GoalItems() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Maps a goal metadata item to a goal entity.
+     *
+     * @param item The goal metadata item
+     * @return The goal entity
+     */
+    public static GoalEntity toGoalEntity(Map<String, AttributeValue> item) {
+        DynamoGoalMetadataItem metadataItem = METADATA_SCHEMA.mapToItem(item);
+        return GoalEntity.builder()
+                .userId(metadataItem.getUserId())
+                .characterName(metadataItem.getCharacterName())
+                .goalId(metadataItem.getGoalId())
+                .targetAttribute(metadataItem.getTargetAttribute())
+                .targetType(metadataItem.getTargetType())
+                .targetValue(metadataItem.getTargetValue())
+                .targetDate(metadataItem.getTargetDate())
+                .notificationChannelType(metadataItem.getNotificationChannelType())
+                .frequency(metadataItem.getFrequency())
+                .createdAt(metadataItem.getCreatedAt())
+                .updatedAt(metadataItem.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Maps the latest progress snapshot of a goal metadata item to a progress
+     * entity.
+     *
+     * @param item The goal metadata item
+     * @return The latest progress, or null if the item has no snapshot
+     */
+    public static GoalProgressEntity toLatestSnapshotEntity(Map<String, AttributeValue> item) {
+        DynamoGoalMetadataItem metadataItem = METADATA_SCHEMA.mapToItem(item);
+        if (metadataItem.getLatestProgressValue() == null || metadataItem.getLatestProgressAt() == null) {
+            return null;
+        }
+        return GoalProgressEntity.builder()
+                .userId(metadataItem.getUserId())
+                .characterName(metadataItem.getCharacterName())
+                .goalId(metadataItem.getGoalId())
+                .progressValue(metadataItem.getLatestProgressValue())
+                .createdAt(metadataItem.getLatestProgressAt())
+                .build();
+    }
+
+    /**
+     * Maps a progress item (timestamped, latest or earliest) to a progress entity.
+     *
+     * @param item The progress item
+     * @return The progress entity
+     */
+    public static GoalProgressEntity toProgressEntity(Map<String, AttributeValue> item) {
+        DynamoGoalProgressItem progressItem = PROGRESS_SCHEMA.mapToItem(item);
+        return GoalProgressEntity.builder()
+                .userId(progressItem.getUserId())
+                .characterName(progressItem.getCharacterName())
+                .goalId(progressItem.getGoalId())
+                .progressValue(progressItem.getProgressValue())
+                .createdAt(progressItem.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.RollupResolution;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Builds and reads the rollup items that pre-aggregate a goal's progress per
+ * bucket (see {@link RollupResolution}).
+ */
+final class GoalProgressRollups {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String USER_ID = "userId";
+    private static final String CHARACTER_NAME = "characterName";
+    private static final String GOAL_ID = "goalId";
+    private static final String RESOLUTION = "resolution";
+    private static final String BUCKET_START = "bucketStart";
+    private static final String MIN_VALUE = "minValue";
+    private static final String MAX_VALUE = "maxValue";
+    private static final String FIRST_VALUE = "firstValue";
+    private static final String LAST_VALUE = "lastValue";
+    private static final String FIRST_TIMESTAMP = "firstTimestamp";
+    private static final String LAST_TIMESTAMP = "lastTimestamp";
+    private static final String SAMPLE_COUNT = "sampleCount";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private GoalProgressRollups() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Folds the progress points of one bucket into min, max, first and last values.
+     */
+    static final class Accumulator {
+        private final RollupResolution resolution;
+        private final LocalDate bucket;
+        private long minValue = Long.MAX_VALUE;
+        private long maxValue = Long.MIN_VALUE;
+        private long firstValue;
+        private long lastValue;
+        private Instant firstTimestamp;
+        private Instant lastTimestamp;
+        private long sampleCount;
+
+        Accumulator(RollupResolution resolution, LocalDate bucket) {
+            this.resolution = resolution;
+            this.bucket = bucket;
+        }
+
+        void add(long value, Instant timestamp) {
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+            if (firstTimestamp == null || timestamp.isBefore(firstTimestamp)) {
+                firstTimestamp = timestamp;
+                firstValue = value;
+            }
+            if (lastTimestamp == null || !timestamp.isBefore(lastTimestamp)) {
+                lastTimestamp = timestamp;
+                lastValue = value;
+            }
+            sampleCount++;
+        }
+    }
+
+    /**
+     * The first instant of the week that contains the given instant. Rollups are
+     * rebuilt over whole weeks so that every touched bucket sees all of its points.
+     */
+    static Instant rangeStartOf(Instant from) {
+        return RollupResolution.WEEKLY.startOf(RollupResolution.WEEKLY.bucketOf(from));
+    }
+
+    /**
+     * The last instant of the week that contains the given instant.
+     */
+    static Instant rangeEndOf(Instant to) {
+        return RollupResolution.WEEKLY.startOf(RollupResolution.WEEKLY.bucketOf(to).plusWeeks(1)).minusNanos(1);
+    }
+
+    /**
+     * Adds a progress point to the accumulator of every resolution's bucket it falls in.
+     *
+     * @param accumulators The accumulators keyed by the rollup sort key they are written to
+     */
+    static void fold(Map<String, Accumulator> accumulators, String characterName, String goalId,
+            GoalProgressEntity point) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            LocalDate bucket = resolution.bucketOf(point.getCreatedAt());
+            accumulators.computeIfAbsent(
+                    SortKeyUtil.buildGoalRollupSortKey(characterName, goalId, resolution.getCode(), bucket),
+                    sortKey -> new Accumulator(resolution, bucket))
+                    .add(point.getProgressValue(), point.getCreatedAt());
+        }
+    }
+
+    private static AttributeValue stringValue(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    private static AttributeValue numberValue(long value) {
+        return AttributeValue.builder().n(String.valueOf(value)).build();
+    }
+
+    static Map<String, AttributeValue> toItem(String pk, String sk, String userId, String characterName,
+            String goalId, Accumulator accumulator, Instant timestamp) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put(PK, stringValue(pk));
+        item.put(SK, stringValue(sk));
+        item.put(USER_ID, stringValue(userId));
+        item.put(CHARACTER_NAME, stringValue(characterName));
+        item.put(GOAL_ID, stringValue(goalId));
+        item.put(RESOLUTION, stringValue(accumulator.resolution.getCode()));
+        item.put(BUCKET_START, stringValue(accumulator.bucket.toString()));
+        item.put(MIN_VALUE, numberValue(accumulator.minValue));
+        item.put(MAX_VALUE, numberValue(accumulator.maxValue));
+        item.put(FIRST_VALUE, numberValue(accumulator.firstValue));
+        item.put(LAST_VALUE, numberValue(accumulator.lastValue));
+        item.put(FIRST_TIMESTAMP, stringValue(accumulator.firstTimestamp.toString()));
+        item.put(LAST_TIMESTAMP, stringValue(accumulator.lastTimestamp.toString()));
+        item.put(SAMPLE_COUNT, numberValue(accumulator.sampleCount));
+        item.put(CREATED_AT, stringValue(timestamp.toString()));
+        item.put(UPDATED_AT, stringValue(timestamp.toString()));
+        return item;
+    }
+
+    private static RollupResolution resolutionOf(String code) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            if (resolution.getCode().equals(code)) {
+                return resolution;
+            }
+        }
+        throw new IllegalArgumentException("Unknown rollup resolution: " + code);
+    }
+
+    static GoalProgressRollupEntity toEntity(Map<String, AttributeValue> item) {
+        RollupResolution resolution = resolutionOf(item.get(RESOLUTION).s());
+        return GoalProgressRollupEntity.builder()
+                .userId(item.get(USER_ID).s())
+                .characterName(item.get(CHARACTER_NAME).s())
+                .goalId(item.get(GOAL_ID).s())
+                .resolution(resolution)
+                .bucketStart(resolution.startOf(LocalDate.parse(item.get(BUCKET_START).s())))
+                .minValue(Long.parseLong(item.get(MIN_VALUE).n()))
+                .maxValue(Long.parseLong(item.get(MAX_VALUE).n()))
+                .firstValue(Long.parseLong(item.get(FIRST_VALUE).n()))
+                .lastValue(Long.parseLong(item.get(LAST_VALUE).n()))
+                .firstTimestamp(Instant.parse(item.get(FIRST_TIMESTAMP).s()))
+                .lastTimestamp(Instant.parse(item.get(LAST_TIMESTAMP).s()))
+                .sampleCount(Long.parseLong(item.get(SAMPLE_COUNT).n()))
+                .createdAt(Instant.parse(item.get(CREATED_AT).s()))
+                .updatedAt(Instant.parse(item.get(UPDATED_AT).s()))
+                .build();
+    }
+}
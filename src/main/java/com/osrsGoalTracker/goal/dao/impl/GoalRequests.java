@@ -0,0 +1,686 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.LatestProgressLayout;
+import com.osrsGoalTracker.goal.dao.ProgressSharding;
+import com.osrsGoalTracker.goal.dao.RetentionPolicy;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.RollupResolution;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
+import com.osrsGoalTracker.shared.dao.util.SortKey;
+import com.osrsGoalTracker.shared.dao.util.SortKeyCodec;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Builds the items and requests of the goal DAOs and maps results back to
+ * entities. Shared by the blocking and asynchronous implementations so both
+ * read and write exactly the same shapes.
+ */
+final class GoalRequests {
+    // DynamoDB rejects BatchWriteItem calls with more than 25 write requests
+    static final int MAX_BATCH_WRITE_SIZE = 25;
+    static final int MAX_BATCH_WRITE_ATTEMPTS = 5;
+    private static final long BATCH_WRITE_BASE_BACKOFF_MILLIS = 50L;
+
+    // Sorts after every character that can follow the seconds of an ISO instant ('.', 'Z')
+    private static final String RANGE_END_SUFFIX = "~";
+
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    // Only replace the latest progress record if the new value was observed after it
+    private static final String LATEST_IS_OLDER_CONDITION =
+            "attribute_not_exists(#timestamp) OR #timestamp < :timestamp";
+    // Only advance the latest snapshot of an existing goal, and only with a newer value
+    private static final String SNAPSHOT_IS_OLDER_CONDITION =
+            "attribute_exists(sk) AND (attribute_not_exists(#timestamp) OR #timestamp < :timestamp)";
+    private static final String SNAPSHOT_UPDATE_EXPRESSION =
+            "SET #value = :value, #createdAt = :createdAt, #timestamp = :timestamp";
+
+    private final String metadataTableName;
+    private final TableSchema<DynamoGoalMetadataItem> metadataSchema;
+    private final String progressTableName;
+    private final TableSchema<DynamoGoalProgressItem> progressSchema;
+    private final ProgressSharding progressSharding;
+    private final RetentionPolicy retentionPolicy;
+    private final LatestProgressLayout latestProgressLayout;
+    private final GoalCreationMode goalCreationMode;
+
+    GoalRequests(String metadataTableName, TableSchema<DynamoGoalMetadataItem> metadataSchema,
+            String progressTableName, TableSchema<DynamoGoalProgressItem> progressSchema) {
+        this(metadataTableName, metadataSchema, progressTableName, progressSchema, GoalDaoOptions.defaults());
+    }
+
+    GoalRequests(String metadataTableName, TableSchema<DynamoGoalMetadataItem> metadataSchema,
+            String progressTableName, TableSchema<DynamoGoalProgressItem> progressSchema, GoalDaoOptions options) {
+        this.metadataTableName = metadataTableName;
+        this.metadataSchema = metadataSchema;
+        this.progressTableName = progressTableName;
+        this.progressSchema = progressSchema;
+        this.progressSharding = options.getProgressSharding();
+        this.retentionPolicy = options.getRetentionPolicy();
+        this.latestProgressLayout = options.getLatestProgressLayout();
+        this.goalCreationMode = options.getGoalCreationMode();
+    }
+
+    /**
+     * Whether earliest and latest progress are attributes of the goal metadata item
+     * rather than separate records.
+     */
+    boolean storesSnapshots() {
+        return goalCreationMode == GoalCreationMode.METADATA_SNAPSHOTS;
+    }
+
+    static DynamoGoalMetadataItem createMetadataItem(String userId, String characterName, String goalId,
+            GoalEntity goalEntity, Instant timestamp) {
+        return DynamoGoalMetadataItem.builder()
+                .pk("USER#" + userId)
+                .sk(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId))
+                .userId(userId)
+                .characterName(characterName)
+                .goalId(goalId)
+                .targetAttribute(goalEntity.getTargetAttribute())
+                .targetType(goalEntity.getTargetType())
+                .targetValue(goalEntity.getTargetValue())
+                .targetDate(goalEntity.getTargetDate())
+                .notificationChannelType(goalEntity.getNotificationChannelType())
+                .frequency(goalEntity.getFrequency())
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .build();
+    }
+
+    static DynamoGoalProgressItem createProgressItem(String userId, String characterName, String goalId,
+            Instant timestamp, String sortKey, long currentValue) {
+        return DynamoGoalProgressItem.builder()
+                .pk("USER#" + userId)
+                .sk(sortKey)
+                .userId(userId)
+                .characterName(characterName)
+                .goalId(goalId)
+                .progressValue(currentValue)
+                .createdAt(timestamp)
+                .timestampEpochMillis(timestamp.toEpochMilli())
+                .build();
+    }
+
+    /**
+     * Gets the partition holding a goal's progress record observed at timestamp.
+     */
+    String progressPartitionKey(String userId, String goalId, Instant timestamp) {
+        if (!progressSharding.isSharded()) {
+            return "USER#" + userId;
+        }
+        return "USER#" + userId + "#P#" + progressSharding.shardOf(goalId, timestamp);
+    }
+
+    /**
+     * Gets the partitions that may hold a goal's progress records within a time
+     * range, or within its whole history if from and to are null.
+     */
+    List<String> progressPartitionKeys(String userId, String goalId, Instant from, Instant to) {
+        if (!progressSharding.isSharded()) {
+            return List.of("USER#" + userId);
+        }
+        List<String> partitionKeys = new ArrayList<>();
+        for (int shard : progressSharding.shardsOf(goalId, from, to)) {
+            partitionKeys.add("USER#" + userId + "#P#" + shard);
+        }
+        return partitionKeys;
+    }
+
+    DynamoGoalProgressItem createProgressRecordItem(String userId, String characterName, String goalId,
+            Instant timestamp, long value) {
+        DynamoGoalProgressItem progressItem = createProgressItem(userId, characterName, goalId, timestamp,
+                SortKeyUtil.buildGoalProgressSortKey(characterName, goalId, timestamp), value);
+        progressItem.setPk(progressPartitionKey(userId, goalId, timestamp));
+        progressItem.setExpiresAt(retentionPolicy.expiresAtOf(goalId, timestamp));
+        return progressItem;
+    }
+
+    /**
+     * Creates the latest progress records of a goal, one per key the layout writes,
+     * or none if latest progress is a snapshot on the goal metadata item.
+     */
+    List<DynamoGoalProgressItem> createLatestItems(String userId, String characterName, String goalId,
+            Instant timestamp, long value) {
+        List<DynamoGoalProgressItem> latestItems = new ArrayList<>(2);
+        if (storesSnapshots()) {
+            return latestItems;
+        }
+        if (latestProgressLayout.writesLegacy()) {
+            latestItems.add(createProgressItem(userId, characterName, goalId, timestamp,
+                    SortKeyUtil.buildGoalLatestSortKey(characterName, goalId), value));
+        }
+        if (latestProgressLayout.writesPrefixed()) {
+            latestItems.add(createProgressItem(userId, characterName, goalId, timestamp,
+                    SortKeyUtil.buildCharacterLatestSortKey(characterName, goalId), value));
+        }
+        return latestItems;
+    }
+
+    /**
+     * Gets the sort key a goal's latest progress record is read from.
+     */
+    static String latestSortKey(LatestProgressLayout layout, String characterName, String goalId) {
+        return layout.readsPrefixed()
+                ? SortKeyUtil.buildCharacterLatestSortKey(characterName, goalId)
+                : SortKeyUtil.buildGoalLatestSortKey(characterName, goalId);
+    }
+
+    /**
+     * Maps an item read by {@link #latestForCharacterQueries} to the latest progress
+     * of its goal. In the legacy layout both latest progress records and the latest
+     * snapshots of goal metadata items count: goals created before metadata
+     * snapshots were switched on, or written by a DAO without them, only have the
+     * record. {@link ProgressBatchPlan#newestOfEachGoal} keeps the newer of the two.
+     *
+     * @return The latest progress, or null if the item holds none
+     */
+    GoalProgressEntity latestOf(Map<String, AttributeValue> item) {
+        SortKey.Kind kind = SortKeyCodec.kindOf(item.get("sk").s());
+        if (latestProgressLayout.readsPrefixed()) {
+            return kind == SortKey.Kind.CHARACTER_LATEST ? toProgressEntity(item) : null;
+        }
+        return switch (kind) {
+            case GOAL_LATEST -> toProgressEntity(item);
+            case GOAL_METADATA -> GoalItems.toLatestSnapshotEntity(item);
+            default -> null;
+        };
+    }
+
+    /**
+     * Sets the earliest and latest progress snapshots of a goal being created.
+     */
+    static void applySnapshots(DynamoGoalMetadataItem metadataItem, Instant timestamp, long currentValue) {
+        metadataItem.setEarliestProgressValue(currentValue);
+        metadataItem.setEarliestProgressAt(timestamp);
+        metadataItem.setLatestProgressValue(currentValue);
+        metadataItem.setLatestProgressAt(timestamp);
+        metadataItem.setLatestTimestampEpochMillis(timestamp.toEpochMilli());
+    }
+
+    static GoalEntity createReturnEntity(String goalId, GoalEntity goalEntity, Instant timestamp) {
+        return GoalEntity.builder()
+                .userId(goalEntity.getUserId())
+                .goalId(goalId)
+                .characterName(goalEntity.getCharacterName())
+                .targetAttribute(goalEntity.getTargetAttribute())
+                .targetType(goalEntity.getTargetType())
+                .targetValue(goalEntity.getTargetValue())
+                .targetDate(goalEntity.getTargetDate())
+                .notificationChannelType(goalEntity.getNotificationChannelType())
+                .frequency(goalEntity.getFrequency())
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .build();
+    }
+
+    static GoalProgressEntity createProgressEntity(String userId, String characterName, String goalId, long value,
+            Instant timestamp) {
+        return GoalProgressEntity.builder()
+                .userId(userId)
+                .characterName(characterName)
+                .goalId(goalId)
+                .progressValue(value)
+                .createdAt(timestamp)
+                .build();
+    }
+
+    private TransactWriteItem putProgress(DynamoGoalProgressItem item) {
+        return TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(progressTableName)
+                        .item(progressSchema.itemToMap(item, true))
+                        .build())
+                .build();
+    }
+
+    TransactWriteItemsRequest createGoalRequest(String userId, String characterName, String goalId,
+            DynamoGoalMetadataItem metadataItem, Instant timestamp, long currentValue) {
+        DynamoGoalProgressItem progressItem = createProgressRecordItem(userId, characterName, goalId, timestamp,
+                currentValue);
+        return createGoalRequest(userId, characterName, goalId, metadataItem, timestamp, currentValue,
+                putProgress(progressItem));
+    }
+
+    TransactWriteItemsRequest createPackedGoalRequest(String userId, String characterName, String goalId,
+            DynamoGoalMetadataItem metadataItem, Instant timestamp, long currentValue) {
+        Map<String, AttributeValue> monthItem = PackedProgressItems.createMonthItem(userId, characterName, goalId,
+                List.of(new ProgressPointCodec.Point(timestamp.toEpochMilli(), currentValue)), 1);
+        return createGoalRequest(userId, characterName, goalId, metadataItem, timestamp, currentValue,
+                TransactWriteItem.builder()
+                        .put(Put.builder()
+                                .tableName(progressTableName)
+                                .item(monthItem)
+                                .build())
+                        .build());
+    }
+
+    private TransactWriteItemsRequest createGoalRequest(String userId, String characterName, String goalId,
+            DynamoGoalMetadataItem metadataItem, Instant timestamp, long currentValue,
+            TransactWriteItem historyWrite) {
+        // Create progress items
+        DynamoGoalProgressItem earliestItem = createProgressItem(userId, characterName, goalId,
+                timestamp, SortKeyUtil.buildGoalEarliestSortKey(characterName, goalId), currentValue);
+
+        List<TransactWriteItem> transactItems = new ArrayList<>();
+        transactItems.add(TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(metadataTableName)
+                        .item(metadataSchema.itemToMap(metadataItem, true))
+                        .build())
+                .build());
+        transactItems.add(historyWrite);
+        for (DynamoGoalProgressItem latestItem : createLatestItems(userId, characterName, goalId, timestamp,
+                currentValue)) {
+            transactItems.add(putProgress(latestItem));
+        }
+        transactItems.add(putProgress(earliestItem));
+        return TransactWriteItemsRequest.builder()
+                .transactItems(transactItems)
+                .build();
+    }
+
+    /**
+     * Puts a goal metadata item unless the goal already exists.
+     */
+    PutItemRequest putMetadataIfAbsentRequest(DynamoGoalMetadataItem metadataItem) {
+        return PutItemRequest.builder()
+                .tableName(metadataTableName)
+                .item(metadataSchema.itemToMap(metadataItem, true))
+                .conditionExpression("attribute_not_exists(sk)")
+                .build();
+    }
+
+    private Update latestSnapshotUpdate(String userId, String characterName, String goalId, Instant timestamp,
+            long value) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put("pk", AttributeValue.builder().s("USER#" + userId).build());
+        key.put("sk", AttributeValue.builder()
+                .s(SortKeyUtil.buildGoalMetadataSortKey(characterName, goalId)).build());
+
+        Map<String, String> attributeNames = new LinkedHashMap<>();
+        attributeNames.put("#value", "latestProgressValue");
+        attributeNames.put("#createdAt", "latestProgressAt");
+        attributeNames.put("#timestamp", "latestTimestampEpochMillis");
+
+        Map<String, AttributeValue> attributeValues = new LinkedHashMap<>();
+        attributeValues.put(":value", AttributeValue.builder().n(String.valueOf(value)).build());
+        // Same ISO-8601 form the enhanced client writes for Instant attributes
+        attributeValues.put(":createdAt", AttributeValue.builder().s(timestamp.toString()).build());
+        attributeValues.put(":timestamp", AttributeValue.builder()
+                .n(String.valueOf(timestamp.toEpochMilli())).build());
+
+        return Update.builder()
+                .tableName(metadataTableName)
+                .key(key)
+                .updateExpression(SNAPSHOT_UPDATE_EXPRESSION)
+                .conditionExpression(SNAPSHOT_IS_OLDER_CONDITION)
+                .expressionAttributeNames(attributeNames)
+                .expressionAttributeValues(attributeValues)
+                .build();
+    }
+
+    /**
+     * Advances the latest progress snapshot of a goal if the value is newer than it.
+     */
+    UpdateItemRequest latestSnapshotUpdateRequest(GoalProgressEntity progress) {
+        Update update = latestSnapshotUpdate(progress.getUserId(), progress.getCharacterName(),
+                progress.getGoalId(), progress.getCreatedAt(), progress.getProgressValue());
+        return UpdateItemRequest.builder()
+                .tableName(update.tableName())
+                .key(update.key())
+                .updateExpression(update.updateExpression())
+                .conditionExpression(update.conditionExpression())
+                .expressionAttributeNames(update.expressionAttributeNames())
+                .expressionAttributeValues(update.expressionAttributeValues())
+                .build();
+    }
+
+    private Put latestIfOlderPut(DynamoGoalProgressItem latestItem) {
+        return Put.builder()
+                .tableName(progressTableName)
+                .item(progressSchema.itemToMap(latestItem, true))
+                .conditionExpression(LATEST_IS_OLDER_CONDITION)
+                .expressionAttributeNames(Map.of("#timestamp", "timestampEpochMillis"))
+                .expressionAttributeValues(Map.of(":timestamp", AttributeValue.builder()
+                        .n(String.valueOf(latestItem.getTimestampEpochMillis())).build()))
+                .build();
+    }
+
+    private TransactWriteItem putLatestIfOlder(DynamoGoalProgressItem latestItem) {
+        return TransactWriteItem.builder()
+                .put(latestIfOlderPut(latestItem))
+                .build();
+    }
+
+    /**
+     * Builds the writes that advance a goal's latest progress records to a value
+     * of a batch. Like the latest writes of {@link #recordProgressRequest}, each
+     * only replaces a record that was observed before the value.
+     */
+    List<PutItemRequest> latestIfOlderRequests(GoalProgressEntity progress) {
+        List<PutItemRequest> putRequests = new ArrayList<>();
+        for (DynamoGoalProgressItem latestItem : createLatestItems(progress.getUserId(),
+                progress.getCharacterName(), progress.getGoalId(), progress.getCreatedAt(),
+                progress.getProgressValue())) {
+            Put put = latestIfOlderPut(latestItem);
+            putRequests.add(PutItemRequest.builder()
+                    .tableName(put.tableName())
+                    .item(put.item())
+                    .conditionExpression(put.conditionExpression())
+                    .expressionAttributeNames(put.expressionAttributeNames())
+                    .expressionAttributeValues(put.expressionAttributeValues())
+                    .build());
+        }
+        return putRequests;
+    }
+
+    TransactWriteItemsRequest recordProgressRequest(DynamoGoalProgressItem progressItem,
+            List<DynamoGoalProgressItem> latestItems) {
+        if (storesSnapshots()) {
+            // The snapshot update takes the place of the latest records at index 1
+            return TransactWriteItemsRequest.builder()
+                    .transactItems(putProgress(progressItem), TransactWriteItem.builder()
+                            .update(latestSnapshotUpdate(progressItem.getUserId(), progressItem.getCharacterName(),
+                                    progressItem.getGoalId(), progressItem.getCreatedAt(),
+                                    progressItem.getProgressValue()))
+                            .build())
+                    .build();
+        }
+        return withLatestIfOlder(putProgress(progressItem), latestItems);
+    }
+
+    TransactWriteItemsRequest appendPackedRequest(Update monthUpdate, List<DynamoGoalProgressItem> latestItems) {
+        return withLatestIfOlder(TransactWriteItem.builder().update(monthUpdate).build(), latestItems);
+    }
+
+    private TransactWriteItemsRequest withLatestIfOlder(TransactWriteItem historyWrite,
+            List<DynamoGoalProgressItem> latestItems) {
+        List<TransactWriteItem> transactItems = new ArrayList<>(1 + latestItems.size());
+        transactItems.add(historyWrite);
+        latestItems.forEach(latestItem -> transactItems.add(putLatestIfOlder(latestItem)));
+        return TransactWriteItemsRequest.builder()
+                .transactItems(transactItems)
+                .build();
+    }
+
+    String progressTableName() {
+        return progressTableName;
+    }
+
+    static boolean isLatestConditionFailure(Throwable error) {
+        if (!(error instanceof TransactionCanceledException)) {
+            return false;
+        }
+        // Index 0 of the transaction is the history write; the rest are conditional
+        // writes of the latest progress records or the latest snapshot
+        List<CancellationReason> reasons = ((TransactionCanceledException) error).cancellationReasons();
+        if (reasons.size() < 2 || CONDITIONAL_CHECK_FAILED.equals(reasons.get(0).code())) {
+            return false;
+        }
+        for (CancellationReason reason : reasons.subList(1, reasons.size())) {
+            if (CONDITIONAL_CHECK_FAILED.equals(reason.code())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    PutItemRequest putProgressRequest(DynamoGoalProgressItem progressItem) {
+        return PutItemRequest.builder()
+                .tableName(progressTableName)
+                .item(progressSchema.itemToMap(progressItem, true))
+                .build();
+    }
+
+    WriteRequest putWriteRequest(DynamoGoalProgressItem item) {
+        return putWriteRequest(progressSchema.itemToMap(item, true));
+    }
+
+    static WriteRequest putWriteRequest(Map<String, AttributeValue> item) {
+        return WriteRequest.builder()
+                .putRequest(PutRequest.builder().item(item).build())
+                .build();
+    }
+
+    BatchWriteItemRequest batchWriteRequest(List<WriteRequest> writeRequests) {
+        return BatchWriteItemRequest.builder()
+                .requestItems(Map.of(progressTableName, writeRequests))
+                .build();
+    }
+
+    List<WriteRequest> unprocessedWrites(BatchWriteItemResponse response) {
+        return response.hasUnprocessedItems()
+                ? response.unprocessedItems().getOrDefault(progressTableName, Collections.emptyList())
+                : Collections.emptyList();
+    }
+
+    static String writeRequestKey(WriteRequest writeRequest) {
+        Map<String, AttributeValue> item = writeRequest.putRequest().item();
+        return item.get("pk").s() + "|" + item.get("sk").s();
+    }
+
+    static Set<String> keysOf(List<WriteRequest> writeRequests) {
+        Set<String> keys = new HashSet<>();
+        for (WriteRequest writeRequest : writeRequests) {
+            keys.add(writeRequestKey(writeRequest));
+        }
+        return keys;
+    }
+
+    static long batchWriteBackoffMillis(int attempt) {
+        // Exponential backoff with jitter so that parallel writers do not retry in lockstep
+        long ceiling = BATCH_WRITE_BASE_BACKOFF_MILLIS << (attempt - 1);
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private static void applyProjection(QueryRequest.Builder requestBuilder, List<String> attributes) {
+        if (attributes == null || attributes.isEmpty()) {
+            return;
+        }
+        // The sort key is always read so that marker records can be told apart
+        Map<String, String> attributeNames = new LinkedHashMap<>();
+        attributeNames.put("#sk", "sk");
+        for (String attribute : attributes) {
+            attributeNames.putIfAbsent("#" + attribute, attribute);
+        }
+        requestBuilder.projectionExpression(String.join(", ", attributeNames.keySet()))
+                .expressionAttributeNames(attributeNames);
+    }
+
+    QueryRequest historyQuery(String userId, String characterName, String goalId, ProgressQueryOptions options) {
+        return historyQueryIn("USER#" + userId, characterName, goalId, options);
+    }
+
+    /**
+     * Builds one history query per partition that may hold the goal's progress records.
+     */
+    List<QueryRequest> historyQueries(String userId, String characterName, String goalId,
+            ProgressQueryOptions options) {
+        List<String> partitionKeys = progressPartitionKeys(userId, goalId, null, null);
+        ProgressQueryOptions shardOptions = options;
+        List<String> attributes = options.getAttributes();
+        if (partitionKeys.size() > 1 && attributes != null && !attributes.isEmpty()
+                && !attributes.contains("createdAt")) {
+            // Records of several shards are merged by time, so their timestamps are always read
+            List<String> withCreatedAt = new ArrayList<>(attributes);
+            withCreatedAt.add("createdAt");
+            shardOptions = ProgressQueryOptions.builder()
+                    .pageSize(options.getPageSize())
+                    .attributes(withCreatedAt)
+                    .build();
+        }
+
+        List<QueryRequest> queries = new ArrayList<>();
+        for (String partitionKey : partitionKeys) {
+            queries.add(historyQueryIn(partitionKey, characterName, goalId, shardOptions));
+        }
+        return queries;
+    }
+
+    private QueryRequest historyQueryIn(String partitionKey, String characterName, String goalId,
+            ProgressQueryOptions options) {
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s(partitionKey).build());
+        expressionAttributeValues.put(":sk_prefix", AttributeValue.builder()
+                .s(SortKeyUtil.buildGoalProgressPrefix(characterName, goalId)).build());
+
+        QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                .tableName(progressTableName)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(expressionAttributeValues)
+                .limit(options.getPageSize());
+        applyProjection(requestBuilder, options.getAttributes());
+        return requestBuilder.build();
+    }
+
+    private static String secondsOf(Instant timestamp) {
+        // Instant.toString() omits zero fractions, so sort keys of the same second can end in
+        // "Z" or ".5Z". Bounds are therefore built from the whole second without the zone
+        // designator and the exact range is enforced on the decoded timestamps.
+        String iso = timestamp.truncatedTo(ChronoUnit.SECONDS).toString();
+        return iso.substring(0, iso.length() - 1);
+    }
+
+    QueryRequest rangeQuery(String userId, String characterName, String goalId, Instant from, Instant to,
+            int pageSize, boolean newestFirst) {
+        return rangeQueryIn("USER#" + userId, characterName, goalId, from, to, pageSize, newestFirst);
+    }
+
+    /**
+     * Builds one range query per partition that may hold the goal's progress records
+     * within [from, to].
+     */
+    List<QueryRequest> rangeQueries(String userId, String characterName, String goalId, Instant from, Instant to,
+            int pageSize, boolean newestFirst) {
+        List<QueryRequest> queries = new ArrayList<>();
+        for (String partitionKey : progressPartitionKeys(userId, goalId, from, to)) {
+            queries.add(rangeQueryIn(partitionKey, characterName, goalId, from, to, pageSize, newestFirst));
+        }
+        return queries;
+    }
+
+    private QueryRequest rangeQueryIn(String partitionKey, String characterName, String goalId, Instant from,
+            Instant to, int pageSize, boolean newestFirst) {
+        String progressPrefix = SortKeyUtil.buildGoalProgressPrefix(characterName, goalId);
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s(partitionKey).build());
+        expressionAttributeValues.put(":sk_from", AttributeValue.builder()
+                .s(progressPrefix + secondsOf(from)).build());
+        expressionAttributeValues.put(":sk_to", AttributeValue.builder()
+                .s(progressPrefix + secondsOf(to) + RANGE_END_SUFFIX).build());
+
+        // The bounds start with a digit, so LATEST, EARLIEST and ROLLUP records are never in range
+        return QueryRequest.builder()
+                .tableName(progressTableName)
+                .keyConditionExpression("pk = :pk AND sk BETWEEN :sk_from AND :sk_to")
+                .expressionAttributeValues(expressionAttributeValues)
+                .scanIndexForward(!newestFirst)
+                .limit(pageSize)
+                .build();
+    }
+
+    /**
+     * Builds the queries of a character's latest progress. In the prefixed layout
+     * one query reads exactly the latest records; otherwise it reads every goal item
+     * of the character in the user partition, which includes the goal metadata items
+     * when they share the table. With metadata snapshots in a separate metadata
+     * table, a second query reads the character's goal metadata items.
+     * {@link #latestOf} picks out the latest progress.
+     */
+    List<QueryRequest> latestForCharacterQueries(String userId, String characterName) {
+        if (latestProgressLayout.readsPrefixed()) {
+            return List.of(characterGoalItemsQuery(progressTableName, userId,
+                    SortKeyUtil.buildCharacterLatestPrefix(characterName)));
+        }
+        QueryRequest goalItemsQuery = characterGoalItemsQuery(progressTableName, userId,
+                SortKeyCodec.characterGoalsPrefix(characterName));
+        if (!storesSnapshots() || progressTableName.equals(metadataTableName)) {
+            return List.of(goalItemsQuery);
+        }
+        return List.of(goalItemsQuery, characterGoalItemsQuery(metadataTableName, userId,
+                SortKeyCodec.goalMetadata(characterName, "")));
+    }
+
+    private static QueryRequest characterGoalItemsQuery(String tableName, String userId, String prefix) {
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s("USER#" + userId).build());
+        expressionAttributeValues.put(":sk_prefix", AttributeValue.builder().s(prefix).build());
+
+        return QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(expressionAttributeValues)
+                .build();
+    }
+
+    QueryRequest rollupQuery(GoalEntity goal, RollupResolution resolution, Instant from, Instant to) {
+        String rollupPrefix = SortKeyUtil.buildGoalRollupPrefix(goal.getCharacterName(), goal.getGoalId(),
+                resolution.getCode());
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s("USER#" + goal.getUserId()).build());
+        expressionAttributeValues.put(":sk_from", AttributeValue.builder()
+                .s(rollupPrefix + resolution.bucketOf(from)).build());
+        expressionAttributeValues.put(":sk_to", AttributeValue.builder()
+                .s(rollupPrefix + resolution.bucketOf(to)).build());
+
+        return QueryRequest.builder()
+                .tableName(progressTableName)
+                .keyConditionExpression("pk = :pk AND sk BETWEEN :sk_from AND :sk_to")
+                .expressionAttributeValues(expressionAttributeValues)
+                .build();
+    }
+
+    static boolean isTimestampedProgressSortKey(String sortKey, String progressPrefix) {
+        // Timestamped records continue the prefix with an ISO instant; marker records
+        // such as LATEST and EARLIEST continue it with a letter.
+        return sortKey.length() > progressPrefix.length()
+                && Character.isDigit(sortKey.charAt(progressPrefix.length()));
+    }
+
+    static boolean isWithin(GoalProgressEntity progress, Instant from, Instant to) {
+        return !progress.getCreatedAt().isBefore(from) && !progress.getCreatedAt().isAfter(to);
+    }
+
+    GoalProgressEntity toProgressEntity(Map<String, AttributeValue> item) {
+        DynamoGoalProgressItem progressItem = progressSchema.mapToItem(item);
+        return GoalProgressEntity.builder()
+                .userId(progressItem.getUserId())
+                .characterName(progressItem.getCharacterName())
+                .goalId(progressItem.getGoalId())
+                .progressValue(progressItem.getProgressValue())
+                .createdAt(progressItem.getCreatedAt())
+                .build();
+    }
+}
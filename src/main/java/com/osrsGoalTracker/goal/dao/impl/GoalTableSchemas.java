@@ -0,0 +1,139 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Prebuilt table schemas of the goal items. They map the same attributes as
+ * {@code TableSchema.fromBean} on the annotated item classes, but are assembled
+ * from plain method references: building them needs no bean introspection or
+ * generated accessors, which keeps Lambda cold starts short, and mapping an item
+ * is a direct getter call per attribute.
+ */
+public final class GoalTableSchemas {
+    private static final TableSchema<DynamoGoalMetadataItem> METADATA =
+            StaticTableSchema.builder(DynamoGoalMetadataItem.class)
+                    .newItemSupplier(DynamoGoalMetadataItem::new)
+                    .addAttribute(String.class, a -> a.name("pk")
+                            .getter(DynamoGoalMetadataItem::getPk)
+                            .setter(DynamoGoalMetadataItem::setPk)
+                            .tags(primaryPartitionKey()))
+                    .addAttribute(String.class, a -> a.name("sk")
+                            .getter(DynamoGoalMetadataItem::getSk)
+                            .setter(DynamoGoalMetadataItem::setSk)
+                            .tags(primarySortKey()))
+                    .addAttribute(String.class, a -> a.name("userId")
+                            .getter(DynamoGoalMetadataItem::getUserId)
+                            .setter(DynamoGoalMetadataItem::setUserId))
+                    .addAttribute(String.class, a -> a.name("characterName")
+                            .getter(DynamoGoalMetadataItem::getCharacterName)
+                            .setter(DynamoGoalMetadataItem::setCharacterName))
+                    .addAttribute(String.class, a -> a.name("goalId")
+                            .getter(DynamoGoalMetadataItem::getGoalId)
+                            .setter(DynamoGoalMetadataItem::setGoalId))
+                    .addAttribute(String.class, a -> a.name("targetAttribute")
+                            .getter(DynamoGoalMetadataItem::getTargetAttribute)
+                            .setter(DynamoGoalMetadataItem::setTargetAttribute))
+                    .addAttribute(String.class, a -> a.name("targetType")
+                            .getter(DynamoGoalMetadataItem::getTargetType)
+                            .setter(DynamoGoalMetadataItem::setTargetType))
+                    .addAttribute(Long.class, a -> a.name("targetValue")
+                            .getter(DynamoGoalMetadataItem::getTargetValue)
+                            .setter(DynamoGoalMetadataItem::setTargetValue))
+                    .addAttribute(Instant.class, a -> a.name("targetDate")
+                            .getter(DynamoGoalMetadataItem::getTargetDate)
+                            .setter(DynamoGoalMetadataItem::setTargetDate))
+                    .addAttribute(String.class, a -> a.name("notificationChannelType")
+                            .getter(DynamoGoalMetadataItem::getNotificationChannelType)
+                            .setter(DynamoGoalMetadataItem::setNotificationChannelType))
+                    .addAttribute(String.class, a -> a.name("frequency")
+                            .getter(DynamoGoalMetadataItem::getFrequency)
+                            .setter(DynamoGoalMetadataItem::setFrequency))
+                    .addAttribute(Instant.class, a -> a.name("createdAt")
+                            .getter(DynamoGoalMetadataItem::getCreatedAt)
+                            .setter(DynamoGoalMetadataItem::setCreatedAt))
+                    .addAttribute(Instant.class, a -> a.name("updatedAt")
+                            .getter(DynamoGoalMetadataItem::getUpdatedAt)
+                            .setter(DynamoGoalMetadataItem::setUpdatedAt))
+                    .addAttribute(Long.class, a -> a.name("earliestProgressValue")
+                            .getter(DynamoGoalMetadataItem::getEarliestProgressValue)
+                            .setter(DynamoGoalMetadataItem::setEarliestProgressValue))
+                    .addAttribute(Instant.class, a -> a.name("earliestProgressAt")
+                            .getter(DynamoGoalMetadataItem::getEarliestProgressAt)
+                            .setter(DynamoGoalMetadataItem::setEarliestProgressAt))
+                    .addAttribute(Long.class, a -> a.name("latestProgressValue")
+                            .getter(DynamoGoalMetadataItem::getLatestProgressValue)
+                            .setter(DynamoGoalMetadataItem::setLatestProgressValue))
+                    .addAttribute(Instant.class, a -> a.name("latestProgressAt")
+                            .getter(DynamoGoalMetadataItem::getLatestProgressAt)
+                            .setter(DynamoGoalMetadataItem::setLatestProgressAt))
+                    .addAttribute(Long.class, a -> a.name("latestTimestampEpochMillis")
+                            .getter(DynamoGoalMetadataItem::getLatestTimestampEpochMillis)
+                            .setter(DynamoGoalMetadataItem::setLatestTimestampEpochMillis))
+                    .build();
+
+    private static final TableSchema<DynamoGoalProgressItem> PROGRESS =
+            StaticTableSchema.builder(DynamoGoalProgressItem.class)
+                    .newItemSupplier(DynamoGoalProgressItem::new)
+                    .addAttribute(String.class, a -> a.name("pk")
+                            .getter(DynamoGoalProgressItem::getPk)
+                            .setter(DynamoGoalProgressItem::setPk)
+                            .tags(primaryPartitionKey()))
+                    .addAttribute(String.class, a -> a.name("sk")
+                            .getter(DynamoGoalProgressItem::getSk)
+                            .setter(DynamoGoalProgressItem::setSk)
+                            .tags(primarySortKey()))
+                    .addAttribute(String.class, a -> a.name("userId")
+                            .getter(DynamoGoalProgressItem::getUserId)
+                            .setter(DynamoGoalProgressItem::setUserId))
+                    .addAttribute(String.class, a -> a.name("characterName")
+                            .getter(DynamoGoalProgressItem::getCharacterName)
+                            .setter(DynamoGoalProgressItem::setCharacterName))
+                    .addAttribute(String.class, a -> a.name("goalId")
+                            .getter(DynamoGoalProgressItem::getGoalId)
+                            .setter(DynamoGoalProgressItem::setGoalId))
+                    .addAttribute(Long.class, a -> a.name("progressValue")
+                            .getter(DynamoGoalProgressItem::getProgressValue)
+                            .setter(DynamoGoalProgressItem::setProgressValue))
+                    .addAttribute(Instant.class, a -> a.name("createdAt")
+                            .getter(DynamoGoalProgressItem::getCreatedAt)
+                            .setter(DynamoGoalProgressItem::setCreatedAt))
+                    .addAttribute(Long.class, a -> a.name("timestampEpochMillis")
+                            .getter(DynamoGoalProgressItem::getTimestampEpochMillis)
+                            .setter(DynamoGoalProgressItem::setTimestampEpochMillis))
+                    .addAttribute(Long.class, a -> a.name("expiresAt")
+                            .getter(DynamoGoalProgressItem::getExpiresAt)
+                            .setter(DynamoGoalProgressItem::setExpiresAt))
+                    .build();
+
+    private GoalTableSchemas() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the schema of goal metadata items.
+     *
+     * @return The shared, immutable schema of {@link DynamoGoalMetadataItem}
+     */
+    public static TableSchema<DynamoGoalMetadataItem> metadata() {
+        return METADATA;
+    }
+
+    /**
+     * Gets the schema of goal progress items: timestamped records, latest and
+     * earliest markers.
+     *
+     * @return The shared, immutable schema of {@link DynamoGoalProgressItem}
+     */
+    public static TableSchema<DynamoGoalProgressItem> progress() {
+        return PROGRESS;
+    }
+}
@@ -0,0 +1,76 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.time.Instant;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
+
+/**
+ * Argument validation shared by the blocking and asynchronous goal DAOs.
+ */
+final class GoalValidation {
+    private GoalValidation() {
+        // Prevent instantiation
+    }
+
+    static void validateStringNotEmpty(String value, String fieldName) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(fieldName + " cannot be null or empty");
+        }
+    }
+
+    static void validateNotNull(Object value, String fieldName) {
+        if (value == null) {
+            throw new IllegalArgumentException(fieldName + " cannot be null");
+        }
+    }
+
+    static void validateGoalEntity(GoalEntity goalEntity) {
+        validateNotNull(goalEntity, "goalEntity");
+        validateStringNotEmpty(goalEntity.getUserId(), "userId");
+        validateStringNotEmpty(goalEntity.getCharacterName(), "characterName");
+        validateStringNotEmpty(goalEntity.getTargetAttribute(), "targetAttribute");
+        validateStringNotEmpty(goalEntity.getTargetType(), "targetType");
+        validateNotNull(goalEntity.getTargetValue(), "targetValue");
+    }
+
+    static void validateGoalKey(String userId, String characterName, String goalId) {
+        validateStringNotEmpty(userId, "userId");
+        validateStringNotEmpty(characterName, "characterName");
+        validateStringNotEmpty(goalId, "goalId");
+    }
+
+    static void validateExistingGoal(GoalEntity goal) {
+        validateNotNull(goal, "goal");
+        validateGoalKey(goal.getUserId(), goal.getCharacterName(), goal.getGoalId());
+    }
+
+    static void validateProgressEntity(GoalProgressEntity progressEntity) {
+        validateNotNull(progressEntity, "progressEntity");
+        validateGoalKey(progressEntity.getUserId(), progressEntity.getCharacterName(), progressEntity.getGoalId());
+        validateNotNull(progressEntity.getProgressValue(), "progressValue");
+        validateNotNull(progressEntity.getCreatedAt(), "createdAt");
+    }
+
+    static void validateQueryOptions(ProgressQueryOptions options) {
+        validateNotNull(options, "options");
+        if (options.getPageSize() <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+    }
+
+    static void validateTimeRange(Instant from, Instant to) {
+        validateNotNull(from, "from");
+        validateNotNull(to, "to");
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from cannot be after to");
+        }
+    }
+
+    static void validateLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.osrsGoalTracker.shared.dao.util.SortKey;
+import com.osrsGoalTracker.shared.dao.util.SortKeyCodec;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+/**
+ * Moves latest progress records from the legacy layout
+ * ({@code CHARACTER#<character_name>#GOAL#<goal_id>#LATEST}) to the prefixed layout
+ * ({@code CHARACTER#<character_name>#LATEST#<goal_id>}).
+ *
+ * <ol>
+ * <li>Run every writer with {@code LatestProgressLayout.DUAL_WRITE}.</li>
+ * <li>Copy the existing records with {@link #copyToPrefixed(String)} or
+ * {@link #copyAllToPrefixed()}.</li>
+ * <li>Run every reader and writer with {@code LatestProgressLayout.PREFIXED}.</li>
+ * <li>Optionally remove the legacy records with {@link #deleteLegacy(String)} or
+ * {@link #deleteAllLegacy()}.</li>
+ * </ol>
+ *
+ * <p>Copies never overwrite a prefixed record holding a newer value, so the copy
+ * can run while dual writes are live and can be repeated safely.
+ */
+@Slf4j
+public class LatestProgressMigration {
+    private static final String NEWER_OR_MISSING_CONDITION =
+            "attribute_not_exists(#timestamp) OR #timestamp < :timestamp";
+    private static final String MISSING_CONDITION = "attribute_not_exists(sk)";
+    private static final String TIMESTAMP_ATTRIBUTE = "timestampEpochMillis";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String progressTableName;
+
+    /**
+     * Constructor for LatestProgressMigration.
+     *
+     * @param dynamoDbClient    The AWS DynamoDB client
+     * @param progressTableName The name of the table holding goal progress items
+     */
+    public LatestProgressMigration(DynamoDbClient dynamoDbClient, String progressTableName) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.progressTableName = progressTableName;
+    }
+
+    /**
+     * Copies a user's legacy latest progress records to prefixed keys.
+     *
+     * @param userId The ID of the user
+     * @return The number of records copied
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    public int copyToPrefixed(String userId) {
+        int copied = 0;
+        for (Map<String, AttributeValue> item : dynamoDbClient.queryPaginator(userGoalsQuery(userId)).items()) {
+            if (isLegacyLatest(item) && copy(item)) {
+                copied++;
+            }
+        }
+        log.info("Copied {} latest progress records of user: {} to prefixed keys", copied, userId);
+        return copied;
+    }
+
+    /**
+     * Copies the legacy latest progress records of every user to prefixed keys,
+     * scanning the whole table.
+     *
+     * @return The number of records copied
+     */
+    public int copyAllToPrefixed() {
+        int copied = 0;
+        for (Map<String, AttributeValue> item : dynamoDbClient.scanPaginator(legacyLatestScan()).items()) {
+            if (isLegacyLatest(item) && copy(item)) {
+                copied++;
+            }
+        }
+        log.info("Copied {} latest progress records to prefixed keys", copied);
+        return copied;
+    }
+
+    /**
+     * Deletes a user's legacy latest progress records. Only run this once no
+     * reader or writer uses the LEGACY or DUAL_WRITE layout.
+     *
+     * @param userId The ID of the user
+     * @return The number of records deleted
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    public int deleteLegacy(String userId) {
+        int deleted = 0;
+        for (Map<String, AttributeValue> item : dynamoDbClient.queryPaginator(userGoalsQuery(userId)).items()) {
+            if (isLegacyLatest(item)) {
+                delete(item);
+                deleted++;
+            }
+        }
+        log.info("Deleted {} legacy latest progress records of user: {}", deleted, userId);
+        return deleted;
+    }
+
+    /**
+     * Deletes the legacy latest progress records of every user, scanning the whole
+     * table. Only run this once no reader or writer uses the LEGACY or DUAL_WRITE
+     * layout.
+     *
+     * @return The number of records deleted
+     */
+    public int deleteAllLegacy() {
+        int deleted = 0;
+        for (Map<String, AttributeValue> item : dynamoDbClient.scanPaginator(legacyLatestScan()).items()) {
+            if (isLegacyLatest(item)) {
+                delete(item);
+                deleted++;
+            }
+        }
+        log.info("Deleted {} legacy latest progress records", deleted);
+        return deleted;
+    }
+
+    private QueryRequest userGoalsQuery(String userId) {
+        GoalValidation.validateStringNotEmpty(userId, "userId");
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s("USER#" + userId).build());
+        expressionAttributeValues.put(":sk_prefix", AttributeValue.builder().s("CHARACTER#").build());
+        return QueryRequest.builder()
+                .tableName(progressTableName)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(expressionAttributeValues)
+                .build();
+    }
+
+    private ScanRequest legacyLatestScan() {
+        // Scans may filter on key attributes; the kind of each match is still checked
+        return ScanRequest.builder()
+                .tableName(progressTableName)
+                .filterExpression("contains(sk, :latest)")
+                .expressionAttributeValues(Map.of(":latest", AttributeValue.builder().s("#LATEST").build()))
+                .build();
+    }
+
+    private static boolean isLegacyLatest(Map<String, AttributeValue> item) {
+        AttributeValue sortKey = item.get("sk");
+        return sortKey != null && SortKeyCodec.kindOf(sortKey.s()) == SortKey.Kind.GOAL_LATEST;
+    }
+
+    /**
+     * Writes a copy of a legacy record at its prefixed key unless that key already
+     * holds a newer value.
+     *
+     * @return Whether the copy was written
+     */
+    private boolean copy(Map<String, AttributeValue> item) {
+        SortKey legacyKey = SortKeyCodec.parse(item.get("sk").s());
+        Map<String, AttributeValue> prefixedItem = new HashMap<>(item);
+        prefixedItem.put("sk", AttributeValue.builder()
+                .s(SortKeyUtil.buildCharacterLatestSortKey(legacyKey.getCharacterName(), legacyKey.getGoalId()))
+                .build());
+
+        PutItemRequest.Builder request = PutItemRequest.builder()
+                .tableName(progressTableName)
+                .item(prefixedItem);
+        AttributeValue timestamp = item.get(TIMESTAMP_ATTRIBUTE);
+        if (timestamp != null) {
+            request.conditionExpression(NEWER_OR_MISSING_CONDITION)
+                    .expressionAttributeNames(Map.of("#timestamp", TIMESTAMP_ATTRIBUTE))
+                    .expressionAttributeValues(Map.of(":timestamp", timestamp));
+        } else {
+            // Without a timestamp to compare, only a missing record is filled in
+            request.conditionExpression(MISSING_CONDITION);
+        }
+
+        try {
+            dynamoDbClient.putItem(request.build());
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Prefixed latest progress of goal: {} is already current", legacyKey.getGoalId());
+            return false;
+        }
+    }
+
+    private void delete(Map<String, AttributeValue> item) {
+        dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                .tableName(progressTableName)
+                .key(Map.of("pk", item.get("pk"), "sk", item.get("sk")))
+                .build());
+    }
+}
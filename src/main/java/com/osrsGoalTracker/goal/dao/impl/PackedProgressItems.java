@@ -0,0 +1,240 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.impl.ProgressPointCodec.Point;
+import com.osrsGoalTracker.shared.dao.util.SortKeyCodec;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+/**
+ * Builds the packed monthly progress items of {@code PACKED_MONTHLY} storage and
+ * maps them back to progress entities. Each item holds one goal's progress values
+ * of one UTC month, encoded by {@link ProgressPointCodec}.
+ */
+final class PackedProgressItems {
+    // Appends read the month item and write it back only if no other append got in between
+    static final int MAX_APPEND_ATTEMPTS = 5;
+    // Each month item is small, so a page of a year's months stays far below the 1 MB page limit
+    static final int MONTHS_PER_PAGE = 12;
+
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String USER_ID = "userId";
+    private static final String CHARACTER_NAME = "characterName";
+    private static final String GOAL_ID = "goalId";
+    private static final String MONTH = "month";
+    private static final String POINTS = "points";
+    private static final String POINT_COUNT = "pointCount";
+    private static final String VERSION = "version";
+
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    private static final String UPDATE_EXPRESSION = "SET #userId = :userId, #characterName = :characterName, "
+            + "#goalId = :goalId, #month = :month, #points = :points, #pointCount = :pointCount, "
+            + "#version = :version";
+
+    private PackedProgressItems() {
+        // Prevent instantiation
+    }
+
+    static YearMonth monthOf(Instant timestamp) {
+        return YearMonth.from(timestamp.atOffset(ZoneOffset.UTC));
+    }
+
+    static Point pointOf(GoalProgressEntity progress) {
+        return new Point(progress.getCreatedAt().toEpochMilli(), progress.getProgressValue());
+    }
+
+    private static Map<String, AttributeValue> key(String userId, String characterName, String goalId,
+            YearMonth month) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s("USER#" + userId).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyCodec.goalPackedMonth(characterName, goalId, month)).build());
+        return key;
+    }
+
+    /**
+     * Builds a month item holding the given points.
+     *
+     * @param version The item's write count, raised by every append; 1 for a new item
+     */
+    static Map<String, AttributeValue> createMonthItem(String userId, String characterName, String goalId,
+            List<Point> points, long version) {
+        YearMonth month = monthOf(Instant.ofEpochMilli(points.get(0).getEpochMillis()));
+        Map<String, AttributeValue> item = key(userId, characterName, goalId, month);
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        item.put(CHARACTER_NAME, AttributeValue.builder().s(characterName).build());
+        item.put(GOAL_ID, AttributeValue.builder().s(goalId).build());
+        item.put(MONTH, AttributeValue.builder().s(month.toString()).build());
+        item.put(POINTS, AttributeValue.builder().b(SdkBytes.fromByteArray(ProgressPointCodec.encode(points))).build());
+        item.put(POINT_COUNT, AttributeValue.builder().n(String.valueOf(points.size())).build());
+        item.put(VERSION, AttributeValue.builder().n(String.valueOf(version)).build());
+        return item;
+    }
+
+    static GetItemRequest getMonthRequest(String tableName, String userId, String characterName, String goalId,
+            YearMonth month) {
+        return GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key(userId, characterName, goalId, month))
+                .consistentRead(true)
+                .build();
+    }
+
+    /**
+     * Gets the version of a month item, 0 if the item does not exist or was
+     * written before month items were versioned.
+     */
+    static long versionOf(Map<String, AttributeValue> item) {
+        if (item == null || !item.containsKey(VERSION)) {
+            return 0;
+        }
+        return Long.parseLong(item.get(VERSION).n());
+    }
+
+    static List<Point> pointsOf(Map<String, AttributeValue> item) {
+        if (item == null || !item.containsKey(POINTS)) {
+            return Collections.emptyList();
+        }
+        return ProgressPointCodec.decode(item.get(POINTS).b().asByteArrayUnsafe());
+    }
+
+    /**
+     * Merges added points into a month's points, ordered by time. An added point
+     * replaces an existing point with the same timestamp.
+     */
+    static List<Point> merge(List<Point> existing, Collection<Point> added) {
+        TreeMap<Long, Point> byTime = new TreeMap<>();
+        for (Point point : existing) {
+            byTime.put(point.getEpochMillis(), point);
+        }
+        for (Point point : added) {
+            byTime.put(point.getEpochMillis(), point);
+        }
+        return new ArrayList<>(byTime.values());
+    }
+
+    /**
+     * Builds the write of a month's merged points. It raises the item's version
+     * and only succeeds if the item is still at expectedVersion, so concurrent
+     * appends cannot overwrite each other, even when an append replaces a point
+     * and leaves the number of points unchanged.
+     */
+    static Update monthUpdate(String tableName, String userId, String characterName, String goalId,
+            List<Point> points, long expectedVersion) {
+        Map<String, AttributeValue> item = createMonthItem(userId, characterName, goalId, points,
+                expectedVersion + 1);
+
+        Map<String, String> attributeNames = new LinkedHashMap<>();
+        Map<String, AttributeValue> attributeValues = new LinkedHashMap<>();
+        for (String attribute : List.of(USER_ID, CHARACTER_NAME, GOAL_ID, MONTH, POINTS, POINT_COUNT, VERSION)) {
+            attributeNames.put("#" + attribute, attribute);
+            attributeValues.put(":" + attribute, item.get(attribute));
+        }
+
+        // A new item and an item written before versioning both have no version; the first append sets it
+        String condition;
+        if (expectedVersion == 0) {
+            condition = "attribute_not_exists(#version)";
+        } else {
+            condition = "#version = :expectedVersion";
+            attributeValues.put(":expectedVersion", AttributeValue.builder()
+                    .n(String.valueOf(expectedVersion)).build());
+        }
+
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, item.get(PK));
+        key.put(SK, item.get(SK));
+        return Update.builder()
+                .tableName(tableName)
+                .key(key)
+                .updateExpression(UPDATE_EXPRESSION)
+                .conditionExpression(condition)
+                .expressionAttributeNames(attributeNames)
+                .expressionAttributeValues(attributeValues)
+                .build();
+    }
+
+    static UpdateItemRequest updateItemRequest(Update update) {
+        return UpdateItemRequest.builder()
+                .tableName(update.tableName())
+                .key(update.key())
+                .updateExpression(update.updateExpression())
+                .conditionExpression(update.conditionExpression())
+                .expressionAttributeNames(update.expressionAttributeNames())
+                .expressionAttributeValues(update.expressionAttributeValues())
+                .build();
+    }
+
+    static boolean isMonthConditionFailure(TransactionCanceledException error) {
+        // Index 0 of the transaction is the conditional write of the month item
+        List<CancellationReason> reasons = error.cancellationReasons();
+        return !reasons.isEmpty() && CONDITIONAL_CHECK_FAILED.equals(reasons.get(0).code());
+    }
+
+    static QueryRequest allMonthsQuery(String tableName, String userId, String characterName, String goalId) {
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s("USER#" + userId).build());
+        expressionAttributeValues.put(":sk_prefix", AttributeValue.builder()
+                .s(SortKeyCodec.goalPackedPrefix(characterName, goalId)).build());
+
+        return QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(expressionAttributeValues)
+                .limit(MONTHS_PER_PAGE)
+                .build();
+    }
+
+    static QueryRequest monthsQuery(String tableName, String userId, String characterName, String goalId,
+            Instant from, Instant to, boolean newestFirst) {
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s("USER#" + userId).build());
+        expressionAttributeValues.put(":sk_from", AttributeValue.builder()
+                .s(SortKeyCodec.goalPackedMonth(characterName, goalId, monthOf(from))).build());
+        expressionAttributeValues.put(":sk_to", AttributeValue.builder()
+                .s(SortKeyCodec.goalPackedMonth(characterName, goalId, monthOf(to))).build());
+
+        return QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("pk = :pk AND sk BETWEEN :sk_from AND :sk_to")
+                .expressionAttributeValues(expressionAttributeValues)
+                .scanIndexForward(!newestFirst)
+                .limit(MONTHS_PER_PAGE)
+                .build();
+    }
+
+    static List<GoalProgressEntity> toEntities(Map<String, AttributeValue> item, boolean newestFirst) {
+        String userId = item.get(USER_ID).s();
+        String characterName = item.get(CHARACTER_NAME).s();
+        String goalId = item.get(GOAL_ID).s();
+
+        List<Point> points = pointsOf(item);
+        List<GoalProgressEntity> entities = new ArrayList<>(points.size());
+        for (Point point : points) {
+            entities.add(GoalRequests.createProgressEntity(userId, characterName, goalId, point.getValue(),
+                    Instant.ofEpochMilli(point.getEpochMillis())));
+        }
+        if (newestFirst) {
+            Collections.reverse(entities);
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,133 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * The writes of a batched progress ingestion and the entities whose outcome
+ * depends on each of them.
+ */
+final class ProgressBatchPlan {
+    /**
+     * A single write of a batch together with the progress entities whose outcome
+     * depends on it.
+     */
+    private static final class PendingWrite {
+        private final WriteRequest writeRequest;
+        private final List<GoalProgressEntity> owners = new ArrayList<>();
+
+        private PendingWrite(WriteRequest writeRequest) {
+            this.writeRequest = writeRequest;
+        }
+    }
+
+    private final Collection<GoalProgressEntity> progressEntities;
+    private final List<PendingWrite> pendingWrites;
+
+    private ProgressBatchPlan(Collection<GoalProgressEntity> progressEntities, List<PendingWrite> pendingWrites) {
+        this.progressEntities = progressEntities;
+        this.pendingWrites = pendingWrites;
+    }
+
+    static ProgressBatchPlan of(Collection<GoalProgressEntity> progressEntities, GoalRequests requests) {
+        // Keyed by pk|sk so that duplicate entities collapse into a single write;
+        // BatchWriteItem rejects batches that touch the same item twice.
+        Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+        for (GoalProgressEntity entity : progressEntities) {
+            DynamoGoalProgressItem progressItem = requests.createProgressRecordItem(entity.getUserId(),
+                    entity.getCharacterName(), entity.getGoalId(), entity.getCreatedAt(),
+                    entity.getProgressValue());
+            WriteRequest writeRequest = requests.putWriteRequest(progressItem);
+            pendingWrites.computeIfAbsent(GoalRequests.writeRequestKey(writeRequest),
+                    key -> new PendingWrite(writeRequest)).owners.add(entity);
+        }
+        return new ProgressBatchPlan(progressEntities, new ArrayList<>(pendingWrites.values()));
+    }
+
+    /**
+     * Picks the newest value of each goal. BatchWriteItem cannot carry conditions,
+     * so a goal's latest progress is advanced to its newest written value after the
+     * batch, with the same conditional write as a single recorded value.
+     */
+    static List<GoalProgressEntity> newestOfEachGoal(Collection<GoalProgressEntity> progressEntities) {
+        Map<String, GoalProgressEntity> newestByGoal = new LinkedHashMap<>();
+        for (GoalProgressEntity entity : progressEntities) {
+            String goalKey = entity.getUserId() + "|" + entity.getCharacterName() + "|" + entity.getGoalId();
+            newestByGoal.merge(goalKey, entity,
+                    (current, candidate) -> candidate.getCreatedAt().isAfter(current.getCreatedAt())
+                            ? candidate
+                            : current);
+        }
+        return new ArrayList<>(newestByGoal.values());
+    }
+
+    /**
+     * Moves the values whose latest progress could not be advanced from the
+     * succeeded to the failed entities, so that they are retried; writing their
+     * progress records again is harmless.
+     */
+    static ProgressBatchResult withUnadvanced(ProgressBatchResult result,
+            Collection<GoalProgressEntity> unadvanced) {
+        if (unadvanced.isEmpty()) {
+            return result;
+        }
+        // Removed by identity: entity equality ignores the goal, so values of other goals could match
+        Map<GoalProgressEntity, Boolean> unadvancedEntities = new IdentityHashMap<>();
+        unadvanced.forEach(entity -> unadvancedEntities.put(entity, Boolean.TRUE));
+        List<GoalProgressEntity> succeeded = new ArrayList<>(result.getSucceeded());
+        succeeded.removeIf(unadvancedEntities::containsKey);
+        List<GoalProgressEntity> failed = new ArrayList<>(result.getFailed());
+        failed.addAll(unadvanced);
+        return ProgressBatchResult.builder()
+                .succeeded(succeeded)
+                .failed(failed)
+                .build();
+    }
+
+    List<WriteRequest> writeRequests() {
+        List<WriteRequest> writeRequests = new ArrayList<>(pendingWrites.size());
+        pendingWrites.forEach(pendingWrite -> writeRequests.add(pendingWrite.writeRequest));
+        return writeRequests;
+    }
+
+    /**
+     * Splits the entities of the batch by whether all the writes they depend on
+     * were made.
+     *
+     * @param unwrittenKeys The pk|sk keys of the writes that could not be made
+     */
+    ProgressBatchResult toResult(Set<String> unwrittenKeys) {
+        // An entity fails if any write it depends on could not be made
+        Map<GoalProgressEntity, Boolean> failedEntities = new IdentityHashMap<>();
+        for (PendingWrite pendingWrite : pendingWrites) {
+            if (unwrittenKeys.contains(GoalRequests.writeRequestKey(pendingWrite.writeRequest))) {
+                pendingWrite.owners.forEach(owner -> failedEntities.put(owner, Boolean.TRUE));
+            }
+        }
+
+        List<GoalProgressEntity> succeeded = new ArrayList<>();
+        List<GoalProgressEntity> failed = new ArrayList<>();
+        for (GoalProgressEntity entity : progressEntities) {
+            (failedEntities.containsKey(entity) ? failed : succeeded).add(entity);
+        }
+        return ProgressBatchResult.builder()
+                .succeeded(succeeded)
+                .failed(failed)
+                .build();
+    }
+
+    int size() {
+        return pendingWrites.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static com.osrsGoalTracker.goal.dao.impl.GoalValidation.validateGoalKey;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.dao.GoalDao;
+import com.osrsGoalTracker.goal.dao.RetentionPolicy;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.RollupResolution;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Folds progress records into daily and weekly rollups before their retention
+ * ends, so a goal's long-range history survives in condensed form after TTL
+ * deletes the raw records.
+ *
+ * <p>Only complete weeks whose records have not started to expire are rolled up;
+ * a week with expired records would otherwise be rebuilt from a partial set of
+ * points. Each run resumes after the newest weekly rollup that was built once
+ * its week was over, so a week's progress records are read once rather than on
+ * every run; finding that rollup reads only rollup items. Running
+ * {@link #compact(String, String, String)} daily for every goal with a retention
+ * retries a week on later runs until it is compacted.
+ */
+@Slf4j
+public class ProgressCompactor {
+    // TTL deletes expired items lazily, but a record is treated as gone from the moment it expires
+    private static final Duration EXPIRY_MARGIN = Duration.ofDays(1);
+
+    private final GoalDao goalDao;
+    private final RetentionPolicy retentionPolicy;
+    private final Clock clock;
+
+    /**
+     * Constructor for ProgressCompactor.
+     *
+     * @param goalDao         The DAO to roll progress up with
+     * @param retentionPolicy The retention the goal DAO stamps on progress records
+     */
+    public ProgressCompactor(GoalDao goalDao, RetentionPolicy retentionPolicy) {
+        this(goalDao, retentionPolicy, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for ProgressCompactor with a custom clock.
+     *
+     * @param goalDao         The DAO to roll progress up with
+     * @param retentionPolicy The retention the goal DAO stamps on progress records
+     * @param clock           The clock deciding which weeks are due
+     */
+    public ProgressCompactor(GoalDao goalDao, RetentionPolicy retentionPolicy, Clock clock) {
+        if (goalDao == null || retentionPolicy == null || clock == null) {
+            throw new IllegalArgumentException("GoalDao, RetentionPolicy and Clock cannot be null");
+        }
+        this.goalDao = goalDao;
+        this.retentionPolicy = retentionPolicy;
+        this.clock = clock;
+    }
+
+    /**
+     * Rolls up the complete weeks of a goal's progress that are still fully
+     * retained and have not been compacted yet.
+     *
+     * @param userId        The ID of the user who owns the goal
+     * @param characterName The name of the character the goal is for
+     * @param goalId        The ID of the goal
+     * @return The rollups that were written, empty if the goal's records never
+     *         expire or no week is due
+     * @throws IllegalArgumentException If any argument is null or empty
+     * @throws IllegalStateException    If some rollups could not be written
+     */
+    public List<GoalProgressRollupEntity> compact(String userId, String characterName, String goalId) {
+        validateGoalKey(userId, characterName, goalId);
+
+        Duration retention = retentionPolicy.retentionOf(goalId);
+        if (retention == null) {
+            return Collections.emptyList();
+        }
+
+        Instant now = clock.instant();
+        Instant currentWeek = RollupResolution.WEEKLY.startOf(RollupResolution.WEEKLY.bucketOf(now));
+        Instant oldestIntact = now.minus(retention).plus(EXPIRY_MARGIN);
+        Instant firstWeek = RollupResolution.WEEKLY.startOf(RollupResolution.WEEKLY.bucketOf(oldestIntact));
+        if (firstWeek.isBefore(oldestIntact)) {
+            firstWeek = firstWeek.plus(RollupResolution.WEEKLY.getDuration());
+        }
+        firstWeek = firstUncompactedWeek(userId, characterName, goalId, firstWeek, currentWeek);
+        if (!firstWeek.isBefore(currentWeek)) {
+            log.debug("No complete week of goal: {} is due for compaction", goalId);
+            return Collections.emptyList();
+        }
+
+        log.info("Compacting progress of goal: {} between {} and {}", goalId, firstWeek, currentWeek);
+        return goalDao.rollupProgress(userId, characterName, goalId, firstWeek, currentWeek.minusMillis(1));
+    }
+
+    /**
+     * Finds the first week after the newest weekly rollup that was written after
+     * its week ended. Rollups written earlier, e.g. by a daily rollup during the
+     * week, may miss the week's last points and do not count.
+     */
+    private Instant firstUncompactedWeek(String userId, String characterName, String goalId, Instant firstWeek,
+            Instant currentWeek) {
+        GoalEntity goal = GoalEntity.builder()
+                .userId(userId)
+                .characterName(characterName)
+                .goalId(goalId)
+                .build();
+        Duration week = RollupResolution.WEEKLY.getDuration();
+        Instant resumeAt = firstWeek;
+        for (GoalProgressRollupEntity rollup : goalDao.getProgressRollups(goal, firstWeek,
+                currentWeek.minusMillis(1), week)) {
+            Instant weekEnd = rollup.getBucketStart().plus(week);
+            if (rollup.getResolution() == RollupResolution.WEEKLY && !rollup.getUpdatedAt().isBefore(weekEnd)
+                    && weekEnd.isAfter(resumeAt)) {
+                resumeAt = weekEnd;
+            }
+        }
+        return resumeAt;
+    }
+}
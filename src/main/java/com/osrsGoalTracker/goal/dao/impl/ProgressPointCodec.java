@@ -0,0 +1,132 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Encodes a goal's progress values as a compact byte array.
+ *
+ * <p>Layout: a version byte, the number of points, then the first point's epoch
+ * milliseconds and value. Every further point stores the change of its time gap
+ * to the previous gap (delta-of-delta) and the change of its value. All numbers
+ * are zigzag varints, so regular daily samples with steady XP gains take a few
+ * bytes per point.
+ */
+final class ProgressPointCodec {
+    private static final int VERSION = 1;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int MAX_VARINT_SHIFT = 63;
+
+    /**
+     * A progress value at a point in time.
+     */
+    @Value
+    static class Point {
+        long epochMillis;
+        long value;
+    }
+
+    private ProgressPointCodec() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Encodes points, which must be ordered by time.
+     */
+    static byte[] encode(List<Point> points) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + points.size() * 4);
+        out.write(VERSION);
+        writeVarint(out, points.size());
+
+        long previousMillis = 0;
+        long previousGap = 0;
+        long previousValue = 0;
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            if (i == 0) {
+                writeVarint(out, zigzag(point.getEpochMillis()));
+                writeVarint(out, zigzag(point.getValue()));
+            } else {
+                long gap = point.getEpochMillis() - previousMillis;
+                writeVarint(out, zigzag(gap - previousGap));
+                writeVarint(out, zigzag(point.getValue() - previousValue));
+                previousGap = gap;
+            }
+            previousMillis = point.getEpochMillis();
+            previousValue = point.getValue();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes points written by {@link #encode(List)}.
+     *
+     * @throws IllegalArgumentException If the bytes are not a supported encoding
+     */
+    static List<Point> decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return Collections.emptyList();
+        }
+        if (bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported packed progress version: " + bytes[0]);
+        }
+
+        int[] position = {1};
+        int count = (int) readVarint(bytes, position);
+        List<Point> points = new ArrayList<>(count);
+
+        long millis = 0;
+        long gap = 0;
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                millis = unzigzag(readVarint(bytes, position));
+                value = unzigzag(readVarint(bytes, position));
+            } else {
+                gap += unzigzag(readVarint(bytes, position));
+                millis += gap;
+                value += unzigzag(readVarint(bytes, position));
+            }
+            points.add(new Point(millis, value));
+        }
+        return points;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> MAX_VARINT_SHIFT);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.write((int) (remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarint(byte[] bytes, int[] position) {
+        long result = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            if (position[0] >= bytes.length) {
+                throw new IllegalArgumentException("Packed progress ends inside a number");
+            }
+            int b = bytes[position[0]++];
+            result |= (long) (b & VARINT_PAYLOAD_MASK) << shift;
+            if ((b & VARINT_CONTINUATION) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Packed progress holds a number longer than 64 bits");
+    }
+}
@@ -0,0 +1,124 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.shared.dao.util.FutureUtil;
+
+/**
+ * Merges the progress records read from several shard partitions into a single
+ * stream ordered by time. The first page of every shard is fetched in parallel
+ * when the merged stream is first consumed; later pages are fetched as the merge
+ * reaches them.
+ */
+final class ShardedProgressMerge {
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    // Shard reads block on the network, so they get their own daemon threads instead of the common pool
+    private static final Executor SHARD_READ_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "progress-shard-read-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ShardedProgressMerge() {
+        // Prevent instantiation
+    }
+
+    /**
+     * A shard's next record and the rest of the shard.
+     */
+    private static final class ShardHead {
+        private GoalProgressEntity next;
+        private final Iterator<GoalProgressEntity> rest;
+
+        private ShardHead(Iterator<GoalProgressEntity> rest) {
+            this.rest = rest;
+        }
+
+        private boolean advance() {
+            next = rest.hasNext() ? rest.next() : null;
+            return next != null;
+        }
+    }
+
+    /**
+     * Merges per-shard streams, each already ordered by time in the same direction.
+     *
+     * @param shardStreams The lazily read records of every shard
+     * @param newestFirst  Whether the streams, and the merged stream, are newest first
+     * @return The merged records; closing it closes every shard stream
+     */
+    static Stream<GoalProgressEntity> merge(List<Stream<GoalProgressEntity>> shardStreams, boolean newestFirst) {
+        if (shardStreams.size() == 1) {
+            return shardStreams.get(0);
+        }
+
+        Comparator<ShardHead> order = Comparator.comparing(head -> head.next.getCreatedAt());
+        Comparator<ShardHead> headOrder = newestFirst ? order.reversed() : order;
+        Iterator<GoalProgressEntity> merged = new Iterator<>() {
+            private PriorityQueue<ShardHead> heads;
+
+            @Override
+            public boolean hasNext() {
+                if (heads == null) {
+                    heads = new PriorityQueue<>(headOrder);
+                    heads.addAll(readFirstPages(shardStreams));
+                }
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public GoalProgressEntity next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ShardHead head = heads.poll();
+                GoalProgressEntity progress = head.next;
+                if (head.advance()) {
+                    heads.add(head);
+                }
+                return progress;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false)
+                .onClose(() -> shardStreams.forEach(Stream::close));
+    }
+
+    private static List<ShardHead> readFirstPages(List<Stream<GoalProgressEntity>> shardStreams) {
+        List<CompletableFuture<ShardHead>> firstPages = new ArrayList<>(shardStreams.size());
+        for (Stream<GoalProgressEntity> shardStream : shardStreams) {
+            firstPages.add(CompletableFuture.supplyAsync(() -> {
+                ShardHead head = new ShardHead(shardStream.iterator());
+                return head.advance() ? head : null;
+            }, SHARD_READ_EXECUTOR));
+        }
+
+        List<ShardHead> heads = new ArrayList<>(shardStreams.size());
+        try {
+            for (CompletableFuture<ShardHead> firstPage : firstPages) {
+                ShardHead head = firstPage.join();
+                if (head != null) {
+                    heads.add(head);
+                }
+            }
+        } catch (RuntimeException e) {
+            Throwable cause = FutureUtil.unwrap(e);
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+        return heads;
+    }
+}
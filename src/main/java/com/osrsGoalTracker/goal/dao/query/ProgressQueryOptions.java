@@ -0,0 +1,41 @@
+package com.osrsGoalTracker.goal.dao.query;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options controlling how progress history is read from the table.
+ */
+@Value
+@Builder
+public class ProgressQueryOptions {
+    /**
+     * Default number of progress records fetched per Query page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Number of progress records fetched per Query page. DynamoDB may return
+     * fewer if a page reaches the 1 MB response limit.
+     */
+    @Builder.Default
+    int pageSize = DEFAULT_PAGE_SIZE;
+
+    /**
+     * Progress attributes to read (e.g. "progressValue", "createdAt"). Null or
+     * empty reads every attribute; fields that are not read are null on the
+     * returned entities.
+     */
+    List<String> attributes;
+
+    /**
+     * Options reading every attribute with the default page size.
+     *
+     * @return The default options
+     */
+    public static ProgressQueryOptions defaults() {
+        return ProgressQueryOptions.builder().build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.osrsGoalTracker.notificationChannel.dao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+
+/**
+ * Non-blocking counterpart of {@link NotificationChannelDao}.
+ * Invalid arguments are rejected immediately by throwing IllegalArgumentException;
+ * every other failure completes the returned future exceptionally.
+ */
+public interface AsyncNotificationChannelDao {
+
+    /**
+     * Creates a new notification channel for a user.
+     *
+     * @param userId  The ID of the user to create the channel for
+     * @param channel The notification channel entity to create
+     * @return A future of the created notification channel entity with timestamps
+     * @throws IllegalArgumentException If userId is null/empty or channel
+     *                                  validation fails
+     */
+    CompletableFuture<NotificationChannelEntity> createNotificationChannel(String userId,
+            NotificationChannelEntity channel);
+
+    /**
+     * Retrieves all notification channels for a user.
+     *
+     * @param userId The ID of the user to get channels for
+     * @return A future of the notification channel entities associated with the user
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    CompletableFuture<List<NotificationChannelEntity>> getNotificationChannels(String userId);
+}
@@ -0,0 +1,96 @@
+package com.osrsGoalTracker.notificationChannel.dao.impl;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.osrsGoalTracker.notificationChannel.dao.NotificationChannelDao;
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+import com.osrsGoalTracker.shared.dao.cache.ExpiringLruCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link NotificationChannelDao} decorator that keeps recently read channel lists
+ * in memory. Creating a channel through this instance drops the user's cached
+ * list. Changes made through other instances become visible once the cached entry
+ * expires.
+ *
+ * <p>Entities are mutable, so the cache keeps its own copies of each list's
+ * channels and every read returns fresh copies.
+ */
+@Slf4j
+public class CachingNotificationChannelDao implements NotificationChannelDao {
+    private final NotificationChannelDao delegate;
+    private final ExpiringLruCache<String, List<NotificationChannelEntity>> channelsByUserId;
+
+    /**
+     * Constructor for CachingNotificationChannelDao.
+     *
+     * @param delegate   The DAO to read and write through
+     * @param maxEntries The maximum number of users whose channels are cached
+     * @param ttl        How long a cached list is served before it is read again
+     */
+    public CachingNotificationChannelDao(NotificationChannelDao delegate, int maxEntries, Duration ttl) {
+        this(delegate, new ExpiringLruCache<>(maxEntries, ttl));
+    }
+
+    /**
+     * Constructor for CachingNotificationChannelDao.
+     *
+     * @param delegate         The DAO to read and write through
+     * @param channelsByUserId The cache of channel lists keyed by user ID
+     */
+    public CachingNotificationChannelDao(NotificationChannelDao delegate,
+            ExpiringLruCache<String, List<NotificationChannelEntity>> channelsByUserId) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        if (channelsByUserId == null) {
+            throw new IllegalArgumentException("channelsByUserId cannot be null");
+        }
+        this.delegate = delegate;
+        this.channelsByUserId = channelsByUserId;
+    }
+
+    /**
+     * Creates a notification channel and drops the user's cached channel list.
+     *
+     * @param userId  The ID of the user
+     * @param channel The channel to create
+     * @return The created channel entity
+     * @see NotificationChannelDao#createNotificationChannel(String, NotificationChannelEntity)
+     */
+    @Override
+    public NotificationChannelEntity createNotificationChannel(String userId, NotificationChannelEntity channel) {
+        NotificationChannelEntity created = delegate.createNotificationChannel(userId, channel);
+        channelsByUserId.invalidate(userId);
+        return created;
+    }
+
+    /**
+     * Gets a user's notification channels from the cache, reading them through the
+     * delegate on a miss.
+     *
+     * @param userId The ID of the user
+     * @return An unmodifiable list of the user's channels
+     * @see NotificationChannelDao#getNotificationChannels(String)
+     */
+    @Override
+    public List<NotificationChannelEntity> getNotificationChannels(String userId) {
+        NotificationChannelItems.validateUserId(userId);
+
+        long generation = channelsByUserId.generation();
+        List<NotificationChannelEntity> cached = channelsByUserId.get(userId);
+        if (cached != null) {
+            log.debug("Notification channel cache hit for user {}", userId);
+            return NotificationChannelItems.copyOf(cached);
+        }
+
+        List<NotificationChannelEntity> channels = List.copyOf(delegate.getNotificationChannels(userId));
+        if (!channelsByUserId.putIfNotInvalidatedSince(userId, NotificationChannelItems.copyOf(channels),
+                generation)) {
+            log.debug("Not caching channels of user {} invalidated during the read", userId);
+        }
+        return channels;
+    }
+}
@@ -0,0 +1,86 @@
+package com.osrsGoalTracker.notificationChannel.dao.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.notificationChannel.dao.AsyncNotificationChannelDao;
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Asynchronous DynamoDB implementation for notification channel-related operations.
+ * Reads and writes the same items as {@link DynamoNotificationChannelDao}.
+ */
+@Slf4j
+public class DynamoAsyncNotificationChannelDao implements AsyncNotificationChannelDao {
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final String tableName;
+
+    /**
+     * Constructor for DynamoAsyncNotificationChannelDao.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     */
+    public DynamoAsyncNotificationChannelDao(DynamoDbAsyncClient dynamoDbAsyncClient, String tableName) {
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Creates a new notification channel for a user.
+     *
+     * @param userId  The ID of the user
+     * @param channel The notification channel entity to create
+     * @return A future of the created notification channel entity with timestamps
+     * @throws IllegalArgumentException If userId is null/empty or channel
+     *                                  validation fails
+     */
+    @Override
+    public CompletableFuture<NotificationChannelEntity> createNotificationChannel(String userId,
+            NotificationChannelEntity channel) {
+        log.debug("Attempting to create notification channel for user: {}", userId);
+
+        NotificationChannelItems.validateCreateNotificationChannelInput(userId, channel);
+
+        Map<String, AttributeValue> item = NotificationChannelItems.createNewChannelItem(userId, channel,
+                Instant.now());
+
+        log.debug("Putting new notification channel item in DynamoDB for user {}", userId);
+        return dynamoDbAsyncClient.putItem(NotificationChannelItems.putChannelRequest(tableName, item))
+                .thenApply(response -> {
+                    log.info("Successfully created notification channel for user {}", userId);
+                    return NotificationChannelItems.toChannelEntity(item);
+                });
+    }
+
+    /**
+     * Retrieves all notification channels for a user.
+     *
+     * @param userId The ID of the user
+     * @return A future of the notification channel entities
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    @Override
+    public CompletableFuture<List<NotificationChannelEntity>> getNotificationChannels(String userId) {
+        log.debug("Getting notification channels for user: {}", userId);
+
+        NotificationChannelItems.validateUserId(userId);
+
+        return dynamoDbAsyncClient.query(NotificationChannelItems.channelsQuery(tableName, userId))
+                .thenApply(response -> {
+                    List<NotificationChannelEntity> channels = new ArrayList<>();
+                    for (Map<String, AttributeValue> item : response.items()) {
+                        channels.add(NotificationChannelItems.toChannelEntity(item));
+                    }
+                    log.debug("Retrieved {} notification channels for user {}", channels.size(), userId);
+                    return channels;
+                });
+    }
+}
@@ -0,0 +1,130 @@
+package com.osrsGoalTracker.notificationChannel.dao.impl;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+/**
+ * Builds the notification channel items and requests shared by the blocking and
+ * asynchronous notification channel DAOs, and maps items back to entities.
+ */
+@Slf4j
+public final class NotificationChannelItems {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+    private static final String USER_PREFIX = "USER#";
+    private static final String USER_ID = "userId";
+    private static final String CHANNEL_TYPE = "channelType";
+    private static final String IDENTIFIER = "identifier";
+    private static final String IS_ACTIVE = "isActive";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private NotificationChannelItems() {
+        // Prevent instantiation
+    }
+
+    static void validateCreateNotificationChannelInput(String userId, NotificationChannelEntity channel) {
+        if (userId == null || userId.trim().isEmpty()) {
+            log.warn("Attempted to create notification channel with null or empty user ID");
+            throw new IllegalArgumentException("UserId cannot be null or empty");
+        }
+        if (channel == null) {
+            log.warn("Attempted to create null notification channel");
+            throw new IllegalArgumentException("Notification channel cannot be null");
+        }
+        if (channel.getChannelType() == null || channel.getChannelType().trim().isEmpty()) {
+            log.warn("Attempted to create notification channel with null or empty channel type");
+            throw new IllegalArgumentException("Channel type cannot be null or empty");
+        }
+        if (channel.getIdentifier() == null || channel.getIdentifier().trim().isEmpty()) {
+            log.warn("Attempted to create notification channel with null or empty identifier");
+            throw new IllegalArgumentException("Identifier cannot be null or empty");
+        }
+    }
+
+    static void validateUserId(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            log.warn("Attempted to get notification channels with null or empty user ID");
+            throw new IllegalArgumentException("UserId cannot be null or empty");
+        }
+    }
+
+    static Map<String, AttributeValue> createNewChannelItem(String userId, NotificationChannelEntity channel,
+            Instant timestamp) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        item.put(SK, AttributeValue.builder()
+                .s(SortKeyUtil.getNotificationChannelSortKey(channel.getChannelType())).build());
+        item.put(CHANNEL_TYPE, AttributeValue.builder().s(channel.getChannelType()).build());
+        item.put(IDENTIFIER, AttributeValue.builder().s(channel.getIdentifier()).build());
+        item.put(IS_ACTIVE, AttributeValue.builder().bool(channel.isActive()).build());
+        item.put(CREATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
+        item.put(UPDATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        return item;
+    }
+
+    static PutItemRequest putChannelRequest(String tableName, Map<String, AttributeValue> item) {
+        return PutItemRequest.builder()
+                .tableName(tableName)
+                .item(item)
+                .build();
+    }
+
+    static QueryRequest channelsQuery(String tableName, String userId) {
+        Map<String, AttributeValue> expressionAttributeValues = new LinkedHashMap<>();
+        expressionAttributeValues.put(":pk", AttributeValue.builder().s(USER_PREFIX + userId).build());
+        expressionAttributeValues.put(":sk_prefix", AttributeValue.builder().s("NOTIFICATION#").build());
+
+        return QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(expressionAttributeValues)
+                .build();
+    }
+
+    /**
+     * Maps a notification channel item to a notification channel entity.
+     *
+     * @param item The notification channel item
+     * @return The notification channel entity
+     */
+    public static NotificationChannelEntity toChannelEntity(Map<String, AttributeValue> item) {
+        return NotificationChannelEntity.builder()
+                .userId(item.get(USER_ID).s())
+                .channelType(item.get(CHANNEL_TYPE).s())
+                .identifier(item.get(IDENTIFIER).s())
+                .isActive(item.get(IS_ACTIVE).bool())
+                .createdAt(Instant.parse(item.get(CREATED_AT).s()))
+                .updatedAt(Instant.parse(item.get(UPDATED_AT).s()))
+                .build();
+    }
+
+    static NotificationChannelEntity copyOf(NotificationChannelEntity channel) {
+        return NotificationChannelEntity.builder()
+                .userId(channel.getUserId())
+                .channelType(channel.getChannelType())
+                .identifier(channel.getIdentifier())
+                .isActive(channel.isActive())
+                .createdAt(channel.getCreatedAt())
+                .updatedAt(channel.getUpdatedAt())
+                .build();
+    }
+
+    static List<NotificationChannelEntity> copyOf(List<NotificationChannelEntity> channels) {
+        return channels.stream()
+                .map(NotificationChannelItems::copyOf)
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
@@ -0,0 +1,113 @@
+package com.osrsGoalTracker.shared.dao.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Reads items of one table by key with BatchGetItem, retrying unprocessed keys.
+ */
+@Slf4j
+public class BatchGetItemExecutor {
+    /**
+     * Maximum number of keys DynamoDB accepts in one BatchGetItem request.
+     */
+    public static final int MAX_BATCH_GET_SIZE = 100;
+
+    private static final int MAX_BATCH_GET_ATTEMPTS = 5;
+    private static final long BATCH_GET_BASE_BACKOFF_MILLIS = 25L;
+
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final String tableName;
+
+    /**
+     * Constructor for BatchGetItemExecutor.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     */
+    public BatchGetItemExecutor(DynamoDbAsyncClient dynamoDbAsyncClient, String tableName) {
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Reads up to 100 items by key. Unprocessed keys are retried with exponential
+     * backoff; the future fails with IllegalStateException if some are still
+     * unprocessed after the last attempt.
+     *
+     * @param keys The keys to read
+     * @return A future of the items that exist, by key
+     * @throws IllegalArgumentException If keys is null or empty, or holds more than
+     *                                  100 keys
+     */
+    public CompletableFuture<Map<ItemKey, Map<String, AttributeValue>>> getItems(Collection<ItemKey> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("Keys cannot be null or empty");
+        }
+        if (keys.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("Keys cannot hold more than " + MAX_BATCH_GET_SIZE + " keys");
+        }
+
+        List<Map<String, AttributeValue>> keyMaps = new ArrayList<>(keys.size());
+        for (ItemKey key : keys) {
+            keyMaps.add(key.toAttributeMap());
+        }
+        return getItems(KeysAndAttributes.builder().keys(keyMaps).build(), new HashMap<>(), 1);
+    }
+
+    private CompletableFuture<Map<ItemKey, Map<String, AttributeValue>>> getItems(KeysAndAttributes request,
+            Map<ItemKey, Map<String, AttributeValue>> found, int attempt) {
+        BatchGetItemRequest batchGetItemRequest = BatchGetItemRequest.builder()
+                .requestItems(Map.of(tableName, request))
+                .build();
+
+        return dynamoDbAsyncClient.batchGetItem(batchGetItemRequest)
+                .thenCompose(response -> {
+                    for (Map<String, AttributeValue> item : response.responses().getOrDefault(tableName, List.of())) {
+                        found.put(ItemKey.of(item), item);
+                    }
+
+                    KeysAndAttributes unprocessed = unprocessedKeys(response);
+                    if (unprocessed == null) {
+                        return CompletableFuture.completedFuture(found);
+                    }
+                    if (attempt >= MAX_BATCH_GET_ATTEMPTS) {
+                        throw new IllegalStateException(unprocessed.keys().size()
+                                + " keys were still unprocessed after " + attempt + " attempts");
+                    }
+
+                    long backoffMillis = backoffMillis(attempt);
+                    log.debug("Retrying {} unprocessed keys in {} ms", unprocessed.keys().size(), backoffMillis);
+                    return CompletableFuture.supplyAsync(() -> null,
+                            CompletableFuture.delayedExecutor(backoffMillis, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> getItems(unprocessed, found, attempt + 1));
+                });
+    }
+
+    private KeysAndAttributes unprocessedKeys(BatchGetItemResponse response) {
+        KeysAndAttributes unprocessed = response.unprocessedKeys().get(tableName);
+        if (unprocessed == null || unprocessed.keys().isEmpty()) {
+            return null;
+        }
+        return unprocessed;
+    }
+
+    private static long backoffMillis(int attempt) {
+        // Exponential backoff with jitter so that parallel loaders do not retry in lockstep
+        long ceiling = BATCH_GET_BASE_BACKOFF_MILLIS << (attempt - 1);
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+}
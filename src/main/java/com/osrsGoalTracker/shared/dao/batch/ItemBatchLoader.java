@@ -0,0 +1,62 @@
+package com.osrsGoalTracker.shared.dao.batch;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Loads items of the goals table by key, sending the keys requested within a
+ * short window as BatchGetItem requests of up to 100 keys. One instance can serve
+ * several typed loaders, such as {@code BatchingUserLoader} and
+ * {@code BatchingLatestProgressLoader}, so that their lookups share requests.
+ */
+public class ItemBatchLoader {
+    /**
+     * Default time keys are collected for before a batch is sent.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+    private final MicroBatchLoader<ItemKey, Map<String, AttributeValue>> loader;
+
+    /**
+     * Constructor for ItemBatchLoader using the default window.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     */
+    public ItemBatchLoader(DynamoDbAsyncClient dynamoDbAsyncClient, String tableName) {
+        this(dynamoDbAsyncClient, tableName, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Constructor for ItemBatchLoader.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     * @param window              How long to collect keys before sending a batch
+     */
+    public ItemBatchLoader(DynamoDbAsyncClient dynamoDbAsyncClient, String tableName, Duration window) {
+        BatchGetItemExecutor executor = new BatchGetItemExecutor(dynamoDbAsyncClient, tableName);
+        this.loader = new MicroBatchLoader<>(executor::getItems, window, BatchGetItemExecutor.MAX_BATCH_GET_SIZE);
+    }
+
+    /**
+     * Requests an item to be read with the next batch.
+     *
+     * @param key The key of the item
+     * @return A future of the item's attributes, or of null if it does not exist
+     */
+    public CompletableFuture<Map<String, AttributeValue>> load(ItemKey key) {
+        return loader.load(key);
+    }
+
+    /**
+     * Sends the keys collected so far without waiting for the window to end.
+     */
+    public void flush() {
+        loader.flush();
+    }
+}
@@ -0,0 +1,41 @@
+package com.osrsGoalTracker.shared.dao.batch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Value;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * The primary key of an item in the goals table.
+ */
+@Value
+public class ItemKey {
+    private static final String PK = "pk";
+    private static final String SK = "sk";
+
+    String pk;
+    String sk;
+
+    /**
+     * Reads the primary key of an item.
+     *
+     * @param item The item attributes, including pk and sk
+     * @return The item's key
+     */
+    public static ItemKey of(Map<String, AttributeValue> item) {
+        return new ItemKey(item.get(PK).s(), item.get(SK).s());
+    }
+
+    /**
+     * Converts the key to the attribute map DynamoDB requests expect.
+     *
+     * @return The key attributes
+     */
+    public Map<String, AttributeValue> toAttributeMap() {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(pk).build());
+        key.put(SK, AttributeValue.builder().s(sk).build());
+        return key;
+    }
+}
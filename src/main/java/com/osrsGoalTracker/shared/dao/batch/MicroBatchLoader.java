@@ -0,0 +1,145 @@
+package com.osrsGoalTracker.shared.dao.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects the keys requested within a short window and loads them together,
+ * in the style of GraphQL's DataLoader. The window starts with the first key
+ * requested after the previous batch was sent; a batch is sent early once it
+ * holds the maximum number of keys. Keys requested more than once in a window
+ * are loaded once.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+@Slf4j
+public class MicroBatchLoader<K, V> {
+    private final Function<List<K>, CompletableFuture<Map<K, V>>> batchFunction;
+    private final int maxBatchSize;
+    private final Executor windowExecutor;
+
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private long generation;
+
+    /**
+     * Constructor for MicroBatchLoader.
+     *
+     * @param batchFunction Loads a batch of keys; keys missing from the returned map
+     *                      complete with null
+     * @param window        How long to collect keys before sending a batch
+     * @param maxBatchSize  The maximum number of keys per batch
+     * @throws IllegalArgumentException If batchFunction is null, window is negative
+     *                                  or maxBatchSize is not positive
+     */
+    public MicroBatchLoader(Function<List<K>, CompletableFuture<Map<K, V>>> batchFunction, Duration window,
+            int maxBatchSize) {
+        if (batchFunction == null) {
+            throw new IllegalArgumentException("batchFunction cannot be null");
+        }
+        if (window == null || window.isNegative()) {
+            throw new IllegalArgumentException("window cannot be null or negative");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.windowExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Requests a key to be loaded with the next batch.
+     *
+     * @param key The key to load
+     * @return A future of the key's value, or of null if the batch did not return it
+     */
+    public CompletableFuture<V> load(K key) {
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> result;
+        synchronized (this) {
+            result = pending.get(key);
+            if (result != null) {
+                return result;
+            }
+            result = new CompletableFuture<>();
+            pending.put(key, result);
+
+            if (pending.size() == 1) {
+                long windowGeneration = generation;
+                windowExecutor.execute(() -> flush(windowGeneration));
+            }
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return result;
+    }
+
+    /**
+     * Sends the keys collected so far without waiting for the window to end.
+     */
+    public void flush() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private void flush(long windowGeneration) {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            // The window's keys were already sent when the batch filled up or was flushed
+            if (windowGeneration != generation) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        return batch;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(batch.keySet());
+        log.debug("Loading batch of {} keys", keys.size());
+
+        CompletableFuture<Map<K, V>> loaded;
+        try {
+            loaded = batchFunction.apply(keys);
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+
+        loaded.whenComplete((values, error) -> {
+            for (Map.Entry<K, CompletableFuture<V>> entry : batch.entrySet()) {
+                if (error != null) {
+                    entry.getValue().completeExceptionally(error);
+                } else {
+                    entry.getValue().complete(values.get(entry.getKey()));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,150 @@
+package com.osrsGoalTracker.shared.dao.bulkhead;
+
+import com.osrsGoalTracker.shared.dao.exception.BulkheadFullException;
+
+/**
+ * Caps the number of concurrent calls of one class of DAO operations, with a limit
+ * that adapts to latency like a gradient concurrency limiter. While calls are as
+ * fast as their long-term average the limit grows; once latency rises beyond the
+ * configured tolerance the limit shrinks in proportion, and throttled or timed-out
+ * calls cut it by a tenth. Calls beyond the limit are shed immediately instead of
+ * queueing behind a slow table. Thread-safe.
+ */
+public class AdaptiveBulkhead {
+    // The long-term latency averages roughly the last hundred calls
+    private static final double LONG_RTT_WEIGHT = 0.01;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_FACTOR = 0.9;
+
+    private final String name;
+    private final BulkheadConfig config;
+
+    private double limit;
+    private int inFlight;
+    private double longRttNanos;
+
+    /**
+     * Constructor for AdaptiveBulkhead.
+     *
+     * @param name   The name of the bulkhead, e.g. {@code UserDao.READ}
+     * @param config The limits of the bulkhead
+     */
+    public AdaptiveBulkhead(String name, BulkheadConfig config) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("BulkheadConfig cannot be null");
+        }
+        if (config.getMinLimit() < 1 || config.getMinLimit() > config.getInitialLimit()
+                || config.getInitialLimit() > config.getMaxLimit()) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (config.getRttTolerance() < 1) {
+            throw new IllegalArgumentException("rttTolerance must be at least 1");
+        }
+        if (config.getSmoothing() <= 0 || config.getSmoothing() > 1) {
+            throw new IllegalArgumentException("smoothing must be between 0 and 1");
+        }
+        this.name = name;
+        this.config = config;
+        this.limit = config.getInitialLimit();
+    }
+
+    /**
+     * Starts a call if the bulkhead is below its limit.
+     *
+     * @return True if the call may run; it must then be completed with
+     *         {@link #onSuccess(long)}, {@link #onDropped()} or {@link #onIgnored()}
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Starts a call, shedding it if the bulkhead is at its limit.
+     *
+     * @throws BulkheadFullException If the bulkhead is at its limit
+     */
+    public void acquire() {
+        if (!tryAcquire()) {
+            throw new BulkheadFullException(name, getLimit());
+        }
+    }
+
+    /**
+     * Completes a call that succeeded and adapts the limit to its latency.
+     *
+     * @param rttNanos How long the call took, in nanoseconds
+     */
+    public synchronized void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight--;
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            return;
+        }
+        longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        // Once latency recovers, forget the overload the long-term average absorbed
+        if (longRttNanos > 2 * rttNanos) {
+            longRttNanos *= 0.95;
+        }
+        // Too few calls in flight to tell whether the limit is too high
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1, config.getRttTolerance() * longRttNanos / rttNanos));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        setLimit(limit * (1 - config.getSmoothing()) + estimate * config.getSmoothing());
+    }
+
+    /**
+     * Completes a call that was throttled or timed out, lowering the limit.
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        setLimit(limit * DROP_FACTOR);
+    }
+
+    /**
+     * Completes a call whose outcome says nothing about load, e.g. a validation
+     * error.
+     */
+    public synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    /**
+     * Gets the name of the bulkhead.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the current concurrency limit.
+     *
+     * @return Concurrent calls allowed
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Gets the number of calls running.
+     *
+     * @return Calls in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), newLimit));
+    }
+}
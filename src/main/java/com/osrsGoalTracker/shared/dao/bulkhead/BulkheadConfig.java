@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.shared.dao.bulkhead;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Limits of an {@link AdaptiveBulkhead}. The concurrency limit starts at
+ * initialLimit and adapts to latency between minLimit and maxLimit.
+ */
+@Value
+@Builder
+public class BulkheadConfig {
+    /**
+     * Concurrent calls allowed before any latency has been observed.
+     */
+    @Builder.Default
+    int initialLimit = 20;
+
+    /**
+     * Concurrent calls always allowed, however slow calls become.
+     */
+    @Builder.Default
+    int minLimit = 1;
+
+    /**
+     * Concurrent calls never exceeded; keep the limits of bulkheads sharing a
+     * client below its connection pool size.
+     */
+    @Builder.Default
+    int maxLimit = 50;
+
+    /**
+     * How much slower than the long-term latency calls may become before the limit
+     * is lowered, e.g. 2.0 tolerates doubled latency.
+     */
+    @Builder.Default
+    double rttTolerance = 2.0;
+
+    /**
+     * Weight of each new estimate in the limit, between 0 and 1.
+     */
+    @Builder.Default
+    double smoothing = 0.2;
+
+    /**
+     * A config with the default limits.
+     *
+     * @return The default config
+     */
+    public static BulkheadConfig defaults() {
+        return BulkheadConfig.builder().build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.osrsGoalTracker.shared.dao.bulkhead;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import com.osrsGoalTracker.shared.dao.metrics.MeteredDao;
+import com.osrsGoalTracker.shared.dao.util.FutureUtil;
+
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+
+/**
+ * Wraps a DAO so that each class of its operations runs behind its own
+ * {@link AdaptiveBulkhead}. Calls returning a {@link CompletionStage} hold their
+ * place in the bulkhead until the stage completes; calls returning a lazy stream
+ * hold it until the stream is returned. A call shed by a full bulkhead throws
+ * {@link com.osrsGoalTracker.shared.dao.exception.BulkheadFullException} without
+ * reaching the delegate.
+ *
+ * <pre>{@code
+ * UserDao userDao = BulkheadDao.wrap(UserDao.class, new DynamoUserDao(client, table), BulkheadConfig.defaults());
+ * }</pre>
+ */
+public final class BulkheadDao {
+    private BulkheadDao() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Wraps a DAO in a proxy with one bulkhead per {@link OperationClass}, named
+     * {@code <Interface>.<class>} and classified by {@link OperationClass#of(Method)}.
+     *
+     * @param daoInterface The DAO interface to expose, e.g. {@code UserDao.class}
+     * @param delegate     The DAO to wrap
+     * @param config       The limits of each bulkhead
+     * @param <T>          The DAO interface type
+     * @return A DAO limiting the concurrency of delegate
+     * @throws IllegalArgumentException If any argument is null or daoInterface is
+     *                                  not an interface
+     */
+    public static <T> T wrap(Class<T> daoInterface, T delegate, BulkheadConfig config) {
+        if (daoInterface == null || config == null) {
+            throw new IllegalArgumentException("daoInterface and config cannot be null");
+        }
+        Map<OperationClass, AdaptiveBulkhead> bulkheads = new EnumMap<>(OperationClass.class);
+        for (OperationClass operationClass : OperationClass.values()) {
+            bulkheads.put(operationClass,
+                    new AdaptiveBulkhead(daoInterface.getSimpleName() + "." + operationClass, config));
+        }
+        return wrap(daoInterface, delegate, bulkheads, OperationClass::of);
+    }
+
+    /**
+     * Wraps a DAO in a proxy running each call behind the bulkhead of its class.
+     * Calls of a class without a bulkhead are not limited.
+     *
+     * @param daoInterface The DAO interface to expose, e.g. {@code UserDao.class}
+     * @param delegate     The DAO to wrap
+     * @param bulkheads    The bulkhead of each operation class
+     * @param classifier   Classifies the methods of daoInterface
+     * @param <T>          The DAO interface type
+     * @return A DAO limiting the concurrency of delegate
+     * @throws IllegalArgumentException If any argument is null or daoInterface is
+     *                                  not an interface
+     */
+    public static <T> T wrap(Class<T> daoInterface, T delegate, Map<OperationClass, AdaptiveBulkhead> bulkheads,
+            Function<Method, OperationClass> classifier) {
+        if (daoInterface == null || delegate == null || bulkheads == null || classifier == null) {
+            throw new IllegalArgumentException("daoInterface, delegate, bulkheads and classifier cannot be null");
+        }
+        if (!daoInterface.isInterface()) {
+            throw new IllegalArgumentException("daoInterface must be an interface");
+        }
+        Map<OperationClass, AdaptiveBulkhead> bulkheadsCopy = Map.copyOf(bulkheads);
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, delegate, method, args);
+            }
+            AdaptiveBulkhead bulkhead = bulkheadsCopy.get(classifier.apply(method));
+            if (bulkhead == null) {
+                return invoke(delegate, method, args);
+            }
+            return invokeLimited(bulkhead, delegate, method, args);
+        };
+        return daoInterface.cast(Proxy.newProxyInstance(daoInterface.getClassLoader(),
+                new Class<?>[] {daoInterface}, handler));
+    }
+
+    private static Object invokeObjectMethod(Object proxy, Object delegate, Method method, Object[] args)
+            throws Throwable {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "BulkheadDao(" + delegate + ")";
+            default -> invoke(delegate, method, args);
+        };
+    }
+
+    private static Object invokeLimited(AdaptiveBulkhead bulkhead, Object delegate, Method method, Object[] args)
+            throws Throwable {
+        bulkhead.acquire();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invoke(delegate, method, args);
+        } catch (Throwable e) {
+            release(bulkhead, start, e);
+            throw e;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> release(bulkhead, start, error));
+        } else {
+            release(bulkhead, start, null);
+        }
+        return result;
+    }
+
+    private static Object invoke(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void release(AdaptiveBulkhead bulkhead, long start, Throwable error) {
+        if (error == null) {
+            bulkhead.onSuccess(System.nanoTime() - start);
+        } else if (isOverload(error)) {
+            bulkhead.onDropped();
+        } else {
+            bulkhead.onIgnored();
+        }
+    }
+
+    private static boolean isOverload(Throwable error) {
+        Throwable cause = FutureUtil.unwrap(error);
+        return MeteredDao.isThrottle(cause) || cause instanceof ApiCallTimeoutException
+                || cause instanceof ApiCallAttemptTimeoutException;
+    }
+}
@@ -0,0 +1,35 @@
+package com.osrsGoalTracker.shared.dao.bulkhead;
+
+import java.lang.reflect.Method;
+
+/**
+ * The classes of DAO operations that get separate bulkheads, so that slow writes
+ * of background jobs cannot take the concurrency interactive reads need.
+ */
+public enum OperationClass {
+    /**
+     * Reads serving interactive requests, such as {@code getUser}.
+     */
+    READ,
+
+    /**
+     * Writes, including the bulk writes of background jobs.
+     */
+    WRITE;
+
+    /**
+     * Classifies a DAO method by its name: {@code get}, {@code load}, {@code stream}
+     * and {@code publish} methods read, everything else writes.
+     *
+     * @param method The DAO interface method
+     * @return The class of the operation
+     */
+    public static OperationClass of(Method method) {
+        String name = method.getName();
+        if (name.startsWith("get") || name.startsWith("load") || name.startsWith("stream")
+                || name.startsWith("publish")) {
+            return READ;
+        }
+        return WRITE;
+    }
+}
@@ -0,0 +1,184 @@
+package com.osrsGoalTracker.shared.dao.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded in-memory cache whose entries expire a fixed time after they were
+ * written. When full, the least recently read entry is evicted.
+ * All methods are thread-safe.
+ *
+ * <p>Callers that fill the cache from a slower source take a {@link #generation()}
+ * before they load and store with {@link #putIfNotInvalidatedSince}, so a load that
+ * started before an invalidation cannot put its stale value back afterwards.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class ExpiringLruCache<K, V> {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final LinkedHashMap<K, Long> invalidatedAt;
+    private long generation;
+    private long forgottenGeneration;
+
+    private static final class Entry<V> {
+        private final V value;
+        private final Instant expiresAt;
+
+        private Entry(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Creates a cache that uses the system clock.
+     *
+     * @param maxEntries The maximum number of entries to keep
+     * @param ttl        How long an entry stays valid after it is written
+     * @throws IllegalArgumentException If maxEntries or ttl is not positive
+     */
+    public ExpiringLruCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries The maximum number of entries to keep
+     * @param ttl        How long an entry stays valid after it is written
+     * @param clock      The clock entries expire by
+     * @throws IllegalArgumentException If maxEntries or ttl is not positive, or
+     *                                  clock is null
+     */
+    public ExpiringLruCache(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("clock cannot be null");
+        }
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+        // Access order makes iteration start at the least recently read entry
+        this.entries = new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > ExpiringLruCache.this.maxEntries;
+            }
+        };
+        // Insertion order keeps the oldest invalidation first. Once it is dropped, loads
+        // that started before it can no longer be told apart and are refused.
+        this.invalidatedAt = new LinkedHashMap<>(16, LOAD_FACTOR, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Long> eldest) {
+                if (size() <= ExpiringLruCache.this.maxEntries) {
+                    return false;
+                }
+                forgottenGeneration = eldest.getValue();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets a value if it is cached and has not expired.
+     *
+     * @param key The key to look up
+     * @return The cached value, or null if there is none
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(entry.expiresAt)) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Caches a value, replacing any previous value of the key and restarting its TTL.
+     *
+     * @param key   The key
+     * @param value The value to cache
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Gets the current invalidation generation. Take it before loading a value that
+     * will be stored with {@link #putIfNotInvalidatedSince}.
+     *
+     * @return The number of invalidations made so far
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches a value unless its key was invalidated after the given generation was
+     * taken.
+     *
+     * @param key        The key
+     * @param value      The value to cache
+     * @param generation The {@link #generation()} taken before the value was loaded
+     * @return Whether the value was cached
+     */
+    public synchronized boolean putIfNotInvalidatedSince(K key, V value, long generation) {
+        Long keyInvalidatedAt = invalidatedAt.get(key);
+        if (generation < forgottenGeneration || (keyInvalidatedAt != null && generation < keyInvalidatedAt)) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * Removes a key from the cache.
+     *
+     * @param key The key to remove
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+        generation++;
+        // Re-inserting moves the key to the end of the insertion order
+        invalidatedAt.remove(key);
+        invalidatedAt.put(key, generation);
+    }
+
+    /**
+     * Removes every entry from the cache.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+        invalidatedAt.clear();
+        forgottenGeneration = generation;
+    }
+
+    /**
+     * Gets the number of entries held, including expired entries that have not
+     * been read since they expired.
+     *
+     * @return The number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.osrsGoalTracker.shared.dao.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.osrsGoalTracker.shared.dao.util.FutureUtil;
+
+/**
+ * Runs at most one load per key at a time. Callers that ask for a key while a
+ * load of it is in flight wait for that load and share its result or error
+ * instead of starting their own. Nothing is kept once the load finishes.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Loads a value, joining the in-flight load of the same key if there is one.
+     *
+     * @param key    The key to load
+     * @param loader Loads the value when no load of the key is in flight
+     * @return The loaded value
+     * @throws RuntimeException The error the shared load failed with
+     */
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Gets the number of loads in flight.
+     *
+     * @return The number of keys being loaded
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            Throwable cause = FutureUtil.unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.osrsGoalTracker.shared.dao.exception;
+
+/**
+ * Exception thrown when a DAO call is shed because its bulkhead already runs as
+ * many calls as its concurrency limit allows.
+ */
+public class BulkheadFullException extends RuntimeException {
+    private final String bulkhead;
+
+    /**
+     * Constructs a new BulkheadFullException.
+     *
+     * @param bulkhead The name of the bulkhead that shed the call
+     * @param limit    The concurrency limit of the bulkhead when the call was shed
+     */
+    public BulkheadFullException(String bulkhead, int limit) {
+        super("Bulkhead " + bulkhead + " is full at " + limit + " concurrent calls");
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Gets the name of the bulkhead that shed the call.
+     *
+     * @return The bulkhead name
+     */
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
@@ -0,0 +1,31 @@
+package com.osrsGoalTracker.shared.dao.exception;
+
+/**
+ * Exception thrown when a user's request is refused because the user consumed
+ * more capacity than their budget allows.
+ */
+public class CapacityBudgetExceededException extends RuntimeException {
+    private final String userId;
+
+    /**
+     * Constructs a new CapacityBudgetExceededException.
+     *
+     * @param userId      The ID of the user whose request was refused
+     * @param windowUnits Capacity units the user consumed within the window
+     * @param maxUnits    Capacity units the user may consume within the window
+     */
+    public CapacityBudgetExceededException(String userId, double windowUnits, double maxUnits) {
+        super("User " + userId + " consumed " + windowUnits + " capacity units, more than the budget of "
+                + maxUnits);
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the ID of the user whose request was refused.
+     *
+     * @return The user ID
+     */
+    public String getUserId() {
+        return userId;
+    }
+}
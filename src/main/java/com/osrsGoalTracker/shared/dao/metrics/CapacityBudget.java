@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.time.Duration;
+
+import com.osrsGoalTracker.shared.dao.exception.CapacityBudgetExceededException;
+
+/**
+ * Decides whether a user may make another DynamoDB request, given the capacity
+ * the user consumed within the accounting window.
+ */
+@FunctionalInterface
+public interface CapacityBudget {
+    /**
+     * A budget admitting every request immediately.
+     */
+    CapacityBudget UNLIMITED = (userId, windowUnits) -> Duration.ZERO;
+
+    /**
+     * Admits, delays or refuses a request.
+     *
+     * @param userId      The ID of the user making the request
+     * @param windowUnits Capacity units the user consumed within the window
+     * @return How long to delay the request, zero to send it immediately
+     * @throws CapacityBudgetExceededException To refuse the request
+     */
+    Duration admit(String userId, double windowUnits);
+
+    /**
+     * A budget refusing the requests of users over a quota.
+     *
+     * @param maxUnits Capacity units a user may consume within the window
+     * @return The budget
+     */
+    static CapacityBudget refuseAbove(double maxUnits) {
+        return (userId, windowUnits) -> {
+            if (windowUnits > maxUnits) {
+                throw new CapacityBudgetExceededException(userId, windowUnits, maxUnits);
+            }
+            return Duration.ZERO;
+        };
+    }
+
+    /**
+     * A budget delaying the requests of users over a quota.
+     *
+     * @param maxUnits Capacity units a user may consume within the window
+     * @param delay    How long to delay each request over quota
+     * @return The budget
+     */
+    static CapacityBudget delayAbove(double maxUnits, Duration delay) {
+        return (userId, windowUnits) -> windowUnits > maxUnits ? delay : Duration.ZERO;
+    }
+}
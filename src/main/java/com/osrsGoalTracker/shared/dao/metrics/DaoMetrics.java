@@ -0,0 +1,57 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+/**
+ * Receives the measurements of DAO operations. Operations are named after the
+ * DAO interface and method, e.g. {@code UserDao.createUser}; DynamoDB requests
+ * made outside a DAO method are named after the DynamoDB operation, e.g.
+ * {@code DynamoDb.Query}.
+ *
+ * <p>Implementations are called concurrently from every thread using the DAOs
+ * and must be thread-safe and cheap. Every method does nothing by default.
+ *
+ * @see MeteredDao
+ * @see DaoMetricsInterceptor
+ * @see InMemoryDaoMetrics
+ */
+public interface DaoMetrics {
+    /**
+     * Metrics that discard every measurement.
+     */
+    DaoMetrics NOOP = new DaoMetrics() {
+    };
+
+    /**
+     * Records a completed DAO call, successful or not.
+     *
+     * @param operation    The name of the operation
+     * @param latencyNanos How long the call took, in nanoseconds
+     */
+    default void recordLatency(String operation, long latencyNanos) {
+    }
+
+    /**
+     * Records a DAO call that failed.
+     *
+     * @param operation The name of the operation
+     * @param throttled Whether DynamoDB rejected a request for exceeding throughput
+     */
+    default void recordError(String operation, boolean throttled) {
+    }
+
+    /**
+     * Records a DynamoDB request attempt that the SDK retried.
+     *
+     * @param operation The name of the operation that made the request
+     */
+    default void recordRetry(String operation) {
+    }
+
+    /**
+     * Records the capacity a DynamoDB request consumed.
+     *
+     * @param operation     The name of the operation that made the request
+     * @param capacityUnits The read and write capacity units consumed
+     */
+    default void recordConsumedCapacity(String operation, double capacityUnits) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+/**
+ * Reports the consumed capacity and retries of DynamoDB requests to a
+ * {@link DaoMetrics}. Every request that supports it is sent with
+ * {@code ReturnConsumedCapacity.TOTAL} unless it already asks for capacity.
+ * Requests are attributed to the {@link MeteredDao} call that sent them, or to
+ * {@code DynamoDb.<operation>} otherwise.
+ *
+ * <pre>{@code
+ * DynamoDbClient client = DynamoDbClient.builder()
+ *         .overrideConfiguration(o -> o.addExecutionInterceptor(new DaoMetricsInterceptor(metrics)))
+ *         .build();
+ * }</pre>
+ *
+ * <p>The operation is captured when a request is sent. Requests an asynchronous
+ * DAO chains onto a previous response are sent from an SDK thread and are
+ * therefore attributed to the DynamoDB operation.
+ */
+public class DaoMetricsInterceptor implements ExecutionInterceptor {
+    private static final ExecutionAttribute<String> OPERATION = new ExecutionAttribute<>("DaoMetricsOperation");
+    private static final ExecutionAttribute<AtomicInteger> ATTEMPTS = new ExecutionAttribute<>("DaoMetricsAttempts");
+
+    private final DaoMetrics metrics;
+
+    /**
+     * Constructor for DaoMetricsInterceptor.
+     *
+     * @param metrics Where to report measurements
+     */
+    public DaoMetricsInterceptor(DaoMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("DaoMetrics cannot be null");
+        }
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        String operation = MeteredDao.currentOperation();
+        if (operation == null) {
+            operation = "DynamoDb." + executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        }
+        executionAttributes.putAttribute(OPERATION, operation);
+        executionAttributes.putAttribute(ATTEMPTS, new AtomicInteger());
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        return withConsumedCapacity(context.request());
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        AtomicInteger attempts = executionAttributes.getAttribute(ATTEMPTS);
+        if (attempts != null && attempts.incrementAndGet() > 1) {
+            metrics.recordRetry(executionAttributes.getAttribute(OPERATION));
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        double capacityUnits = consumedCapacityOf(context.response());
+        if (capacityUnits > 0) {
+            metrics.recordConsumedCapacity(executionAttributes.getAttribute(OPERATION), capacityUnits);
+        }
+    }
+
+    static SdkRequest withConsumedCapacity(SdkRequest request) {
+        ReturnConsumedCapacity total = ReturnConsumedCapacity.TOTAL;
+        return switch (request) {
+            case GetItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case PutItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case UpdateItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case DeleteItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case QueryRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case ScanRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case BatchGetItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case BatchWriteItemRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case TransactGetItemsRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            case TransactWriteItemsRequest r when r.returnConsumedCapacity() == null -> r.toBuilder()
+                    .returnConsumedCapacity(total).build();
+            default -> request;
+        };
+    }
+
+    static double consumedCapacityOf(Object response) {
+        double units = 0;
+        for (ConsumedCapacity consumedCapacity : consumedCapacitiesOf(response)) {
+            units += consumedCapacity.capacityUnits() == null ? 0 : consumedCapacity.capacityUnits();
+        }
+        return units;
+    }
+
+    static List<ConsumedCapacity> consumedCapacitiesOf(Object response) {
+        return switch (response) {
+            case GetItemResponse r -> listOf(r.consumedCapacity());
+            case PutItemResponse r -> listOf(r.consumedCapacity());
+            case UpdateItemResponse r -> listOf(r.consumedCapacity());
+            case DeleteItemResponse r -> listOf(r.consumedCapacity());
+            case QueryResponse r -> listOf(r.consumedCapacity());
+            case ScanResponse r -> listOf(r.consumedCapacity());
+            case BatchGetItemResponse r -> r.consumedCapacity();
+            case BatchWriteItemResponse r -> r.consumedCapacity();
+            case TransactGetItemsResponse r -> r.consumedCapacity();
+            case TransactWriteItemsResponse r -> r.consumedCapacity();
+            default -> List.of();
+        };
+    }
+
+    private static List<ConsumedCapacity> listOf(ConsumedCapacity consumedCapacity) {
+        return consumedCapacity == null ? List.of() : List.of(consumedCapacity);
+    }
+}
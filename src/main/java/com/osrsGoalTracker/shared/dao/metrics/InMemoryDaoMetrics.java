@@ -0,0 +1,106 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps DAO measurements in memory, per operation, for as long as the instance
+ * lives. Suitable for periodic export to a metrics system or for logging a
+ * summary; {@link #snapshot()} is cheap enough to call every few seconds.
+ */
+public class InMemoryDaoMetrics implements DaoMetrics {
+    private static final double P50 = 0.5;
+    private static final double P99 = 0.99;
+    private static final double P999 = 0.999;
+
+    /**
+     * The running measurements of one operation.
+     */
+    private static final class OperationStats {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder throttles = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final DoubleAdder consumedCapacity = new DoubleAdder();
+    }
+
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+
+    private OperationStats statsOf(String operation) {
+        return stats.computeIfAbsent(operation, key -> new OperationStats());
+    }
+
+    @Override
+    public void recordLatency(String operation, long latencyNanos) {
+        OperationStats operationStats = statsOf(operation);
+        operationStats.calls.increment();
+        operationStats.latencies.record(latencyNanos);
+    }
+
+    @Override
+    public void recordError(String operation, boolean throttled) {
+        OperationStats operationStats = statsOf(operation);
+        operationStats.errors.increment();
+        if (throttled) {
+            operationStats.throttles.increment();
+        }
+    }
+
+    @Override
+    public void recordRetry(String operation) {
+        statsOf(operation).retries.increment();
+    }
+
+    @Override
+    public void recordConsumedCapacity(String operation, double capacityUnits) {
+        statsOf(operation).consumedCapacity.add(capacityUnits);
+    }
+
+    /**
+     * Gets the measurements of one operation.
+     *
+     * @param operation The name of the operation
+     * @return The measurements, all zero if the operation was never recorded
+     */
+    public OperationMetrics get(String operation) {
+        OperationStats operationStats = stats.get(operation);
+        return toMetrics(operation, operationStats == null ? new OperationStats() : operationStats);
+    }
+
+    /**
+     * Gets the measurements of every recorded operation.
+     *
+     * @return The measurements keyed and sorted by operation name
+     */
+    public Map<String, OperationMetrics> snapshot() {
+        Map<String, OperationMetrics> snapshot = new TreeMap<>();
+        stats.forEach((operation, operationStats) -> snapshot.put(operation, toMetrics(operation, operationStats)));
+        return snapshot;
+    }
+
+    /**
+     * Discards every measurement.
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    private static OperationMetrics toMetrics(String operation, OperationStats operationStats) {
+        return OperationMetrics.builder()
+                .operation(operation)
+                .calls(operationStats.calls.sum())
+                .errors(operationStats.errors.sum())
+                .throttles(operationStats.throttles.sum())
+                .retries(operationStats.retries.sum())
+                .consumedCapacity(operationStats.consumedCapacity.sum())
+                .p50(Duration.ofNanos(operationStats.latencies.percentile(P50)))
+                .p99(Duration.ofNanos(operationStats.latencies.percentile(P99)))
+                .p999(Duration.ofNanos(operationStats.latencies.percentile(P999)))
+                .build();
+    }
+}
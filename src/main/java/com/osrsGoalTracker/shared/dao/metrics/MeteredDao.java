@@ -0,0 +1,138 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletionStage;
+
+import com.osrsGoalTracker.shared.dao.util.FutureUtil;
+
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+/**
+ * Wraps a DAO so that every call of its interface methods is reported to a
+ * {@link DaoMetrics}. Calls returning a {@link CompletionStage} are measured until
+ * the stage completes; calls returning a lazy stream are measured until the
+ * stream is returned.
+ *
+ * <p>While a call runs on the calling thread, its operation name is available
+ * from {@link #currentOperation()} so that {@link DaoMetricsInterceptor} can
+ * attribute the DynamoDB requests the call makes.
+ *
+ * <pre>{@code
+ * UserDao userDao = MeteredDao.wrap(UserDao.class, new DynamoUserDao(client, table), metrics);
+ * }</pre>
+ */
+public final class MeteredDao {
+    private static final ThreadLocal<String> CURRENT_OPERATION = new ThreadLocal<>();
+
+    private MeteredDao() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Wraps a DAO in a proxy reporting to metrics.
+     *
+     * @param daoInterface The DAO interface to expose, e.g. {@code UserDao.class}
+     * @param delegate     The DAO to wrap
+     * @param metrics      Where to report measurements
+     * @param <T>          The DAO interface type
+     * @return A DAO measuring every call of delegate
+     * @throws IllegalArgumentException If any argument is null or daoInterface is
+     *                                  not an interface
+     */
+    public static <T> T wrap(Class<T> daoInterface, T delegate, DaoMetrics metrics) {
+        if (daoInterface == null || delegate == null || metrics == null) {
+            throw new IllegalArgumentException("daoInterface, delegate and metrics cannot be null");
+        }
+        if (!daoInterface.isInterface()) {
+            throw new IllegalArgumentException("daoInterface must be an interface");
+        }
+        String prefix = daoInterface.getSimpleName() + ".";
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, delegate, method, args);
+            }
+            return invokeMetered(prefix + method.getName(), delegate, method, args, metrics);
+        };
+        return daoInterface.cast(Proxy.newProxyInstance(daoInterface.getClassLoader(),
+                new Class<?>[] {daoInterface}, handler));
+    }
+
+    /**
+     * Gets the operation of the metered DAO call running on this thread.
+     *
+     * @return The operation name, or null if no metered call is running
+     */
+    public static String currentOperation() {
+        return CURRENT_OPERATION.get();
+    }
+
+    /**
+     * Whether an error means DynamoDB throttled a request.
+     *
+     * @param error The error a call failed with
+     * @return True for throughput and request-rate rejections
+     */
+    public static boolean isThrottle(Throwable error) {
+        Throwable cause = FutureUtil.unwrap(error);
+        return cause instanceof SdkServiceException && ((SdkServiceException) cause).isThrottlingException();
+    }
+
+    private static Object invokeObjectMethod(Object proxy, Object delegate, Method method, Object[] args)
+            throws Throwable {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "MeteredDao(" + delegate + ")";
+            default -> invoke(delegate, method, args);
+        };
+    }
+
+    private static Object invokeMetered(String operation, Object delegate, Method method, Object[] args,
+            DaoMetrics metrics) throws Throwable {
+        String outerOperation = CURRENT_OPERATION.get();
+        CURRENT_OPERATION.set(operation);
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invoke(delegate, method, args);
+        } catch (Throwable e) {
+            record(metrics, operation, start, e);
+            throw e;
+        } finally {
+            restore(outerOperation);
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> record(metrics, operation, start, error));
+        } else {
+            record(metrics, operation, start, null);
+        }
+        return result;
+    }
+
+    private static Object invoke(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void restore(String outerOperation) {
+        if (outerOperation == null) {
+            CURRENT_OPERATION.remove();
+        } else {
+            CURRENT_OPERATION.set(outerOperation);
+        }
+    }
+
+    private static void record(DaoMetrics metrics, String operation, long start, Throwable error) {
+        metrics.recordLatency(operation, System.nanoTime() - start);
+        if (error != null) {
+            metrics.recordError(operation, isThrottle(error));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A snapshot of the measurements of one DAO operation.
+ */
+@Value
+@Builder
+public class OperationMetrics {
+    /**
+     * The name of the operation, e.g. {@code UserDao.createUser}.
+     */
+    String operation;
+
+    /**
+     * Number of completed calls, successful or not.
+     */
+    long calls;
+
+    /**
+     * Number of calls that failed, including throttled ones.
+     */
+    long errors;
+
+    /**
+     * Number of calls that failed because DynamoDB throttled a request.
+     */
+    long throttles;
+
+    /**
+     * Number of DynamoDB request attempts the SDK retried.
+     */
+    long retries;
+
+    /**
+     * Read and write capacity units consumed by the operation's requests.
+     */
+    double consumedCapacity;
+
+    /**
+     * Median call latency.
+     */
+    Duration p50;
+
+    /**
+     * 99th percentile call latency.
+     */
+    Duration p99;
+
+    /**
+     * 99.9th percentile call latency.
+     */
+    Duration p999;
+}
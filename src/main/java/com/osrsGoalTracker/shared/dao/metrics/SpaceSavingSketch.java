@@ -0,0 +1,84 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Space-Saving heavy-hitters algorithm over read and write capacity units.
+ * At most capacity users are tracked; when a new user arrives at a full sketch,
+ * it replaces the user with the smallest cost and inherits that cost as its
+ * possible overestimate. Every user whose cost exceeds total / capacity is
+ * guaranteed to be tracked. Not thread-safe.
+ */
+final class SpaceSavingSketch {
+    /**
+     * The estimated cost of one tracked user.
+     */
+    static final class Counter {
+        private double readUnits;
+        private double writeUnits;
+        private double overestimate;
+
+        double readUnits() {
+            return readUnits;
+        }
+
+        double writeUnits() {
+            return writeUnits;
+        }
+
+        double totalUnits() {
+            return readUnits + writeUnits;
+        }
+
+        double overestimate() {
+            return overestimate;
+        }
+    }
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void add(String userId, double readUnits, double writeUnits) {
+        Counter counter = counters.get(userId);
+        if (counter == null) {
+            counter = new Counter();
+            if (counters.size() >= capacity) {
+                // Evicting is a linear scan; sketches hold at most a few thousand users
+                Map.Entry<String, Counter> smallest = null;
+                for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+                    if (smallest == null || entry.getValue().totalUnits() < smallest.getValue().totalUnits()) {
+                        smallest = entry;
+                    }
+                }
+                counters.remove(smallest.getKey());
+                Counter evicted = smallest.getValue();
+                // The newcomer may have been evicted before, so it inherits the evicted cost as error
+                counter.readUnits = evicted.readUnits;
+                counter.writeUnits = evicted.writeUnits;
+                counter.overestimate = evicted.totalUnits();
+            }
+            counters.put(userId, counter);
+        }
+        counter.readUnits += readUnits;
+        counter.writeUnits += writeUnits;
+    }
+
+    Counter get(String userId) {
+        return counters.get(userId);
+    }
+
+    Collection<Map.Entry<String, Counter>> entries() {
+        return counters.entrySet();
+    }
+
+    void clear() {
+        counters.clear();
+    }
+}
@@ -0,0 +1,39 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import lombok.Value;
+
+/**
+ * The capacity one user consumed within the accounting window.
+ */
+@Value
+public class UserCapacity {
+    /**
+     * The ID of the user.
+     */
+    String userId;
+
+    /**
+     * Read capacity units consumed, possibly overestimated.
+     */
+    double readUnits;
+
+    /**
+     * Write capacity units consumed, possibly overestimated.
+     */
+    double writeUnits;
+
+    /**
+     * How much of the total may belong to other users that were evicted from
+     * the heavy-hitters sketch; the true total is at least total - overestimate.
+     */
+    double overestimate;
+
+    /**
+     * Gets the read and write capacity units consumed.
+     *
+     * @return The total capacity units
+     */
+    public double getTotalUnits() {
+        return readUnits + writeUnits;
+    }
+}
@@ -0,0 +1,127 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Attributes consumed capacity to users over a sliding window, in bounded memory.
+ * The window is split into slices, each holding a {@link SpaceSavingSketch} of at
+ * most trackedUsers users; slices older than the window are reused. Memory is
+ * therefore fixed regardless of how many users make requests, and the heaviest
+ * users are reported accurately while light users may be dropped.
+ */
+public class UserCapacityAccounting {
+    private static final int WINDOW_SLICES = 6;
+
+    private final long sliceMillis;
+    private final Clock clock;
+    private final SpaceSavingSketch[] sketches = new SpaceSavingSketch[WINDOW_SLICES];
+    private final long[] sliceOfSketch = new long[WINDOW_SLICES];
+
+    /**
+     * Constructor for UserCapacityAccounting.
+     *
+     * @param trackedUsers How many users each window slice tracks at most
+     * @param window       How far back capacity is attributed
+     */
+    public UserCapacityAccounting(int trackedUsers, Duration window) {
+        this(trackedUsers, window, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for UserCapacityAccounting with a custom clock.
+     *
+     * @param trackedUsers How many users each window slice tracks at most
+     * @param window       How far back capacity is attributed
+     * @param clock        The clock deciding which slice is current
+     */
+    public UserCapacityAccounting(int trackedUsers, Duration window, Clock clock) {
+        if (trackedUsers < 1) {
+            throw new IllegalArgumentException("trackedUsers must be positive");
+        }
+        if (window == null || window.toMillis() < WINDOW_SLICES) {
+            throw new IllegalArgumentException("window cannot be null or shorter than " + WINDOW_SLICES + "ms");
+        }
+        this.sliceMillis = window.toMillis() / WINDOW_SLICES;
+        this.clock = clock;
+        for (int i = 0; i < WINDOW_SLICES; i++) {
+            sketches[i] = new SpaceSavingSketch(trackedUsers);
+            sliceOfSketch[i] = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Attributes consumed capacity to a user.
+     *
+     * @param userId     The ID of the user
+     * @param readUnits  Read capacity units consumed
+     * @param writeUnits Write capacity units consumed
+     */
+    public synchronized void record(String userId, double readUnits, double writeUnits) {
+        long slice = currentSlice();
+        int index = (int) Math.floorMod(slice, (long) WINDOW_SLICES);
+        if (sliceOfSketch[index] != slice) {
+            sketches[index].clear();
+            sliceOfSketch[index] = slice;
+        }
+        sketches[index].add(userId, readUnits, writeUnits);
+    }
+
+    /**
+     * Gets the capacity a user consumed within the window.
+     *
+     * @param userId The ID of the user
+     * @return The estimated capacity units, 0 if the user is not tracked
+     */
+    public synchronized double unitsOf(String userId) {
+        long slice = currentSlice();
+        double units = 0;
+        for (int i = 0; i < WINDOW_SLICES; i++) {
+            if (isLive(sliceOfSketch[i], slice)) {
+                SpaceSavingSketch.Counter counter = sketches[i].get(userId);
+                units += counter == null ? 0 : counter.totalUnits();
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Reports the users that consumed the most capacity within the window.
+     *
+     * @param limit Maximum number of users to report
+     * @return The heaviest users, most expensive first
+     */
+    public synchronized List<UserCapacity> topUsers(int limit) {
+        long slice = currentSlice();
+        Map<String, double[]> totals = new HashMap<>();
+        for (int i = 0; i < WINDOW_SLICES; i++) {
+            if (!isLive(sliceOfSketch[i], slice)) {
+                continue;
+            }
+            for (Map.Entry<String, SpaceSavingSketch.Counter> entry : sketches[i].entries()) {
+                double[] total = totals.computeIfAbsent(entry.getKey(), key -> new double[3]);
+                total[0] += entry.getValue().readUnits();
+                total[1] += entry.getValue().writeUnits();
+                total[2] += entry.getValue().overestimate();
+            }
+        }
+
+        List<UserCapacity> users = new ArrayList<>(totals.size());
+        totals.forEach((userId, total) -> users.add(new UserCapacity(userId, total[0], total[1], total[2])));
+        users.sort(Comparator.comparingDouble(UserCapacity::getTotalUnits).reversed());
+        return users.size() > limit ? new ArrayList<>(users.subList(0, limit)) : users;
+    }
+
+    private long currentSlice() {
+        return Math.floorDiv(clock.millis(), sliceMillis);
+    }
+
+    private static boolean isLive(long sliceOfSketch, long currentSlice) {
+        return sliceOfSketch != Long.MIN_VALUE && currentSlice - sliceOfSketch < WINDOW_SLICES;
+    }
+}
@@ -0,0 +1,213 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.shared.dao.exception.CapacityBudgetExceededException;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Attributes the consumed capacity of DynamoDB requests to the user whose
+ * partition they address, and applies a {@link CapacityBudget} before each
+ * request is sent. The user is read from the {@code USER#<id>} partition key of
+ * the request, including sharded {@code USER#<id>#P#<shard>} keys; batches and
+ * transactions are attributed to the user of their first item, and requests
+ * without a user partition are neither attributed nor budgeted.
+ *
+ * <p>A refused request fails with {@link CapacityBudgetExceededException}. A
+ * delayed request sleeps on the thread sending it, which for the asynchronous
+ * client is the caller's thread.
+ */
+public class UserCapacityInterceptor implements ExecutionInterceptor {
+    private static final ExecutionAttribute<String> USER_ID = new ExecutionAttribute<>("UserCapacityUserId");
+    private static final String PK = "pk";
+    private static final String USER_PREFIX = "USER#";
+    private static final String SHARD_INFIX = "#P#";
+
+    private final UserCapacityAccounting accounting;
+    private final CapacityBudget budget;
+
+    /**
+     * Constructor for UserCapacityInterceptor that attributes capacity without a budget.
+     *
+     * @param accounting Where to attribute consumed capacity
+     */
+    public UserCapacityInterceptor(UserCapacityAccounting accounting) {
+        this(accounting, CapacityBudget.UNLIMITED);
+    }
+
+    /**
+     * Constructor for UserCapacityInterceptor.
+     *
+     * @param accounting Where to attribute consumed capacity
+     * @param budget     Decides whether each user's requests are sent, delayed or refused
+     */
+    public UserCapacityInterceptor(UserCapacityAccounting accounting, CapacityBudget budget) {
+        if (accounting == null || budget == null) {
+            throw new IllegalArgumentException("UserCapacityAccounting and CapacityBudget cannot be null");
+        }
+        this.accounting = accounting;
+        this.budget = budget;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        String userId = userIdOf(context.request());
+        if (userId == null) {
+            return;
+        }
+        executionAttributes.putAttribute(USER_ID, userId);
+
+        Duration delay = budget.admit(userId, accounting.unitsOf(userId));
+        if (delay != null && !delay.isZero() && !delay.isNegative()) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw AbortedException.create("Interrupted while delaying a request of user " + userId, e);
+            }
+        }
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        return DaoMetricsInterceptor.withConsumedCapacity(context.request());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        String userId = executionAttributes.getAttribute(USER_ID);
+        if (userId == null) {
+            return;
+        }
+
+        boolean read = isRead(context.request());
+        double readUnits = 0;
+        double writeUnits = 0;
+        for (ConsumedCapacity consumedCapacity : DaoMetricsInterceptor.consumedCapacitiesOf(context.response())) {
+            if (consumedCapacity.readCapacityUnits() != null || consumedCapacity.writeCapacityUnits() != null) {
+                readUnits += valueOf(consumedCapacity.readCapacityUnits());
+                writeUnits += valueOf(consumedCapacity.writeCapacityUnits());
+            } else if (read) {
+                readUnits += valueOf(consumedCapacity.capacityUnits());
+            } else {
+                writeUnits += valueOf(consumedCapacity.capacityUnits());
+            }
+        }
+        if (readUnits > 0 || writeUnits > 0) {
+            accounting.record(userId, readUnits, writeUnits);
+        }
+    }
+
+    private static double valueOf(Double units) {
+        return units == null ? 0 : units;
+    }
+
+    private static boolean isRead(SdkRequest request) {
+        return request instanceof GetItemRequest || request instanceof QueryRequest
+                || request instanceof ScanRequest || request instanceof BatchGetItemRequest
+                || request instanceof TransactGetItemsRequest;
+    }
+
+    /**
+     * Gets the user whose partition a request addresses.
+     *
+     * @return The user ID, or null if the request addresses no user partition
+     */
+    static String userIdOf(SdkRequest request) {
+        return switch (request) {
+            case GetItemRequest r -> userIdOf(r.key());
+            case PutItemRequest r -> userIdOf(r.item());
+            case UpdateItemRequest r -> userIdOf(r.key());
+            case DeleteItemRequest r -> userIdOf(r.key());
+            case QueryRequest r -> userIdOfValues(r.expressionAttributeValues().values());
+            case BatchGetItemRequest r -> r.requestItems().values().stream()
+                    .map(KeysAndAttributes::keys)
+                    .flatMap(List::stream)
+                    .findFirst()
+                    .map(UserCapacityInterceptor::userIdOf)
+                    .orElse(null);
+            case BatchWriteItemRequest r -> r.requestItems().values().stream()
+                    .flatMap(List::stream)
+                    .findFirst()
+                    .map(UserCapacityInterceptor::userIdOf)
+                    .orElse(null);
+            case TransactGetItemsRequest r -> r.transactItems().stream()
+                    .findFirst()
+                    .map(TransactGetItem::get)
+                    .map(get -> userIdOf(get.key()))
+                    .orElse(null);
+            case TransactWriteItemsRequest r -> r.transactItems().stream()
+                    .findFirst()
+                    .map(UserCapacityInterceptor::userIdOf)
+                    .orElse(null);
+            default -> null;
+        };
+    }
+
+    private static String userIdOf(WriteRequest writeRequest) {
+        return writeRequest.putRequest() != null
+                ? userIdOf(writeRequest.putRequest().item())
+                : userIdOf(writeRequest.deleteRequest().key());
+    }
+
+    private static String userIdOf(TransactWriteItem item) {
+        if (item.put() != null) {
+            return userIdOf(item.put().item());
+        }
+        if (item.update() != null) {
+            return userIdOf(item.update().key());
+        }
+        if (item.delete() != null) {
+            return userIdOf(item.delete().key());
+        }
+        return item.conditionCheck() == null ? null : userIdOf(item.conditionCheck().key());
+    }
+
+    private static String userIdOf(Map<String, AttributeValue> key) {
+        AttributeValue partitionKey = key == null ? null : key.get(PK);
+        return partitionKey == null ? null : userIdOfPartition(partitionKey.s());
+    }
+
+    private static String userIdOfValues(Collection<AttributeValue> values) {
+        for (AttributeValue value : values) {
+            String userId = userIdOfPartition(value.s());
+            if (userId != null) {
+                return userId;
+            }
+        }
+        return null;
+    }
+
+    private static String userIdOfPartition(String partitionKey) {
+        if (partitionKey == null || !partitionKey.startsWith(USER_PREFIX)) {
+            return null;
+        }
+        int shard = partitionKey.indexOf(SHARD_INFIX, USER_PREFIX.length());
+        return partitionKey.substring(USER_PREFIX.length(), shard < 0 ? partitionKey.length() : shard);
+    }
+}
@@ -0,0 +1,150 @@
+package com.osrsGoalTracker.shared.dao.ratelimit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket whose rate adapts to throttling: it is cut multiplicatively when
+ * DynamoDB throttles a request and raised additively while requests succeed
+ * (AIMD). Shared by every caller of a table, it settles just below the rate the
+ * table can sustain instead of alternating between throttling storms and idle
+ * backoff.
+ *
+ * <p>The bucket holds up to one second of permits. Permits may be borrowed: a
+ * caller taking more permits than available waits until the debt is repaid at the
+ * current rate, so large batches are spread out rather than refused. Thread-safe.
+ */
+public class AdaptiveRateLimiter {
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    // Throttles of concurrent requests report the same overload, so the rate is cut at most once per cooldown
+    private static final long DECREASE_COOLDOWN_NANOS = 500_000_000L;
+    private static final double DEFAULT_DECREASE_FACTOR = 0.5;
+    private static final double DEFAULT_INCREASE_SHARE = 0.1;
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increasePerSecond;
+    private final double decreaseFactor;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastDecreaseNanos;
+
+    /**
+     * Constructor for AdaptiveRateLimiter that halves the rate on throttling and
+     * raises it by a tenth of the initial rate per second of successful requests.
+     *
+     * @param initialRate Permits per second to start with
+     * @param minRate     Permits per second the rate is never cut below
+     * @param maxRate     Permits per second the rate is never raised above
+     */
+    public AdaptiveRateLimiter(double initialRate, double minRate, double maxRate) {
+        this(initialRate, minRate, maxRate, Math.max(1, initialRate * DEFAULT_INCREASE_SHARE),
+                DEFAULT_DECREASE_FACTOR);
+    }
+
+    /**
+     * Constructor for AdaptiveRateLimiter.
+     *
+     * @param initialRate       Permits per second to start with
+     * @param minRate           Permits per second the rate is never cut below
+     * @param maxRate           Permits per second the rate is never raised above
+     * @param increasePerSecond Permits per second the rate grows by per second of
+     *                          successful requests
+     * @param decreaseFactor    Factor the rate is multiplied by on throttling,
+     *                          between 0 and 1
+     */
+    public AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, double increasePerSecond,
+            double decreaseFactor) {
+        this(initialRate, minRate, maxRate, increasePerSecond, decreaseFactor, System::nanoTime);
+    }
+
+    AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, double increasePerSecond,
+            double decreaseFactor, LongSupplier nanoClock) {
+        if (minRate <= 0 || minRate > initialRate || initialRate > maxRate) {
+            throw new IllegalArgumentException("Rates must satisfy 0 < minRate <= initialRate <= maxRate");
+        }
+        if (increasePerSecond <= 0) {
+            throw new IllegalArgumentException("increasePerSecond must be positive");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("decreaseFactor must be between 0 and 1");
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increasePerSecond = increasePerSecond;
+        this.decreaseFactor = decreaseFactor;
+        this.nanoClock = nanoClock;
+        this.rate = initialRate;
+        this.tokens = initialRate;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.lastDecreaseNanos = lastRefillNanos - DECREASE_COOLDOWN_NANOS;
+    }
+
+    /**
+     * Takes permits, waiting until the bucket has repaid any debt they create.
+     *
+     * @param permits The number of permits, e.g. the items a request writes
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000L, (int) (waitNanos % 1_000_000L));
+        }
+    }
+
+    /**
+     * Takes permits without waiting.
+     *
+     * @param permits The number of permits
+     * @return How long the caller should wait before using them, in nanoseconds
+     */
+    synchronized long reserve(int permits) {
+        refill();
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / rate * NANOS_PER_SECOND);
+    }
+
+    /**
+     * Reports a request that succeeded, raising the rate additively.
+     *
+     * @param permits The permits the request took
+     */
+    public synchronized void onSuccess(int permits) {
+        refill();
+        rate = Math.min(maxRate, rate + increasePerSecond * permits / rate);
+    }
+
+    /**
+     * Reports a request that DynamoDB throttled, cutting the rate multiplicatively
+     * and dropping any saved-up burst.
+     */
+    public synchronized void onThrottle() {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreaseNanos < DECREASE_COOLDOWN_NANOS) {
+            return;
+        }
+        refill();
+        rate = Math.max(minRate, rate * decreaseFactor);
+        tokens = Math.min(tokens, 0);
+        lastDecreaseNanos = now;
+    }
+
+    /**
+     * Gets the current rate.
+     *
+     * @return Permits per second
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        // The bucket holds at most one second of permits
+        tokens = Math.min(rate, tokens + (now - lastRefillNanos) / NANOS_PER_SECOND * rate);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,145 @@
+package com.osrsGoalTracker.shared.dao.ratelimit;
+
+import java.util.List;
+import java.util.Set;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+/**
+ * Paces the write requests of a DynamoDB client with an {@link AdaptiveRateLimiter}.
+ * Every attempt, including the SDK's own retries, takes one permit per item it
+ * writes. Each throttled attempt cuts the rate, even when a later SDK retry of the
+ * same call succeeds, as do batch writes that leave items unprocessed; successful
+ * writes raise it. Reads are not limited.
+ *
+ * <pre>{@code
+ * AdaptiveRateLimiter writeLimiter = new AdaptiveRateLimiter(100, 5, 1000);
+ * DynamoDbClient client = DynamoDbClient.builder()
+ *         .overrideConfiguration(o -> o.addExecutionInterceptor(new RateLimitingInterceptor(writeLimiter)))
+ *         .build();
+ * }</pre>
+ *
+ * <p>Waiting blocks the thread sending the attempt, so the interceptor is meant
+ * for the blocking client; DAOs sharing the client share the limiter.
+ */
+public class RateLimitingInterceptor implements ExecutionInterceptor {
+    private static final ExecutionAttribute<Integer> PERMITS = new ExecutionAttribute<>("RateLimitPermits");
+    private static final ExecutionAttribute<Boolean> ATTEMPT_THROTTLED =
+            new ExecutionAttribute<>("RateLimitAttemptThrottled");
+    private static final String ERROR_TYPE_HEADER = "x-amzn-ErrorType";
+    private static final int BAD_REQUEST = 400;
+    private static final Set<String> THROTTLING_ERROR_CODES = Set.of(
+            "ProvisionedThroughputExceededException", "ThrottlingException", "RequestLimitExceeded");
+
+    private final AdaptiveRateLimiter limiter;
+
+    /**
+     * Constructor for RateLimitingInterceptor.
+     *
+     * @param limiter The limiter pacing write requests
+     */
+    public RateLimitingInterceptor(AdaptiveRateLimiter limiter) {
+        if (limiter == null) {
+            throw new IllegalArgumentException("AdaptiveRateLimiter cannot be null");
+        }
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        int permits = permitsOf(context.request());
+        if (permits > 0) {
+            executionAttributes.putAttribute(PERMITS, permits);
+        }
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        Integer permits = executionAttributes.getAttribute(PERMITS);
+        if (permits == null) {
+            return;
+        }
+        executionAttributes.putAttribute(ATTEMPT_THROTTLED, false);
+        try {
+            limiter.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.create("Interrupted while waiting for write capacity", e);
+        }
+    }
+
+    @Override
+    public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+        // The SDK retries throttled attempts on its own, so a call that ends in success may still have been throttled
+        if (executionAttributes.getAttribute(PERMITS) != null && isThrottle(context.httpResponse())) {
+            executionAttributes.putAttribute(ATTEMPT_THROTTLED, true);
+            limiter.onThrottle();
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        Integer permits = executionAttributes.getAttribute(PERMITS);
+        if (permits == null) {
+            return;
+        }
+        // DynamoDB leaves batch items unprocessed when the table is over its throughput
+        if (context.response() instanceof BatchWriteItemResponse response && response.hasUnprocessedItems()
+                && !response.unprocessedItems().isEmpty()) {
+            limiter.onThrottle();
+        } else {
+            limiter.onSuccess(permits);
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        // The last attempt was already counted if its response carried the throttling error type
+        if (executionAttributes.getAttribute(PERMITS) != null
+                && !Boolean.TRUE.equals(executionAttributes.getAttribute(ATTEMPT_THROTTLED))
+                && isThrottle(context.exception())) {
+            limiter.onThrottle();
+        }
+    }
+
+    static boolean isThrottle(SdkHttpResponse response) {
+        if (response.statusCode() != BAD_REQUEST) {
+            return false;
+        }
+        // The header looks like "com.amazonaws.dynamodb.v20120810#ThrottlingException:<optional detail>"
+        return response.firstMatchingHeader(ERROR_TYPE_HEADER)
+                .map(errorType -> errorType.substring(errorType.lastIndexOf('#') + 1))
+                .map(errorType -> errorType.split(":", 2)[0])
+                .filter(THROTTLING_ERROR_CODES::contains)
+                .isPresent();
+    }
+
+    static boolean isThrottle(Throwable error) {
+        // Covers ProvisionedThroughputExceededException, ThrottlingException and RequestLimitExceeded
+        return error instanceof SdkServiceException && ((SdkServiceException) error).isThrottlingException();
+    }
+
+    static int permitsOf(SdkRequest request) {
+        return switch (request) {
+            case PutItemRequest r -> 1;
+            case UpdateItemRequest r -> 1;
+            case DeleteItemRequest r -> 1;
+            case BatchWriteItemRequest r -> r.requestItems().values().stream().mapToInt(List::size).sum();
+            case TransactWriteItemsRequest r -> r.transactItems().size();
+            default -> 0;
+        };
+    }
+}
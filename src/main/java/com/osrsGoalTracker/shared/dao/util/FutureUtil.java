@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.shared.dao.util;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Utility methods for working with the futures returned by the asynchronous DAOs.
+ */
+public final class FutureUtil {
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private FutureUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Gets the error that failed a future, without the CompletionException or
+     * ExecutionException wrappers added by dependent stages.
+     *
+     * @param error The error a future completed with
+     * @return The underlying error
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
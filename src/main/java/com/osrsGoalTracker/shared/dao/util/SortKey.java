@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.shared.dao.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The typed components of a sort key, as read by {@link SortKeyCodec#parse(String)}.
+ * Components a kind of key does not have are null.
+ */
+@Value
+@Builder
+public class SortKey {
+    /**
+     * The kinds of item a sort key can identify.
+     */
+    public enum Kind {
+        /** {@code METADATA} */
+        USER_METADATA,
+        /** {@code NOTIFICATION#<channel_type>} */
+        NOTIFICATION_CHANNEL,
+        /** {@code CHARACTER#METADATA#<character_name>} */
+        CHARACTER_METADATA,
+        /** {@code CHARACTER#<character_name>#GOAL#METADATA#<goal_id>} */
+        GOAL_METADATA,
+        /** {@code CHARACTER#<character_name>#GOAL#<goal_id>#<timestamp>} */
+        GOAL_PROGRESS,
+        /** {@code CHARACTER#<character_name>#GOAL#<goal_id>#LATEST} */
+        GOAL_LATEST,
+        /** {@code CHARACTER#<character_name>#GOAL#<goal_id>#EARLIEST} */
+        GOAL_EARLIEST,
+        /** {@code CHARACTER#<character_name>#GOAL#<goal_id>#ROLLUP#<resolution>#<bucket_date>} */
+        GOAL_ROLLUP,
+        /** {@code CHARACTER#<character_name>#GOAL#<goal_id>#PACKED#<year_month>} */
+        GOAL_PACKED_MONTH,
+        /** {@code CHARACTER#<character_name>#LATEST#<goal_id>} */
+        CHARACTER_LATEST,
+        /** Any sort key this library does not write. */
+        UNKNOWN
+    }
+
+    Kind kind;
+    String characterName;
+    String goalId;
+    String channelType;
+    Instant timestamp;
+    String rollupResolution;
+    LocalDate rollupBucket;
+    YearMonth packedMonth;
+}
@@ -0,0 +1,400 @@
+package com.osrsGoalTracker.shared.dao.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Builds and parses the sort keys of the goals table.
+ * Keys are built by appending to a builder sized for the result, and parsed by
+ * scanning for separators, so neither direction parses a format string, compiles
+ * a regular expression or splits the key into an array.
+ */
+public final class SortKeyCodec {
+    private static final char SEPARATOR = '#';
+
+    private static final String USER_METADATA = "METADATA";
+    private static final String NOTIFICATION_PREFIX = "NOTIFICATION#";
+    private static final String CHARACTER_PREFIX = "CHARACTER#";
+    private static final String CHARACTER_METADATA_PREFIX = "CHARACTER#METADATA#";
+    private static final String GOAL_INFIX = "#GOAL#";
+    private static final String GOAL_METADATA_INFIX = "#GOAL#METADATA#";
+    private static final String METADATA_SEGMENT = "METADATA#";
+    private static final String LATEST = "LATEST";
+    private static final String EARLIEST = "EARLIEST";
+    private static final String ROLLUP_SEGMENT = "ROLLUP#";
+    private static final String LATEST_SUFFIX = "#LATEST";
+    private static final String EARLIEST_SUFFIX = "#EARLIEST";
+    private static final String ROLLUP_INFIX = "#ROLLUP#";
+    private static final String PACKED_SEGMENT = "PACKED#";
+    private static final String PACKED_INFIX = "#PACKED#";
+    private static final String LATEST_INFIX = "#LATEST#";
+
+    // Longest ISO-8601 instant Instant.toString produces for years 0-9999, with nanoseconds
+    private static final int MAX_INSTANT_LENGTH = 30;
+    private static final int LOCAL_DATE_LENGTH = 10;
+    private static final int YEAR_MONTH_LENGTH = 7;
+
+    /**
+     * Default constructor to prevent instantiation.
+     */
+    private SortKeyCodec() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Builds the sort key of the user metadata.
+     *
+     * @return METADATA
+     */
+    public static String userMetadata() {
+        return USER_METADATA;
+    }
+
+    /**
+     * Builds the sort key of a notification channel.
+     *
+     * @param channelType The type of the channel
+     * @return NOTIFICATION#channel_type
+     */
+    public static String notificationChannel(String channelType) {
+        return NOTIFICATION_PREFIX.concat(channelType);
+    }
+
+    /**
+     * Builds the sort key of a character's metadata.
+     *
+     * @param characterName The name of the character
+     * @return CHARACTER#METADATA#character_name
+     */
+    public static String characterMetadata(String characterName) {
+        return CHARACTER_METADATA_PREFIX.concat(characterName);
+    }
+
+    /**
+     * Builds the sort key of a goal's metadata.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return CHARACTER#character_name#GOAL#METADATA#goal_id
+     */
+    public static String goalMetadata(String characterName, String goalId) {
+        return new StringBuilder(CHARACTER_PREFIX.length() + characterName.length()
+                + GOAL_METADATA_INFIX.length() + goalId.length())
+                .append(CHARACTER_PREFIX)
+                .append(characterName)
+                .append(GOAL_METADATA_INFIX)
+                .append(goalId)
+                .toString();
+    }
+
+    /**
+     * Builds the prefix shared by all of a goal's progress records, markers and rollups.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return CHARACTER#character_name#GOAL#goal_id#
+     */
+    public static String goalProgressPrefix(String characterName, String goalId) {
+        return goalKey(characterName, goalId, 1).append(SEPARATOR).toString();
+    }
+
+    /**
+     * Builds the sort key of a timestamped progress record.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param timestamp     When the progress was observed
+     * @return CHARACTER#character_name#GOAL#goal_id#timestamp
+     */
+    public static String goalProgress(String characterName, String goalId, Instant timestamp) {
+        return goalKey(characterName, goalId, 1 + MAX_INSTANT_LENGTH)
+                .append(SEPARATOR)
+                .append(timestamp)
+                .toString();
+    }
+
+    /**
+     * Builds the sort key of a goal's latest progress record.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return CHARACTER#character_name#GOAL#goal_id#LATEST
+     */
+    public static String goalLatest(String characterName, String goalId) {
+        return goalKey(characterName, goalId, LATEST_SUFFIX.length()).append(LATEST_SUFFIX).toString();
+    }
+
+    /**
+     * Builds the sort key of a goal's earliest progress record.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return CHARACTER#character_name#GOAL#goal_id#EARLIEST
+     */
+    public static String goalEarliest(String characterName, String goalId) {
+        return goalKey(characterName, goalId, EARLIEST_SUFFIX.length()).append(EARLIEST_SUFFIX).toString();
+    }
+
+    /**
+     * Builds the prefix shared by a goal's rollups of one resolution.
+     *
+     * @param characterName  The name of the character
+     * @param goalId         The ID of the goal
+     * @param resolutionCode The code of the rollup resolution (e.g. "D", "W")
+     * @return CHARACTER#character_name#GOAL#goal_id#ROLLUP#resolution_code#
+     */
+    public static String goalRollupPrefix(String characterName, String goalId, String resolutionCode) {
+        return goalKey(characterName, goalId, ROLLUP_INFIX.length() + resolutionCode.length() + 1)
+                .append(ROLLUP_INFIX)
+                .append(resolutionCode)
+                .append(SEPARATOR)
+                .toString();
+    }
+
+    /**
+     * Builds the sort key of a goal's rollup over one bucket.
+     *
+     * @param characterName  The name of the character
+     * @param goalId         The ID of the goal
+     * @param resolutionCode The code of the rollup resolution (e.g. "D", "W")
+     * @param bucket         The first day of the bucket
+     * @return CHARACTER#character_name#GOAL#goal_id#ROLLUP#resolution_code#bucket_date
+     */
+    public static String goalRollup(String characterName, String goalId, String resolutionCode, LocalDate bucket) {
+        return goalKey(characterName, goalId,
+                ROLLUP_INFIX.length() + resolutionCode.length() + 1 + LOCAL_DATE_LENGTH)
+                .append(ROLLUP_INFIX)
+                .append(resolutionCode)
+                .append(SEPARATOR)
+                .append(bucket)
+                .toString();
+    }
+
+    /**
+     * Builds the prefix shared by a goal's packed monthly progress items.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return CHARACTER#character_name#GOAL#goal_id#PACKED#
+     */
+    public static String goalPackedPrefix(String characterName, String goalId) {
+        return goalKey(characterName, goalId, PACKED_INFIX.length()).append(PACKED_INFIX).toString();
+    }
+
+    /**
+     * Builds the sort key of a goal's packed progress item for one month.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @param month         The UTC month the item holds progress of
+     * @return CHARACTER#character_name#GOAL#goal_id#PACKED#year_month
+     */
+    public static String goalPackedMonth(String characterName, String goalId, YearMonth month) {
+        return goalKey(characterName, goalId, PACKED_INFIX.length() + YEAR_MONTH_LENGTH)
+                .append(PACKED_INFIX)
+                .append(month)
+                .toString();
+    }
+
+    /**
+     * Builds the prefix shared by the metadata, progress records, markers and
+     * rollups of all of a character's goals.
+     *
+     * @param characterName The name of the character
+     * @return CHARACTER#character_name#GOAL#
+     */
+    public static String characterGoalsPrefix(String characterName) {
+        return new StringBuilder(CHARACTER_PREFIX.length() + characterName.length() + GOAL_INFIX.length())
+                .append(CHARACTER_PREFIX)
+                .append(characterName)
+                .append(GOAL_INFIX)
+                .toString();
+    }
+
+    /**
+     * Builds the prefix shared by the latest progress records of all of a
+     * character's goals in the prefixed latest progress layout.
+     *
+     * @param characterName The name of the character
+     * @return CHARACTER#character_name#LATEST#
+     */
+    public static String characterLatestPrefix(String characterName) {
+        return new StringBuilder(CHARACTER_PREFIX.length() + characterName.length() + LATEST_INFIX.length())
+                .append(CHARACTER_PREFIX)
+                .append(characterName)
+                .append(LATEST_INFIX)
+                .toString();
+    }
+
+    /**
+     * Builds the sort key of a goal's latest progress record in the prefixed
+     * latest progress layout.
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return CHARACTER#character_name#LATEST#goal_id
+     */
+    public static String characterLatest(String characterName, String goalId) {
+        return new StringBuilder(CHARACTER_PREFIX.length() + characterName.length() + LATEST_INFIX.length()
+                + goalId.length())
+                .append(CHARACTER_PREFIX)
+                .append(characterName)
+                .append(LATEST_INFIX)
+                .append(goalId)
+                .toString();
+    }
+
+    private static StringBuilder goalKey(String characterName, String goalId, int suffixLength) {
+        return new StringBuilder(CHARACTER_PREFIX.length() + characterName.length()
+                + GOAL_INFIX.length() + goalId.length() + suffixLength)
+                .append(CHARACTER_PREFIX)
+                .append(characterName)
+                .append(GOAL_INFIX)
+                .append(goalId);
+    }
+
+    /**
+     * Classifies a sort key without allocating or parsing its components.
+     *
+     * @param sortKey The sort key
+     * @return The kind of item the key identifies; UNKNOWN for null and foreign keys
+     */
+    public static SortKey.Kind kindOf(String sortKey) {
+        if (sortKey == null) {
+            return SortKey.Kind.UNKNOWN;
+        }
+        if (sortKey.equals(USER_METADATA)) {
+            return SortKey.Kind.USER_METADATA;
+        }
+        if (sortKey.startsWith(NOTIFICATION_PREFIX)) {
+            return SortKey.Kind.NOTIFICATION_CHANNEL;
+        }
+        if (!sortKey.startsWith(CHARACTER_PREFIX)) {
+            return SortKey.Kind.UNKNOWN;
+        }
+        // Character names never contain '#', so a goal key of a character named
+        // METADATA still has further separators after the name
+        if (sortKey.startsWith(CHARACTER_METADATA_PREFIX)
+                && sortKey.indexOf(SEPARATOR, CHARACTER_METADATA_PREFIX.length()) < 0) {
+            return SortKey.Kind.CHARACTER_METADATA;
+        }
+
+        if (characterLatestGoalStart(sortKey) > 0) {
+            return SortKey.Kind.CHARACTER_LATEST;
+        }
+        int goalStart = goalStart(sortKey);
+        if (goalStart < 0) {
+            return SortKey.Kind.UNKNOWN;
+        }
+        if (sortKey.startsWith(METADATA_SEGMENT, goalStart)) {
+            return SortKey.Kind.GOAL_METADATA;
+        }
+        int suffixStart = sortKey.indexOf(SEPARATOR, goalStart) + 1;
+        if (suffixStart <= goalStart || suffixStart >= sortKey.length()) {
+            return SortKey.Kind.UNKNOWN;
+        }
+        return suffixKind(sortKey, suffixStart);
+    }
+
+    /**
+     * Parses a sort key into its typed components.
+     *
+     * @param sortKey The sort key
+     * @return The components of the key; only the kind is set for UNKNOWN keys
+     * @throws java.time.format.DateTimeParseException If a progress or rollup key
+     *                                                 holds a malformed date
+     */
+    public static SortKey parse(String sortKey) {
+        SortKey.Kind kind = kindOf(sortKey);
+        SortKey.SortKeyBuilder builder = SortKey.builder().kind(kind);
+        return switch (kind) {
+            case NOTIFICATION_CHANNEL -> builder.channelType(sortKey.substring(NOTIFICATION_PREFIX.length())).build();
+            case CHARACTER_METADATA -> builder.characterName(sortKey.substring(CHARACTER_METADATA_PREFIX.length()))
+                    .build();
+            case GOAL_METADATA -> {
+                int goalStart = goalStart(sortKey);
+                yield builder
+                        .characterName(sortKey.substring(CHARACTER_PREFIX.length(), goalStart - GOAL_INFIX.length()))
+                        .goalId(sortKey.substring(goalStart + METADATA_SEGMENT.length()))
+                        .build();
+            }
+            case CHARACTER_LATEST -> {
+                int goalStart = characterLatestGoalStart(sortKey);
+                yield builder
+                        .characterName(sortKey.substring(CHARACTER_PREFIX.length(),
+                                goalStart - LATEST_INFIX.length()))
+                        .goalId(sortKey.substring(goalStart))
+                        .build();
+            }
+            case GOAL_PROGRESS, GOAL_LATEST, GOAL_EARLIEST, GOAL_ROLLUP, GOAL_PACKED_MONTH ->
+                    parseGoalRecord(sortKey, builder);
+            default -> builder.build();
+        };
+    }
+
+    private static SortKey parseGoalRecord(String sortKey, SortKey.SortKeyBuilder builder) {
+        int goalStart = goalStart(sortKey);
+        int goalEnd = sortKey.indexOf(SEPARATOR, goalStart);
+        int suffixStart = goalEnd + 1;
+        builder.characterName(sortKey.substring(CHARACTER_PREFIX.length(), goalStart - GOAL_INFIX.length()))
+                .goalId(sortKey.substring(goalStart, goalEnd));
+
+        SortKey.Kind kind = suffixKind(sortKey, suffixStart);
+        if (kind == SortKey.Kind.GOAL_PROGRESS) {
+            builder.timestamp(Instant.parse(sortKey.substring(suffixStart)));
+        } else if (kind == SortKey.Kind.GOAL_ROLLUP) {
+            int resolutionStart = suffixStart + ROLLUP_SEGMENT.length();
+            int resolutionEnd = sortKey.indexOf(SEPARATOR, resolutionStart);
+            builder.rollupResolution(sortKey.substring(resolutionStart, resolutionEnd))
+                    .rollupBucket(LocalDate.parse(sortKey.substring(resolutionEnd + 1)));
+        } else if (kind == SortKey.Kind.GOAL_PACKED_MONTH) {
+            builder.packedMonth(YearMonth.parse(sortKey.substring(suffixStart + PACKED_SEGMENT.length())));
+        }
+        return builder.build();
+    }
+
+    // Index after CHARACTER#character_name#GOAL#, or -1 if the key has no goal segment
+    private static int goalStart(String sortKey) {
+        int nameEnd = sortKey.indexOf(SEPARATOR, CHARACTER_PREFIX.length());
+        if (nameEnd < 0 || !sortKey.startsWith(GOAL_INFIX, nameEnd)) {
+            return -1;
+        }
+        return nameEnd + GOAL_INFIX.length();
+    }
+
+    // Index after CHARACTER#character_name#LATEST#, or -1 if the key is not a prefixed latest key
+    private static int characterLatestGoalStart(String sortKey) {
+        int nameEnd = sortKey.indexOf(SEPARATOR, CHARACTER_PREFIX.length());
+        if (nameEnd < 0 || !sortKey.startsWith(LATEST_INFIX, nameEnd)) {
+            return -1;
+        }
+        int goalStart = nameEnd + LATEST_INFIX.length();
+        // Goal IDs never contain '#'
+        if (goalStart >= sortKey.length() || sortKey.indexOf(SEPARATOR, goalStart) >= 0) {
+            return -1;
+        }
+        return goalStart;
+    }
+
+    private static SortKey.Kind suffixKind(String sortKey, int suffixStart) {
+        if (Character.isDigit(sortKey.charAt(suffixStart))) {
+            return SortKey.Kind.GOAL_PROGRESS;
+        }
+        if (sortKey.startsWith(LATEST, suffixStart) && sortKey.length() == suffixStart + LATEST.length()) {
+            return SortKey.Kind.GOAL_LATEST;
+        }
+        if (sortKey.startsWith(EARLIEST, suffixStart) && sortKey.length() == suffixStart + EARLIEST.length()) {
+            return SortKey.Kind.GOAL_EARLIEST;
+        }
+        if (sortKey.startsWith(ROLLUP_SEGMENT, suffixStart)
+                && sortKey.indexOf(SEPARATOR, suffixStart + ROLLUP_SEGMENT.length()) > 0) {
+            return SortKey.Kind.GOAL_ROLLUP;
+        }
+        if (sortKey.startsWith(PACKED_SEGMENT, suffixStart)
+                && sortKey.length() > suffixStart + PACKED_SEGMENT.length()) {
+            return SortKey.Kind.GOAL_PACKED_MONTH;
+        }
+        return SortKey.Kind.UNKNOWN;
+    }
+}
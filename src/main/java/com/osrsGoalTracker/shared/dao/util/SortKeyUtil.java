@@ -1,19 +1,14 @@
 package com.osrsGoalTracker.shared.dao.util;
 
 import java.time.Instant;
+import java.time.LocalDate;
 
 /**
  * Utility class for generating sort keys for DynamoDB items.
+ * Keys are built by {@link SortKeyCodec}, which can also parse them back.
  */
 public final class SortKeyUtil {
-    private static final String METADATA = "METADATA";
-    private static final String NOTIFICATION = "NOTIFICATION";
-    private static final String CHARACTER = "CHARACTER";
-    private static final String GOAL = "GOAL";
-    private static final String LATEST = "LATEST";
-    private static final String EARLIEST = "EARLIEST";
-
-    public static final String CHARACTER_METADATA_PREFIX = CHARACTER + "#" + METADATA + "#";
+    public static final String CHARACTER_METADATA_PREFIX = SortKeyCodec.characterMetadata("");
 
     /**
      * Default constructor to prevent instantiation.
@@ -28,7 +23,7 @@ public final class SortKeyUtil {
      * @return The sort key for user metadata
      */
     public static String getUserMetadataSortKey() {
-        return METADATA;
+        return SortKeyCodec.userMetadata();
     }
 
     /**
@@ -37,9 +32,11 @@ public final class SortKeyUtil {
      * @param characterName The name of the character
      * @param goalId        The ID of the goal
      * @return The sort key for goal metadata
+     * @deprecated Builds the same key as {@link #buildGoalMetadataSortKey(String, String)}
      */
+    @Deprecated
     public static String getGoalMetadataSortKey(String characterName, String goalId) {
-        return String.format("%s#%s#%s#%s#%s", CHARACTER, characterName, GOAL, METADATA, goalId);
+        return SortKeyCodec.goalMetadata(characterName, goalId);
     }
 
     /**
@@ -48,9 +45,11 @@ public final class SortKeyUtil {
      * @param characterName The name of the character
      * @param goalId        The ID of the goal
      * @return The sort key for latest goal progress
+     * @deprecated Builds the same key as {@link #buildGoalLatestSortKey(String, String)}
      */
+    @Deprecated
     public static String getLatestGoalProgressSortKey(String characterName, String goalId) {
-        return String.format("%s#%s#%s#%s#%s", CHARACTER, characterName, GOAL, goalId, LATEST);
+        return SortKeyCodec.goalLatest(characterName, goalId);
     }
 
     /**
@@ -59,9 +58,11 @@ public final class SortKeyUtil {
      * @param characterName The name of the character
      * @param goalId        The ID of the goal
      * @return The sort key for earliest goal progress
+     * @deprecated Builds the same key as {@link #buildGoalEarliestSortKey(String, String)}
      */
+    @Deprecated
     public static String getEarliestGoalProgressSortKey(String characterName, String goalId) {
-        return String.format("%s#%s#%s#%s#%s", CHARACTER, characterName, GOAL, goalId, EARLIEST);
+        return SortKeyCodec.goalEarliest(characterName, goalId);
     }
 
     /**
@@ -71,7 +72,7 @@ public final class SortKeyUtil {
      * @return The sort key for the notification channel
      */
     public static String getNotificationChannelSortKey(String channelType) {
-        return String.format("%s#%s", NOTIFICATION, channelType);
+        return SortKeyCodec.notificationChannel(channelType);
     }
 
     /**
@@ -81,7 +82,7 @@ public final class SortKeyUtil {
      * @return The sort key for character metadata
      */
     public static String getCharacterMetadataSortKey(String characterName) {
-        return String.format("%s#%s#%s", CHARACTER, METADATA, characterName);
+        return SortKeyCodec.characterMetadata(characterName);
     }
 
     /**
@@ -93,7 +94,7 @@ public final class SortKeyUtil {
      * @return The sort key for the goal's metadata record
      */
     public static String buildGoalMetadataSortKey(String characterName, String goalId) {
-        return String.format("CHARACTER#%s#GOAL#METADATA#%s", characterName, goalId);
+        return SortKeyCodec.goalMetadata(characterName, goalId);
     }
 
     /**
@@ -105,7 +106,7 @@ public final class SortKeyUtil {
      * @return The sort key for the goal's earliest progress record
      */
     public static String buildGoalEarliestSortKey(String characterName, String goalId) {
-        return String.format("CHARACTER#%s#GOAL#%s#EARLIEST", characterName, goalId);
+        return SortKeyCodec.goalEarliest(characterName, goalId);
     }
 
     /**
@@ -118,7 +119,7 @@ public final class SortKeyUtil {
      * @return The sort key for the goal progress record
      */
     public static String buildGoalProgressSortKey(String characterName, String goalId, Instant timestamp) {
-        return String.format("CHARACTER#%s#GOAL#%s#%s", characterName, goalId, timestamp.toString());
+        return SortKeyCodec.goalProgress(characterName, goalId, timestamp);
     }
 
     /**
@@ -130,6 +131,71 @@ public final class SortKeyUtil {
      * @return The sort key for the goal's latest progress record
      */
     public static String buildGoalLatestSortKey(String characterName, String goalId) {
-        return String.format("CHARACTER#%s#GOAL#%s#LATEST", characterName, goalId);
+        return SortKeyCodec.goalLatest(characterName, goalId);
+    }
+
+    /**
+     * Builds the sort key for a goal's latest progress record in the prefixed
+     * latest progress layout.
+     * Format: CHARACTER#character_name#LATEST#goal_id
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The sort key for the goal's latest progress record
+     */
+    public static String buildCharacterLatestSortKey(String characterName, String goalId) {
+        return SortKeyCodec.characterLatest(characterName, goalId);
+    }
+
+    /**
+     * Builds the sort key prefix shared by the prefixed latest progress records of
+     * all of a character's goals.
+     * Format: CHARACTER#character_name#LATEST#
+     *
+     * @param characterName The name of the character
+     * @return The sort key prefix for the character's latest progress records
+     */
+    public static String buildCharacterLatestPrefix(String characterName) {
+        return SortKeyCodec.characterLatestPrefix(characterName);
+    }
+
+    /**
+     * Builds the sort key prefix shared by all progress records of a goal.
+     * Format: CHARACTER#character_name#GOAL#goal_id#
+     *
+     * @param characterName The name of the character
+     * @param goalId        The ID of the goal
+     * @return The sort key prefix for the goal's progress records
+     */
+    public static String buildGoalProgressPrefix(String characterName, String goalId) {
+        return SortKeyCodec.goalProgressPrefix(characterName, goalId);
+    }
+
+    /**
+     * Builds the sort key prefix shared by a goal's rollups of one resolution.
+     * Format: CHARACTER#character_name#GOAL#goal_id#ROLLUP#resolution_code#
+     *
+     * @param characterName  The name of the character
+     * @param goalId         The ID of the goal
+     * @param resolutionCode The code of the rollup resolution (e.g. "D", "W")
+     * @return The sort key prefix for the goal's rollups
+     */
+    public static String buildGoalRollupPrefix(String characterName, String goalId, String resolutionCode) {
+        return SortKeyCodec.goalRollupPrefix(characterName, goalId, resolutionCode);
+    }
+
+    /**
+     * Builds the sort key for a goal's progress rollup over one bucket.
+     * Format: CHARACTER#character_name#GOAL#goal_id#ROLLUP#resolution_code#bucket_date
+     *
+     * @param characterName  The name of the character
+     * @param goalId         The ID of the goal
+     * @param resolutionCode The code of the rollup resolution (e.g. "D", "W")
+     * @param bucket         The first day of the bucket
+     * @return The sort key for the rollup
+     */
+    public static String buildGoalRollupSortKey(String characterName, String goalId, String resolutionCode,
+            LocalDate bucket) {
+        return SortKeyCodec.goalRollup(characterName, goalId, resolutionCode, bucket);
     }
 }
@@ -0,0 +1,168 @@
+package com.osrsGoalTracker.shared.dao.warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.dao.impl.GoalItems;
+import com.osrsGoalTracker.goal.dao.impl.GoalTableSchemas;
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+import com.osrsGoalTracker.shared.dao.util.SortKeyCodec;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+import com.osrsGoalTracker.user.dao.entity.UserAggregate;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+/**
+ * Does the one-off work of the first DAO calls ahead of time, typically during
+ * Lambda initialization or before a CRaC or SnapStart checkpoint, so that the
+ * first invocation does not pay for it.
+ *
+ * <p>{@link #prime()} builds the goal table schemas, maps sample items through
+ * them, loads the sort key codec and entity builders, and sends one GetItem, one
+ * Query and one PutItem for a key no user partition can have. The requests load
+ * the SDK's marshallers, signer, credentials and endpoint, and leave an open
+ * connection in the HTTP client's pool. The PutItem is conditioned on the item
+ * existing, so it never writes; together the requests cost about one read unit
+ * and one write unit.
+ *
+ * <pre>{@code
+ * DynamoDbClient client = DynamoDbClient.create();
+ * new DaoWarmup(client, "Goals").prime();
+ * }</pre>
+ */
+@Slf4j
+public class DaoWarmup {
+    // Users live in USER# partitions, so this key is never read or written by the DAOs
+    private static final String WARMUP_KEY = "WARMUP";
+    private static final String WARMUP_NAME = "warmup";
+    private static final Instant WARMUP_INSTANT = Instant.EPOCH;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+
+    /**
+     * Constructor for DaoWarmup.
+     *
+     * @param dynamoDbClient The client the DAOs use
+     * @param tableName      The table the DAOs read and write
+     * @throws IllegalArgumentException If the client is null or the table name is
+     *                                  null or empty
+     */
+    public DaoWarmup(DynamoDbClient dynamoDbClient, String tableName) {
+        if (dynamoDbClient == null) {
+            throw new IllegalArgumentException("DynamoDbClient cannot be null");
+        }
+        if (tableName == null || tableName.isEmpty()) {
+            throw new IllegalArgumentException("Table name cannot be null or empty");
+        }
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Primes the mapping classes and the client. Failed requests are logged and
+     * skipped; priming never throws for them.
+     */
+    public void prime() {
+        long start = System.nanoTime();
+        primeMapping();
+        connect();
+        send("Query", () -> dynamoDbClient.query(QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("pk = :pk")
+                .expressionAttributeValues(Map.of(":pk", AttributeValue.builder().s(WARMUP_KEY).build()))
+                .limit(1)
+                .build()));
+        send("PutItem", () -> dynamoDbClient.putItem(PutItemRequest.builder()
+                .tableName(tableName)
+                .item(warmupKey())
+                .conditionExpression("attribute_exists(pk)")
+                .build()));
+        log.info("Primed DAOs for table {} in {} ms", tableName, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Opens a connection of the client with a single GetItem, e.g. to re-establish
+     * connections after a restore when everything else is already primed.
+     */
+    public void connect() {
+        send("GetItem", () -> dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(warmupKey())
+                .build()));
+    }
+
+    private static Map<String, AttributeValue> warmupKey() {
+        return Map.of(
+                "pk", AttributeValue.builder().s(WARMUP_KEY).build(),
+                "sk", AttributeValue.builder().s(WARMUP_KEY).build());
+    }
+
+    /**
+     * Maps sample items through the schemas and codecs the DAOs use, which loads
+     * and initializes their classes, converters and builders.
+     */
+    static void primeMapping() {
+        String progressSortKey = SortKeyUtil.buildGoalProgressSortKey(WARMUP_NAME, WARMUP_KEY, WARMUP_INSTANT);
+        SortKeyCodec.parse(progressSortKey);
+        SortKeyCodec.parse(SortKeyUtil.buildGoalLatestSortKey(WARMUP_NAME, WARMUP_KEY));
+        SortKeyCodec.parse(SortKeyUtil.buildGoalMetadataSortKey(WARMUP_NAME, WARMUP_KEY));
+
+        Map<String, AttributeValue> metadataItem = GoalTableSchemas.metadata().itemToMap(
+                DynamoGoalMetadataItem.builder()
+                        .pk(WARMUP_KEY)
+                        .sk(SortKeyUtil.buildGoalMetadataSortKey(WARMUP_NAME, WARMUP_KEY))
+                        .goalId(WARMUP_KEY)
+                        .targetValue(0L)
+                        .createdAt(WARMUP_INSTANT)
+                        .latestProgressValue(0L)
+                        .latestProgressAt(WARMUP_INSTANT)
+                        .build(), true);
+        GoalItems.toGoalEntity(metadataItem);
+        GoalItems.toLatestSnapshotEntity(metadataItem);
+
+        Map<String, AttributeValue> progressItem = GoalTableSchemas.progress().itemToMap(
+                DynamoGoalProgressItem.builder()
+                        .pk(WARMUP_KEY)
+                        .sk(progressSortKey)
+                        .progressValue(0L)
+                        .createdAt(WARMUP_INSTANT)
+                        .timestampEpochMillis(WARMUP_INSTANT.toEpochMilli())
+                        .build(), true);
+        GoalItems.toProgressEntity(progressItem);
+
+        UserAggregate.builder()
+                .user(UserEntity.builder().userId(WARMUP_KEY).build())
+                .characters(List.of(CharacterEntity.builder().name(WARMUP_NAME).build()))
+                .notificationChannels(List.of(NotificationChannelEntity.builder().build()))
+                .goals(List.of())
+                .latestProgressByGoalId(Map.of())
+                .build();
+        GoalProgressRollupEntity.builder().bucketStart(WARMUP_INSTANT).build();
+        ProgressBatchResult.builder().succeeded(List.of()).failed(List.of()).build();
+    }
+
+    private void send(String operation, Runnable request) {
+        try {
+            request.run();
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Warmup {} on table {} was rejected by its condition, as intended", operation, tableName);
+        } catch (SdkException e) {
+            log.warn("Warmup {} on table {} failed, error: {}", operation, tableName, e.getMessage());
+        }
+    }
+}
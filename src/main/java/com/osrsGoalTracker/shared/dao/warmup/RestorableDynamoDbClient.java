@@ -0,0 +1,129 @@
+package com.osrsGoalTracker.shared.dao.warmup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+
+/**
+ * A DynamoDB client that survives CRaC and Lambda SnapStart checkpoints. Hand
+ * {@link #client()} to the DAOs; it forwards every call to a client built by the
+ * factory. Before a checkpoint the current client is primed with
+ * {@link DaoWarmup#prime()} and then closed, so the snapshot holds warm classes
+ * but no open connections; after a restore a new client is built and connected.
+ *
+ * <pre>{@code
+ * RestorableDynamoDbClient restorable = new RestorableDynamoDbClient(DynamoDbClient::create, "Goals").register();
+ * UserDao userDao = new DynamoUserDao(restorable.client(), "Goals");
+ * }</pre>
+ *
+ * <p>CRaC holds registered resources weakly, so keep a reference to this object,
+ * e.g. in a static field of the handler, for as long as the client is used.
+ */
+@Slf4j
+public class RestorableDynamoDbClient implements Resource {
+    private final Supplier<DynamoDbClient> clientFactory;
+    private final String tableName;
+    private final DynamoDbClient client;
+    private volatile DynamoDbClient delegate;
+
+    /**
+     * Constructor for RestorableDynamoDbClient. Builds the first client right away.
+     *
+     * @param clientFactory Builds a new client, initially and after every restore
+     * @param tableName     The table the DAOs read and write
+     * @throws IllegalArgumentException If the factory is null or the table name is
+     *                                  null or empty
+     */
+    public RestorableDynamoDbClient(Supplier<DynamoDbClient> clientFactory, String tableName) {
+        if (clientFactory == null) {
+            throw new IllegalArgumentException("Client factory cannot be null");
+        }
+        if (tableName == null || tableName.isEmpty()) {
+            throw new IllegalArgumentException("Table name cannot be null or empty");
+        }
+        this.clientFactory = clientFactory;
+        this.tableName = tableName;
+        this.delegate = clientFactory.get();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            return invoke(currentClient(), method, args);
+        };
+        this.client = (DynamoDbClient) Proxy.newProxyInstance(DynamoDbClient.class.getClassLoader(),
+                new Class<?>[] {DynamoDbClient.class}, handler);
+    }
+
+    /**
+     * Gets the client to hand to the DAOs.
+     *
+     * @return A client forwarding to the current underlying client
+     */
+    public DynamoDbClient client() {
+        return client;
+    }
+
+    /**
+     * Registers this client with the global CRaC context.
+     *
+     * @return This client
+     */
+    public RestorableDynamoDbClient register() {
+        Core.getGlobalContext().register(this);
+        return this;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        DynamoDbClient current = delegate;
+        if (current == null) {
+            return;
+        }
+        new DaoWarmup(current, tableName).prime();
+        delegate = null;
+        current.close();
+        log.info("Closed DynamoDB client connections before checkpoint");
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        DynamoDbClient restored = clientFactory.get();
+        delegate = restored;
+        new DaoWarmup(restored, tableName).connect();
+        log.info("Reconnected DynamoDB client after restore");
+    }
+
+    private DynamoDbClient currentClient() {
+        DynamoDbClient current = delegate;
+        if (current == null) {
+            throw new IllegalStateException("DynamoDbClient is closed for a checkpoint");
+        }
+        return current;
+    }
+
+    private Object invokeObjectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "RestorableDynamoDbClient(" + delegate + ")";
+            default -> invoke(currentClient(), method, args);
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.osrsGoalTracker.user.dao;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+/**
+ * Non-blocking counterpart of {@link UserDao}.
+ * Invalid arguments are rejected immediately by throwing IllegalArgumentException;
+ * every other failure completes the returned future exceptionally.
+ */
+public interface AsyncUserDao {
+    /**
+     * Creates a new user in the database.
+     *
+     * @param user The user entity to create
+     * @return A future of the created user entity with generated ID and timestamps,
+     *         failed with DuplicateUserException if the email is already in use
+     * @throws IllegalArgumentException If user is null or email is null/empty
+     */
+    CompletableFuture<UserEntity> createUser(UserEntity user);
+
+    /**
+     * Retrieves a user from the database.
+     *
+     * @param userId The ID of the user to retrieve
+     * @return A future of the user entity, failed with ResourceNotFoundException if
+     *         the user does not exist
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    CompletableFuture<UserEntity> getUser(String userId);
+}
@@ -0,0 +1,21 @@
+package com.osrsGoalTracker.user.dao;
+
+/**
+ * How the user DAOs make sure that no two users share an email address.
+ */
+public enum EmailUniquenessMode {
+    /**
+     * Query the email index for an existing user, then put the user item. Costs two
+     * requests, and two concurrent signups with the same email can both succeed
+     * because the index is eventually consistent.
+     */
+    INDEX_QUERY,
+
+    /**
+     * Write the user item together with an {@code EMAIL#<email>} guard item in one
+     * transaction that fails if the guard item already exists. Costs one request
+     * and rejects concurrent duplicate signups. Users created before switching to
+     * this mode need their guard items backfilled.
+     */
+    GUARD_ITEM
+}
@@ -0,0 +1,24 @@
+package com.osrsGoalTracker.user.dao;
+
+import com.osrsGoalTracker.user.dao.entity.UserAggregate;
+import com.osrsGoalTracker.user.dao.query.UserAggregateOptions;
+
+/**
+ * Interface for reading everything a user owns in one request.
+ */
+public interface UserAggregateDao {
+    /**
+     * Loads a user together with their characters, notification channels, goals
+     * and the latest progress of each goal, using a single paginated Query over
+     * the user's partition.
+     *
+     * @param userId  The ID of the user to load
+     * @param options Whether to skip progress history and the Query page size
+     * @return The user aggregate
+     * @throws IllegalArgumentException If userId is null or empty, options is
+     *                                  null or the page size is not positive
+     * @throws com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException
+     *                                  If the user is not found
+     */
+    UserAggregate loadUser(String userId, UserAggregateOptions options);
+}
@@ -0,0 +1,29 @@
+package com.osrsGoalTracker.user.dao.entity;
+
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Everything stored in a user's partition except progress history, read in a
+ * single Query.
+ */
+@Value
+@Builder
+public class UserAggregate {
+    UserEntity user;
+    List<CharacterEntity> characters;
+    List<NotificationChannelEntity> notificationChannels;
+    List<GoalEntity> goals;
+    /**
+     * The latest progress of each goal, keyed by goal ID.
+     */
+    Map<String, GoalProgressEntity> latestProgressByGoalId;
+}
@@ -0,0 +1,47 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.shared.dao.batch.ItemBatchLoader;
+import com.osrsGoalTracker.shared.dao.batch.ItemKey;
+import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+/**
+ * Loads users through an {@link ItemBatchLoader}, so that users requested close
+ * together are read with one BatchGetItem request.
+ */
+public class BatchingUserLoader {
+    private final ItemBatchLoader itemBatchLoader;
+
+    /**
+     * Constructor for BatchingUserLoader.
+     *
+     * @param itemBatchLoader The loader to read user items through
+     */
+    public BatchingUserLoader(ItemBatchLoader itemBatchLoader) {
+        this.itemBatchLoader = itemBatchLoader;
+    }
+
+    /**
+     * Requests a user to be read with the next batch.
+     *
+     * @param userId The ID of the user to retrieve
+     * @return A future of the user entity; it fails with ResourceNotFoundException
+     *         if the user does not exist
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    public CompletableFuture<UserEntity> getUser(String userId) {
+        UserItems.validateUserId(userId);
+
+        ItemKey key = new ItemKey(UserItems.USER_PREFIX + userId, SortKeyUtil.getUserMetadataSortKey());
+        return itemBatchLoader.load(key)
+                .thenApply(item -> {
+                    if (item == null) {
+                        throw new ResourceNotFoundException("User not found with ID: " + userId);
+                    }
+                    return UserItems.toUserEntity(item);
+                });
+    }
+}
@@ -0,0 +1,93 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import java.time.Duration;
+
+import com.osrsGoalTracker.shared.dao.cache.ExpiringLruCache;
+import com.osrsGoalTracker.user.dao.UserDao;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link UserDao} decorator that keeps recently read users in memory.
+ * Users created through this instance are cached right away. Changes made
+ * through other instances become visible once the cached entry expires.
+ *
+ * <p>Entities are mutable, so the cache keeps its own copy of each user and
+ * every read returns a fresh copy; callers changing a returned user do not
+ * change what later reads see.
+ */
+@Slf4j
+public class CachingUserDao implements UserDao {
+    private final UserDao delegate;
+    private final ExpiringLruCache<String, UserEntity> usersById;
+
+    /**
+     * Constructor for CachingUserDao.
+     *
+     * @param delegate   The DAO to read and write through
+     * @param maxEntries The maximum number of users to cache
+     * @param ttl        How long a cached user is served before it is read again
+     */
+    public CachingUserDao(UserDao delegate, int maxEntries, Duration ttl) {
+        this(delegate, new ExpiringLruCache<>(maxEntries, ttl));
+    }
+
+    /**
+     * Constructor for CachingUserDao.
+     *
+     * @param delegate  The DAO to read and write through
+     * @param usersById The cache of users keyed by user ID
+     */
+    public CachingUserDao(UserDao delegate, ExpiringLruCache<String, UserEntity> usersById) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        if (usersById == null) {
+            throw new IllegalArgumentException("usersById cannot be null");
+        }
+        this.delegate = delegate;
+        this.usersById = usersById;
+    }
+
+    /**
+     * Creates a new user and caches it.
+     *
+     * @param user The user entity to create
+     * @return The created user entity
+     * @see UserDao#createUser(UserEntity)
+     */
+    @Override
+    public UserEntity createUser(UserEntity user) {
+        UserEntity created = delegate.createUser(user);
+        usersById.put(created.getUserId(), UserItems.copyOf(created));
+        return created;
+    }
+
+    /**
+     * Gets a user from the cache, reading it through the delegate on a miss.
+     * Missing users are not cached, and neither is a user read while the cache
+     * entry was invalidated.
+     *
+     * @param userId The ID of the user to retrieve
+     * @return The user entity
+     * @see UserDao#getUser(String)
+     */
+    @Override
+    public UserEntity getUser(String userId) {
+        UserItems.validateUserId(userId);
+
+        long generation = usersById.generation();
+        UserEntity cached = usersById.get(userId);
+        if (cached != null) {
+            log.debug("User cache hit for user {}", userId);
+            return UserItems.copyOf(cached);
+        }
+
+        UserEntity user = delegate.getUser(userId);
+        if (!usersById.putIfNotInvalidatedSince(userId, UserItems.copyOf(user), generation)) {
+            log.debug("Not caching user {} invalidated during the read", userId);
+        }
+        return user;
+    }
+}
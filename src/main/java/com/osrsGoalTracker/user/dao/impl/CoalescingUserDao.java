@@ -0,0 +1,52 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import com.osrsGoalTracker.shared.dao.cache.SingleFlight;
+import com.osrsGoalTracker.user.dao.UserDao;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+/**
+ * {@link UserDao} decorator that lets concurrent {@code getUser} calls for the same
+ * user share one request. Wrap it in {@link CachingUserDao} to coalesce the cache
+ * misses of a popular user, or use it on its own.
+ */
+public class CoalescingUserDao implements UserDao {
+    private final UserDao delegate;
+    private final SingleFlight<String, UserEntity> getUserCalls = new SingleFlight<>();
+
+    /**
+     * Constructor for CoalescingUserDao.
+     *
+     * @param delegate The DAO to read and write through
+     */
+    public CoalescingUserDao(UserDao delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a new user through the delegate.
+     *
+     * @param user The user entity to create
+     * @return The created user entity
+     * @see UserDao#createUser(UserEntity)
+     */
+    @Override
+    public UserEntity createUser(UserEntity user) {
+        return delegate.createUser(user);
+    }
+
+    /**
+     * Gets a user, joining a read of the same user that is already in flight.
+     *
+     * @param userId The ID of the user to retrieve
+     * @return The user entity
+     * @see UserDao#getUser(String)
+     */
+    @Override
+    public UserEntity getUser(String userId) {
+        UserItems.validateUserId(userId);
+        return getUserCalls.load(userId, () -> delegate.getUser(userId));
+    }
+}
@@ -0,0 +1,150 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.shared.dao.util.FutureUtil;
+import com.osrsGoalTracker.user.dao.AsyncUserDao;
+import com.osrsGoalTracker.user.dao.EmailUniquenessMode;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+import com.osrsGoalTracker.user.dao.exception.DuplicateUserException;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+
+/**
+ * Asynchronous DynamoDB implementation for user-related operations.
+ * Reads and writes the same items as {@link DynamoUserDao}.
+ */
+@Slf4j
+public class DynamoAsyncUserDao implements AsyncUserDao {
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final String tableName;
+    private final EmailUniquenessMode emailUniquenessMode;
+
+    /**
+     * Constructor for DynamoAsyncUserDao that checks email uniqueness with an index
+     * query.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     */
+    public DynamoAsyncUserDao(DynamoDbAsyncClient dynamoDbAsyncClient, String tableName) {
+        this(dynamoDbAsyncClient, tableName, EmailUniquenessMode.INDEX_QUERY);
+    }
+
+    /**
+     * Constructor for DynamoAsyncUserDao.
+     *
+     * @param dynamoDbAsyncClient The asynchronous AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     * @param emailUniquenessMode How createUser makes sure emails are unique
+     */
+    public DynamoAsyncUserDao(DynamoDbAsyncClient dynamoDbAsyncClient, String tableName,
+            EmailUniquenessMode emailUniquenessMode) {
+        if (emailUniquenessMode == null) {
+            throw new IllegalArgumentException("EmailUniquenessMode cannot be null");
+        }
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        this.tableName = tableName;
+        this.emailUniquenessMode = emailUniquenessMode;
+    }
+
+    /**
+     * Creates a new user in the database.
+     *
+     * @param user The user entity to create
+     * @return A future of the created user entity with generated ID and timestamps
+     * @throws IllegalArgumentException If user is null or email is null/empty
+     */
+    @Override
+    public CompletableFuture<UserEntity> createUser(UserEntity user) {
+        log.debug("Attempting to create user: {}", user);
+
+        UserItems.validateUserEntity(user);
+
+        log.debug("Creating new user with email: {}", user.getEmail());
+
+        if (emailUniquenessMode == EmailUniquenessMode.GUARD_ITEM) {
+            return createUserWithEmailGuard(user);
+        }
+
+        return dynamoDbAsyncClient.query(UserItems.emailQuery(tableName, user.getEmail()))
+                .thenCompose(queryResponse -> {
+                    if (!queryResponse.items().isEmpty()) {
+                        log.warn("Attempted to create user with existing email: {}", user.getEmail());
+                        throw new DuplicateUserException("User already exists with email: " + user.getEmail());
+                    }
+
+                    String newUserId = UUID.randomUUID().toString();
+                    Instant now = Instant.now();
+                    Map<String, AttributeValue> item = UserItems.createNewUserItem(newUserId, user.getEmail(), now);
+
+                    log.debug("Putting new user item in DynamoDB with ID: {}", newUserId);
+                    return dynamoDbAsyncClient.putItem(UserItems.putNewUserRequest(tableName, item))
+                            .thenApply(response -> {
+                                log.info("Successfully created new user with ID: {} and email: {}",
+                                        newUserId, user.getEmail());
+                                return UserItems.toUserEntity(item);
+                            });
+                })
+                .exceptionallyCompose(error -> {
+                    if (FutureUtil.unwrap(error) instanceof ConditionalCheckFailedException) {
+                        log.warn("Concurrent attempt to create user with email: {}", user.getEmail());
+                        return CompletableFuture.failedFuture(
+                                new DuplicateUserException("User already exists with email: " + user.getEmail()));
+                    }
+                    return CompletableFuture.failedFuture(FutureUtil.unwrap(error));
+                });
+    }
+
+    private CompletableFuture<UserEntity> createUserWithEmailGuard(UserEntity user) {
+        String newUserId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        Map<String, AttributeValue> item = UserItems.createNewUserItem(newUserId, user.getEmail(), now);
+        Map<String, AttributeValue> guardItem = UserItems.createEmailGuardItem(user.getEmail(), newUserId);
+
+        log.debug("Writing new user item and email guard in DynamoDB with ID: {}", newUserId);
+        return dynamoDbAsyncClient.transactWriteItems(UserItems.putNewUserWithGuardRequest(tableName, item, guardItem))
+                .thenApply(response -> {
+                    log.info("Successfully created new user with ID: {} and email: {}", newUserId, user.getEmail());
+                    return UserItems.toUserEntity(item);
+                })
+                .exceptionallyCompose(error -> {
+                    if (UserItems.isEmailGuardFailure(FutureUtil.unwrap(error))) {
+                        log.warn("Attempted to create user with existing email: {}", user.getEmail());
+                        return CompletableFuture.failedFuture(
+                                new DuplicateUserException("User already exists with email: " + user.getEmail()));
+                    }
+                    return CompletableFuture.failedFuture(FutureUtil.unwrap(error));
+                });
+    }
+
+    /**
+     * Retrieves a user from the database.
+     *
+     * @param userId The ID of the user to retrieve
+     * @return A future of the user entity
+     * @throws IllegalArgumentException If userId is null or empty
+     */
+    @Override
+    public CompletableFuture<UserEntity> getUser(String userId) {
+        log.debug("Getting user with ID: {}", userId);
+
+        UserItems.validateUserId(userId);
+
+        return dynamoDbAsyncClient.getItem(UserItems.getUserRequest(tableName, userId))
+                .thenApply(response -> {
+                    if (!response.hasItem()) {
+                        log.warn("User not found with ID: {}", userId);
+                        throw new ResourceNotFoundException("User not found with ID: " + userId);
+                    }
+                    return UserItems.toUserEntity(response.item());
+                });
+    }
+}
@@ -0,0 +1,169 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.character.dao.impl.CharacterItems;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.impl.GoalItems;
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+import com.osrsGoalTracker.notificationChannel.dao.impl.NotificationChannelItems;
+import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.shared.dao.util.SortKey;
+import com.osrsGoalTracker.shared.dao.util.SortKeyCodec;
+import com.osrsGoalTracker.user.dao.UserAggregateDao;
+import com.osrsGoalTracker.user.dao.entity.UserAggregate;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+import com.osrsGoalTracker.user.dao.query.UserAggregateOptions;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+/**
+ * DynamoDB implementation of the user aggregate.
+ * Reads the whole USER#&lt;id&gt; partition in sort-key order and sorts each item
+ * into the aggregate by its sort-key prefix.
+ */
+@Slf4j
+public class DynamoUserAggregateDao implements UserAggregateDao {
+    // Sorts after the digits that start every timestamp and before EARLIEST, LATEST and ROLLUP
+    private static final String HISTORY_END = ":";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+
+    /**
+     * Constructor for DynamoUserAggregateDao.
+     *
+     * @param dynamoDbClient The AWS DynamoDB client
+     * @param tableName      The name of the DynamoDB table
+     */
+    public DynamoUserAggregateDao(DynamoDbClient dynamoDbClient, String tableName) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+    }
+
+    private static void validateOptions(UserAggregateOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("options cannot be null");
+        }
+        if (options.getPageSize() <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+    }
+
+    /**
+     * Returns the sort-key prefix of the goal whose timestamped progress record
+     * this is, or null for every other item.
+     */
+    private static String progressHistoryPrefix(String sortKey) {
+        if (SortKeyCodec.kindOf(sortKey) != SortKey.Kind.GOAL_PROGRESS) {
+            return null;
+        }
+        return sortKey.substring(0, sortKey.lastIndexOf('#') + 1);
+    }
+
+    /**
+     * Chooses where the next page starts. A page that ended inside a goal's
+     * progress history continues after the last possible record of that history.
+     */
+    private static Map<String, AttributeValue> nextStartKey(Map<String, AttributeValue> lastEvaluatedKey,
+            boolean skipProgressHistory) {
+        if (!skipProgressHistory) {
+            return lastEvaluatedKey;
+        }
+        String historyPrefix = progressHistoryPrefix(lastEvaluatedKey.get(UserItems.SK).s());
+        if (historyPrefix == null) {
+            return lastEvaluatedKey;
+        }
+        Map<String, AttributeValue> startKey = new LinkedHashMap<>(lastEvaluatedKey);
+        startKey.put(UserItems.SK, AttributeValue.builder().s(historyPrefix + HISTORY_END).build());
+        return startKey;
+    }
+
+    @Override
+    public UserAggregate loadUser(String userId, UserAggregateOptions options) {
+        log.debug("Loading user aggregate for user: {}", userId);
+
+        UserItems.validateUserId(userId);
+        validateOptions(options);
+
+        UserEntity user = null;
+        List<CharacterEntity> characters = new ArrayList<>();
+        List<NotificationChannelEntity> notificationChannels = new ArrayList<>();
+        List<GoalEntity> goals = new ArrayList<>();
+        Map<String, GoalProgressEntity> latestProgressByGoalId = new LinkedHashMap<>();
+
+        Map<String, AttributeValue> startKey = null;
+        int pages = 0;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression("pk = :pk")
+                    .expressionAttributeValues(Map.of(":pk",
+                            AttributeValue.builder().s(UserItems.USER_PREFIX + userId).build()))
+                    .limit(options.getPageSize())
+                    .exclusiveStartKey(startKey)
+                    .build());
+            pages++;
+
+            for (Map<String, AttributeValue> item : response.items()) {
+                switch (SortKeyCodec.kindOf(item.get(UserItems.SK).s())) {
+                    case USER_METADATA -> user = UserItems.toUserEntity(item);
+                    case NOTIFICATION_CHANNEL ->
+                            notificationChannels.add(NotificationChannelItems.toChannelEntity(item));
+                    case CHARACTER_METADATA -> characters.add(CharacterItems.toCharacterEntity(item));
+                    case GOAL_METADATA -> {
+                        goals.add(GoalItems.toGoalEntity(item));
+                        GoalProgressEntity snapshot = GoalItems.toLatestSnapshotEntity(item);
+                        if (snapshot != null) {
+                            putNewest(latestProgressByGoalId, snapshot);
+                        }
+                    }
+                    case GOAL_LATEST, CHARACTER_LATEST ->
+                            putNewest(latestProgressByGoalId, GoalItems.toProgressEntity(item));
+                    default -> {
+                        // Progress history, earliest progress and rollups are not part of the aggregate
+                    }
+                }
+            }
+
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? nextStartKey(response.lastEvaluatedKey(), options.isSkipProgressHistory())
+                    : null;
+        } while (startKey != null);
+
+        if (user == null) {
+            log.warn("User not found with ID: {}", userId);
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
+
+        log.info("Loaded user {} with {} characters, {} channels and {} goals in {} pages",
+                userId, characters.size(), notificationChannels.size(), goals.size(), pages);
+        return UserAggregate.builder()
+                .user(user)
+                .characters(characters)
+                .notificationChannels(notificationChannels)
+                .goals(goals)
+                .latestProgressByGoalId(latestProgressByGoalId)
+                .build();
+    }
+
+    /**
+     * Keeps the newer of a goal's latest progress record and the latest snapshot
+     * on its metadata item, which both exist for goals created before the goal
+     * creation mode was switched.
+     */
+    private static void putNewest(Map<String, GoalProgressEntity> latestProgressByGoalId,
+            GoalProgressEntity latest) {
+        latestProgressByGoalId.merge(latest.getGoalId(), latest, (current, candidate) ->
+                candidate.getCreatedAt().isAfter(current.getCreatedAt()) ? candidate : current);
+    }
+}
@@ -1,12 +1,11 @@
 package com.osrsGoalTracker.user.dao.impl;
 
 import java.time.Instant;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
 import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
-import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+import com.osrsGoalTracker.user.dao.EmailUniquenessMode;
 import com.osrsGoalTracker.user.dao.UserDao;
 import com.osrsGoalTracker.user.dao.entity.UserEntity;
 import com.osrsGoalTracker.user.dao.exception.DuplicateUserException;
@@ -18,8 +17,8 @@ import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedExce
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 /**
  * DynamoDB implementation for user-related operations.
@@ -27,53 +26,38 @@ import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
  */
 @Slf4j
 public class DynamoUserDao implements UserDao {
-    private static final String PK = "pk";
-    private static final String SK = "sk";
-    private static final String USER_PREFIX = "USER#";
-
-    private static final String USER_ID = "userId";
-    private static final String EMAIL = "email";
-    private static final String CREATED_AT = "createdAt";
-    private static final String UPDATED_AT = "updatedAt";
-
     private final DynamoDbClient dynamoDbClient;
     private final String tableName;
+    private final EmailUniquenessMode emailUniquenessMode;
 
     /**
-     * Constructor for DynamoUserDao.
+     * Constructor for DynamoUserDao that checks email uniqueness with an index query.
      *
      * @param dynamoDbClient The AWS DynamoDB client
      * @param tableName      The name of the DynamoDB table
      */
     public DynamoUserDao(DynamoDbClient dynamoDbClient, String tableName) {
-        this.dynamoDbClient = dynamoDbClient;
-        this.tableName = tableName;
+        this(dynamoDbClient, tableName, EmailUniquenessMode.INDEX_QUERY);
     }
 
-    private void validateUserEntity(UserEntity user) {
-        if (user == null) {
-            log.warn("Attempted to create null user");
-            throw new IllegalArgumentException("User entity cannot be null");
-        }
-        if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
-            log.warn("Attempted to create user with null or empty email");
-            throw new IllegalArgumentException("Email cannot be null or empty");
+    /**
+     * Constructor for DynamoUserDao.
+     *
+     * @param dynamoDbClient      The AWS DynamoDB client
+     * @param tableName           The name of the DynamoDB table
+     * @param emailUniquenessMode How createUser makes sure emails are unique
+     */
+    public DynamoUserDao(DynamoDbClient dynamoDbClient, String tableName, EmailUniquenessMode emailUniquenessMode) {
+        if (emailUniquenessMode == null) {
+            throw new IllegalArgumentException("EmailUniquenessMode cannot be null");
         }
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.emailUniquenessMode = emailUniquenessMode;
     }
 
     private Map<String, AttributeValue> checkIfUserExists(String email) {
-        Map<String, AttributeValue> expressionAttributeValues = Map.of(
-                ":email", AttributeValue.builder().s(email).build(),
-                ":sk", AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
-
-        QueryRequest queryRequest = QueryRequest.builder()
-                .tableName(tableName)
-                .keyConditionExpression("email = :email AND sk = :sk")
-                .expressionAttributeValues(expressionAttributeValues)
-                .indexName("email-sk-index")
-                .build();
-
-        QueryResponse queryResponse = dynamoDbClient.query(queryRequest);
+        QueryResponse queryResponse = dynamoDbClient.query(UserItems.emailQuery(tableName, email));
 
         if (!queryResponse.items().isEmpty()) {
             return queryResponse.items().get(0);
@@ -85,17 +69,6 @@ public class DynamoUserDao implements UserDao {
         return UUID.randomUUID().toString();
     }
 
-    private Map<String, AttributeValue> createNewUserItem(String userId, String email, Instant timestamp) {
-        Map<String, AttributeValue> item = new LinkedHashMap<>();
-        item.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
-        item.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
-        item.put(USER_ID, AttributeValue.builder().s(userId).build());
-        item.put(EMAIL, AttributeValue.builder().s(email).build());
-        item.put(CREATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
-        item.put(UPDATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
-        return item;
-    }
-
     /**
      * Creates a new user in the database.
      *
@@ -107,10 +80,14 @@ public class DynamoUserDao implements UserDao {
     public UserEntity createUser(UserEntity user) {
         log.debug("Attempting to create user: {}", user);
 
-        validateUserEntity(user);
+        UserItems.validateUserEntity(user);
 
         log.debug("Creating new user with email: {}", user.getEmail());
 
+        if (emailUniquenessMode == EmailUniquenessMode.GUARD_ITEM) {
+            return createUserWithEmailGuard(user);
+        }
+
         Map<String, AttributeValue> existingItem = checkIfUserExists(user.getEmail());
         if (existingItem != null) {
             log.warn("Attempted to create user with existing email: {}", user.getEmail());
@@ -120,17 +97,10 @@ public class DynamoUserDao implements UserDao {
         String newUserId = generateNewUserId();
         Instant now = Instant.now();
 
-        Map<String, AttributeValue> item = createNewUserItem(newUserId, user.getEmail(), now);
+        Map<String, AttributeValue> item = UserItems.createNewUserItem(newUserId, user.getEmail(), now);
 
         try {
-            PutItemRequest putItemRequest = PutItemRequest.builder()
-                    .tableName(tableName)
-                    .item(item)
-                    .conditionExpression("attribute_not_exists(#pk) AND attribute_not_exists(#sk)")
-                    .expressionAttributeNames(Map.of(
-                            "#pk", PK,
-                            "#sk", SK))
-                    .build();
+            PutItemRequest putItemRequest = UserItems.putNewUserRequest(tableName, item);
 
             log.debug("Putting new user item in DynamoDB with ID: {}", newUserId);
             dynamoDbClient.putItem(putItemRequest);
@@ -148,6 +118,28 @@ public class DynamoUserDao implements UserDao {
                 .build();
     }
 
+    private UserEntity createUserWithEmailGuard(UserEntity user) {
+        String newUserId = generateNewUserId();
+        Instant now = Instant.now();
+
+        Map<String, AttributeValue> item = UserItems.createNewUserItem(newUserId, user.getEmail(), now);
+        Map<String, AttributeValue> guardItem = UserItems.createEmailGuardItem(user.getEmail(), newUserId);
+
+        try {
+            log.debug("Writing new user item and email guard in DynamoDB with ID: {}", newUserId);
+            dynamoDbClient.transactWriteItems(UserItems.putNewUserWithGuardRequest(tableName, item, guardItem));
+            log.info("Successfully created new user with ID: {} and email: {}", newUserId, user.getEmail());
+        } catch (TransactionCanceledException e) {
+            if (!UserItems.isEmailGuardFailure(e)) {
+                throw e;
+            }
+            log.warn("Attempted to create user with existing email: {}", user.getEmail());
+            throw new DuplicateUserException("User already exists with email: " + user.getEmail());
+        }
+
+        return UserItems.toUserEntity(item);
+    }
+
     /**
      * Retrieves a user from the database.
      *
@@ -159,19 +151,9 @@ public class DynamoUserDao implements UserDao {
     public UserEntity getUser(String userId) {
         log.debug("Getting user with ID: {}", userId);
 
-        if (userId == null || userId.trim().isEmpty()) {
-            log.warn("Attempted to get user with null or empty ID");
-            throw new IllegalArgumentException("UserId cannot be null or empty");
-        }
-
-        Map<String, AttributeValue> key = new LinkedHashMap<>();
-        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
-        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
+        UserItems.validateUserId(userId);
 
-        GetItemRequest getItemRequest = GetItemRequest.builder()
-                .tableName(tableName)
-                .key(key)
-                .build();
+        GetItemRequest getItemRequest = UserItems.getUserRequest(tableName, userId);
 
         log.debug("Getting user item from DynamoDB with ID: {}", userId);
         GetItemResponse response = dynamoDbClient.getItem(getItemRequest);
@@ -181,12 +163,6 @@ public class DynamoUserDao implements UserDao {
             throw new ResourceNotFoundException("User not found with ID: " + userId);
         }
 
-        Map<String, AttributeValue> item = response.item();
-        return UserEntity.builder()
-                .userId(item.get(USER_ID).s())
-                .email(item.get(EMAIL).s())
-                .createdAt(Instant.parse(item.get(CREATED_AT).s()))
-                .updatedAt(Instant.parse(item.get(UPDATED_AT).s()))
-                .build();
+        return UserItems.toUserEntity(response.item());
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+/**
+ * Builds the user items and requests shared by the blocking and asynchronous user
+ * DAOs, and maps items back to entities.
+ */
+@Slf4j
+final class UserItems {
+    static final String PK = "pk";
+    static final String SK = "sk";
+    static final String USER_PREFIX = "USER#";
+    static final String EMAIL_PREFIX = "EMAIL#";
+
+    static final String USER_ID = "userId";
+    static final String EMAIL = "email";
+    static final String CREATED_AT = "createdAt";
+    static final String UPDATED_AT = "updatedAt";
+
+    static final String EMAIL_INDEX = "email-sk-index";
+
+    private static final String ITEM_NOT_EXISTS_CONDITION = "attribute_not_exists(#pk) AND attribute_not_exists(#sk)";
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+
+    private UserItems() {
+        // Prevent instantiation
+    }
+
+    static void validateUserEntity(UserEntity user) {
+        if (user == null) {
+            log.warn("Attempted to create null user");
+            throw new IllegalArgumentException("User entity cannot be null");
+        }
+        if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
+            log.warn("Attempted to create user with null or empty email");
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+    }
+
+    static void validateUserId(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            log.warn("Attempted to get user with null or empty ID");
+            throw new IllegalArgumentException("UserId cannot be null or empty");
+        }
+    }
+
+    static QueryRequest emailQuery(String tableName, String email) {
+        Map<String, AttributeValue> expressionAttributeValues = Map.of(
+                ":email", AttributeValue.builder().s(email).build(),
+                ":sk", AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
+
+        return QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression("email = :email AND sk = :sk")
+                .expressionAttributeValues(expressionAttributeValues)
+                .indexName(EMAIL_INDEX)
+                .build();
+    }
+
+    static Map<String, AttributeValue> createNewUserItem(String userId, String email, Instant timestamp) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        item.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        item.put(EMAIL, AttributeValue.builder().s(email).build());
+        item.put(CREATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
+        item.put(UPDATED_AT, AttributeValue.builder().s(timestamp.toString()).build());
+        return item;
+    }
+
+    static PutItemRequest putNewUserRequest(String tableName, Map<String, AttributeValue> item) {
+        return PutItemRequest.builder()
+                .tableName(tableName)
+                .item(item)
+                .conditionExpression(ITEM_NOT_EXISTS_CONDITION)
+                .expressionAttributeNames(Map.of(
+                        "#pk", PK,
+                        "#sk", SK))
+                .build();
+    }
+
+    static Map<String, AttributeValue> createEmailGuardItem(String email, String userId) {
+        // The guard item has no email attribute, so it stays out of the email index
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put(PK, AttributeValue.builder().s(EMAIL_PREFIX + email).build());
+        item.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
+        item.put(USER_ID, AttributeValue.builder().s(userId).build());
+        return item;
+    }
+
+    static TransactWriteItemsRequest putNewUserWithGuardRequest(String tableName, Map<String, AttributeValue> item,
+            Map<String, AttributeValue> guardItem) {
+        return TransactWriteItemsRequest.builder()
+                .transactItems(
+                        putIfNotExists(tableName, guardItem),
+                        putIfNotExists(tableName, item))
+                .build();
+    }
+
+    private static TransactWriteItem putIfNotExists(String tableName, Map<String, AttributeValue> item) {
+        return TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(tableName)
+                        .item(item)
+                        .conditionExpression(ITEM_NOT_EXISTS_CONDITION)
+                        .expressionAttributeNames(Map.of(
+                                "#pk", PK,
+                                "#sk", SK))
+                        .build())
+                .build();
+    }
+
+    static boolean isEmailGuardFailure(Throwable error) {
+        if (!(error instanceof TransactionCanceledException)) {
+            return false;
+        }
+        // Index 0 of the transaction is the conditional write of the email guard item
+        List<CancellationReason> reasons = ((TransactionCanceledException) error).cancellationReasons();
+        return !reasons.isEmpty() && CONDITIONAL_CHECK_FAILED.equals(reasons.get(0).code());
+    }
+
+    static GetItemRequest getUserRequest(String tableName, String userId) {
+        Map<String, AttributeValue> key = new LinkedHashMap<>();
+        key.put(PK, AttributeValue.builder().s(USER_PREFIX + userId).build());
+        key.put(SK, AttributeValue.builder().s(SortKeyUtil.getUserMetadataSortKey()).build());
+
+        return GetItemRequest.builder()
+                .tableName(tableName)
+                .key(key)
+                .build();
+    }
+
+    static UserEntity toUserEntity(Map<String, AttributeValue> item) {
+        return UserEntity.builder()
+                .userId(item.get(USER_ID).s())
+                .email(item.get(EMAIL).s())
+                .createdAt(Instant.parse(item.get(CREATED_AT).s()))
+                .updatedAt(Instant.parse(item.get(UPDATED_AT).s()))
+                .build();
+    }
+
+    static UserEntity copyOf(UserEntity user) {
+        return UserEntity.builder()
+                .userId(user.getUserId())
+                .email(user.getEmail())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.osrsGoalTracker.user.dao.query;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options controlling how a user's partition is read into a user aggregate.
+ */
+@Value
+@Builder
+public class UserAggregateOptions {
+    /**
+     * Default number of items fetched per Query page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Whether to skip the goals' timestamped progress history. When a page ends
+     * inside a goal's history, the next page starts after that history instead of
+     * reading through it.
+     */
+    @Builder.Default
+    boolean skipProgressHistory = true;
+
+    /**
+     * Number of items fetched per Query page. Smaller pages read less history
+     * before skipping it, at the cost of more pages for large partitions.
+     */
+    @Builder.Default
+    int pageSize = DEFAULT_PAGE_SIZE;
+
+    /**
+     * Options skipping progress history with the default page size.
+     *
+     * @return The default options
+     */
+    public static UserAggregateOptions defaults() {
+        return UserAggregateOptions.builder().build();
+    }
+}
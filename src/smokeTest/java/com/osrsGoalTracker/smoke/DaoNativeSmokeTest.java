@@ -0,0 +1,143 @@
+package com.osrsGoalTracker.smoke;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.osrsGoalTracker.character.dao.CharacterDao;
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.character.dao.impl.DynamoCharacterDao;
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
+import com.osrsGoalTracker.goal.dao.GoalDao;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.impl.DynamoGoalDao;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
+import com.osrsGoalTracker.shared.dao.metrics.InMemoryDaoMetrics;
+import com.osrsGoalTracker.shared.dao.metrics.MeteredDao;
+import com.osrsGoalTracker.shared.dao.warmup.DaoWarmup;
+import com.osrsGoalTracker.user.dao.UserDao;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+import com.osrsGoalTracker.user.dao.exception.DuplicateUserException;
+import com.osrsGoalTracker.user.dao.impl.DynamoUserDao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+
+/**
+ * Runs the DAOs end to end against {@link InMemoryDynamoDbClient}. The suite runs
+ * on the JVM with {@code smokeTest} and as a native image with
+ * {@code nativeSmokeTest}, where it checks that the shipped reachability metadata
+ * covers the entities, builders, item mapping, DAO proxies and logging.
+ */
+class DaoNativeSmokeTest {
+    private static final String TABLE_NAME = "Goals";
+    private static final String CHARACTER_NAME = "testCharacter";
+
+    private InMemoryDynamoDbClient dynamoDbClient;
+
+    @BeforeEach
+    void setUp() {
+        dynamoDbClient = new InMemoryDynamoDbClient();
+    }
+
+    private String createUser() {
+        UserDao userDao = new DynamoUserDao(dynamoDbClient, TABLE_NAME);
+        return userDao.createUser(UserEntity.builder().email("test@example.com").build()).getUserId();
+    }
+
+    private static GoalEntity goal(String userId) {
+        return GoalEntity.builder()
+                .userId(userId)
+                .characterName(CHARACTER_NAME)
+                .targetAttribute("Woodcutting")
+                .targetType("xp")
+                .targetValue(13034431L)
+                .build();
+    }
+
+    private static void assertGoalProgressRoundTrips(GoalDao goalDao, String userId) {
+        GoalEntity created = goalDao.createGoal(goal(userId), 1000L);
+        goalDao.recordProgress(userId, CHARACTER_NAME, created.getGoalId(), 1500L,
+                Instant.now().plusSeconds(60));
+
+        List<Long> history;
+        try (Stream<GoalProgressEntity> stream = goalDao.streamProgressHistory(userId, CHARACTER_NAME,
+                created.getGoalId(), ProgressQueryOptions.defaults())) {
+            history = stream.map(GoalProgressEntity::getProgressValue).collect(Collectors.toList());
+        }
+        assertThat(history).contains(1500L);
+        assertThat(goalDao.getLatestProgressForCharacter(userId, CHARACTER_NAME))
+                .extracting(GoalProgressEntity::getProgressValue)
+                .containsExactly(1500L);
+    }
+
+    @Test
+    void testUserDaoCreatesAndReadsUsers() {
+        UserDao userDao = new DynamoUserDao(dynamoDbClient, TABLE_NAME);
+        UserEntity created = userDao.createUser(UserEntity.builder().email("test@example.com").build());
+
+        assertThat(userDao.getUser(created.getUserId()).getEmail()).isEqualTo("test@example.com");
+        assertThatThrownBy(() -> userDao.createUser(UserEntity.builder().email("test@example.com").build()))
+                .isInstanceOf(DuplicateUserException.class);
+    }
+
+    @Test
+    void testCharacterDaoAddsCharacters() {
+        String userId = createUser();
+        CharacterDao characterDao = new DynamoCharacterDao(dynamoDbClient, TABLE_NAME);
+
+        characterDao.addCharacterToUser(userId, CHARACTER_NAME);
+
+        assertThat(characterDao.getCharactersForUser(userId))
+                .extracting(CharacterEntity::getName)
+                .containsExactly(CHARACTER_NAME);
+    }
+
+    @Test
+    void testGoalDaoRecordsProgress() {
+        assertGoalProgressRoundTrips(new DynamoGoalDao(dynamoDbClient, TABLE_NAME, TABLE_NAME), createUser());
+    }
+
+    @Test
+    void testGoalDaoRecordsProgressInMetadataSnapshots() {
+        GoalDaoOptions options = GoalDaoOptions.builder()
+                .goalCreationMode(GoalCreationMode.METADATA_SNAPSHOTS)
+                .build();
+
+        assertGoalProgressRoundTrips(new DynamoGoalDao(dynamoDbClient, TABLE_NAME, TABLE_NAME, options),
+                createUser());
+    }
+
+    @Test
+    void testMeteredDaoProxyForwardsCalls() {
+        String userId = createUser();
+        InMemoryDaoMetrics metrics = new InMemoryDaoMetrics();
+        UserDao userDao = MeteredDao.wrap(UserDao.class, new DynamoUserDao(dynamoDbClient, TABLE_NAME), metrics);
+
+        assertThat(userDao.getUser(userId).getUserId()).isEqualTo(userId);
+        assertThat(metrics.get("UserDao.getUser").getCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void testWarmupPrimesWithoutWriting() {
+        new DaoWarmup(dynamoDbClient, TABLE_NAME).prime();
+
+        GetItemResponse response = dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(Map.of("pk", AttributeValue.builder().s("WARMUP").build(),
+                        "sk", AttributeValue.builder().s("WARMUP").build()))
+                .build());
+        assertThat(response.hasItem()).isFalse();
+    }
+}
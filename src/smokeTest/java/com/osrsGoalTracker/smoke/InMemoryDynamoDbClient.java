@@ -0,0 +1,401 @@
+package com.osrsGoalTracker.smoke;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbServiceClientConfiguration;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * An in-memory stand-in for DynamoDB covering the operations and expressions the
+ * DAOs send, so they can run without a network, including as a native image. It
+ * uses no reflection.
+ *
+ * <p>Tables are keyed by the {@code pk} and {@code sk} attributes. Supported are
+ * GetItem, PutItem, UpdateItem with SET clauses, DeleteItem, Query on the table
+ * or an index with Limit and ExclusiveStartKey, BatchWriteItem, and
+ * TransactWriteItems. Conditions may use comparisons, BETWEEN, AND, OR, NOT,
+ * parentheses, attribute_exists, attribute_not_exists and begins_with. Every
+ * other operation throws UnsupportedOperationException.
+ */
+public class InMemoryDynamoDbClient implements DynamoDbClient {
+    private static final Pattern TOKEN = Pattern.compile("\\s*(<=|>=|<>|[()=<>,]|[^\\s()=<>,]+)");
+    private static final Comparator<Map<String, AttributeValue>> BY_SORT_KEY =
+            Comparator.comparing(item -> item.containsKey("sk") ? item.get("sk").s() : "");
+
+    private final Map<String, Map<String, Map<String, AttributeValue>>> tables = new HashMap<>();
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public DynamoDbServiceClientConfiguration serviceClientConfiguration() {
+        throw new UnsupportedOperationException("The in-memory client has no service configuration");
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    @Override
+    public synchronized GetItemResponse getItem(GetItemRequest request) {
+        Map<String, AttributeValue> item = table(request.tableName()).get(keyOf(request.key()));
+        return item == null ? GetItemResponse.builder().build() : GetItemResponse.builder().item(item).build();
+    }
+
+    @Override
+    public synchronized PutItemResponse putItem(PutItemRequest request) {
+        checkCondition(request.tableName(), request.item(), request.conditionExpression(),
+                request.expressionAttributeNames(), request.expressionAttributeValues());
+        put(request.tableName(), request.item());
+        return PutItemResponse.builder().build();
+    }
+
+    @Override
+    public synchronized UpdateItemResponse updateItem(UpdateItemRequest request) {
+        checkCondition(request.tableName(), request.key(), request.conditionExpression(),
+                request.expressionAttributeNames(), request.expressionAttributeValues());
+        update(request.tableName(), request.key(), request.updateExpression(), request.expressionAttributeNames(),
+                request.expressionAttributeValues());
+        return UpdateItemResponse.builder().build();
+    }
+
+    @Override
+    public synchronized DeleteItemResponse deleteItem(DeleteItemRequest request) {
+        checkCondition(request.tableName(), request.key(), request.conditionExpression(),
+                request.expressionAttributeNames(), request.expressionAttributeValues());
+        table(request.tableName()).remove(keyOf(request.key()));
+        return DeleteItemResponse.builder().build();
+    }
+
+    @Override
+    public synchronized QueryResponse query(QueryRequest request) {
+        if (request.filterExpression() != null) {
+            throw new UnsupportedOperationException("Filter expressions are not supported");
+        }
+        List<Map<String, AttributeValue>> matches = new ArrayList<>();
+        for (Map<String, AttributeValue> item : table(request.tableName()).values()) {
+            if (new Expression(request.keyConditionExpression(), request.expressionAttributeNames(),
+                    request.expressionAttributeValues(), item).evaluate()) {
+                matches.add(item);
+            }
+        }
+        matches.sort(Boolean.FALSE.equals(request.scanIndexForward()) ? BY_SORT_KEY.reversed() : BY_SORT_KEY);
+
+        int start = 0;
+        if (request.hasExclusiveStartKey()) {
+            String startKey = keyOf(request.exclusiveStartKey());
+            while (start < matches.size() && !keyOf(matches.get(start)).equals(startKey)) {
+                start++;
+            }
+            start++;
+        }
+        int end = request.limit() == null ? matches.size() : Math.min(matches.size(), start + request.limit());
+        List<Map<String, AttributeValue>> page = start < end ? matches.subList(start, end) : List.of();
+
+        QueryResponse.Builder response = QueryResponse.builder().items(new ArrayList<>(page)).count(page.size());
+        if (end < matches.size()) {
+            Map<String, AttributeValue> last = page.get(page.size() - 1);
+            response.lastEvaluatedKey(Map.of("pk", last.get("pk"), "sk", last.get("sk")));
+        }
+        return response.build();
+    }
+
+    @Override
+    public synchronized BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+        request.requestItems().forEach((tableName, writes) -> {
+            for (WriteRequest write : writes) {
+                if (write.putRequest() != null) {
+                    put(tableName, write.putRequest().item());
+                } else {
+                    table(tableName).remove(keyOf(write.deleteRequest().key()));
+                }
+            }
+        });
+        return BatchWriteItemResponse.builder().build();
+    }
+
+    @Override
+    public synchronized TransactWriteItemsResponse transactWriteItems(TransactWriteItemsRequest request) {
+        List<CancellationReason> reasons = new ArrayList<>();
+        boolean cancelled = false;
+        for (TransactWriteItem transactItem : request.transactItems()) {
+            boolean passed = passesCondition(transactItem);
+            cancelled |= !passed;
+            reasons.add(CancellationReason.builder().code(passed ? "None" : "ConditionalCheckFailed").build());
+        }
+        if (cancelled) {
+            throw TransactionCanceledException.builder()
+                    .message("Transaction cancelled, please refer cancellation reasons for specific reasons")
+                    .cancellationReasons(reasons)
+                    .build();
+        }
+
+        for (TransactWriteItem transactItem : request.transactItems()) {
+            if (transactItem.put() != null) {
+                put(transactItem.put().tableName(), transactItem.put().item());
+            } else if (transactItem.update() != null) {
+                update(transactItem.update().tableName(), transactItem.update().key(),
+                        transactItem.update().updateExpression(), transactItem.update().expressionAttributeNames(),
+                        transactItem.update().expressionAttributeValues());
+            } else if (transactItem.delete() != null) {
+                table(transactItem.delete().tableName()).remove(keyOf(transactItem.delete().key()));
+            }
+        }
+        return TransactWriteItemsResponse.builder().build();
+    }
+
+    private boolean passesCondition(TransactWriteItem transactItem) {
+        if (transactItem.put() != null) {
+            return passes(transactItem.put().tableName(), transactItem.put().item(),
+                    transactItem.put().conditionExpression(), transactItem.put().expressionAttributeNames(),
+                    transactItem.put().expressionAttributeValues());
+        }
+        if (transactItem.update() != null) {
+            return passes(transactItem.update().tableName(), transactItem.update().key(),
+                    transactItem.update().conditionExpression(), transactItem.update().expressionAttributeNames(),
+                    transactItem.update().expressionAttributeValues());
+        }
+        if (transactItem.delete() != null) {
+            return passes(transactItem.delete().tableName(), transactItem.delete().key(),
+                    transactItem.delete().conditionExpression(), transactItem.delete().expressionAttributeNames(),
+                    transactItem.delete().expressionAttributeValues());
+        }
+        return passes(transactItem.conditionCheck().tableName(), transactItem.conditionCheck().key(),
+                transactItem.conditionCheck().conditionExpression(),
+                transactItem.conditionCheck().expressionAttributeNames(),
+                transactItem.conditionCheck().expressionAttributeValues());
+    }
+
+    private Map<String, Map<String, AttributeValue>> table(String tableName) {
+        return tables.computeIfAbsent(tableName, name -> new HashMap<>());
+    }
+
+    private static String keyOf(Map<String, AttributeValue> item) {
+        return item.get("pk").s() + "\u0000" + (item.containsKey("sk") ? item.get("sk").s() : "");
+    }
+
+    private void put(String tableName, Map<String, AttributeValue> item) {
+        table(tableName).put(keyOf(item), Collections.unmodifiableMap(new LinkedHashMap<>(item)));
+    }
+
+    private boolean passes(String tableName, Map<String, AttributeValue> key, String condition,
+            Map<String, String> names, Map<String, AttributeValue> values) {
+        if (condition == null) {
+            return true;
+        }
+        Map<String, AttributeValue> current = table(tableName).getOrDefault(keyOf(key), Map.of());
+        return new Expression(condition, names, values, current).evaluate();
+    }
+
+    private void checkCondition(String tableName, Map<String, AttributeValue> key, String condition,
+            Map<String, String> names, Map<String, AttributeValue> values) {
+        if (!passes(tableName, key, condition, names, values)) {
+            throw ConditionalCheckFailedException.builder().message("The conditional request failed").build();
+        }
+    }
+
+    private void update(String tableName, Map<String, AttributeValue> key, String updateExpression,
+            Map<String, String> names, Map<String, AttributeValue> values) {
+        Map<String, AttributeValue> item = new LinkedHashMap<>(
+                table(tableName).getOrDefault(keyOf(key), Map.of()));
+        item.putAll(key);
+        new Expression(updateExpression, names, values, item).applySet();
+        put(tableName, item);
+    }
+
+    /**
+     * One condition or update expression evaluated against one item.
+     */
+    private static final class Expression {
+        private final List<String> tokens = new ArrayList<>();
+        private final Map<String, String> names;
+        private final Map<String, AttributeValue> values;
+        private final Map<String, AttributeValue> item;
+        private int position;
+
+        Expression(String expression, Map<String, String> names, Map<String, AttributeValue> values,
+                Map<String, AttributeValue> item) {
+            Matcher matcher = TOKEN.matcher(expression);
+            while (matcher.find()) {
+                tokens.add(matcher.group(1));
+            }
+            this.names = names;
+            this.values = values;
+            this.item = item;
+        }
+
+        boolean evaluate() {
+            boolean result = or();
+            if (position != tokens.size()) {
+                throw new UnsupportedOperationException("Unexpected token " + tokens.get(position));
+            }
+            return result;
+        }
+
+        void applySet() {
+            expect("SET");
+            do {
+                String path = path(next());
+                expect("=");
+                String token = next();
+                AttributeValue value;
+                if (token.equals("if_not_exists")) {
+                    expect("(");
+                    String existing = path(next());
+                    expect(",");
+                    AttributeValue fallback = operand(next());
+                    expect(")");
+                    value = item.containsKey(existing) ? item.get(existing) : fallback;
+                } else {
+                    value = operand(token);
+                }
+                item.put(path, value);
+            } while (accept(","));
+            if (position != tokens.size()) {
+                throw new UnsupportedOperationException("Only SET clauses are supported");
+            }
+        }
+
+        private boolean or() {
+            boolean result = and();
+            while (accept("OR")) {
+                boolean right = and();
+                result = result || right;
+            }
+            return result;
+        }
+
+        private boolean and() {
+            boolean result = not();
+            while (accept("AND")) {
+                boolean right = not();
+                result = result && right;
+            }
+            return result;
+        }
+
+        private boolean not() {
+            return accept("NOT") ? !not() : primary();
+        }
+
+        private boolean primary() {
+            if (accept("(")) {
+                boolean result = or();
+                expect(")");
+                return result;
+            }
+            String token = next();
+            switch (token) {
+                case "attribute_exists", "attribute_not_exists" -> {
+                    expect("(");
+                    boolean exists = item.containsKey(path(next()));
+                    expect(")");
+                    return token.equals("attribute_exists") == exists;
+                }
+                case "begins_with" -> {
+                    expect("(");
+                    AttributeValue value = operand(next());
+                    expect(",");
+                    AttributeValue prefix = operand(next());
+                    expect(")");
+                    return value != null && value.s() != null && value.s().startsWith(prefix.s());
+                }
+                default -> {
+                    AttributeValue left = operand(token);
+                    if (accept("BETWEEN")) {
+                        AttributeValue low = operand(next());
+                        expect("AND");
+                        AttributeValue high = operand(next());
+                        return left != null && compare(left, low) >= 0 && compare(left, high) <= 0;
+                    }
+                    String comparator = next();
+                    AttributeValue right = operand(next());
+                    if (left == null || right == null) {
+                        return false;
+                    }
+                    int comparison = compare(left, right);
+                    return switch (comparator) {
+                        case "=" -> comparison == 0;
+                        case "<>" -> comparison != 0;
+                        case "<" -> comparison < 0;
+                        case "<=" -> comparison <= 0;
+                        case ">" -> comparison > 0;
+                        case ">=" -> comparison >= 0;
+                        default -> throw new UnsupportedOperationException("Unknown comparator " + comparator);
+                    };
+                }
+            }
+        }
+
+        private static int compare(AttributeValue left, AttributeValue right) {
+            if (left.n() != null && right.n() != null) {
+                return new BigDecimal(left.n()).compareTo(new BigDecimal(right.n()));
+            }
+            if (left.s() != null && right.s() != null) {
+                return left.s().compareTo(right.s());
+            }
+            return left.equals(right) ? 0 : 1;
+        }
+
+        private String path(String token) {
+            return token.startsWith("#") ? names.get(token) : token;
+        }
+
+        private AttributeValue operand(String token) {
+            return token.startsWith(":") ? values.get(token) : item.get(path(token));
+        }
+
+        private String next() {
+            if (position >= tokens.size()) {
+                throw new UnsupportedOperationException("Unexpected end of expression");
+            }
+            return tokens.get(position++);
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw new UnsupportedOperationException("Expected " + token);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.osrsGoalTracker.character.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.osrsGoalTracker.character.dao.CharacterDao;
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCharacterDaoTest {
+    private static final String TEST_USER_ID = "test-user-id";
+    private static final String TEST_CHARACTER_NAME = "test-character";
+
+    @Mock
+    private CharacterDao delegate;
+
+    private CachingCharacterDao characterDao;
+
+    @BeforeEach
+    void setUp() {
+        characterDao = new CachingCharacterDao(delegate, 10, Duration.ofMinutes(5));
+    }
+
+    private CharacterEntity character(String name) {
+        return CharacterEntity.builder()
+                .userId(TEST_USER_ID)
+                .name(name)
+                .build();
+    }
+
+    @Test
+    void getCharactersForUser_SecondRead_ServedFromCache() {
+        List<CharacterEntity> characters = List.of(character(TEST_CHARACTER_NAME));
+        when(delegate.getCharactersForUser(TEST_USER_ID)).thenReturn(characters);
+
+        assertThat(characterDao.getCharactersForUser(TEST_USER_ID)).isEqualTo(characters);
+        assertThat(characterDao.getCharactersForUser(TEST_USER_ID)).isEqualTo(characters);
+
+        verify(delegate, times(1)).getCharactersForUser(TEST_USER_ID);
+    }
+
+    @Test
+    void getCharactersForUser_ReturnedCharacterChanged_CachedCharacterUnchanged() {
+        when(delegate.getCharactersForUser(TEST_USER_ID)).thenReturn(List.of(character(TEST_CHARACTER_NAME)));
+
+        characterDao.getCharactersForUser(TEST_USER_ID).get(0).setUpdatedAt(Instant.EPOCH);
+        characterDao.getCharactersForUser(TEST_USER_ID).get(0).setUpdatedAt(Instant.EPOCH);
+
+        assertThat(characterDao.getCharactersForUser(TEST_USER_ID).get(0).getUpdatedAt()).isNull();
+        verify(delegate, times(1)).getCharactersForUser(TEST_USER_ID);
+    }
+
+    @Test
+    void addCharacterToUser_InvalidatesCachedList() {
+        CharacterEntity added = character("second-character");
+        when(delegate.getCharactersForUser(TEST_USER_ID))
+                .thenReturn(List.of(character(TEST_CHARACTER_NAME)))
+                .thenReturn(List.of(character(TEST_CHARACTER_NAME), added));
+        when(delegate.addCharacterToUser(TEST_USER_ID, "second-character")).thenReturn(added);
+
+        characterDao.getCharactersForUser(TEST_USER_ID);
+        characterDao.addCharacterToUser(TEST_USER_ID, "second-character");
+
+        assertThat(characterDao.getCharactersForUser(TEST_USER_ID)).hasSize(2);
+        verify(delegate, times(2)).getCharactersForUser(TEST_USER_ID);
+    }
+
+    @Test
+    void getCharactersForUser_InvalidatedDuringRead_DoesNotCacheStaleList() {
+        CharacterEntity added = character("second-character");
+        List<CharacterEntity> stale = List.of(character(TEST_CHARACTER_NAME));
+        when(delegate.addCharacterToUser(TEST_USER_ID, "second-character")).thenReturn(added);
+        when(delegate.getCharactersForUser(TEST_USER_ID))
+                .thenAnswer(invocation -> {
+                    // A concurrent add lands after this read has been served by DynamoDB
+                    characterDao.addCharacterToUser(TEST_USER_ID, "second-character");
+                    return stale;
+                })
+                .thenReturn(List.of(character(TEST_CHARACTER_NAME), added));
+
+        assertThat(characterDao.getCharactersForUser(TEST_USER_ID)).isEqualTo(stale);
+
+        assertThat(characterDao.getCharactersForUser(TEST_USER_ID)).hasSize(2);
+        verify(delegate, times(2)).getCharactersForUser(TEST_USER_ID);
+    }
+}
@@ -0,0 +1,94 @@
+package com.osrsGoalTracker.character.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoAsyncCharacterDaoTest {
+    private static final String TABLE_NAME = "test-table";
+    private static final String TEST_USER_ID = "test-user-id";
+    private static final String TEST_CHARACTER_NAME = "test-character";
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Captor
+    private ArgumentCaptor<PutItemRequest> putItemRequestCaptor;
+
+    private DynamoAsyncCharacterDao characterDao;
+
+    @BeforeEach
+    void setUp() {
+        characterDao = new DynamoAsyncCharacterDao(dynamoDbAsyncClient, TABLE_NAME);
+    }
+
+    @Test
+    void testAddCharacterToUserWithValidInputAddsSuccessfully() {
+        // Given
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+
+        // When
+        CharacterEntity character = characterDao.addCharacterToUser(TEST_USER_ID, TEST_CHARACTER_NAME).join();
+
+        // Then
+        verify(dynamoDbAsyncClient).putItem(putItemRequestCaptor.capture());
+        PutItemRequest putRequest = putItemRequestCaptor.getValue();
+        assertThat(putRequest.tableName()).isEqualTo(TABLE_NAME);
+        assertThat(putRequest.item().get("characterName").s()).isEqualTo(TEST_CHARACTER_NAME);
+        assertThat(character.getName()).isEqualTo(TEST_CHARACTER_NAME);
+        assertThat(character.getUserId()).isEqualTo(TEST_USER_ID);
+    }
+
+    @Test
+    void testGetCharactersForUserReturnsCharacters() {
+        // Given
+        String timestamp = Instant.now().toString();
+        when(dynamoDbAsyncClient.query(any(QueryRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(QueryResponse.builder()
+                        .items(List.of(Map.of(
+                                "userId", AttributeValue.builder().s(TEST_USER_ID).build(),
+                                "characterName", AttributeValue.builder().s(TEST_CHARACTER_NAME).build(),
+                                "createdAt", AttributeValue.builder().s(timestamp).build(),
+                                "updatedAt", AttributeValue.builder().s(timestamp).build())))
+                        .build()));
+
+        // When
+        List<CharacterEntity> characters = characterDao.getCharactersForUser(TEST_USER_ID).join();
+
+        // Then
+        assertThat(characters).extracting(CharacterEntity::getName).containsExactly(TEST_CHARACTER_NAME);
+    }
+
+    @Test
+    void testGetCharactersForUserWithEmptyUserIdThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> characterDao.getCharactersForUser(" "))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("UserId cannot be null or empty");
+    }
+}
@@ -0,0 +1,62 @@
+package com.osrsGoalTracker.goal.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class ProgressShardingTest {
+    private static final String GOAL_ID = "goal123";
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void testByGoalKeepsEveryRecordOfAGoalInOneShard() {
+        ProgressSharding sharding = ProgressSharding.byGoal(8);
+
+        int shard = sharding.shardOf(GOAL_ID, START);
+
+        assertThat(shard).isBetween(0, 7);
+        assertThat(sharding.shardOf(GOAL_ID, START.plus(Duration.ofDays(40)))).isEqualTo(shard);
+        assertThat(sharding.shardsOf(GOAL_ID, null, null)).containsExactly(shard);
+    }
+
+    @Test
+    void testByDayMovesToNextShardEveryDay() {
+        ProgressSharding sharding = ProgressSharding.byDay(4);
+
+        int firstDay = sharding.shardOf(GOAL_ID, START);
+
+        assertThat(sharding.shardOf(GOAL_ID, START.plus(Duration.ofHours(23)))).isEqualTo(firstDay);
+        assertThat(sharding.shardOf(GOAL_ID, START.plus(Duration.ofDays(1)))).isEqualTo((firstDay + 1) % 4);
+        assertThat(sharding.shardOf(GOAL_ID, START.plus(Duration.ofDays(4)))).isEqualTo(firstDay);
+    }
+
+    @Test
+    void testByDayShardsOfShortRangeReadsOnlyItsDays() {
+        ProgressSharding sharding = ProgressSharding.byDay(8);
+
+        assertThat(sharding.shardsOf(GOAL_ID, START, START.plus(Duration.ofHours(30))))
+                .containsExactly(sharding.shardOf(GOAL_ID, START), (sharding.shardOf(GOAL_ID, START) + 1) % 8);
+        assertThat(sharding.shardsOf(GOAL_ID, START, START.plus(Duration.ofDays(30))))
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void testShardCountOutOfRangeThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> ProgressSharding.byGoal(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("shardCount must be between 1 and 100");
+        assertThatThrownBy(() -> ProgressSharding.byDay(ProgressSharding.MAX_SHARDS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testUnshardedHasNoShards() {
+        assertThat(ProgressSharding.unsharded().isSharded()).isFalse();
+        assertThatThrownBy(() -> ProgressSharding.unsharded().shardOf(GOAL_ID, START))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.osrsGoalTracker.goal.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class RetentionPolicyTest {
+    private static final Instant OBSERVED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void testExpiresAtOfAddsRetentionInEpochSeconds() {
+        RetentionPolicy policy = RetentionPolicy.expireAfter(Duration.ofDays(30));
+
+        assertThat(policy.expiresAtOf("goal123", OBSERVED_AT))
+                .isEqualTo(Instant.parse("2025-01-31T00:00:00Z").getEpochSecond());
+    }
+
+    @Test
+    void testGoalRetentionOverridesDefault() {
+        RetentionPolicy policy = RetentionPolicy.builder()
+                .goalRetention("goal123", Duration.ofDays(14))
+                .build();
+
+        assertThat(policy.retentionOf("goal123")).isEqualTo(Duration.ofDays(14));
+        assertThat(policy.expiresAtOf("otherGoal", OBSERVED_AT)).isNull();
+        assertThat(policy.expiresRecords()).isTrue();
+    }
+
+    @Test
+    void testKeepForeverNeverExpires() {
+        assertThat(RetentionPolicy.keepForever().expiresAtOf("goal123", OBSERVED_AT)).isNull();
+        assertThat(RetentionPolicy.keepForever().expiresRecords()).isFalse();
+    }
+
+    @Test
+    void testRetentionShorterThanMinimumThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> RetentionPolicy.expireAfter(Duration.ofDays(7)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("retention cannot be shorter than 14 days");
+    }
+}
@@ -0,0 +1,126 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.LatestProgressLayout;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.shared.dao.batch.ItemBatchLoader;
+import com.osrsGoalTracker.shared.dao.batch.ItemKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingLatestProgressLoaderTest {
+    private static final String USER_ID = "testUser";
+    private static final String CHARACTER_NAME = "testCharacter";
+    private static final String GOAL_ID = "goal123";
+    private static final ItemKey LATEST_KEY =
+            new ItemKey("USER#testUser", "CHARACTER#testCharacter#GOAL#goal123#LATEST");
+    private static final ItemKey METADATA_KEY =
+            new ItemKey("USER#testUser", "CHARACTER#testCharacter#GOAL#METADATA#goal123");
+    private static final Instant EARLIER = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant LATER = Instant.parse("2025-01-02T00:00:00Z");
+
+    @Mock
+    private ItemBatchLoader itemBatchLoader;
+
+    private static BatchingLatestProgressLoader snapshotLoader(ItemBatchLoader itemBatchLoader) {
+        return new BatchingLatestProgressLoader(itemBatchLoader, GoalDaoOptions.builder()
+                .goalCreationMode(GoalCreationMode.METADATA_SNAPSHOTS)
+                .build());
+    }
+
+    private static Map<String, AttributeValue> goalItem(String sortKey, long value, Instant createdAt) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("pk", AttributeValue.builder().s("USER#" + USER_ID).build());
+        item.put("sk", AttributeValue.builder().s(sortKey).build());
+        item.put("userId", AttributeValue.builder().s(USER_ID).build());
+        item.put("characterName", AttributeValue.builder().s(CHARACTER_NAME).build());
+        item.put("goalId", AttributeValue.builder().s(GOAL_ID).build());
+        item.put("progressValue", AttributeValue.builder().n(String.valueOf(value)).build());
+        item.put("createdAt", AttributeValue.builder().s(createdAt.toString()).build());
+        return item;
+    }
+
+    private static Map<String, AttributeValue> metadataWithSnapshot(long value, Instant at) {
+        Map<String, AttributeValue> item = goalItem(METADATA_KEY.getSk(), 0L, EARLIER);
+        item.put("latestProgressValue", AttributeValue.builder().n(String.valueOf(value)).build());
+        item.put("latestProgressAt", AttributeValue.builder().s(at.toString()).build());
+        return item;
+    }
+
+    @Test
+    void testGetLatestProgressReadsOnlyLatestRecordByDefault() {
+        // Given
+        BatchingLatestProgressLoader loader = new BatchingLatestProgressLoader(itemBatchLoader);
+        when(itemBatchLoader.load(LATEST_KEY))
+                .thenReturn(CompletableFuture.completedFuture(goalItem(LATEST_KEY.getSk(), 100L, EARLIER)));
+
+        // When
+        GoalProgressEntity latest = loader.getLatestProgress(USER_ID, CHARACTER_NAME, GOAL_ID).join();
+
+        // Then
+        assertThat(latest.getProgressValue()).isEqualTo(100L);
+        verify(itemBatchLoader).load(LATEST_KEY);
+    }
+
+    @Test
+    void testGetLatestProgressWithMetadataSnapshotsReturnsNewerSnapshot() {
+        // Given
+        BatchingLatestProgressLoader loader = snapshotLoader(itemBatchLoader);
+        when(itemBatchLoader.load(LATEST_KEY))
+                .thenReturn(CompletableFuture.completedFuture(goalItem(LATEST_KEY.getSk(), 100L, EARLIER)));
+        when(itemBatchLoader.load(METADATA_KEY))
+                .thenReturn(CompletableFuture.completedFuture(metadataWithSnapshot(150L, LATER)));
+
+        // When
+        GoalProgressEntity latest = loader.getLatestProgress(USER_ID, CHARACTER_NAME, GOAL_ID).join();
+
+        // Then
+        assertThat(latest.getProgressValue()).isEqualTo(150L);
+        assertThat(latest.getCreatedAt()).isEqualTo(LATER);
+    }
+
+    @Test
+    void testGetLatestProgressWithMetadataSnapshotsFallsBackToLatestRecord() {
+        // Given - a goal created before snapshots were switched on
+        BatchingLatestProgressLoader loader = snapshotLoader(itemBatchLoader);
+        when(itemBatchLoader.load(LATEST_KEY))
+                .thenReturn(CompletableFuture.completedFuture(goalItem(LATEST_KEY.getSk(), 100L, EARLIER)));
+        when(itemBatchLoader.load(METADATA_KEY))
+                .thenReturn(CompletableFuture.completedFuture(goalItem(METADATA_KEY.getSk(), 0L, EARLIER)));
+
+        // When
+        GoalProgressEntity latest = loader.getLatestProgress(USER_ID, CHARACTER_NAME, GOAL_ID).join();
+
+        // Then
+        assertThat(latest.getProgressValue()).isEqualTo(100L);
+    }
+
+    @Test
+    void testConstructorWithMetadataSnapshotsAndPrefixedLayoutThrowsIllegalArgumentException() {
+        GoalDaoOptions options = GoalDaoOptions.builder()
+                .goalCreationMode(GoalCreationMode.METADATA_SNAPSHOTS)
+                .latestProgressLayout(LatestProgressLayout.PREFIXED)
+                .build();
+
+        assertThatThrownBy(() -> new BatchingLatestProgressLoader(itemBatchLoader, options))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Metadata snapshots require the LEGACY latest progress layout");
+    }
+}
@@ -0,0 +1,379 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.ProgressSharding;
+import com.osrsGoalTracker.goal.dao.ProgressStorageMode;
+import com.osrsGoalTracker.goal.dao.RetentionPolicy;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoAsyncGoalDaoTest {
+    private static final String USER_ID = "testUser";
+    private static final String CHARACTER_NAME = "testCharacter";
+    private static final String GOAL_ID = "goal123";
+    private static final long CURRENT_VALUE = 1000L;
+    private static final Instant PROGRESS_START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Mock
+    private DynamoDbAsyncTable<DynamoGoalMetadataItem> metadataTable;
+
+    @Mock
+    private DynamoDbAsyncTable<DynamoGoalProgressItem> progressTable;
+
+    @Captor
+    private ArgumentCaptor<TransactWriteItemsRequest> transactRequestCaptor;
+
+    @Captor
+    private ArgumentCaptor<BatchWriteItemRequest> batchWriteRequestCaptor;
+
+    @Captor
+    private ArgumentCaptor<PutItemRequest> putItemRequestCaptor;
+
+    private DynamoAsyncGoalDao goalDao;
+
+    @BeforeEach
+    void setUp() {
+        goalDao = new DynamoAsyncGoalDao(dynamoDbAsyncClient, metadataTable, progressTable);
+    }
+
+    private void givenProgressTable() {
+        when(progressTable.tableName()).thenReturn("Goals");
+        when(progressTable.tableSchema()).thenReturn(TableSchema.fromBean(DynamoGoalProgressItem.class));
+    }
+
+    private List<GoalProgressEntity> createDailyProgress(int days) {
+        List<GoalProgressEntity> progress = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            progress.add(GoalProgressEntity.builder()
+                    .userId(USER_ID)
+                    .characterName(CHARACTER_NAME)
+                    .goalId(GOAL_ID)
+                    .progressValue(CURRENT_VALUE + day)
+                    .createdAt(PROGRESS_START.plusSeconds(86400L * day))
+                    .build());
+        }
+        return progress;
+    }
+
+    @Test
+    void testCreateGoalWritesGoalInOneTransaction() {
+        // Given
+        when(metadataTable.tableName()).thenReturn("Goals");
+        when(metadataTable.tableSchema()).thenReturn(TableSchema.fromBean(DynamoGoalMetadataItem.class));
+        givenProgressTable();
+        when(dynamoDbAsyncClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(TransactWriteItemsResponse.builder().build()));
+        GoalEntity goalToCreate = GoalEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .targetAttribute("Woodcutting")
+                .targetType("xp")
+                .targetValue(13034431L)
+                .build();
+
+        // When
+        GoalEntity createdGoal = goalDao.createGoal(goalToCreate, CURRENT_VALUE).join();
+
+        // Then
+        verify(dynamoDbAsyncClient).transactWriteItems(transactRequestCaptor.capture());
+        assertThat(transactRequestCaptor.getValue().transactItems()).hasSize(4);
+        assertThat(createdGoal.getGoalId()).isNotNull();
+        assertThat(createdGoal.getUserId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void testCreateGoalWithNullGoalEntityThrowsBeforeSendingRequests() {
+        assertThatThrownBy(() -> goalDao.createGoal(null, CURRENT_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("goalEntity cannot be null");
+        verify(dynamoDbAsyncClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void testRecordProgressBatchSendsBatchesConcurrently() {
+        // Given
+        givenProgressTable();
+        when(dynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(new CompletableFuture<>())
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        // When
+        CompletableFuture<ProgressBatchResult> result = goalDao.recordProgressBatch(createDailyProgress(30));
+
+        // Then - the second batch is sent while the first is still in flight
+        verify(dynamoDbAsyncClient, times(2)).batchWriteItem(batchWriteRequestCaptor.capture());
+        assertThat(batchWriteRequestCaptor.getAllValues().get(0).requestItems().get("Goals")).hasSize(25);
+        assertThat(batchWriteRequestCaptor.getAllValues().get(1).requestItems().get("Goals")).hasSize(5);
+        assertThat(result).isNotDone();
+    }
+
+    @Test
+    void testRecordProgressBatchRetriesUnprocessedItems() {
+        // Given
+        givenProgressTable();
+        List<WriteRequest> unprocessed = new ArrayList<>();
+        when(dynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenAnswer(invocation -> {
+                    BatchWriteItemRequest request = invocation.getArgument(0);
+                    unprocessed.add(request.requestItems().get("Goals").get(0));
+                    return CompletableFuture.completedFuture(BatchWriteItemResponse.builder()
+                            .unprocessedItems(Map.of("Goals", List.copyOf(unprocessed)))
+                            .build());
+                })
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(createDailyProgress(2)).join();
+
+        // Then
+        verify(dynamoDbAsyncClient, times(2)).batchWriteItem(batchWriteRequestCaptor.capture());
+        assertThat(batchWriteRequestCaptor.getAllValues().get(1).requestItems().get("Goals"))
+                .containsExactlyElementsOf(unprocessed);
+        assertThat(result.isFullySuccessful()).isTrue();
+    }
+
+    @Test
+    void testRecordProgressBatchDoesNotMoveNewerLatestBack() {
+        // Given - a replayed batch whose values are older than the latest record
+        givenProgressTable();
+        when(dynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        ConditionalCheckFailedException.builder().message("newer").build()));
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(createDailyProgress(3)).join();
+
+        // Then
+        verify(dynamoDbAsyncClient).putItem(putItemRequestCaptor.capture());
+        assertThat(putItemRequestCaptor.getValue().item().get("sk").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#LATEST");
+        assertThat(putItemRequestCaptor.getValue().conditionExpression())
+                .isEqualTo("attribute_not_exists(#timestamp) OR #timestamp < :timestamp");
+        assertThat(result.isFullySuccessful()).isTrue();
+    }
+
+    @Test
+    void testRecordProgressWithNewerLatestWritesOnlyProgressRecord() {
+        // Given
+        givenProgressTable();
+        when(dynamoDbAsyncClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build()));
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+
+        // When
+        GoalProgressEntity recorded = goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE,
+                PROGRESS_START).join();
+
+        // Then
+        verify(dynamoDbAsyncClient).putItem(putItemRequestCaptor.capture());
+        assertThat(putItemRequestCaptor.getValue().item().get("sk").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-01T00:00:00Z");
+        assertThat(recorded.getProgressValue()).isEqualTo(CURRENT_VALUE);
+    }
+
+    @Test
+    void testRecordProgressWithOtherCancellationFailsFuture() {
+        // Given
+        givenProgressTable();
+        TransactionCanceledException cancellation = TransactionCanceledException.builder()
+                .cancellationReasons(
+                        CancellationReason.builder().code("TransactionConflict").build(),
+                        CancellationReason.builder().code("None").build())
+                .build();
+        when(dynamoDbAsyncClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(cancellation));
+
+        // When
+        CompletableFuture<GoalProgressEntity> recorded = goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID,
+                CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        assertThatThrownBy(recorded::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCause(cancellation);
+        verify(dynamoDbAsyncClient, never()).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void testRecordProgressWithRetentionStampsProgressRecordOnly() {
+        // Given
+        givenProgressTable();
+        goalDao = new DynamoAsyncGoalDao(dynamoDbAsyncClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .retentionPolicy(RetentionPolicy.expireAfter(Duration.ofDays(30)))
+                .build());
+        when(dynamoDbAsyncClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(TransactWriteItemsResponse.builder().build()));
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START).join();
+
+        // Then
+        verify(dynamoDbAsyncClient).transactWriteItems(transactRequestCaptor.capture());
+        TransactWriteItemsRequest transactRequest = transactRequestCaptor.getValue();
+        assertThat(transactRequest.transactItems().get(0).put().item().get("expiresAt").n())
+                .isEqualTo(String.valueOf(PROGRESS_START.plus(Duration.ofDays(30)).getEpochSecond()));
+        assertThat(transactRequest.transactItems().get(1).put().item()).doesNotContainKey("expiresAt");
+    }
+
+    @Test
+    void testCreateGoalWithMetadataSnapshotsWritesTwoItemsWithoutTransaction() {
+        // Given
+        when(metadataTable.tableName()).thenReturn("Goals");
+        when(metadataTable.tableSchema()).thenReturn(TableSchema.fromBean(DynamoGoalMetadataItem.class));
+        givenProgressTable();
+        goalDao = new DynamoAsyncGoalDao(dynamoDbAsyncClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .goalCreationMode(GoalCreationMode.METADATA_SNAPSHOTS)
+                .build());
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        GoalEntity goalToCreate = GoalEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .targetAttribute("Woodcutting")
+                .targetType("xp")
+                .targetValue(13034431L)
+                .build();
+
+        // When
+        goalDao.createGoal(goalToCreate, CURRENT_VALUE).join();
+
+        // Then - the progress record goes first, then the metadata item carrying the snapshots
+        verify(dynamoDbAsyncClient, times(2)).putItem(putItemRequestCaptor.capture());
+        List<PutItemRequest> puts = putItemRequestCaptor.getAllValues();
+        assertThat(puts.get(0).item().get("sk").s()).startsWith("CHARACTER#testCharacter#GOAL#");
+        assertThat(puts.get(1).item().get("sk").s()).startsWith("CHARACTER#testCharacter#GOAL#METADATA#");
+        assertThat(puts.get(1).item().get("latestProgressValue").n()).isEqualTo(String.valueOf(CURRENT_VALUE));
+        verify(dynamoDbAsyncClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void testConstructorWithPackedStorageThrowsIllegalArgumentException() {
+        GoalDaoOptions options = GoalDaoOptions.builder()
+                .progressStorageMode(ProgressStorageMode.PACKED_MONTHLY)
+                .build();
+
+        assertThatThrownBy(() -> new DynamoAsyncGoalDao(dynamoDbAsyncClient, metadataTable, progressTable, options))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("DynamoAsyncGoalDao requires ITEM_PER_POINT progress storage");
+    }
+
+    @Test
+    void testConstructorWithProgressShardingThrowsIllegalArgumentException() {
+        GoalDaoOptions options = GoalDaoOptions.builder()
+                .progressSharding(ProgressSharding.byDay(2))
+                .build();
+
+        assertThatThrownBy(() -> new DynamoAsyncGoalDao(dynamoDbAsyncClient, metadataTable, progressTable, options))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("DynamoAsyncGoalDao does not support progress sharding");
+    }
+
+    private static Map<String, AttributeValue> progressItem(String sortKeySuffix, long value) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("USER#" + USER_ID).build(),
+                "sk", AttributeValue.builder().s("CHARACTER#testCharacter#GOAL#goal123#" + sortKeySuffix).build(),
+                "userId", AttributeValue.builder().s(USER_ID).build(),
+                "characterName", AttributeValue.builder().s(CHARACTER_NAME).build(),
+                "goalId", AttributeValue.builder().s(GOAL_ID).build(),
+                "progressValue", AttributeValue.builder().n(String.valueOf(value)).build(),
+                "createdAt", AttributeValue.builder().s(sortKeySuffix).build());
+    }
+
+    @Test
+    void testGetProgressBetweenFiltersAndLimitsPublishedRecords() {
+        // Given
+        givenProgressTable();
+        when(dynamoDbAsyncClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryPublisher(dynamoDbAsyncClient, invocation.getArgument(0)));
+        when(dynamoDbAsyncClient.query(any(QueryRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(QueryResponse.builder()
+                        .items(List.of(progressItem("2025-01-07T00:00:00.5Z", 700L),
+                                progressItem("2025-01-06T12:00:00Z", 650L), progressItem("2025-01-05T00:00:00Z", 500L),
+                                progressItem("2025-01-04T00:00:00Z", 400L)))
+                        .build()));
+        GoalEntity goal = GoalEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .goalId(GOAL_ID)
+                .build();
+
+        // When
+        List<GoalProgressEntity> progress = goalDao.getProgressBetween(goal, Instant.parse("2025-01-01T00:00:00Z"),
+                Instant.parse("2025-01-07T00:00:00Z"), 2, true).join();
+
+        // Then - the point half a second after the range is dropped and the limit is applied
+        assertThat(progress).extracting(GoalProgressEntity::getProgressValue).containsExactly(650L, 500L);
+    }
+
+    @Test
+    void testGetProgressBetweenWithNonPositiveLimitThrowsIllegalArgumentException() {
+        GoalEntity goal = GoalEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .goalId(GOAL_ID)
+                .build();
+
+        assertThatThrownBy(() -> goalDao.getProgressBetween(goal, PROGRESS_START, PROGRESS_START, 0, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limit must be positive");
+    }
+}
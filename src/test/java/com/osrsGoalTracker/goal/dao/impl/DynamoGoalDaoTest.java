@@ -2,14 +2,38 @@ package com.osrsGoalTracker.goal.dao.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.osrsGoalTracker.goal.dao.GoalCreationMode;
+import com.osrsGoalTracker.goal.dao.GoalDaoOptions;
+import com.osrsGoalTracker.goal.dao.LatestProgressLayout;
+import com.osrsGoalTracker.goal.dao.ProgressSharding;
+import com.osrsGoalTracker.goal.dao.ProgressStorageMode;
+import com.osrsGoalTracker.goal.dao.RetentionPolicy;
 import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.ProgressBatchResult;
+import com.osrsGoalTracker.goal.dao.entity.RollupResolution;
 import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
 import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+import com.osrsGoalTracker.goal.dao.impl.ProgressPointCodec.Point;
+import com.osrsGoalTracker.goal.dao.query.ProgressQueryOptions;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,7 +46,26 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryIterable;
 
 @ExtendWith(MockitoExtension.class)
 class DynamoGoalDaoTest {
@@ -36,6 +79,8 @@ class DynamoGoalDaoTest {
     private static final String FREQUENCY = "daily";
     private static final int EXPECTED_TRANSACTION_ITEMS = 4; // 1 metadata + 3 progress records
     private static final long CURRENT_VALUE = 1000L;
+    private static final String GOAL_ID = "goal123";
+    private static final Instant PROGRESS_START = Instant.parse("2025-01-01T00:00:00Z");
 
     @Mock
     private DynamoDbClient dynamoDbClient;
@@ -49,6 +94,18 @@ class DynamoGoalDaoTest {
     @Captor
     private ArgumentCaptor<TransactWriteItemsRequest> transactRequestCaptor;
 
+    @Captor
+    private ArgumentCaptor<BatchWriteItemRequest> batchWriteRequestCaptor;
+
+    @Captor
+    private ArgumentCaptor<PutItemRequest> putItemRequestCaptor;
+
+    @Captor
+    private ArgumentCaptor<QueryRequest> queryRequestCaptor;
+
+    @Captor
+    private ArgumentCaptor<UpdateItemRequest> updateItemRequestCaptor;
+
     private DynamoGoalDao goalDao;
 
     @BeforeEach
@@ -205,4 +262,1010 @@ class DynamoGoalDaoTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("targetValue cannot be null");
     }
-}
\ No newline at end of file
+
+    private void givenProgressTable() {
+        when(progressTable.tableName()).thenReturn("Goals");
+        when(progressTable.tableSchema()).thenReturn(TableSchema.fromBean(DynamoGoalProgressItem.class));
+    }
+
+    private List<GoalProgressEntity> createDailyProgress(int days) {
+        List<GoalProgressEntity> progress = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            progress.add(GoalProgressEntity.builder()
+                    .userId(USER_ID)
+                    .characterName(CHARACTER_NAME)
+                    .goalId(GOAL_ID)
+                    .progressValue(CURRENT_VALUE + day)
+                    .createdAt(PROGRESS_START.plusSeconds(86400L * day))
+                    .build());
+        }
+        return progress;
+    }
+
+    @Test
+    void testRecordProgressBatchSplitsWritesIntoBatchesOfTwentyFive() {
+        // Given
+        givenProgressTable();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        List<GoalProgressEntity> progress = createDailyProgress(30);
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(progress);
+
+        // Then - 30 progress records, then a conditional write of the latest record
+        verify(dynamoDbClient, times(2)).batchWriteItem(batchWriteRequestCaptor.capture());
+        List<BatchWriteItemRequest> requests = batchWriteRequestCaptor.getAllValues();
+        assertThat(requests.get(0).requestItems().get("Goals")).hasSize(25);
+        assertThat(requests.get(1).requestItems().get("Goals")).hasSize(5);
+        verify(dynamoDbClient).putItem(putItemRequestCaptor.capture());
+        assertThat(putItemRequestCaptor.getValue().item())
+                .containsEntry("sk", AttributeValue.builder()
+                        .s("CHARACTER#testCharacter#GOAL#goal123#LATEST").build())
+                .containsEntry("progressValue", AttributeValue.builder().n("1029").build());
+
+        assertThat(result.isFullySuccessful()).isTrue();
+        assertThat(result.getSucceeded()).containsExactlyElementsOf(progress);
+    }
+
+    @Test
+    void testRecordProgressBatchRetriesUnprocessedItems() {
+        // Given
+        givenProgressTable();
+        List<WriteRequest> unprocessed = new ArrayList<>();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenAnswer(invocation -> {
+                    BatchWriteItemRequest request = invocation.getArgument(0);
+                    unprocessed.add(request.requestItems().get("Goals").get(0));
+                    return BatchWriteItemResponse.builder()
+                            .unprocessedItems(Map.of("Goals", List.copyOf(unprocessed)))
+                            .build();
+                })
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(createDailyProgress(2));
+
+        // Then
+        verify(dynamoDbClient, times(2)).batchWriteItem(batchWriteRequestCaptor.capture());
+        assertThat(batchWriteRequestCaptor.getAllValues().get(1).requestItems().get("Goals"))
+                .containsExactlyElementsOf(unprocessed);
+        assertThat(result.isFullySuccessful()).isTrue();
+    }
+
+    @Test
+    void testRecordProgressBatchReportsFailedItems() {
+        // Given
+        givenProgressTable();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenThrow(DynamoDbException.builder().message("Internal server error").build());
+        List<GoalProgressEntity> progress = createDailyProgress(3);
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(progress);
+
+        // Then
+        assertThat(result.isFullySuccessful()).isFalse();
+        assertThat(result.getSucceeded()).isEmpty();
+        assertThat(result.getFailed()).containsExactlyElementsOf(progress);
+    }
+
+    @Test
+    void testRecordProgressBatchDoesNotMoveNewerLatestBack() {
+        // Given - a replayed batch whose values are older than the latest record
+        givenProgressTable();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("newer").build());
+        List<GoalProgressEntity> progress = createDailyProgress(3);
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(progress);
+
+        // Then - the latest record is only written on the condition that it is older
+        verify(dynamoDbClient).batchWriteItem(batchWriteRequestCaptor.capture());
+        assertThat(batchWriteRequestCaptor.getValue().requestItems().get("Goals"))
+                .extracting(write -> write.putRequest().item().get("sk").s())
+                .noneMatch(sk -> sk.endsWith("#LATEST"));
+        verify(dynamoDbClient).putItem(putItemRequestCaptor.capture());
+        PutItemRequest latestPut = putItemRequestCaptor.getValue();
+        assertThat(latestPut.conditionExpression())
+                .isEqualTo("attribute_not_exists(#timestamp) OR #timestamp < :timestamp");
+        assertThat(latestPut.expressionAttributeValues().get(":timestamp").n())
+                .isEqualTo(String.valueOf(PROGRESS_START.plusSeconds(2 * 86400L).toEpochMilli()));
+        assertThat(result.isFullySuccessful()).isTrue();
+    }
+
+    @Test
+    void testRecordProgressBatchReportsNewestValueFailedWhenLatestWriteFails() {
+        // Given
+        givenProgressTable();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(DynamoDbException.builder().message("Internal server error").build());
+        List<GoalProgressEntity> progress = createDailyProgress(3);
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(progress);
+
+        // Then
+        assertThat(result.getSucceeded()).containsExactly(progress.get(0), progress.get(1));
+        assertThat(result.getFailed()).containsExactly(progress.get(2));
+    }
+
+    @Test
+    void testRecordProgressBatchAdvancesLatestOfGoalsConcurrently() {
+        // Given - each latest write waits until the other goal's write is in flight too
+        givenProgressTable();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        CountDownLatch bothInFlight = new CountDownLatch(2);
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenAnswer(invocation -> {
+            bothInFlight.countDown();
+            if (!bothInFlight.await(5, TimeUnit.SECONDS)) {
+                throw DynamoDbException.builder().message("Latest writes were sent one after another").build();
+            }
+            return PutItemResponse.builder().build();
+        });
+        List<GoalProgressEntity> progress = new ArrayList<>();
+        for (String goalId : List.of("goal1", "goal2")) {
+            progress.add(GoalProgressEntity.builder()
+                    .userId(USER_ID)
+                    .characterName(CHARACTER_NAME)
+                    .goalId(goalId)
+                    .progressValue(CURRENT_VALUE)
+                    .createdAt(PROGRESS_START)
+                    .build());
+        }
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(progress);
+
+        // Then
+        assertThat(result.isFullySuccessful()).isTrue();
+        verify(dynamoDbClient, times(2)).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void testRecordProgressBatchWithMissingGoalIdThrowsIllegalArgumentException() {
+        List<GoalProgressEntity> progress = List.of(GoalProgressEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .progressValue(CURRENT_VALUE)
+                .createdAt(PROGRESS_START)
+                .build());
+
+        assertThatThrownBy(() -> goalDao.recordProgressBatch(progress))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("goalId cannot be null or empty");
+    }
+
+    @Test
+    void testRecordProgressWritesProgressAndConditionalLatestInOneTransaction() {
+        // Given
+        givenProgressTable();
+
+        // When
+        GoalProgressEntity recorded = goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE,
+                PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        TransactWriteItemsRequest transactRequest = transactRequestCaptor.getValue();
+        assertThat(transactRequest.transactItems()).hasSize(2);
+
+        Put progressPut = transactRequest.transactItems().get(0).put();
+        assertThat(progressPut.item().get("sk").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-01T00:00:00Z");
+        assertThat(progressPut.conditionExpression()).isNull();
+
+        Put latestPut = transactRequest.transactItems().get(1).put();
+        assertThat(latestPut.item().get("sk").s()).isEqualTo("CHARACTER#testCharacter#GOAL#goal123#LATEST");
+        assertThat(latestPut.conditionExpression())
+                .isEqualTo("attribute_not_exists(#timestamp) OR #timestamp < :timestamp");
+        assertThat(latestPut.expressionAttributeValues().get(":timestamp").n())
+                .isEqualTo(String.valueOf(PROGRESS_START.toEpochMilli()));
+
+        assertThat(recorded.getGoalId()).isEqualTo(GOAL_ID);
+        assertThat(recorded.getProgressValue()).isEqualTo(CURRENT_VALUE);
+        assertThat(recorded.getCreatedAt()).isEqualTo(PROGRESS_START);
+    }
+
+    @Test
+    void testRecordProgressWithNewerLatestWritesOnlyProgressRecord() {
+        // Given
+        givenProgressTable();
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).putItem(putItemRequestCaptor.capture());
+        assertThat(putItemRequestCaptor.getValue().item().get("sk").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-01T00:00:00Z");
+    }
+
+    @Test
+    void testRecordProgressWithOtherCancellationRethrows() {
+        // Given
+        givenProgressTable();
+        TransactionCanceledException cancellation = TransactionCanceledException.builder()
+                .cancellationReasons(
+                        CancellationReason.builder().code("TransactionConflict").build(),
+                        CancellationReason.builder().code("None").build())
+                .build();
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class))).thenThrow(cancellation);
+
+        // When / Then
+        assertThatThrownBy(() -> goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE,
+                PROGRESS_START))
+                .isSameAs(cancellation);
+    }
+
+    @Test
+    void testRecordProgressPackedMergesIntoMonthItemAndAdvancesLatest() {
+        // Given
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, ProgressStorageMode.PACKED_MONTHLY);
+        Instant nextDay = PROGRESS_START.plus(Duration.ofDays(1));
+        Map<String, AttributeValue> monthItem = PackedProgressItems.createMonthItem(USER_ID, CHARACTER_NAME, GOAL_ID,
+                List.of(new Point(PROGRESS_START.toEpochMilli(), CURRENT_VALUE)), 1);
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(monthItem).build());
+
+        // When
+        GoalProgressEntity recorded = goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE + 500,
+                nextDay);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        TransactWriteItemsRequest transactRequest = transactRequestCaptor.getValue();
+        assertThat(transactRequest.transactItems()).hasSize(2);
+
+        Update monthUpdate = transactRequest.transactItems().get(0).update();
+        assertThat(monthUpdate.key().get("sk").s()).isEqualTo("CHARACTER#testCharacter#GOAL#goal123#PACKED#2025-01");
+        assertThat(monthUpdate.conditionExpression()).isEqualTo("#version = :expectedVersion");
+        assertThat(monthUpdate.expressionAttributeValues().get(":expectedVersion").n()).isEqualTo("1");
+        assertThat(monthUpdate.expressionAttributeValues().get(":version").n()).isEqualTo("2");
+        assertThat(ProgressPointCodec.decode(monthUpdate.expressionAttributeValues().get(":points").b().asByteArray()))
+                .containsExactly(
+                        new Point(PROGRESS_START.toEpochMilli(), CURRENT_VALUE),
+                        new Point(nextDay.toEpochMilli(), CURRENT_VALUE + 500));
+
+        Put latestPut = transactRequest.transactItems().get(1).put();
+        assertThat(latestPut.item().get("sk").s()).isEqualTo("CHARACTER#testCharacter#GOAL#goal123#LATEST");
+        assertThat(recorded.getCreatedAt()).isEqualTo(nextDay);
+    }
+
+    @Test
+    void testRecordProgressPackedReplacingPointConditionsOnVersionNotPointCount() {
+        // Given - replacing a point leaves the point count unchanged
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, ProgressStorageMode.PACKED_MONTHLY);
+        Map<String, AttributeValue> monthItem = PackedProgressItems.createMonthItem(USER_ID, CHARACTER_NAME, GOAL_ID,
+                List.of(new Point(PROGRESS_START.toEpochMilli(), CURRENT_VALUE)), 3);
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(monthItem).build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE + 1, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        Update monthUpdate = transactRequestCaptor.getValue().transactItems().get(0).update();
+        assertThat(monthUpdate.conditionExpression()).isEqualTo("#version = :expectedVersion");
+        assertThat(monthUpdate.expressionAttributeValues().get(":expectedVersion").n()).isEqualTo("3");
+        assertThat(monthUpdate.expressionAttributeValues().get(":version").n()).isEqualTo("4");
+        assertThat(monthUpdate.expressionAttributeValues().get(":pointCount").n()).isEqualTo("1");
+    }
+
+    @Test
+    void testRecordProgressPackedToUnversionedMonthRequiresVersionToBeAbsent() {
+        // Given - a month item written before month items were versioned
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, ProgressStorageMode.PACKED_MONTHLY);
+        Map<String, AttributeValue> monthItem = new HashMap<>(PackedProgressItems.createMonthItem(USER_ID,
+                CHARACTER_NAME, GOAL_ID, List.of(new Point(PROGRESS_START.toEpochMilli(), CURRENT_VALUE)), 1));
+        monthItem.remove("version");
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(monthItem).build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE + 1, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        Update monthUpdate = transactRequestCaptor.getValue().transactItems().get(0).update();
+        assertThat(monthUpdate.conditionExpression()).isEqualTo("attribute_not_exists(#version)");
+        assertThat(monthUpdate.expressionAttributeValues().get(":version").n()).isEqualTo("1");
+    }
+
+    @Test
+    void testRecordProgressPackedRetriesWhenMonthChangedConcurrently() {
+        // Given
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, ProgressStorageMode.PACKED_MONTHLY);
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                                CancellationReason.builder().code("None").build())
+                        .build())
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+        verify(dynamoDbClient, times(2)).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    void testStreamProgressHistoryPackedDecodesMonthItems() {
+        // Given
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, ProgressStorageMode.PACKED_MONTHLY);
+        Instant february = Instant.parse("2025-02-03T00:00:00Z");
+        when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+                .items(List.of(
+                        PackedProgressItems.createMonthItem(USER_ID, CHARACTER_NAME, GOAL_ID,
+                                List.of(new Point(PROGRESS_START.toEpochMilli(), 1L),
+                                        new Point(PROGRESS_START.plus(Duration.ofDays(1)).toEpochMilli(), 2L)), 2),
+                        PackedProgressItems.createMonthItem(USER_ID, CHARACTER_NAME, GOAL_ID,
+                                List.of(new Point(february.toEpochMilli(), 3L)), 1)))
+                .build());
+
+        // When
+        List<GoalProgressEntity> history;
+        try (Stream<GoalProgressEntity> stream = goalDao.streamProgressHistory(USER_ID, CHARACTER_NAME, GOAL_ID,
+                ProgressQueryOptions.builder().build())) {
+            history = stream.collect(Collectors.toList());
+        }
+
+        // Then
+        assertThat(history).extracting(GoalProgressEntity::getProgressValue).containsExactly(1L, 2L, 3L);
+        assertThat(history.get(2).getCreatedAt()).isEqualTo(february);
+    }
+
+    private static Map<String, AttributeValue> progressItem(String sortKeySuffix, long value) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("USER#" + USER_ID).build(),
+                "sk", AttributeValue.builder().s("CHARACTER#testCharacter#GOAL#goal123#" + sortKeySuffix).build(),
+                "userId", AttributeValue.builder().s(USER_ID).build(),
+                "characterName", AttributeValue.builder().s(CHARACTER_NAME).build(),
+                "goalId", AttributeValue.builder().s(GOAL_ID).build(),
+                "progressValue", AttributeValue.builder().n(String.valueOf(value)).build(),
+                "createdAt", AttributeValue.builder().s(sortKeySuffix).build());
+    }
+
+    private void givenPaginatedQueries() {
+        when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+    }
+
+    @Test
+    void testStreamProgressHistoryFetchesPagesLazilyAndSkipsMarkers() {
+        // Given
+        givenProgressTable();
+        givenPaginatedQueries();
+        Map<String, AttributeValue> lastEvaluatedKey = Map.of(
+                "pk", AttributeValue.builder().s("USER#" + USER_ID).build(),
+                "sk", AttributeValue.builder().s("CHARACTER#testCharacter#GOAL#goal123#2025-01-02T00:00:00Z").build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(progressItem("2025-01-01T00:00:00Z", 100L),
+                                progressItem("2025-01-02T00:00:00Z", 200L)))
+                        .lastEvaluatedKey(lastEvaluatedKey)
+                        .build())
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(progressItem("2025-01-03T00:00:00Z", 300L), progressItem("EARLIEST", 100L),
+                                progressItem("LATEST", 300L)))
+                        .build());
+
+        // When
+        Stream<GoalProgressEntity> history = goalDao.streamProgressHistory(USER_ID, CHARACTER_NAME, GOAL_ID,
+                ProgressQueryOptions.builder().pageSize(2).build());
+
+        // Then - nothing is read until the stream is consumed
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+
+        List<Long> values = history.map(GoalProgressEntity::getProgressValue).collect(Collectors.toList());
+        assertThat(values).containsExactly(100L, 200L, 300L);
+
+        verify(dynamoDbClient, times(2)).query(queryRequestCaptor.capture());
+        QueryRequest firstPage = queryRequestCaptor.getAllValues().get(0);
+        assertThat(firstPage.limit()).isEqualTo(2);
+        assertThat(firstPage.keyConditionExpression()).isEqualTo("pk = :pk AND begins_with(sk, :sk_prefix)");
+        assertThat(firstPage.expressionAttributeValues().get(":sk_prefix").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#");
+        assertThat(queryRequestCaptor.getAllValues().get(1).exclusiveStartKey()).isEqualTo(lastEvaluatedKey);
+    }
+
+    @Test
+    void testStreamProgressHistoryAppliesProjection() {
+        // Given
+        when(progressTable.tableName()).thenReturn("Goals");
+        givenPaginatedQueries();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        // When
+        long count = goalDao.streamProgressHistory(USER_ID, CHARACTER_NAME, GOAL_ID,
+                ProgressQueryOptions.builder().attributes(List.of("progressValue", "createdAt")).build())
+                .count();
+
+        // Then
+        assertThat(count).isZero();
+        verify(dynamoDbClient).query(queryRequestCaptor.capture());
+        QueryRequest request = queryRequestCaptor.getValue();
+        assertThat(request.projectionExpression()).isEqualTo("#sk, #progressValue, #createdAt");
+        assertThat(request.expressionAttributeNames()).containsEntry("#progressValue", "progressValue");
+        assertThat(request.limit()).isEqualTo(ProgressQueryOptions.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void testStreamProgressHistoryWithNonPositivePageSizeThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> goalDao.streamProgressHistory(USER_ID, CHARACTER_NAME, GOAL_ID,
+                ProgressQueryOptions.builder().pageSize(0).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("pageSize must be positive");
+    }
+
+    private static GoalEntity existingGoal() {
+        return GoalEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .goalId(GOAL_ID)
+                .build();
+    }
+
+    @Test
+    void testGetProgressBetweenQueriesOnlyTheRequestedRange() {
+        // Given
+        givenProgressTable();
+        givenPaginatedQueries();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(progressItem("2025-01-07T00:00:00.5Z", 700L),
+                                progressItem("2025-01-06T12:00:00Z", 650L), progressItem("2025-01-05T00:00:00Z", 500L)))
+                        .build());
+
+        // When
+        List<GoalProgressEntity> progress = goalDao.getProgressBetween(existingGoal(),
+                Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-01-07T00:00:00Z"), 2, true);
+
+        // Then - the point half a second after the range is dropped and the limit is applied
+        assertThat(progress).extracting(GoalProgressEntity::getProgressValue).containsExactly(650L, 500L);
+
+        verify(dynamoDbClient).query(queryRequestCaptor.capture());
+        QueryRequest request = queryRequestCaptor.getValue();
+        assertThat(request.keyConditionExpression()).isEqualTo("pk = :pk AND sk BETWEEN :sk_from AND :sk_to");
+        assertThat(request.expressionAttributeValues().get(":sk_from").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-01T00:00:00");
+        assertThat(request.expressionAttributeValues().get(":sk_to").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-07T00:00:00~");
+        assertThat(request.scanIndexForward()).isFalse();
+        assertThat(request.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void testRecordProgressShardedWritesRecordToShardPartitionAndLatestToUserPartition() {
+        // Given
+        givenProgressTable();
+        ProgressSharding sharding = ProgressSharding.byGoal(4);
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable,
+                GoalDaoOptions.builder().progressSharding(sharding).build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        TransactWriteItemsRequest transactRequest = transactRequestCaptor.getValue();
+        assertThat(transactRequest.transactItems().get(0).put().item().get("pk").s())
+                .isEqualTo("USER#testUser#P#" + sharding.shardOf(GOAL_ID, PROGRESS_START));
+        assertThat(transactRequest.transactItems().get(1).put().item().get("pk").s()).isEqualTo("USER#testUser");
+    }
+
+    @Test
+    void testRecordProgressWithRetentionStampsExpiresAtOnRecordOnly() {
+        // Given
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .retentionPolicy(RetentionPolicy.expireAfter(Duration.ofDays(30)))
+                .build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        TransactWriteItemsRequest transactRequest = transactRequestCaptor.getValue();
+        assertThat(transactRequest.transactItems().get(0).put().item().get("expiresAt").n())
+                .isEqualTo(String.valueOf(PROGRESS_START.plus(Duration.ofDays(30)).getEpochSecond()));
+        assertThat(transactRequest.transactItems().get(1).put().item()).doesNotContainKey("expiresAt");
+    }
+
+    @Test
+    void testGetProgressBetweenShardedByDayMergesShardsByTime() {
+        // Given
+        givenProgressTable();
+        givenPaginatedQueries();
+        ProgressSharding sharding = ProgressSharding.byDay(2);
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable,
+                GoalDaoOptions.builder().progressSharding(sharding).build());
+        String firstDayPartition = "USER#testUser#P#" + sharding.shardOf(GOAL_ID, PROGRESS_START);
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            boolean firstDayShard = firstDayPartition.equals(request.expressionAttributeValues().get(":pk").s());
+            return QueryResponse.builder()
+                    .items(firstDayShard
+                            ? List.of(progressItem("2025-01-01T10:00:00Z", 100L),
+                                    progressItem("2025-01-03T10:00:00Z", 300L))
+                            : List.of(progressItem("2025-01-02T10:00:00Z", 200L)))
+                    .build();
+        });
+
+        // When
+        List<GoalProgressEntity> progress = goalDao.getProgressBetween(existingGoal(), PROGRESS_START,
+                Instant.parse("2025-01-03T23:59:59Z"), 10, false);
+
+        // Then
+        assertThat(progress).extracting(GoalProgressEntity::getProgressValue).containsExactly(100L, 200L, 300L);
+        verify(dynamoDbClient, times(2)).query(any(QueryRequest.class));
+    }
+
+    private static Map<String, AttributeValue> goalItem(String sortKey, String goalId, long value) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("USER#" + USER_ID).build(),
+                "sk", AttributeValue.builder().s(sortKey).build(),
+                "userId", AttributeValue.builder().s(USER_ID).build(),
+                "characterName", AttributeValue.builder().s(CHARACTER_NAME).build(),
+                "goalId", AttributeValue.builder().s(goalId).build(),
+                "progressValue", AttributeValue.builder().n(String.valueOf(value)).build(),
+                "createdAt", AttributeValue.builder().s(PROGRESS_START.toString()).build());
+    }
+
+    @Test
+    void testRecordProgressDualWriteConditionallyWritesBothLatestKeys() {
+        // Given
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .latestProgressLayout(LatestProgressLayout.DUAL_WRITE)
+                .build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        TransactWriteItemsRequest transactRequest = transactRequestCaptor.getValue();
+        assertThat(transactRequest.transactItems()).hasSize(3);
+        Put legacyPut = transactRequest.transactItems().get(1).put();
+        assertThat(legacyPut.item().get("sk").s()).isEqualTo("CHARACTER#testCharacter#GOAL#goal123#LATEST");
+        assertThat(legacyPut.conditionExpression()).isNotNull();
+        Put prefixedPut = transactRequest.transactItems().get(2).put();
+        assertThat(prefixedPut.item().get("sk").s()).isEqualTo("CHARACTER#testCharacter#LATEST#goal123");
+        assertThat(prefixedPut.conditionExpression()).isEqualTo(legacyPut.conditionExpression());
+    }
+
+    @Test
+    void testRecordProgressDualWriteWithNewerPrefixedLatestWritesOnlyProgressRecord() {
+        // Given
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .latestProgressLayout(LatestProgressLayout.DUAL_WRITE)
+                .build());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build());
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).putItem(putItemRequestCaptor.capture());
+        assertThat(putItemRequestCaptor.getValue().item().get("sk").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-01T00:00:00Z");
+    }
+
+    @Test
+    void testGetLatestProgressForCharacterPrefixedQueriesLatestPrefixOnly() {
+        // Given
+        givenProgressTable();
+        givenPaginatedQueries();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .latestProgressLayout(LatestProgressLayout.PREFIXED)
+                .build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(goalItem("CHARACTER#testCharacter#LATEST#goal1", "goal1", 100L),
+                                goalItem("CHARACTER#testCharacter#LATEST#goal2", "goal2", 200L)))
+                        .build());
+
+        // When
+        List<GoalProgressEntity> latest = goalDao.getLatestProgressForCharacter(USER_ID, CHARACTER_NAME);
+
+        // Then
+        assertThat(latest).extracting(GoalProgressEntity::getGoalId).containsExactly("goal1", "goal2");
+        assertThat(latest).extracting(GoalProgressEntity::getProgressValue).containsExactly(100L, 200L);
+        verify(dynamoDbClient).query(queryRequestCaptor.capture());
+        assertThat(queryRequestCaptor.getValue().expressionAttributeValues().get(":sk_prefix").s())
+                .isEqualTo("CHARACTER#testCharacter#LATEST#");
+    }
+
+    @Test
+    void testGetLatestProgressForCharacterLegacyPicksLatestRecordsFromGoalItems() {
+        // Given
+        givenProgressTable();
+        givenPaginatedQueries();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(goalItem("CHARACTER#testCharacter#GOAL#METADATA#goal1", "goal1", 0L),
+                                goalItem("CHARACTER#testCharacter#GOAL#goal1#2025-01-01T00:00:00Z", "goal1", 90L),
+                                goalItem("CHARACTER#testCharacter#GOAL#goal1#EARLIEST", "goal1", 90L),
+                                goalItem("CHARACTER#testCharacter#GOAL#goal1#LATEST", "goal1", 100L)))
+                        .build());
+
+        // When
+        List<GoalProgressEntity> latest = goalDao.getLatestProgressForCharacter(USER_ID, CHARACTER_NAME);
+
+        // Then
+        assertThat(latest).extracting(GoalProgressEntity::getProgressValue).containsExactly(100L);
+        verify(dynamoDbClient).query(queryRequestCaptor.capture());
+        assertThat(queryRequestCaptor.getValue().expressionAttributeValues().get(":sk_prefix").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#");
+    }
+
+    private void givenMetadataSnapshots() {
+        when(metadataTable.tableName()).thenReturn("Goals");
+        when(metadataTable.tableSchema()).thenReturn(TableSchema.fromBean(DynamoGoalMetadataItem.class));
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .goalCreationMode(GoalCreationMode.METADATA_SNAPSHOTS)
+                .build());
+    }
+
+    @Test
+    void testCreateGoalWithMetadataSnapshotsWritesTwoItemsWithoutTransaction() {
+        // Given
+        givenMetadataSnapshots();
+        GoalEntity goalToCreate = GoalEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .targetAttribute(TARGET_ATTRIBUTE)
+                .targetType(TARGET_TYPE)
+                .targetValue(TARGET_VALUE)
+                .build();
+
+        // When
+        GoalEntity createdGoal = goalDao.createGoal(goalToCreate, CURRENT_VALUE);
+
+        // Then - the first progress record is written before the metadata item
+        verify(dynamoDbClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(dynamoDbClient, times(2)).putItem(putItemRequestCaptor.capture());
+        PutItemRequest progressPut = putItemRequestCaptor.getAllValues().get(0);
+        assertThat(progressPut.item().get("sk").s())
+                .startsWith("CHARACTER#testCharacter#GOAL#" + createdGoal.getGoalId() + "#");
+        assertThat(progressPut.item().get("progressValue").n()).isEqualTo("1000");
+
+        PutItemRequest metadataPut = putItemRequestCaptor.getAllValues().get(1);
+        assertThat(metadataPut.conditionExpression()).isEqualTo("attribute_not_exists(sk)");
+        Map<String, AttributeValue> metadataItem = metadataPut.item();
+        assertThat(metadataItem.get("sk").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#METADATA#" + createdGoal.getGoalId());
+        assertThat(metadataItem.get("earliestProgressValue").n()).isEqualTo("1000");
+        assertThat(metadataItem.get("latestProgressValue").n()).isEqualTo("1000");
+        assertThat(metadataItem.get("latestProgressAt").s()).isEqualTo(createdGoal.getCreatedAt().toString());
+        assertThat(metadataItem.get("latestTimestampEpochMillis").n())
+                .isEqualTo(String.valueOf(createdGoal.getCreatedAt().toEpochMilli()));
+    }
+
+    @Test
+    void testRecordProgressWithMetadataSnapshotsConditionallyUpdatesMetadata() {
+        // Given
+        givenMetadataSnapshots();
+
+        // When
+        goalDao.recordProgress(USER_ID, CHARACTER_NAME, GOAL_ID, CURRENT_VALUE, PROGRESS_START);
+
+        // Then
+        verify(dynamoDbClient).transactWriteItems(transactRequestCaptor.capture());
+        TransactWriteItemsRequest transactRequest = transactRequestCaptor.getValue();
+        assertThat(transactRequest.transactItems()).hasSize(2);
+        assertThat(transactRequest.transactItems().get(0).put().item().get("sk").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-01T00:00:00Z");
+
+        Update snapshotUpdate = transactRequest.transactItems().get(1).update();
+        assertThat(snapshotUpdate.key().get("sk").s()).isEqualTo("CHARACTER#testCharacter#GOAL#METADATA#goal123");
+        assertThat(snapshotUpdate.conditionExpression())
+                .isEqualTo("attribute_exists(sk) AND (attribute_not_exists(#timestamp) OR #timestamp < :timestamp)");
+        assertThat(snapshotUpdate.expressionAttributeValues().get(":value").n()).isEqualTo("1000");
+        assertThat(snapshotUpdate.expressionAttributeValues().get(":createdAt").s())
+                .isEqualTo("2025-01-01T00:00:00Z");
+    }
+
+    @Test
+    void testRecordProgressBatchWithMetadataSnapshotsAdvancesEachGoalOnceToNewestValue() {
+        // Given
+        givenMetadataSnapshots();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        List<GoalProgressEntity> progress = createDailyProgress(3);
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(progress);
+
+        // Then - only the timestamped records are batched
+        verify(dynamoDbClient).batchWriteItem(batchWriteRequestCaptor.capture());
+        assertThat(batchWriteRequestCaptor.getValue().requestItems().get("Goals")).hasSize(3);
+        verify(dynamoDbClient).updateItem(updateItemRequestCaptor.capture());
+        assertThat(updateItemRequestCaptor.getValue().expressionAttributeValues().get(":value").n())
+                .isEqualTo("1002");
+        assertThat(result.isFullySuccessful()).isTrue();
+    }
+
+    @Test
+    void testRecordProgressBatchWithMetadataSnapshotsIgnoresNewerSnapshot() {
+        // Given
+        givenMetadataSnapshots();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("newer").build());
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(createDailyProgress(2));
+
+        // Then
+        assertThat(result.isFullySuccessful()).isTrue();
+    }
+
+    @Test
+    void testRecordProgressBatchWithMetadataSnapshotsFailsOnlyValuesOfUnadvancedGoal() {
+        // Given - two goals with values at the same instant; entity equality ignores the goal
+        givenMetadataSnapshots();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenAnswer(invocation -> {
+            UpdateItemRequest request = invocation.getArgument(0);
+            if (request.key().get("sk").s().endsWith("#goalA")) {
+                throw DynamoDbException.builder().message("Internal server error").build();
+            }
+            return null;
+        });
+        GoalProgressEntity goalAProgress = GoalProgressEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .goalId("goalA")
+                .progressValue(CURRENT_VALUE)
+                .createdAt(PROGRESS_START)
+                .build();
+        GoalProgressEntity goalBProgress = GoalProgressEntity.builder()
+                .userId(USER_ID)
+                .characterName(CHARACTER_NAME)
+                .goalId("goalB")
+                .progressValue(CURRENT_VALUE)
+                .createdAt(PROGRESS_START)
+                .build();
+
+        // When
+        ProgressBatchResult result = goalDao.recordProgressBatch(List.of(goalAProgress, goalBProgress));
+
+        // Then
+        assertThat(result.getFailed()).containsExactly(goalAProgress);
+        assertThat(result.getSucceeded()).hasSize(1);
+        assertThat(result.getSucceeded().get(0)).isSameAs(goalBProgress);
+    }
+
+    private static Map<String, AttributeValue> withSnapshot(Map<String, AttributeValue> metadataItem, long value,
+            Instant at) {
+        Map<String, AttributeValue> item = new HashMap<>(metadataItem);
+        item.put("latestProgressValue", AttributeValue.builder().n(String.valueOf(value)).build());
+        item.put("latestProgressAt", AttributeValue.builder().s(at.toString()).build());
+        return item;
+    }
+
+    private static Map<String, AttributeValue> createdAt(Map<String, AttributeValue> progressItem, Instant at) {
+        Map<String, AttributeValue> item = new HashMap<>(progressItem);
+        item.put("createdAt", AttributeValue.builder().s(at.toString()).build());
+        return item;
+    }
+
+    @Test
+    void testGetLatestProgressForCharacterWithMetadataSnapshotsKeepsNewerOfSnapshotAndLatestRecord() {
+        // Given
+        givenMetadataSnapshots();
+        givenPaginatedQueries();
+        Instant later = PROGRESS_START.plus(Duration.ofHours(1));
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(createdAt(goalItem("CHARACTER#testCharacter#GOAL#goal1#LATEST", "goal1", 90L),
+                                        PROGRESS_START),
+                                createdAt(goalItem("CHARACTER#testCharacter#GOAL#goal2#LATEST", "goal2", 200L),
+                                        later),
+                                withSnapshot(goalItem("CHARACTER#testCharacter#GOAL#METADATA#goal1", "goal1", 0L),
+                                        100L, later),
+                                withSnapshot(goalItem("CHARACTER#testCharacter#GOAL#METADATA#goal2", "goal2", 0L),
+                                        150L, PROGRESS_START),
+                                goalItem("CHARACTER#testCharacter#GOAL#METADATA#goal3", "goal3", 0L)))
+                        .build());
+
+        // When
+        List<GoalProgressEntity> latest = goalDao.getLatestProgressForCharacter(USER_ID, CHARACTER_NAME);
+
+        // Then - goals without a snapshot or a latest record have no latest progress
+        assertThat(latest).extracting(GoalProgressEntity::getGoalId).containsExactly("goal1", "goal2");
+        assertThat(latest).extracting(GoalProgressEntity::getProgressValue).containsExactly(100L, 200L);
+        assertThat(latest).extracting(GoalProgressEntity::getCreatedAt).containsExactly(later, later);
+        verify(dynamoDbClient).query(queryRequestCaptor.capture());
+        assertThat(queryRequestCaptor.getValue().expressionAttributeValues().get(":sk_prefix").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#");
+    }
+
+    @Test
+    void testGetLatestProgressForCharacterWithMetadataSnapshotsReturnsGoalsCreatedBeforeTheSwitch() {
+        // Given
+        givenMetadataSnapshots();
+        givenPaginatedQueries();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(goalItem("CHARACTER#testCharacter#GOAL#goal1#LATEST", "goal1", 90L),
+                                goalItem("CHARACTER#testCharacter#GOAL#METADATA#goal1", "goal1", 0L)))
+                        .build());
+
+        // When
+        List<GoalProgressEntity> latest = goalDao.getLatestProgressForCharacter(USER_ID, CHARACTER_NAME);
+
+        // Then
+        assertThat(latest).extracting(GoalProgressEntity::getProgressValue).containsExactly(90L);
+    }
+
+    @Test
+    void testGetLatestProgressForCharacterWithMetadataSnapshotsInSeparateTableQueriesBothTables() {
+        // Given
+        when(metadataTable.tableName()).thenReturn("GoalMetadata");
+        when(metadataTable.tableSchema()).thenReturn(TableSchema.fromBean(DynamoGoalMetadataItem.class));
+        givenProgressTable();
+        goalDao = new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, GoalDaoOptions.builder()
+                .goalCreationMode(GoalCreationMode.METADATA_SNAPSHOTS)
+                .build());
+        givenPaginatedQueries();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(goalItem("CHARACTER#testCharacter#GOAL#goal1#LATEST", "goal1", 90L)))
+                        .build())
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(withSnapshot(
+                                goalItem("CHARACTER#testCharacter#GOAL#METADATA#goal2", "goal2", 0L),
+                                100L, PROGRESS_START)))
+                        .build());
+
+        // When
+        List<GoalProgressEntity> latest = goalDao.getLatestProgressForCharacter(USER_ID, CHARACTER_NAME);
+
+        // Then
+        assertThat(latest).extracting(GoalProgressEntity::getGoalId).containsExactly("goal1", "goal2");
+        verify(dynamoDbClient, times(2)).query(queryRequestCaptor.capture());
+        assertThat(queryRequestCaptor.getAllValues()).extracting(QueryRequest::tableName)
+                .containsExactly("Goals", "GoalMetadata");
+        assertThat(queryRequestCaptor.getAllValues().get(1).expressionAttributeValues().get(":sk_prefix").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#METADATA#");
+    }
+
+    @Test
+    void testConstructorWithMetadataSnapshotsAndPackedStorageThrowsIllegalArgumentException() {
+        GoalDaoOptions options = GoalDaoOptions.builder()
+                .progressStorageMode(ProgressStorageMode.PACKED_MONTHLY)
+                .goalCreationMode(GoalCreationMode.METADATA_SNAPSHOTS)
+                .build();
+
+        assertThatThrownBy(() -> new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, options))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Metadata snapshots require ITEM_PER_POINT");
+    }
+
+    @Test
+    void testConstructorWithPackedStorageAndShardingThrowsIllegalArgumentException() {
+        GoalDaoOptions options = GoalDaoOptions.builder()
+                .progressStorageMode(ProgressStorageMode.PACKED_MONTHLY)
+                .progressSharding(ProgressSharding.byGoal(4))
+                .build();
+
+        assertThatThrownBy(() -> new DynamoGoalDao(dynamoDbClient, metadataTable, progressTable, options))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Progress sharding requires ITEM_PER_POINT");
+    }
+
+    @Test
+    void testGetProgressBetweenWithFromAfterToThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> goalDao.getProgressBetween(existingGoal(), PROGRESS_START,
+                PROGRESS_START.minusSeconds(1), 10, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("from cannot be after to");
+    }
+
+    @Test
+    void testRollupProgressWritesDailyAndWeeklyRollups() {
+        // Given
+        givenProgressTable();
+        givenPaginatedQueries();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(progressItem("2025-01-06T10:00:00Z", 100L),
+                                progressItem("2025-01-06T20:00:00Z", 150L), progressItem("2025-01-07T10:00:00Z", 140L)))
+                        .build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        List<GoalProgressRollupEntity> rollups = goalDao.rollupProgress(USER_ID, CHARACTER_NAME, GOAL_ID,
+                Instant.parse("2025-01-07T00:00:00Z"), Instant.parse("2025-01-07T23:59:59Z"));
+
+        // Then - the range is widened to the whole week starting Monday 2025-01-06
+        verify(dynamoDbClient).query(queryRequestCaptor.capture());
+        assertThat(queryRequestCaptor.getValue().expressionAttributeValues().get(":sk_from").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#2025-01-06T00:00:00");
+
+        verify(dynamoDbClient).batchWriteItem(batchWriteRequestCaptor.capture());
+        List<WriteRequest> writes = batchWriteRequestCaptor.getValue().requestItems().get("Goals");
+        assertThat(writes).extracting(write -> write.putRequest().item().get("sk").s())
+                .containsExactly("CHARACTER#testCharacter#GOAL#goal123#ROLLUP#D#2025-01-06",
+                        "CHARACTER#testCharacter#GOAL#goal123#ROLLUP#W#2025-01-06",
+                        "CHARACTER#testCharacter#GOAL#goal123#ROLLUP#D#2025-01-07");
+
+        GoalProgressRollupEntity weekly = rollups.get(1);
+        assertThat(weekly.getResolution()).isEqualTo(RollupResolution.WEEKLY);
+        assertThat(weekly.getBucketStart()).isEqualTo(Instant.parse("2025-01-06T00:00:00Z"));
+        assertThat(weekly.getMinValue()).isEqualTo(100L);
+        assertThat(weekly.getMaxValue()).isEqualTo(150L);
+        assertThat(weekly.getFirstValue()).isEqualTo(100L);
+        assertThat(weekly.getLastValue()).isEqualTo(140L);
+        assertThat(weekly.getSampleCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void testGetProgressRollupsReadsCoarsestFittingResolution() {
+        // Given
+        when(progressTable.tableName()).thenReturn("Goals");
+        givenPaginatedQueries();
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        // When
+        goalDao.getProgressRollups(existingGoal(), Instant.parse("2024-01-03T00:00:00Z"),
+                Instant.parse("2025-01-03T00:00:00Z"), Duration.ofDays(30));
+
+        // Then
+        verify(dynamoDbClient).query(queryRequestCaptor.capture());
+        QueryRequest request = queryRequestCaptor.getValue();
+        assertThat(request.expressionAttributeValues().get(":sk_from").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#ROLLUP#W#2024-01-01");
+        assertThat(request.expressionAttributeValues().get(":sk_to").s())
+                .isEqualTo("CHARACTER#testCharacter#GOAL#goal123#ROLLUP#W#2024-12-30");
+    }
+
+    @Test
+    void testGetProgressRollupsWithSubDailyResolutionThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> goalDao.getProgressRollups(existingGoal(), PROGRESS_START, PROGRESS_START,
+                Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("resolution cannot be shorter than one day");
+    }
+}
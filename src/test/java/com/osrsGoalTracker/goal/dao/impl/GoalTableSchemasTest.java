@@ -0,0 +1,100 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalMetadataItem;
+import com.osrsGoalTracker.goal.dao.impl.DynamoItem.DynamoGoalProgressItem;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class GoalTableSchemasTest {
+    private static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00.250Z");
+
+    private static DynamoGoalMetadataItem metadataItem() {
+        return DynamoGoalMetadataItem.builder()
+                .pk("USER#testUser")
+                .sk("CHARACTER#testCharacter#GOAL#METADATA#goal123")
+                .userId("testUser")
+                .characterName("testCharacter")
+                .goalId("goal123")
+                .targetAttribute("Woodcutting")
+                .targetType("xp")
+                .targetValue(13034431L)
+                .targetDate(Instant.parse("2025-03-01T00:00:00Z"))
+                .notificationChannelType("SMS")
+                .frequency("daily")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .earliestProgressValue(1000L)
+                .earliestProgressAt(CREATED_AT)
+                .latestProgressValue(1500L)
+                .latestProgressAt(CREATED_AT.plusSeconds(60))
+                .latestTimestampEpochMillis(CREATED_AT.plusSeconds(60).toEpochMilli())
+                .build();
+    }
+
+    private static DynamoGoalProgressItem progressItem() {
+        return DynamoGoalProgressItem.builder()
+                .pk("USER#testUser")
+                .sk("CHARACTER#testCharacter#GOAL#goal123#2025-01-01T00:00:00.250Z")
+                .userId("testUser")
+                .characterName("testCharacter")
+                .goalId("goal123")
+                .progressValue(1000L)
+                .createdAt(CREATED_AT)
+                .timestampEpochMillis(CREATED_AT.toEpochMilli())
+                .expiresAt(1767225600L)
+                .build();
+    }
+
+    @Test
+    void testMetadataSchemaWritesSameItemAsBeanSchema() {
+        Map<String, AttributeValue> expected = TableSchema.fromBean(DynamoGoalMetadataItem.class)
+                .itemToMap(metadataItem(), true);
+
+        assertThat(GoalTableSchemas.metadata().itemToMap(metadataItem(), true)).isEqualTo(expected);
+    }
+
+    @Test
+    void testProgressSchemaWritesSameItemAsBeanSchema() {
+        Map<String, AttributeValue> expected = TableSchema.fromBean(DynamoGoalProgressItem.class)
+                .itemToMap(progressItem(), true);
+
+        assertThat(GoalTableSchemas.progress().itemToMap(progressItem(), true)).isEqualTo(expected);
+    }
+
+    @Test
+    void testSchemasReadBackWhatTheyWrite() {
+        TableSchema<DynamoGoalMetadataItem> metadataSchema = GoalTableSchemas.metadata();
+        TableSchema<DynamoGoalProgressItem> progressSchema = GoalTableSchemas.progress();
+
+        assertThat(metadataSchema.mapToItem(metadataSchema.itemToMap(metadataItem(), true)))
+                .isEqualTo(metadataItem());
+        assertThat(progressSchema.mapToItem(progressSchema.itemToMap(progressItem(), true)))
+                .isEqualTo(progressItem());
+    }
+
+    @Test
+    void testSchemasSkipNullAttributes() {
+        DynamoGoalProgressItem latestItem = progressItem();
+        latestItem.setExpiresAt(null);
+
+        assertThat(GoalTableSchemas.progress().itemToMap(latestItem, true)).doesNotContainKey("expiresAt");
+    }
+
+    @Test
+    void testSchemasDeclarePkAndSkAsPrimaryKey() {
+        for (TableMetadata metadata : new TableMetadata[] {GoalTableSchemas.metadata().tableMetadata(),
+                GoalTableSchemas.progress().tableMetadata()}) {
+            assertThat(metadata.primaryPartitionKey()).isEqualTo("pk");
+            assertThat(metadata.primarySortKey()).contains("sk");
+        }
+    }
+}
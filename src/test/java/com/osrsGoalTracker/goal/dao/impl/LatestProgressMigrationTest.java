@@ -0,0 +1,101 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryIterable;
+
+@ExtendWith(MockitoExtension.class)
+class LatestProgressMigrationTest {
+    private static final String USER_ID = "testUser";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Captor
+    private ArgumentCaptor<PutItemRequest> putItemRequestCaptor;
+
+    @Captor
+    private ArgumentCaptor<DeleteItemRequest> deleteItemRequestCaptor;
+
+    private LatestProgressMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new LatestProgressMigration(dynamoDbClient, "Goals");
+        when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(item("CHARACTER#testCharacter#GOAL#goal1#2025-01-01T00:00:00Z"),
+                                item("CHARACTER#testCharacter#GOAL#goal1#LATEST"),
+                                item("CHARACTER#testCharacter#GOAL#goal2#LATEST"),
+                                item("CHARACTER#testCharacter#LATEST#goal1")))
+                        .build());
+    }
+
+    private static Map<String, AttributeValue> item(String sortKey) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("USER#" + USER_ID).build(),
+                "sk", AttributeValue.builder().s(sortKey).build(),
+                "progressValue", AttributeValue.builder().n("100").build(),
+                "timestampEpochMillis", AttributeValue.builder().n("1735689600000").build());
+    }
+
+    @Test
+    void testCopyToPrefixedCopiesLegacyLatestRecordsUnlessNewer() {
+        // Given
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("newer").build())
+                .thenReturn(null);
+
+        // When
+        int copied = migration.copyToPrefixed(USER_ID);
+
+        // Then
+        assertThat(copied).isEqualTo(1);
+        verify(dynamoDbClient, times(2)).putItem(putItemRequestCaptor.capture());
+        assertThat(putItemRequestCaptor.getAllValues())
+                .extracting(request -> request.item().get("sk").s())
+                .containsExactly("CHARACTER#testCharacter#LATEST#goal1", "CHARACTER#testCharacter#LATEST#goal2");
+        PutItemRequest copy = putItemRequestCaptor.getAllValues().get(1);
+        assertThat(copy.conditionExpression()).isEqualTo("attribute_not_exists(#timestamp) OR #timestamp < :timestamp");
+        assertThat(copy.expressionAttributeValues().get(":timestamp").n()).isEqualTo("1735689600000");
+        assertThat(copy.item().get("progressValue").n()).isEqualTo("100");
+    }
+
+    @Test
+    void testDeleteLegacyDeletesOnlyLegacyLatestRecords() {
+        // When
+        int deleted = migration.deleteLegacy(USER_ID);
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        verify(dynamoDbClient, times(2)).deleteItem(deleteItemRequestCaptor.capture());
+        assertThat(deleteItemRequestCaptor.getAllValues())
+                .extracting(request -> request.key().get("sk").s())
+                .containsExactly("CHARACTER#testCharacter#GOAL#goal1#LATEST",
+                        "CHARACTER#testCharacter#GOAL#goal2#LATEST");
+    }
+}
@@ -0,0 +1,132 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.dao.GoalDao;
+import com.osrsGoalTracker.goal.dao.RetentionPolicy;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalProgressRollupEntity;
+import com.osrsGoalTracker.goal.dao.entity.RollupResolution;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProgressCompactorTest {
+    private static final String USER_ID = "testUser";
+    private static final String CHARACTER_NAME = "testCharacter";
+    private static final String GOAL_ID = "goal123";
+    // A Wednesday, so the current week started on Monday 2025-03-10
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-12T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private GoalDao goalDao;
+
+    @Test
+    void testCompactRollsUpCompleteWeeksThatHaveNotStartedToExpire() {
+        // Given
+        ProgressCompactor compactor = new ProgressCompactor(goalDao,
+                RetentionPolicy.expireAfter(Duration.ofDays(28)), CLOCK);
+        List<GoalProgressRollupEntity> rollups = List.of(GoalProgressRollupEntity.builder().goalId(GOAL_ID).build());
+        when(goalDao.rollupProgress(USER_ID, CHARACTER_NAME, GOAL_ID, Instant.parse("2025-02-17T00:00:00Z"),
+                Instant.parse("2025-03-09T23:59:59.999Z"))).thenReturn(rollups);
+
+        // When
+        List<GoalProgressRollupEntity> compacted = compactor.compact(USER_ID, CHARACTER_NAME, GOAL_ID);
+
+        // Then - the week of 2025-02-10 already holds records older than 28 days and is skipped
+        assertThat(compacted).isSameAs(rollups);
+    }
+
+    @Test
+    void testCompactUsesGoalRetention() {
+        // Given
+        ProgressCompactor compactor = new ProgressCompactor(goalDao, RetentionPolicy.builder()
+                .defaultRetention(Duration.ofDays(365))
+                .goalRetention(GOAL_ID, Duration.ofDays(14))
+                .build(), CLOCK);
+
+        // When
+        compactor.compact(USER_ID, CHARACTER_NAME, GOAL_ID);
+
+        // Then
+        verify(goalDao).rollupProgress(USER_ID, CHARACTER_NAME, GOAL_ID, Instant.parse("2025-03-03T00:00:00Z"),
+                Instant.parse("2025-03-09T23:59:59.999Z"));
+    }
+
+    private static GoalProgressRollupEntity weeklyRollup(String bucketStart, String updatedAt) {
+        return GoalProgressRollupEntity.builder()
+                .goalId(GOAL_ID)
+                .resolution(RollupResolution.WEEKLY)
+                .bucketStart(Instant.parse(bucketStart))
+                .updatedAt(Instant.parse(updatedAt))
+                .build();
+    }
+
+    @Test
+    void testCompactSecondRunOnSameDayDoesNotReadProgressAgain() {
+        // Given - the second run finds the rollups the first run wrote
+        ProgressCompactor compactor = new ProgressCompactor(goalDao,
+                RetentionPolicy.expireAfter(Duration.ofDays(28)), CLOCK);
+        List<GoalProgressRollupEntity> rollups = List.of(
+                weeklyRollup("2025-02-17T00:00:00Z", "2025-03-12T10:00:00Z"),
+                weeklyRollup("2025-02-24T00:00:00Z", "2025-03-12T10:00:00Z"),
+                weeklyRollup("2025-03-03T00:00:00Z", "2025-03-12T10:00:00Z"));
+        when(goalDao.getProgressRollups(any(GoalEntity.class), any(Instant.class), any(Instant.class),
+                any(Duration.class))).thenReturn(List.of()).thenReturn(rollups);
+        when(goalDao.rollupProgress(USER_ID, CHARACTER_NAME, GOAL_ID, Instant.parse("2025-02-17T00:00:00Z"),
+                Instant.parse("2025-03-09T23:59:59.999Z"))).thenReturn(rollups);
+
+        // When
+        compactor.compact(USER_ID, CHARACTER_NAME, GOAL_ID);
+        List<GoalProgressRollupEntity> compacted = compactor.compact(USER_ID, CHARACTER_NAME, GOAL_ID);
+
+        // Then
+        assertThat(compacted).isEmpty();
+        verify(goalDao, times(1)).rollupProgress(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testCompactResumesAfterNewestWeekRolledUpOnceItEnded() {
+        // Given - the week of 2025-03-03 was rolled up before it ended and is compacted again
+        ProgressCompactor compactor = new ProgressCompactor(goalDao,
+                RetentionPolicy.expireAfter(Duration.ofDays(28)), CLOCK);
+        when(goalDao.getProgressRollups(any(GoalEntity.class), any(Instant.class), any(Instant.class),
+                any(Duration.class))).thenReturn(List.of(
+                        weeklyRollup("2025-02-17T00:00:00Z", "2025-02-24T02:00:00Z"),
+                        weeklyRollup("2025-03-03T00:00:00Z", "2025-03-08T12:00:00Z")));
+
+        // When
+        compactor.compact(USER_ID, CHARACTER_NAME, GOAL_ID);
+
+        // Then
+        verify(goalDao).rollupProgress(USER_ID, CHARACTER_NAME, GOAL_ID, Instant.parse("2025-02-24T00:00:00Z"),
+                Instant.parse("2025-03-09T23:59:59.999Z"));
+    }
+
+    @Test
+    void testCompactGoalKeptForeverDoesNothing() {
+        // Given
+        ProgressCompactor compactor = new ProgressCompactor(goalDao, RetentionPolicy.keepForever(), CLOCK);
+
+        // When
+        List<GoalProgressRollupEntity> compacted = compactor.compact(USER_ID, CHARACTER_NAME, GOAL_ID);
+
+        // Then
+        assertThat(compacted).isEmpty();
+        verifyNoInteractions(goalDao);
+    }
+}
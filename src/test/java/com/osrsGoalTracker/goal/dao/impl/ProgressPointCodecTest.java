@@ -0,0 +1,74 @@
+package com.osrsGoalTracker.goal.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.osrsGoalTracker.goal.dao.impl.ProgressPointCodec.Point;
+
+import org.junit.jupiter.api.Test;
+
+class ProgressPointCodecTest {
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final long START_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    @Test
+    void testEncodeThenDecodeReturnsSamePoints() {
+        // Given
+        List<Point> points = new ArrayList<>();
+        for (int day = 0; day < 31; day++) {
+            points.add(new Point(START_MILLIS + day * DAY_MILLIS, 1_000_000L + day * 25_000L));
+        }
+
+        // When
+        byte[] encoded = ProgressPointCodec.encode(points);
+
+        // Then
+        assertThat(ProgressPointCodec.decode(encoded)).isEqualTo(points);
+        assertThat(encoded.length).isLessThan(points.size() * 4 + 16);
+    }
+
+    @Test
+    void testEncodeThenDecodeKeepsIrregularGapsAndFallingValues() {
+        // Given
+        List<Point> points = List.of(
+                new Point(START_MILLIS, 13_034_431L),
+                new Point(START_MILLIS + 1, 0L),
+                new Point(START_MILLIS + 5 * DAY_MILLIS, Long.MAX_VALUE / 2),
+                new Point(START_MILLIS + 5 * DAY_MILLIS + 17, -42L));
+
+        // When
+        List<Point> decoded = ProgressPointCodec.decode(ProgressPointCodec.encode(points));
+
+        // Then
+        assertThat(decoded).isEqualTo(points);
+    }
+
+    @Test
+    void testEncodeThenDecodeEmptyReturnsEmpty() {
+        assertThat(ProgressPointCodec.decode(ProgressPointCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    void testDecodeUnknownVersionThrowsIllegalArgumentException() {
+        byte[] encoded = ProgressPointCodec.encode(List.of(new Point(START_MILLIS, 1L)));
+        encoded[0] = 9;
+
+        assertThatThrownBy(() -> ProgressPointCodec.decode(encoded))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDecodeTruncatedBytesThrowsIllegalArgumentException() {
+        byte[] encoded = ProgressPointCodec.encode(
+                List.of(new Point(START_MILLIS, 1L), new Point(START_MILLIS + 1, 2L)));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThatThrownBy(() -> ProgressPointCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
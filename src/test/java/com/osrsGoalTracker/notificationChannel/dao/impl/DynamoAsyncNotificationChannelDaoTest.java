@@ -0,0 +1,74 @@
+package com.osrsGoalTracker.notificationChannel.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.notificationChannel.dao.entity.NotificationChannelEntity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoAsyncNotificationChannelDaoTest {
+    private static final String TABLE_NAME = "test-table";
+    private static final String TEST_USER_ID = "test-user-id";
+    private static final String TEST_CHANNEL_TYPE = "DISCORD";
+    private static final String TEST_IDENTIFIER = "test-identifier";
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Captor
+    private ArgumentCaptor<PutItemRequest> putItemRequestCaptor;
+
+    private DynamoAsyncNotificationChannelDao notificationChannelDao;
+
+    @BeforeEach
+    void setUp() {
+        notificationChannelDao = new DynamoAsyncNotificationChannelDao(dynamoDbAsyncClient, TABLE_NAME);
+    }
+
+    @Test
+    void testCreateNotificationChannelWithValidInputCreatesSuccessfully() {
+        // Given
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+        NotificationChannelEntity channel = NotificationChannelEntity.builder()
+                .channelType(TEST_CHANNEL_TYPE)
+                .identifier(TEST_IDENTIFIER)
+                .isActive(true)
+                .build();
+
+        // When
+        NotificationChannelEntity createdChannel = notificationChannelDao
+                .createNotificationChannel(TEST_USER_ID, channel).join();
+
+        // Then
+        verify(dynamoDbAsyncClient).putItem(putItemRequestCaptor.capture());
+        assertThat(putItemRequestCaptor.getValue().item().get("identifier").s()).isEqualTo(TEST_IDENTIFIER);
+        assertThat(createdChannel.getChannelType()).isEqualTo(TEST_CHANNEL_TYPE);
+        assertThat(createdChannel.isActive()).isTrue();
+        assertThat(createdChannel.getUserId()).isEqualTo(TEST_USER_ID);
+    }
+
+    @Test
+    void testCreateNotificationChannelWithNullChannelThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> notificationChannelDao.createNotificationChannel(TEST_USER_ID, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Notification channel cannot be null");
+    }
+}
@@ -0,0 +1,101 @@
+package com.osrsGoalTracker.shared.dao.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class BatchGetItemExecutorTest {
+    private static final String TABLE_NAME = "test-table";
+    private static final ItemKey FIRST = new ItemKey("USER#first", "METADATA");
+    private static final ItemKey SECOND = new ItemKey("USER#second", "METADATA");
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Captor
+    private ArgumentCaptor<BatchGetItemRequest> requestCaptor;
+
+    private BatchGetItemExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BatchGetItemExecutor(dynamoDbAsyncClient, TABLE_NAME);
+    }
+
+    private static BatchGetItemResponse response(List<ItemKey> found, List<ItemKey> unprocessed) {
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        for (ItemKey key : found) {
+            items.add(key.toAttributeMap());
+        }
+        BatchGetItemResponse.Builder builder = BatchGetItemResponse.builder()
+                .responses(Map.of(TABLE_NAME, items));
+        if (!unprocessed.isEmpty()) {
+            List<Map<String, AttributeValue>> keys = new ArrayList<>();
+            for (ItemKey key : unprocessed) {
+                keys.add(key.toAttributeMap());
+            }
+            builder.unprocessedKeys(Map.of(TABLE_NAME, KeysAndAttributes.builder().keys(keys).build()));
+        }
+        return builder.build();
+    }
+
+    @Test
+    void getItems_UnprocessedKeys_AreRetried() {
+        when(dynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response(List.of(FIRST), List.of(SECOND))))
+                .thenReturn(CompletableFuture.completedFuture(response(List.of(SECOND), List.of())));
+
+        Map<ItemKey, Map<String, AttributeValue>> items = executor.getItems(List.of(FIRST, SECOND)).join();
+
+        assertThat(items).containsOnlyKeys(FIRST, SECOND);
+        verify(dynamoDbAsyncClient, times(2)).batchGetItem(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues().get(1).requestItems().get(TABLE_NAME).keys())
+                .containsExactly(SECOND.toAttributeMap());
+    }
+
+    @Test
+    void getItems_StillUnprocessedAfterLastAttempt_Fails() {
+        when(dynamoDbAsyncClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response(List.of(), List.of(FIRST))));
+
+        assertThatThrownBy(() -> executor.getItems(List.of(FIRST)).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(dynamoDbAsyncClient, times(5)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void getItems_TooManyKeys_ThrowsException() {
+        List<ItemKey> keys = new ArrayList<>();
+        for (int i = 0; i <= BatchGetItemExecutor.MAX_BATCH_GET_SIZE; i++) {
+            keys.add(new ItemKey("USER#" + i, "METADATA"));
+        }
+
+        assertThatThrownBy(() -> executor.getItems(keys))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
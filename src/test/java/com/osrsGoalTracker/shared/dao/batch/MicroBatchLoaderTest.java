@@ -0,0 +1,86 @@
+package com.osrsGoalTracker.shared.dao.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class MicroBatchLoaderTest {
+    private static final Duration LONG_WINDOW = Duration.ofMinutes(1);
+
+    private final List<List<String>> batches = new ArrayList<>();
+
+    private CompletableFuture<Map<String, String>> upperCase(List<String> keys) {
+        batches.add(keys);
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            if (!key.startsWith("missing")) {
+                values.put(key, key.toUpperCase());
+            }
+        }
+        return CompletableFuture.completedFuture(values);
+    }
+
+    @Test
+    void load_KeysWithinWindow_SentAsOneBatch() {
+        MicroBatchLoader<String, String> loader = new MicroBatchLoader<>(this::upperCase, LONG_WINDOW, 100);
+
+        CompletableFuture<String> a = loader.load("a");
+        CompletableFuture<String> b = loader.load("b");
+        CompletableFuture<String> repeated = loader.load("a");
+        CompletableFuture<String> missing = loader.load("missing");
+        loader.flush();
+
+        assertThat(batches).containsExactly(List.of("a", "b", "missing"));
+        assertThat(a.join()).isEqualTo("A");
+        assertThat(b.join()).isEqualTo("B");
+        assertThat(repeated).isSameAs(a);
+        assertThat(missing.join()).isNull();
+    }
+
+    @Test
+    void load_BatchFull_SentWithoutWaitingForWindow() {
+        MicroBatchLoader<String, String> loader = new MicroBatchLoader<>(this::upperCase, LONG_WINDOW, 2);
+
+        loader.load("a");
+        loader.load("b");
+        CompletableFuture<String> c = loader.load("c");
+
+        assertThat(batches).containsExactly(List.of("a", "b"));
+        assertThat(c).isNotDone();
+    }
+
+    @Test
+    void load_WindowEnds_SendsBatch() throws Exception {
+        MicroBatchLoader<String, String> loader = new MicroBatchLoader<>(this::upperCase, Duration.ofMillis(1), 100);
+
+        assertThat(loader.load("a").get(5, TimeUnit.SECONDS)).isEqualTo("A");
+    }
+
+    @Test
+    void load_BatchFails_FailsEveryCaller() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        MicroBatchLoader<String, String> loader = new MicroBatchLoader<>(
+                keys -> CompletableFuture.failedFuture(failure), LONG_WINDOW, 100);
+
+        CompletableFuture<String> a = loader.load("a");
+        CompletableFuture<String> b = loader.load("b");
+        loader.flush();
+
+        assertThat(a).isCompletedExceptionally();
+        assertThat(b).isCompletedExceptionally();
+        try {
+            a.join();
+        } catch (CompletionException e) {
+            assertThat(e.getCause()).isSameAs(failure);
+        }
+    }
+}
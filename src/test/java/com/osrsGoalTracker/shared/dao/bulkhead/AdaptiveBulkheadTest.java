@@ -0,0 +1,90 @@
+package com.osrsGoalTracker.shared.dao.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.osrsGoalTracker.shared.dao.exception.BulkheadFullException;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBulkheadTest {
+    private static final long MILLIS = 1_000_000L;
+
+    private final AdaptiveBulkhead bulkhead = new AdaptiveBulkhead("UserDao.READ",
+            BulkheadConfig.builder().initialLimit(10).minLimit(2).maxLimit(40).build());
+
+    // Fills the bulkhead, then completes every call with the same latency
+    private void runAtLimit(long rttNanos) {
+        int started = 0;
+        while (bulkhead.tryAcquire()) {
+            started++;
+        }
+        for (int i = 0; i < started; i++) {
+            bulkhead.onSuccess(rttNanos);
+        }
+    }
+
+    @Test
+    void testAcquireShedsCallsBeyondLimit() {
+        for (int i = 0; i < 10; i++) {
+            bulkhead.acquire();
+        }
+
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(BulkheadFullException.class)
+                .hasMessage("Bulkhead UserDao.READ is full at 10 concurrent calls");
+        assertThat(bulkhead.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void testSteadyLatencyRaisesLimitToMaximum() {
+        for (int i = 0; i < 50; i++) {
+            runAtLimit(10 * MILLIS);
+        }
+
+        assertThat(bulkhead.getLimit()).isEqualTo(40);
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void testRisingLatencyLowersLimit() {
+        runAtLimit(10 * MILLIS);
+        int before = bulkhead.getLimit();
+
+        runAtLimit(100 * MILLIS);
+
+        assertThat(bulkhead.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    void testLightLoadKeepsLimit() {
+        bulkhead.acquire();
+        bulkhead.onSuccess(10 * MILLIS);
+        for (int i = 0; i < 20; i++) {
+            bulkhead.acquire();
+            bulkhead.onSuccess(500 * MILLIS);
+        }
+
+        assertThat(bulkhead.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void testDroppedCallsCutLimitDownToMinimum() {
+        for (int i = 0; i < 30; i++) {
+            bulkhead.acquire();
+            bulkhead.onDropped();
+        }
+
+        assertThat(bulkhead.getLimit()).isEqualTo(2);
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void testConstructorRejectsInitialLimitAboveMaximum() {
+        BulkheadConfig config = BulkheadConfig.builder().initialLimit(100).maxLimit(50).build();
+
+        assertThatThrownBy(() -> new AdaptiveBulkhead("UserDao.READ", config))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+    }
+}
@@ -0,0 +1,113 @@
+package com.osrsGoalTracker.shared.dao.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.shared.dao.exception.BulkheadFullException;
+import com.osrsGoalTracker.user.dao.AsyncUserDao;
+import com.osrsGoalTracker.user.dao.UserDao;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDaoTest {
+    private static final String USER_ID = "testUser";
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private AsyncUserDao asyncUserDao;
+
+    private final BulkheadConfig config = BulkheadConfig.builder().initialLimit(1).maxLimit(1).build();
+    private final AdaptiveBulkhead reads = new AdaptiveBulkhead("UserDao.READ", config);
+    private final AdaptiveBulkhead writes = new AdaptiveBulkhead("UserDao.WRITE", config);
+    private final Map<OperationClass, AdaptiveBulkhead> bulkheads = Map.of(
+            OperationClass.READ, reads, OperationClass.WRITE, writes);
+
+    @Test
+    void testWrapRunsCallsAndReleasesBulkhead() {
+        // Given
+        UserEntity user = UserEntity.builder().userId(USER_ID).build();
+        when(userDao.getUser(USER_ID)).thenReturn(user);
+        UserDao limited = BulkheadDao.wrap(UserDao.class, userDao, bulkheads, OperationClass::of);
+
+        // When
+        UserEntity result = limited.getUser(USER_ID);
+
+        // Then
+        assertThat(result).isSameAs(user);
+        assertThat(reads.getInFlight()).isZero();
+    }
+
+    @Test
+    void testWrapShedsCallsOfFullBulkheadOnly() {
+        // Given
+        UserEntity user = UserEntity.builder().userId(USER_ID).build();
+        when(userDao.getUser(USER_ID)).thenReturn(user);
+        UserDao limited = BulkheadDao.wrap(UserDao.class, userDao, bulkheads, OperationClass::of);
+        writes.acquire();
+
+        // When / Then
+        assertThatThrownBy(() -> limited.createUser(user)).isInstanceOf(BulkheadFullException.class);
+        assertThat(limited.getUser(USER_ID)).isSameAs(user);
+    }
+
+    @Test
+    void testWrapHoldsBulkheadUntilFutureCompletes() {
+        // Given
+        CompletableFuture<UserEntity> pending = new CompletableFuture<>();
+        when(asyncUserDao.getUser(USER_ID)).thenReturn(pending);
+        AsyncUserDao limited = BulkheadDao.wrap(AsyncUserDao.class, asyncUserDao, bulkheads, OperationClass::of);
+
+        // When
+        limited.getUser(USER_ID);
+
+        // Then
+        assertThat(reads.getInFlight()).isEqualTo(1);
+        assertThatThrownBy(() -> limited.getUser(USER_ID)).isInstanceOf(BulkheadFullException.class);
+        pending.complete(UserEntity.builder().userId(USER_ID).build());
+        assertThat(reads.getInFlight()).isZero();
+    }
+
+    @Test
+    void testWrapReleasesBulkheadOnThrottle() {
+        // Given
+        ProvisionedThroughputExceededException throttle = ProvisionedThroughputExceededException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+                .statusCode(400)
+                .build();
+        when(userDao.getUser(USER_ID)).thenThrow(throttle);
+        UserDao limited = BulkheadDao.wrap(UserDao.class, userDao, bulkheads, OperationClass::of);
+
+        // When / Then
+        assertThatThrownBy(() -> limited.getUser(USER_ID)).isSameAs(throttle);
+        assertThat(reads.getInFlight()).isZero();
+    }
+
+    @Test
+    void testWrapWithConfigCreatesBulkheadPerClass() {
+        // Given
+        UserEntity user = UserEntity.builder().userId(USER_ID).build();
+        when(userDao.getUser(USER_ID)).thenReturn(user);
+        UserDao limited = BulkheadDao.wrap(UserDao.class, userDao, BulkheadConfig.defaults());
+
+        // When
+        UserEntity result = limited.getUser(USER_ID);
+
+        // Then
+        assertThat(result).isSameAs(user);
+        assertThat(limited.toString()).startsWith("BulkheadDao(");
+    }
+}
@@ -0,0 +1,151 @@
+package com.osrsGoalTracker.shared.dao.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private MutableClock clock;
+    private ExpiringLruCache<String, String> cache;
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new ExpiringLruCache<>(2, TTL, clock);
+    }
+
+    @Test
+    void get_ReturnsCachedValue() {
+        cache.put("a", "1");
+
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    void get_ExpiredEntry_ReturnsNullAndRemovesIt() {
+        cache.put("a", "1");
+        clock.advance(TTL);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_ExistingKey_RestartsTtl() {
+        cache.put("a", "1");
+        clock.advance(TTL.minusSeconds(1));
+        cache.put("a", "2");
+        clock.advance(Duration.ofSeconds(2));
+
+        assertThat(cache.get("a")).isEqualTo("2");
+    }
+
+    @Test
+    void put_Full_EvictsLeastRecentlyReadEntry() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("3");
+    }
+
+    @Test
+    void invalidate_RemovesEntry() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        cache.invalidate("a");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("2");
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void putIfNotInvalidatedSince_KeyInvalidatedDuringLoad_DoesNotCache() {
+        long generation = cache.generation();
+        cache.invalidate("a");
+
+        assertThat(cache.putIfNotInvalidatedSince("a", "stale", generation)).isFalse();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.putIfNotInvalidatedSince("a", "fresh", cache.generation())).isTrue();
+        assertThat(cache.get("a")).isEqualTo("fresh");
+    }
+
+    @Test
+    void putIfNotInvalidatedSince_OtherKeyInvalidated_Caches() {
+        long generation = cache.generation();
+        cache.invalidate("b");
+
+        assertThat(cache.putIfNotInvalidatedSince("a", "1", generation)).isTrue();
+        assertThat(cache.get("a")).isEqualTo("1");
+    }
+
+    @Test
+    void putIfNotInvalidatedSince_InvalidationNoLongerTracked_DoesNotCache() {
+        long generation = cache.generation();
+        cache.invalidate("a");
+        cache.invalidate("b");
+        cache.invalidate("c");
+
+        assertThat(cache.putIfNotInvalidatedSince("a", "stale", generation)).isFalse();
+        assertThat(cache.putIfNotInvalidatedSince("d", "stale", generation)).isFalse();
+    }
+
+    @Test
+    void putIfNotInvalidatedSince_InvalidateAllDuringLoad_DoesNotCache() {
+        long generation = cache.generation();
+        cache.invalidateAll();
+
+        assertThat(cache.putIfNotInvalidatedSince("a", "stale", generation)).isFalse();
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void constructor_InvalidSettings_ThrowsException() {
+        assertThatThrownBy(() -> new ExpiringLruCache<String, String>(0, TTL, clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxEntries must be positive");
+        assertThatThrownBy(() -> new ExpiringLruCache<String, String>(1, Duration.ZERO, clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ttl must be positive");
+    }
+}
@@ -0,0 +1,75 @@
+package com.osrsGoalTracker.shared.dao.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    private static Thread start(FutureTask<String> task) {
+        Thread thread = new Thread(task);
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void load_ConcurrentCallsForSameKey_ShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<String> leader = new FutureTask<>(() -> singleFlight.load("key", () -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        }));
+        FutureTask<String> follower = new FutureTask<>(() -> singleFlight.load("key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+
+        awaitWaiting(start(leader));
+        awaitWaiting(start(follower));
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void load_SequentialCalls_LoadEachTime() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.load("key", () -> "value" + loads.incrementAndGet());
+        String second = singleFlight.load("key", () -> "value" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("value2");
+    }
+
+    @Test
+    void load_LoaderFails_RethrowsAndForgetsKey() {
+        assertThatThrownBy(() -> singleFlight.load("key", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.load("key", () -> "value")).isEqualTo("value");
+    }
+}
@@ -0,0 +1,50 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+class DaoMetricsInterceptorTest {
+    @Test
+    void testWithConsumedCapacityAsksForTotal() {
+        GetItemRequest request = (GetItemRequest) DaoMetricsInterceptor.withConsumedCapacity(
+                GetItemRequest.builder().tableName("Goals").build());
+
+        assertThat(request.returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.TOTAL);
+        assertThat(request.tableName()).isEqualTo("Goals");
+    }
+
+    @Test
+    void testWithConsumedCapacityKeepsExplicitSetting() {
+        QueryRequest request = QueryRequest.builder()
+                .returnConsumedCapacity(ReturnConsumedCapacity.INDEXES)
+                .build();
+
+        assertThat(DaoMetricsInterceptor.withConsumedCapacity(request)).isSameAs(request);
+    }
+
+    @Test
+    void testConsumedCapacityOfSumsEveryTable() {
+        BatchWriteItemResponse response = BatchWriteItemResponse.builder()
+                .consumedCapacity(List.of(
+                        ConsumedCapacity.builder().tableName("Goals").capacityUnits(2.0).build(),
+                        ConsumedCapacity.builder().tableName("Users").capacityUnits(0.5).build()))
+                .build();
+
+        assertThat(DaoMetricsInterceptor.consumedCapacityOf(response)).isEqualTo(2.5);
+    }
+
+    @Test
+    void testConsumedCapacityOfResponseWithoutCapacityIsZero() {
+        assertThat(DaoMetricsInterceptor.consumedCapacityOf(QueryResponse.builder().build())).isZero();
+    }
+}
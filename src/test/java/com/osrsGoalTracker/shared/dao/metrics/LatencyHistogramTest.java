@@ -0,0 +1,53 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    @Test
+    void testPercentilesAreWithinThreePercent() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        // Then
+        assertThat(histogram.count()).isEqualTo(100_000);
+        assertThat((double) histogram.percentile(0.5)).isCloseTo(50_000_000, within(1_500_000.0));
+        assertThat((double) histogram.percentile(0.99)).isCloseTo(99_000_000, within(3_000_000.0));
+        assertThat((double) histogram.percentile(0.999)).isCloseTo(99_900_000, within(3_000_000.0));
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+
+        assertThat(histogram.percentile(0.5)).isEqualTo(3);
+        assertThat(histogram.percentile(1)).isEqualTo(7);
+    }
+
+    @Test
+    void testEmptyHistogramReturnsZero() {
+        assertThat(new LatencyHistogram().percentile(0.99)).isZero();
+    }
+
+    @Test
+    void testLargestValueDoesNotOverflow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.percentile(1)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void testFractionOutOfRangeThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new LatencyHistogram().percentile(1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
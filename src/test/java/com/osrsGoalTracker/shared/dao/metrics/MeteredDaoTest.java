@@ -0,0 +1,93 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.osrsGoalTracker.user.dao.AsyncUserDao;
+import com.osrsGoalTracker.user.dao.UserDao;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredDaoTest {
+    private static final String USER_ID = "testUser";
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private AsyncUserDao asyncUserDao;
+
+    private final InMemoryDaoMetrics metrics = new InMemoryDaoMetrics();
+
+    @Test
+    void testWrapRecordsCallsAndExposesCurrentOperation() {
+        // Given
+        UserEntity user = UserEntity.builder().userId(USER_ID).build();
+        String[] operationDuringCall = new String[1];
+        when(userDao.getUser(USER_ID)).thenAnswer(invocation -> {
+            operationDuringCall[0] = MeteredDao.currentOperation();
+            return user;
+        });
+        UserDao metered = MeteredDao.wrap(UserDao.class, userDao, metrics);
+
+        // When
+        UserEntity result = metered.getUser(USER_ID);
+
+        // Then
+        assertThat(result).isSameAs(user);
+        assertThat(operationDuringCall[0]).isEqualTo("UserDao.getUser");
+        assertThat(MeteredDao.currentOperation()).isNull();
+        OperationMetrics getUser = metrics.get("UserDao.getUser");
+        assertThat(getUser.getCalls()).isEqualTo(1);
+        assertThat(getUser.getErrors()).isZero();
+        assertThat(getUser.getP50()).isPositive();
+    }
+
+    @Test
+    void testWrapCountsThrottlesAndRethrows() {
+        // Given
+        ProvisionedThroughputExceededException throttle = ProvisionedThroughputExceededException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+                .statusCode(400)
+                .build();
+        when(userDao.getUser(USER_ID)).thenThrow(throttle);
+        UserDao metered = MeteredDao.wrap(UserDao.class, userDao, metrics);
+
+        // When / Then
+        assertThatThrownBy(() -> metered.getUser(USER_ID)).isSameAs(throttle);
+        OperationMetrics getUser = metrics.get("UserDao.getUser");
+        assertThat(getUser.getCalls()).isEqualTo(1);
+        assertThat(getUser.getErrors()).isEqualTo(1);
+        assertThat(getUser.getThrottles()).isEqualTo(1);
+    }
+
+    @Test
+    void testWrapMeasuresFuturesUntilTheyComplete() {
+        // Given
+        CompletableFuture<UserEntity> pending = new CompletableFuture<>();
+        when(asyncUserDao.getUser(USER_ID)).thenReturn(pending);
+        AsyncUserDao metered = MeteredDao.wrap(AsyncUserDao.class, asyncUserDao, metrics);
+
+        // When
+        CompletableFuture<UserEntity> result = metered.getUser(USER_ID);
+
+        // Then
+        assertThat(metrics.get("AsyncUserDao.getUser").getCalls()).isZero();
+        pending.completeExceptionally(new IllegalStateException("failed"));
+        assertThat(result).isCompletedExceptionally();
+        assertThat(metrics.get("AsyncUserDao.getUser").getCalls()).isEqualTo(1);
+        assertThat(metrics.get("AsyncUserDao.getUser").getErrors()).isEqualTo(1);
+        assertThat(metrics.get("AsyncUserDao.getUser").getThrottles()).isZero();
+    }
+}
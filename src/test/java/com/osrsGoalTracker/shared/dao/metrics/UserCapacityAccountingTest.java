@@ -0,0 +1,114 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.osrsGoalTracker.shared.dao.exception.CapacityBudgetExceededException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UserCapacityAccountingTest {
+    private static final Duration WINDOW = Duration.ofMinutes(6);
+
+    private MutableClock clock;
+    private UserCapacityAccounting accounting;
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        accounting = new UserCapacityAccounting(3, WINDOW, clock);
+    }
+
+    @Test
+    void testTopUsersReportsHeaviestUsersFirst() {
+        // Given - one scripted account and many light users, more than the sketch tracks
+        for (int i = 0; i < 100; i++) {
+            accounting.record("scripted", 5, 0);
+            accounting.record("light" + i, 0.5, 1);
+        }
+
+        // When
+        List<UserCapacity> top = accounting.topUsers(1);
+
+        // Then
+        assertThat(top).hasSize(1);
+        assertThat(top.get(0).getUserId()).isEqualTo("scripted");
+        assertThat(top.get(0).getTotalUnits()).isGreaterThanOrEqualTo(500);
+        assertThat(top.get(0).getTotalUnits() - top.get(0).getOverestimate()).isLessThanOrEqualTo(500);
+    }
+
+    @Test
+    void testRecordsSeparateReadAndWriteUnits() {
+        accounting.record("user", 2, 0);
+        accounting.record("user", 0, 3);
+
+        UserCapacity user = accounting.topUsers(5).get(0);
+        assertThat(user.getReadUnits()).isEqualTo(2);
+        assertThat(user.getWriteUnits()).isEqualTo(3);
+        assertThat(accounting.unitsOf("user")).isEqualTo(5);
+    }
+
+    @Test
+    void testCapacityOlderThanWindowIsForgotten() {
+        // Given
+        accounting.record("user", 10, 0);
+        clock.advance(Duration.ofMinutes(3));
+        accounting.record("user", 1, 0);
+
+        // Then
+        assertThat(accounting.unitsOf("user")).isEqualTo(11);
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(accounting.unitsOf("user")).isEqualTo(1);
+        clock.advance(Duration.ofMinutes(3));
+        assertThat(accounting.topUsers(5)).isEmpty();
+    }
+
+    @Test
+    void testRefuseAboveBudgetThrowsForUsersOverQuota() {
+        CapacityBudget budget = CapacityBudget.refuseAbove(100);
+
+        assertThat(budget.admit("user", 50)).isZero();
+        assertThatThrownBy(() -> budget.admit("user", 150))
+                .isInstanceOf(CapacityBudgetExceededException.class)
+                .hasMessageContaining("User user consumed 150.0 capacity units");
+    }
+
+    @Test
+    void testDelayAboveBudgetDelaysUsersOverQuota() {
+        CapacityBudget budget = CapacityBudget.delayAbove(100, Duration.ofMillis(250));
+
+        assertThat(budget.admit("user", 50)).isZero();
+        assertThat(budget.admit("user", 150)).isEqualTo(Duration.ofMillis(250));
+    }
+}
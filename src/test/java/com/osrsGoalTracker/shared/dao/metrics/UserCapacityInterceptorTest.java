@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.shared.dao.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+
+class UserCapacityInterceptorTest {
+    private static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    @Test
+    void testUserIdOfGetItemReadsPartitionKey() {
+        GetItemRequest request = GetItemRequest.builder()
+                .key(Map.of("pk", s("USER#12345"), "sk", s("METADATA")))
+                .build();
+
+        assertThat(UserCapacityInterceptor.userIdOf(request)).isEqualTo("12345");
+    }
+
+    @Test
+    void testUserIdOfQueryStripsShardSuffix() {
+        QueryRequest request = QueryRequest.builder()
+                .expressionAttributeValues(Map.of(":pk", s("USER#12345#P#3")))
+                .build();
+
+        assertThat(UserCapacityInterceptor.userIdOf(request)).isEqualTo("12345");
+    }
+
+    @Test
+    void testUserIdOfTransactionUsesFirstItem() {
+        TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+                .transactItems(TransactWriteItem.builder()
+                        .put(Put.builder().item(Map.of("pk", s("USER#12345"), "sk", s("METADATA"))).build())
+                        .build())
+                .build();
+
+        assertThat(UserCapacityInterceptor.userIdOf(request)).isEqualTo("12345");
+    }
+
+    @Test
+    void testUserIdOfEmailIndexQueryIsNull() {
+        QueryRequest request = QueryRequest.builder()
+                .expressionAttributeValues(Map.of(":email", s("user@example.com"), ":sk", s("METADATA")))
+                .build();
+
+        assertThat(UserCapacityInterceptor.userIdOf(request)).isNull();
+    }
+}
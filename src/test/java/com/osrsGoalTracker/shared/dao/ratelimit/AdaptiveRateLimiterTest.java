@@ -0,0 +1,104 @@
+package com.osrsGoalTracker.shared.dao.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    private AtomicLong nanos;
+    private AdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        limiter = new AdaptiveRateLimiter(100, 10, 200, 10, 0.5, nanos::get);
+    }
+
+    @Test
+    void testReserveWithinBurstDoesNotWait() {
+        assertThat(limiter.reserve(100)).isZero();
+    }
+
+    @Test
+    void testReserveBeyondBurstWaitsForDebt() {
+        limiter.reserve(100);
+
+        assertThat(limiter.reserve(25)).isEqualTo(SECOND / 4);
+    }
+
+    @Test
+    void testTokensRefillAtRate() {
+        limiter.reserve(100);
+        nanos.addAndGet(SECOND / 2);
+
+        assertThat(limiter.reserve(50)).isZero();
+        assertThat(limiter.reserve(1)).isPositive();
+    }
+
+    @Test
+    void testThrottleHalvesRateAndDropsBurst() {
+        limiter.onThrottle();
+
+        assertThat(limiter.getRate()).isEqualTo(50);
+        assertThat(limiter.reserve(25)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void testThrottlesWithinCooldownCutOnce() {
+        limiter.onThrottle();
+        limiter.onThrottle();
+        nanos.addAndGet(SECOND);
+        limiter.onThrottle();
+
+        assertThat(limiter.getRate()).isEqualTo(25);
+    }
+
+    @Test
+    void testThrottleNeverCutsBelowMinimum() {
+        for (int i = 0; i < 10; i++) {
+            limiter.onThrottle();
+            nanos.addAndGet(SECOND);
+        }
+
+        assertThat(limiter.getRate()).isEqualTo(10);
+    }
+
+    @Test
+    void testSuccessesRaiseRateAdditively() {
+        // One second of successful requests at the current rate
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess(1);
+        }
+
+        assertThat(limiter.getRate()).isCloseTo(110, within(0.5));
+    }
+
+    @Test
+    void testSuccessesNeverRaiseAboveMaximum() {
+        for (int i = 0; i < 10_000; i++) {
+            limiter.onSuccess(25);
+        }
+
+        assertThat(limiter.getRate()).isEqualTo(200);
+    }
+
+    @Test
+    void testConstructorRejectsInitialRateBelowMinimum() {
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(5, 10, 200))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testConstructorRejectsDecreaseFactorOfOne() {
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(100, 10, 200, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("decreaseFactor must be between 0 and 1");
+    }
+}
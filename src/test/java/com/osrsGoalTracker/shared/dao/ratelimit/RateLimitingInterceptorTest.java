@@ -0,0 +1,125 @@
+package com.osrsGoalTracker.shared.dao.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+class RateLimitingInterceptorTest {
+    private static final String THROUGHPUT_EXCEEDED =
+            "com.amazonaws.dynamodb.v20120810#ProvisionedThroughputExceededException";
+
+    private static SdkHttpResponse response(int statusCode, String errorType) {
+        SdkHttpFullResponse.Builder response = SdkHttpFullResponse.builder().statusCode(statusCode);
+        if (errorType != null) {
+            response.putHeader("x-amzn-ErrorType", errorType);
+        }
+        return response.build();
+    }
+
+    private static WriteRequest put() {
+        Map<String, AttributeValue> item = Map.of("pk", AttributeValue.builder().s("USER#1").build());
+        return WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build();
+    }
+
+    @Test
+    void testPermitsOfPutIsOne() {
+        assertThat(RateLimitingInterceptor.permitsOf(PutItemRequest.builder().build())).isEqualTo(1);
+    }
+
+    @Test
+    void testPermitsOfBatchWriteCountsItemsAcrossTables() {
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder()
+                .requestItems(Map.of("Goals", List.of(put(), put()), "Progress", List.of(put())))
+                .build();
+
+        assertThat(RateLimitingInterceptor.permitsOf(request)).isEqualTo(3);
+    }
+
+    @Test
+    void testPermitsOfReadIsZero() {
+        assertThat(RateLimitingInterceptor.permitsOf(GetItemRequest.builder().build())).isZero();
+    }
+
+    @Test
+    void testIsThrottleRecognizesThroughputExceeded() {
+        assertThat(RateLimitingInterceptor.isThrottle(ProvisionedThroughputExceededException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ProvisionedThroughputExceededException").build())
+                .build())).isTrue();
+    }
+
+    @Test
+    void testIsThrottleRecognizesThrottlingException() {
+        assertThat(RateLimitingInterceptor.isThrottle(DynamoDbException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                .build())).isTrue();
+    }
+
+    @Test
+    void testIsThrottleIgnoresOtherErrors() {
+        assertThat(RateLimitingInterceptor.isThrottle(DynamoDbException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ValidationException").build())
+                .build())).isFalse();
+    }
+
+    @Test
+    void testIsThrottleRecognizesThrottledResponse() {
+        assertThat(RateLimitingInterceptor.isThrottle(response(400, THROUGHPUT_EXCEEDED))).isTrue();
+        assertThat(RateLimitingInterceptor.isThrottle(response(400, "ThrottlingException:http://internal/"))).isTrue();
+    }
+
+    @Test
+    void testIsThrottleIgnoresOtherResponses() {
+        assertThat(RateLimitingInterceptor.isThrottle(response(200, null))).isFalse();
+        assertThat(RateLimitingInterceptor.isThrottle(response(400, null))).isFalse();
+        assertThat(RateLimitingInterceptor.isThrottle(
+                response(400, "com.amazonaws.dynamodb.v20120810#ConditionalCheckFailedException"))).isFalse();
+    }
+
+    @Test
+    void testThrottledAttemptFollowedBySuccessfulRetryLowersRate() {
+        // Given
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(100, 5, 1000);
+        RateLimitingInterceptor interceptor = new RateLimitingInterceptor(limiter);
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        Context.BeforeExecution beforeExecution = mock(Context.BeforeExecution.class);
+        when(beforeExecution.request()).thenReturn(PutItemRequest.builder().build());
+        Context.BeforeTransmission beforeTransmission = mock(Context.BeforeTransmission.class);
+        Context.AfterTransmission throttled = mock(Context.AfterTransmission.class);
+        when(throttled.httpResponse()).thenReturn(response(400, THROUGHPUT_EXCEEDED));
+        Context.AfterTransmission succeeded = mock(Context.AfterTransmission.class);
+        when(succeeded.httpResponse()).thenReturn(response(200, null));
+        Context.AfterExecution afterExecution = mock(Context.AfterExecution.class);
+        when(afterExecution.response()).thenReturn(PutItemResponse.builder().build());
+
+        // When
+        interceptor.beforeExecution(beforeExecution, attributes);
+        interceptor.beforeTransmission(beforeTransmission, attributes);
+        interceptor.afterTransmission(throttled, attributes);
+        interceptor.beforeTransmission(beforeTransmission, attributes);
+        interceptor.afterTransmission(succeeded, attributes);
+        interceptor.afterExecution(afterExecution, attributes);
+
+        // Then
+        assertThat(limiter.getRate()).isLessThan(100);
+    }
+}
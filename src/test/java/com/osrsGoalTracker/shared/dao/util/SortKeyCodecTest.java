@@ -0,0 +1,119 @@
+package com.osrsGoalTracker.shared.dao.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+class SortKeyCodecTest {
+    private static final String CHARACTER_NAME = "test Char";
+    private static final String GOAL_ID = "goal123";
+
+    @Test
+    void testBuildersMatchDocumentedFormats() {
+        Instant timestamp = Instant.parse("2025-01-01T12:34:56.789Z");
+
+        assertThat(SortKeyCodec.userMetadata()).isEqualTo("METADATA");
+        assertThat(SortKeyCodec.notificationChannel("DISCORD")).isEqualTo("NOTIFICATION#DISCORD");
+        assertThat(SortKeyCodec.characterMetadata(CHARACTER_NAME)).isEqualTo("CHARACTER#METADATA#test Char");
+        assertThat(SortKeyCodec.goalMetadata(CHARACTER_NAME, GOAL_ID))
+                .isEqualTo("CHARACTER#test Char#GOAL#METADATA#goal123");
+        assertThat(SortKeyCodec.goalProgressPrefix(CHARACTER_NAME, GOAL_ID))
+                .isEqualTo("CHARACTER#test Char#GOAL#goal123#");
+        assertThat(SortKeyCodec.goalProgress(CHARACTER_NAME, GOAL_ID, timestamp))
+                .isEqualTo("CHARACTER#test Char#GOAL#goal123#2025-01-01T12:34:56.789Z");
+        assertThat(SortKeyCodec.goalLatest(CHARACTER_NAME, GOAL_ID))
+                .isEqualTo("CHARACTER#test Char#GOAL#goal123#LATEST");
+        assertThat(SortKeyCodec.goalEarliest(CHARACTER_NAME, GOAL_ID))
+                .isEqualTo("CHARACTER#test Char#GOAL#goal123#EARLIEST");
+        assertThat(SortKeyCodec.goalRollupPrefix(CHARACTER_NAME, GOAL_ID, "D"))
+                .isEqualTo("CHARACTER#test Char#GOAL#goal123#ROLLUP#D#");
+        assertThat(SortKeyCodec.goalRollup(CHARACTER_NAME, GOAL_ID, "W", LocalDate.parse("2024-12-30")))
+                .isEqualTo("CHARACTER#test Char#GOAL#goal123#ROLLUP#W#2024-12-30");
+    }
+
+    @Test
+    void testParseGoalProgressReturnsTypedComponents() {
+        Instant timestamp = Instant.parse("2025-01-01T00:00:00Z");
+
+        SortKey sortKey = SortKeyCodec.parse(SortKeyCodec.goalProgress(CHARACTER_NAME, GOAL_ID, timestamp));
+
+        assertThat(sortKey.getKind()).isEqualTo(SortKey.Kind.GOAL_PROGRESS);
+        assertThat(sortKey.getCharacterName()).isEqualTo(CHARACTER_NAME);
+        assertThat(sortKey.getGoalId()).isEqualTo(GOAL_ID);
+        assertThat(sortKey.getTimestamp()).isEqualTo(timestamp);
+    }
+
+    @Test
+    void testParseGoalRollupReturnsResolutionAndBucket() {
+        SortKey sortKey = SortKeyCodec.parse(
+                SortKeyCodec.goalRollup(CHARACTER_NAME, GOAL_ID, "W", LocalDate.parse("2024-12-30")));
+
+        assertThat(sortKey.getKind()).isEqualTo(SortKey.Kind.GOAL_ROLLUP);
+        assertThat(sortKey.getGoalId()).isEqualTo(GOAL_ID);
+        assertThat(sortKey.getRollupResolution()).isEqualTo("W");
+        assertThat(sortKey.getRollupBucket()).isEqualTo(LocalDate.parse("2024-12-30"));
+    }
+
+    @Test
+    void testParseGoalPackedMonthReturnsMonth() {
+        String sortKey = SortKeyCodec.goalPackedMonth(CHARACTER_NAME, GOAL_ID, YearMonth.of(2025, 1));
+
+        assertThat(sortKey).isEqualTo("CHARACTER#test Char#GOAL#goal123#PACKED#2025-01");
+        assertThat(sortKey).startsWith(SortKeyCodec.goalPackedPrefix(CHARACTER_NAME, GOAL_ID));
+        SortKey parsed = SortKeyCodec.parse(sortKey);
+        assertThat(parsed.getKind()).isEqualTo(SortKey.Kind.GOAL_PACKED_MONTH);
+        assertThat(parsed.getGoalId()).isEqualTo(GOAL_ID);
+        assertThat(parsed.getPackedMonth()).isEqualTo(YearMonth.of(2025, 1));
+    }
+
+    @Test
+    void testParseCharacterLatestReturnsCharacterAndGoal() {
+        String sortKey = SortKeyCodec.characterLatest(CHARACTER_NAME, GOAL_ID);
+
+        assertThat(sortKey).isEqualTo("CHARACTER#test Char#LATEST#goal123");
+        assertThat(sortKey).startsWith(SortKeyCodec.characterLatestPrefix(CHARACTER_NAME));
+        SortKey parsed = SortKeyCodec.parse(sortKey);
+        assertThat(parsed.getKind()).isEqualTo(SortKey.Kind.CHARACTER_LATEST);
+        assertThat(parsed.getCharacterName()).isEqualTo(CHARACTER_NAME);
+        assertThat(parsed.getGoalId()).isEqualTo(GOAL_ID);
+        assertThat(SortKeyCodec.kindOf(SortKeyCodec.characterLatest("METADATA", GOAL_ID)))
+                .isEqualTo(SortKey.Kind.CHARACTER_LATEST);
+    }
+
+    @Test
+    void testParseMetadataKeys() {
+        assertThat(SortKeyCodec.parse("METADATA").getKind()).isEqualTo(SortKey.Kind.USER_METADATA);
+        assertThat(SortKeyCodec.parse("NOTIFICATION#SMS").getChannelType()).isEqualTo("SMS");
+        assertThat(SortKeyCodec.parse("CHARACTER#METADATA#test Char").getCharacterName()).isEqualTo(CHARACTER_NAME);
+
+        SortKey goalMetadata = SortKeyCodec.parse(SortKeyCodec.goalMetadata(CHARACTER_NAME, GOAL_ID));
+        assertThat(goalMetadata.getKind()).isEqualTo(SortKey.Kind.GOAL_METADATA);
+        assertThat(goalMetadata.getCharacterName()).isEqualTo(CHARACTER_NAME);
+        assertThat(goalMetadata.getGoalId()).isEqualTo(GOAL_ID);
+    }
+
+    @Test
+    void testKindOfCharacterNamedMetadataIsGoalKey() {
+        assertThat(SortKeyCodec.kindOf(SortKeyCodec.goalLatest("METADATA", GOAL_ID)))
+                .isEqualTo(SortKey.Kind.GOAL_LATEST);
+        assertThat(SortKeyCodec.kindOf(SortKeyCodec.goalMetadata("METADATA", GOAL_ID)))
+                .isEqualTo(SortKey.Kind.GOAL_METADATA);
+        assertThat(SortKeyCodec.kindOf(SortKeyCodec.characterMetadata("METADATA")))
+                .isEqualTo(SortKey.Kind.CHARACTER_METADATA);
+    }
+
+    @Test
+    void testKindOfForeignKeysIsUnknown() {
+        assertThat(SortKeyCodec.kindOf(null)).isEqualTo(SortKey.Kind.UNKNOWN);
+        assertThat(SortKeyCodec.kindOf("EMAIL#user@example.com")).isEqualTo(SortKey.Kind.UNKNOWN);
+        assertThat(SortKeyCodec.kindOf("CHARACTER#test Char")).isEqualTo(SortKey.Kind.UNKNOWN);
+        assertThat(SortKeyCodec.kindOf("CHARACTER#test Char#GOAL#goal123#")).isEqualTo(SortKey.Kind.UNKNOWN);
+        assertThat(SortKeyCodec.kindOf("CHARACTER#test Char#GOAL#goal123#LATESTX")).isEqualTo(SortKey.Kind.UNKNOWN);
+        assertThat(SortKeyCodec.kindOf("CHARACTER#test Char#LATEST#")).isEqualTo(SortKey.Kind.UNKNOWN);
+        assertThat(SortKeyCodec.parse("CHARACTER#test Char").getGoalId()).isNull();
+    }
+}
@@ -2,6 +2,8 @@ package com.osrsGoalTracker.shared.dao.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 class SortKeyUtilTest {
@@ -13,6 +15,7 @@ class SortKeyUtilTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void testGetGoalMetadataSortKeyReturnsCorrectFormat() {
         String characterName = "testChar";
         String goalId = "goal123";
@@ -22,6 +25,7 @@ class SortKeyUtilTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void testGetLatestGoalProgressSortKeyReturnsCorrectFormat() {
         String characterName = "testChar";
         String goalId = "goal123";
@@ -31,6 +35,7 @@ class SortKeyUtilTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void testGetEarliestGoalProgressSortKeyReturnsCorrectFormat() {
         String characterName = "testChar";
         String goalId = "goal123";
@@ -39,6 +44,24 @@ class SortKeyUtilTest {
                 .isEqualTo("CHARACTER#testChar#GOAL#goal123#EARLIEST");
     }
 
+    @Test
+    void testBuildGoalMetadataSortKeyReturnsCorrectFormat() {
+        assertThat(SortKeyUtil.buildGoalMetadataSortKey("testChar", "goal123"))
+                .isEqualTo("CHARACTER#testChar#GOAL#METADATA#goal123");
+    }
+
+    @Test
+    void testBuildGoalLatestSortKeyReturnsCorrectFormat() {
+        assertThat(SortKeyUtil.buildGoalLatestSortKey("testChar", "goal123"))
+                .isEqualTo("CHARACTER#testChar#GOAL#goal123#LATEST");
+    }
+
+    @Test
+    void testBuildGoalEarliestSortKeyReturnsCorrectFormat() {
+        assertThat(SortKeyUtil.buildGoalEarliestSortKey("testChar", "goal123"))
+                .isEqualTo("CHARACTER#testChar#GOAL#goal123#EARLIEST");
+    }
+
     @Test
     void testGetNotificationChannelSortKeyReturnsCorrectFormat() {
         String channelType = "DISCORD";
@@ -60,4 +83,21 @@ class SortKeyUtilTest {
         assertThat(SortKeyUtil.CHARACTER_METADATA_PREFIX)
                 .isEqualTo("CHARACTER#METADATA#");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBuildGoalProgressPrefixReturnsCorrectFormat() {
+        String characterName = "testChar";
+        String goalId = "goal123";
+
+        assertThat(SortKeyUtil.buildGoalProgressPrefix(characterName, goalId))
+                .isEqualTo("CHARACTER#testChar#GOAL#goal123#");
+    }
+
+    @Test
+    void testBuildGoalRollupSortKeyReturnsCorrectFormat() {
+        assertThat(SortKeyUtil.buildGoalRollupSortKey("testChar", "goal123", "D", LocalDate.of(2025, 1, 1)))
+                .isEqualTo("CHARACTER#testChar#GOAL#goal123#ROLLUP#D#2025-01-01");
+        assertThat(SortKeyUtil.buildGoalRollupPrefix("testChar", "goal123", "W"))
+                .isEqualTo("CHARACTER#testChar#GOAL#goal123#ROLLUP#W#");
+    }
+}
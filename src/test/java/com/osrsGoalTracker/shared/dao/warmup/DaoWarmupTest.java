@@ -0,0 +1,85 @@
+package com.osrsGoalTracker.shared.dao.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+@ExtendWith(MockitoExtension.class)
+class DaoWarmupTest {
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Captor
+    private ArgumentCaptor<PutItemRequest> putItemRequestCaptor;
+
+    @Test
+    void testPrimeSendsReadsAndANeverWritingPut() {
+        // Given
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("missing").build());
+
+        // When
+        new DaoWarmup(dynamoDbClient, "Goals").prime();
+
+        // Then
+        verify(dynamoDbClient).getItem(any(GetItemRequest.class));
+        verify(dynamoDbClient).query(any(QueryRequest.class));
+        verify(dynamoDbClient).putItem(putItemRequestCaptor.capture());
+        PutItemRequest put = putItemRequestCaptor.getValue();
+        assertThat(put.tableName()).isEqualTo("Goals");
+        assertThat(put.conditionExpression()).isEqualTo("attribute_exists(pk)");
+        assertThat(put.item().get("pk").s()).doesNotStartWith("USER#");
+    }
+
+    @Test
+    void testPrimeSkipsFailedRequests() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenThrow(DynamoDbException.builder().message("AccessDenied").build());
+
+        // When / Then
+        assertThatCode(() -> new DaoWarmup(dynamoDbClient, "Goals").prime()).doesNotThrowAnyException();
+        verify(dynamoDbClient).query(any(QueryRequest.class));
+        verify(dynamoDbClient).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void testConnectSendsOnlyGetItem() {
+        // When
+        new DaoWarmup(dynamoDbClient, "Goals").connect();
+
+        // Then
+        verify(dynamoDbClient).getItem(any(GetItemRequest.class));
+        verifyNoMoreInteractions(dynamoDbClient);
+    }
+
+    @Test
+    void testPrimeMappingRunsWithoutClient() {
+        assertThatCode(DaoWarmup::primeMapping).doesNotThrowAnyException();
+    }
+
+    @Test
+    void testConstructorWithEmptyTableNameThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new DaoWarmup(dynamoDbClient, ""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Table name cannot be null or empty");
+    }
+}
@@ -0,0 +1,74 @@
+package com.osrsGoalTracker.shared.dao.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+class RestorableDynamoDbClientTest {
+    private final DynamoDbClient first = mock(DynamoDbClient.class);
+    private final DynamoDbClient second = mock(DynamoDbClient.class);
+    private final Deque<DynamoDbClient> clients = new ArrayDeque<>(List.of(first, second));
+
+    private RestorableDynamoDbClient restorable;
+
+    @BeforeEach
+    void setUp() {
+        restorable = new RestorableDynamoDbClient(clients::poll, "Goals");
+    }
+
+    @Test
+    void testClientForwardsToCurrentClient() {
+        // Given
+        GetItemResponse response = GetItemResponse.builder().build();
+        GetItemRequest request = GetItemRequest.builder().tableName("Goals").build();
+        when(first.getItem(request)).thenReturn(response);
+
+        // When / Then
+        assertThat(restorable.client().getItem(request)).isSameAs(response);
+    }
+
+    @Test
+    void testBeforeCheckpointPrimesAndClosesClient() {
+        // When
+        restorable.beforeCheckpoint(null);
+
+        // Then
+        verify(first).query(any(QueryRequest.class));
+        verify(first).close();
+        assertThatThrownBy(() -> restorable.client().getItem(GetItemRequest.builder().build()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("DynamoDbClient is closed for a checkpoint");
+    }
+
+    @Test
+    void testAfterRestoreConnectsNewClient() {
+        // Given
+        restorable.beforeCheckpoint(null);
+        GetItemRequest request = GetItemRequest.builder().tableName("Goals").build();
+
+        // When
+        restorable.afterRestore(null);
+        restorable.client().getItem(request);
+
+        // Then - one GetItem connects the new client, the other is forwarded
+        verify(second, never()).query(any(QueryRequest.class));
+        verify(second).getItem(request);
+        assertThat(clients).isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.osrsGoalTracker.shared.dao.cache.ExpiringLruCache;
+import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.dao.UserDao;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserDaoTest {
+    private static final String TEST_USER_ID = "test-user-id";
+
+    @Mock
+    private UserDao delegate;
+
+    private CachingUserDao userDao;
+
+    @BeforeEach
+    void setUp() {
+        userDao = new CachingUserDao(delegate, 10, Duration.ofMinutes(5));
+    }
+
+    private UserEntity user() {
+        return UserEntity.builder()
+                .userId(TEST_USER_ID)
+                .email("test@example.com")
+                .build();
+    }
+
+    @Test
+    void getUser_SecondRead_ServedFromCache() {
+        UserEntity user = user();
+        when(delegate.getUser(TEST_USER_ID)).thenReturn(user);
+
+        assertThat(userDao.getUser(TEST_USER_ID)).isSameAs(user);
+        assertThat(userDao.getUser(TEST_USER_ID)).usingRecursiveComparison().isEqualTo(user);
+
+        verify(delegate, times(1)).getUser(TEST_USER_ID);
+    }
+
+    @Test
+    void getUser_ReturnedUserChanged_CachedUserUnchanged() {
+        when(delegate.getUser(TEST_USER_ID)).thenReturn(user());
+
+        userDao.getUser(TEST_USER_ID).setUpdatedAt(Instant.EPOCH);
+        userDao.getUser(TEST_USER_ID).setUpdatedAt(Instant.EPOCH);
+
+        assertThat(userDao.getUser(TEST_USER_ID).getUpdatedAt()).isNull();
+        verify(delegate, times(1)).getUser(TEST_USER_ID);
+    }
+
+    @Test
+    void getUser_InvalidatedDuringRead_DoesNotCacheStaleUser() {
+        ExpiringLruCache<String, UserEntity> usersById = new ExpiringLruCache<>(10, Duration.ofMinutes(5));
+        userDao = new CachingUserDao(delegate, usersById);
+        when(delegate.getUser(TEST_USER_ID))
+                .thenAnswer(invocation -> {
+                    // The cache owner drops every entry after this read has been served by DynamoDB
+                    usersById.invalidateAll();
+                    return user();
+                })
+                .thenReturn(user());
+
+        userDao.getUser(TEST_USER_ID);
+        userDao.getUser(TEST_USER_ID);
+
+        verify(delegate, times(2)).getUser(TEST_USER_ID);
+    }
+
+    @Test
+    void getUser_NotFound_IsNotCached() {
+        when(delegate.getUser(TEST_USER_ID)).thenThrow(new ResourceNotFoundException("User not found"));
+
+        assertThatThrownBy(() -> userDao.getUser(TEST_USER_ID)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> userDao.getUser(TEST_USER_ID)).isInstanceOf(ResourceNotFoundException.class);
+
+        verify(delegate, times(2)).getUser(TEST_USER_ID);
+    }
+
+    @Test
+    void createUser_CachesCreatedUser() {
+        UserEntity toCreate = UserEntity.builder().email("test@example.com").build();
+        UserEntity created = user();
+        when(delegate.createUser(toCreate)).thenReturn(created);
+
+        userDao.createUser(toCreate).setUpdatedAt(Instant.EPOCH);
+
+        assertThat(userDao.getUser(TEST_USER_ID)).usingRecursiveComparison().isEqualTo(user());
+        verify(delegate, times(0)).getUser(TEST_USER_ID);
+    }
+
+    @Test
+    void getUser_EmptyUserId_ThrowsException() {
+        assertThatThrownBy(() -> userDao.getUser(""))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(delegate);
+    }
+}
@@ -0,0 +1,58 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.dao.UserDao;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserDaoTest {
+    private static final String TEST_USER_ID = "test-user-id";
+
+    @Mock
+    private UserDao delegate;
+
+    private CoalescingUserDao userDao;
+
+    @BeforeEach
+    void setUp() {
+        userDao = new CoalescingUserDao(delegate);
+    }
+
+    @Test
+    void getUser_ReadsThroughDelegate() {
+        UserEntity user = UserEntity.builder().userId(TEST_USER_ID).email("test@example.com").build();
+        when(delegate.getUser(TEST_USER_ID)).thenReturn(user);
+
+        assertThat(userDao.getUser(TEST_USER_ID)).isSameAs(user);
+        verify(delegate).getUser(TEST_USER_ID);
+    }
+
+    @Test
+    void getUser_DelegateFails_PropagatesException() {
+        when(delegate.getUser(TEST_USER_ID)).thenThrow(new ResourceNotFoundException("User not found"));
+
+        assertThatThrownBy(() -> userDao.getUser(TEST_USER_ID))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found");
+    }
+
+    @Test
+    void getUser_NullUserId_ThrowsException() {
+        assertThatThrownBy(() -> userDao.getUser(null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(delegate);
+    }
+}
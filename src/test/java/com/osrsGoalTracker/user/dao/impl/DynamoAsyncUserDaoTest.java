@@ -0,0 +1,142 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.dao.entity.UserEntity;
+import com.osrsGoalTracker.user.dao.exception.DuplicateUserException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoAsyncUserDaoTest {
+    private static final String TABLE_NAME = "test-table";
+    private static final String TEST_EMAIL = "test@example.com";
+    private static final String TEST_USER_ID = "test-user-id";
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Captor
+    private ArgumentCaptor<PutItemRequest> putItemRequestCaptor;
+
+    private DynamoAsyncUserDao userDao;
+
+    @BeforeEach
+    void setUp() {
+        userDao = new DynamoAsyncUserDao(dynamoDbAsyncClient, TABLE_NAME);
+    }
+
+    private UserEntity userToCreate() {
+        return UserEntity.builder()
+                .email(TEST_EMAIL)
+                .build();
+    }
+
+    @Test
+    void testCreateUserWithValidUserCreatesSuccessfully() {
+        // Given
+        when(dynamoDbAsyncClient.query(any(QueryRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        QueryResponse.builder().items(Collections.emptyList()).build()));
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutItemResponse.builder().build()));
+
+        // When
+        UserEntity createdUser = userDao.createUser(userToCreate()).join();
+
+        // Then
+        verify(dynamoDbAsyncClient).putItem(putItemRequestCaptor.capture());
+        PutItemRequest putRequest = putItemRequestCaptor.getValue();
+        assertThat(putRequest.tableName()).isEqualTo(TABLE_NAME);
+        assertThat(putRequest.item().get("email").s()).isEqualTo(TEST_EMAIL);
+        assertThat(createdUser.getUserId()).isEqualTo(putRequest.item().get("userId").s());
+        assertThat(createdUser.getEmail()).isEqualTo(TEST_EMAIL);
+    }
+
+    @Test
+    void testCreateUserWithExistingEmailFailsWithDuplicateUserException() {
+        // Given
+        when(dynamoDbAsyncClient.query(any(QueryRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(QueryResponse.builder()
+                        .items(List.of(Map.of("userId", AttributeValue.builder().s(TEST_USER_ID).build())))
+                        .build()));
+
+        // When
+        CompletableFuture<UserEntity> createdUser = userDao.createUser(userToCreate());
+
+        // Then
+        assertThatThrownBy(createdUser::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DuplicateUserException.class);
+        verify(dynamoDbAsyncClient, never()).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void testCreateUserWithConcurrentCreationFailsWithDuplicateUserException() {
+        // Given
+        when(dynamoDbAsyncClient.query(any(QueryRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        QueryResponse.builder().items(Collections.emptyList()).build()));
+        when(dynamoDbAsyncClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        ConditionalCheckFailedException.builder().message("Condition failed").build()));
+
+        // When
+        CompletableFuture<UserEntity> createdUser = userDao.createUser(userToCreate());
+
+        // Then
+        assertThatThrownBy(createdUser::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DuplicateUserException.class);
+    }
+
+    @Test
+    void testCreateUserWithNullEmailThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> userDao.createUser(UserEntity.builder().build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Email cannot be null or empty");
+    }
+
+    @Test
+    void testGetUserWithMissingUserFailsWithResourceNotFoundException() {
+        // Given
+        when(dynamoDbAsyncClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetItemResponse.builder().build()));
+
+        // When
+        CompletableFuture<UserEntity> user = userDao.getUser(TEST_USER_ID);
+
+        // Then
+        assertThatThrownBy(user::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+}
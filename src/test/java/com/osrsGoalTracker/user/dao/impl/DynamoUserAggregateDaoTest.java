@@ -0,0 +1,163 @@
+package com.osrsGoalTracker.user.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.osrsGoalTracker.character.dao.entity.CharacterEntity;
+import com.osrsGoalTracker.goal.dao.entity.GoalEntity;
+import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
+import com.osrsGoalTracker.user.dao.entity.UserAggregate;
+import com.osrsGoalTracker.user.dao.query.UserAggregateOptions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoUserAggregateDaoTest {
+    private static final String TABLE_NAME = "test-table";
+    private static final String TEST_USER_ID = "test-user-id";
+    private static final String TIMESTAMP = "2025-01-01T00:00:00Z";
+    private static final String GOAL_PREFIX = "CHARACTER#Zezima#GOAL#goal123#";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Captor
+    private ArgumentCaptor<QueryRequest> queryRequestCaptor;
+
+    private DynamoUserAggregateDao userAggregateDao;
+
+    @BeforeEach
+    void setUp() {
+        userAggregateDao = new DynamoUserAggregateDao(dynamoDbClient, TABLE_NAME);
+    }
+
+    private static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    private static Map<String, AttributeValue> item(String sortKey, Map<String, AttributeValue> attributes) {
+        Map<String, AttributeValue> item = new HashMap<>(attributes);
+        item.put("pk", s("USER#" + TEST_USER_ID));
+        item.put("sk", s(sortKey));
+        item.put("userId", s(TEST_USER_ID));
+        item.put("createdAt", s(TIMESTAMP));
+        item.put("updatedAt", s(TIMESTAMP));
+        return item;
+    }
+
+    private static Map<String, AttributeValue> progressItem(String sortKey, long value) {
+        return item(sortKey, Map.of(
+                "characterName", s("Zezima"),
+                "goalId", s("goal123"),
+                "progressValue", AttributeValue.builder().n(String.valueOf(value)).build()));
+    }
+
+    private static Map<String, AttributeValue> userItem() {
+        return item("METADATA", Map.of("email", s("user@example.com")));
+    }
+
+    @Test
+    void testLoadUserSortsItemsAndSkipsProgressHistory() {
+        // Given - the first page ends inside the goal's progress history
+        Map<String, AttributeValue> historyItem = progressItem(GOAL_PREFIX + "2025-01-02T00:00:00Z", 200L);
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(item("CHARACTER#METADATA#Zezima", Map.of("characterName", s("Zezima"))),
+                                progressItem(GOAL_PREFIX + TIMESTAMP, 100L), historyItem))
+                        .lastEvaluatedKey(Map.of("pk", historyItem.get("pk"), "sk", historyItem.get("sk")))
+                        .build())
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(progressItem(GOAL_PREFIX + "EARLIEST", 100L),
+                                progressItem(GOAL_PREFIX + "LATEST", 300L),
+                                progressItem(GOAL_PREFIX + "ROLLUP#D#2025-01-01", 100L),
+                                item("CHARACTER#Zezima#GOAL#METADATA#goal123", Map.of(
+                                        "characterName", s("Zezima"),
+                                        "goalId", s("goal123"),
+                                        "targetAttribute", s("Woodcutting"),
+                                        "targetType", s("xp"),
+                                        "targetValue", AttributeValue.builder().n("13034431").build())),
+                                userItem(),
+                                item("NOTIFICATION#DISCORD", Map.of(
+                                        "channelType", s("DISCORD"),
+                                        "identifier", s("discord-channel-id"),
+                                        "isActive", AttributeValue.builder().bool(true).build()))))
+                        .build());
+
+        // When
+        UserAggregate aggregate = userAggregateDao.loadUser(TEST_USER_ID, UserAggregateOptions.defaults());
+
+        // Then
+        verify(dynamoDbClient, times(2)).query(queryRequestCaptor.capture());
+        QueryRequest firstPage = queryRequestCaptor.getAllValues().get(0);
+        assertThat(firstPage.keyConditionExpression()).isEqualTo("pk = :pk");
+        assertThat(firstPage.limit()).isEqualTo(UserAggregateOptions.DEFAULT_PAGE_SIZE);
+        assertThat(queryRequestCaptor.getAllValues().get(1).exclusiveStartKey().get("sk").s())
+                .isEqualTo(GOAL_PREFIX + ":");
+
+        assertThat(aggregate.getUser().getEmail()).isEqualTo("user@example.com");
+        assertThat(aggregate.getCharacters()).extracting(CharacterEntity::getName).containsExactly("Zezima");
+        assertThat(aggregate.getNotificationChannels()).hasSize(1);
+        assertThat(aggregate.getGoals()).extracting(GoalEntity::getTargetAttribute).containsExactly("Woodcutting");
+        assertThat(aggregate.getLatestProgressByGoalId()).containsOnlyKeys("goal123");
+        assertThat(aggregate.getLatestProgressByGoalId().get("goal123").getProgressValue()).isEqualTo(300L);
+    }
+
+    @Test
+    void testLoadUserWithoutSkippingHistoryFollowsLastEvaluatedKey() {
+        // Given
+        Map<String, AttributeValue> lastEvaluatedKey = Map.of(
+                "pk", s("USER#" + TEST_USER_ID),
+                "sk", s(GOAL_PREFIX + TIMESTAMP));
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder()
+                        .items(List.of(progressItem(GOAL_PREFIX + TIMESTAMP, 100L)))
+                        .lastEvaluatedKey(lastEvaluatedKey)
+                        .build())
+                .thenReturn(QueryResponse.builder().items(List.of(userItem())).build());
+
+        // When
+        userAggregateDao.loadUser(TEST_USER_ID, UserAggregateOptions.builder().skipProgressHistory(false).build());
+
+        // Then
+        verify(dynamoDbClient, times(2)).query(queryRequestCaptor.capture());
+        assertThat(queryRequestCaptor.getAllValues().get(1).exclusiveStartKey()).isEqualTo(lastEvaluatedKey);
+    }
+
+    @Test
+    void testLoadUserWithMissingUserThrowsResourceNotFoundException() {
+        // Given
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        // When / Then
+        assertThatThrownBy(() -> userAggregateDao.loadUser(TEST_USER_ID, UserAggregateOptions.defaults()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(TEST_USER_ID);
+    }
+
+    @Test
+    void testLoadUserWithEmptyUserIdThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> userAggregateDao.loadUser(" ", UserAggregateOptions.defaults()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("UserId cannot be null or empty");
+    }
+}
@@ -3,6 +3,7 @@ package com.osrsGoalTracker.user.dao.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,6 +13,7 @@ import java.util.Map;
 
 import com.osrsGoalTracker.shared.dao.exception.ResourceNotFoundException;
 import com.osrsGoalTracker.shared.dao.util.SortKeyUtil;
+import com.osrsGoalTracker.user.dao.EmailUniquenessMode;
 import com.osrsGoalTracker.user.dao.entity.UserEntity;
 import com.osrsGoalTracker.user.dao.exception.DuplicateUserException;
 
@@ -25,12 +27,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 @ExtendWith(MockitoExtension.class)
 class DynamoUserDaoTest {
@@ -143,6 +148,57 @@ class DynamoUserDaoTest {
                 .hasMessageContaining(TEST_EMAIL);
     }
 
+    @Test
+    void testCreateUserWithEmailGuardWritesUserAndGuardInOneTransaction() {
+        // Given
+        DynamoUserDao guardedUserDao = new DynamoUserDao(dynamoDbClient, TABLE_NAME, EmailUniquenessMode.GUARD_ITEM);
+        UserEntity userToCreate = UserEntity.builder()
+                .email(TEST_EMAIL)
+                .build();
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor =
+                ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+
+        // When
+        UserEntity createdUser = guardedUserDao.createUser(userToCreate);
+
+        // Then
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+        verify(dynamoDbClient).transactWriteItems(transactCaptor.capture());
+        TransactWriteItemsRequest request = transactCaptor.getValue();
+        assertThat(request.transactItems()).hasSize(2);
+
+        Map<String, AttributeValue> guardItem = request.transactItems().get(0).put().item();
+        assertThat(guardItem.get("pk").s()).isEqualTo("EMAIL#" + TEST_EMAIL);
+        assertThat(guardItem.get("userId").s()).isEqualTo(createdUser.getUserId());
+        assertThat(guardItem).doesNotContainKey("email");
+        assertThat(request.transactItems().get(0).put().conditionExpression()).contains("attribute_not_exists");
+
+        Map<String, AttributeValue> userItem = request.transactItems().get(1).put().item();
+        assertThat(userItem.get("pk").s()).isEqualTo("USER#" + createdUser.getUserId());
+        assertThat(userItem.get("email").s()).isEqualTo(TEST_EMAIL);
+    }
+
+    @Test
+    void testCreateUserWithEmailGuardAndTakenEmailThrowsDuplicateUserException() {
+        // Given
+        DynamoUserDao guardedUserDao = new DynamoUserDao(dynamoDbClient, TABLE_NAME, EmailUniquenessMode.GUARD_ITEM);
+        UserEntity userToCreate = UserEntity.builder()
+                .email(TEST_EMAIL)
+                .build();
+
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                                CancellationReason.builder().code("None").build())
+                        .build());
+
+        // When/Then
+        assertThatThrownBy(() -> guardedUserDao.createUser(userToCreate))
+                .isInstanceOf(DuplicateUserException.class)
+                .hasMessageContaining(TEST_EMAIL);
+    }
+
     @Test
     void testGetUserWithExistingUserReturnsUser() {
         // Given